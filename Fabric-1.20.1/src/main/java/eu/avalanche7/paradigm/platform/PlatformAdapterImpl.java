@@ -585,6 +585,39 @@ public class PlatformAdapterImpl implements IPlatformAdapter {
         int blockX = (int) Math.floor(x);
         int blockZ = (int) Math.floor(z);
         world.getChunk(blockX >> 4, blockZ >> 4);
+        return safeRtpY(world, blockX, blockZ);
+    }
+
+    @Override
+    public java.util.concurrent.CompletableFuture<java.util.Optional<Double>> findGeneratedSafeRtpY(IPlayer player, double x, double z) {
+        if (!(player instanceof MinecraftPlayer mp)) return java.util.concurrent.CompletableFuture.completedFuture(java.util.Optional.empty());
+        ServerWorld world = mp.getHandle().getServerWorld();
+        int blockX = (int) Math.floor(x);
+        int blockZ = (int) Math.floor(z);
+        int chunkX = blockX >> 4;
+        int chunkZ = blockZ >> 4;
+        if (world.getChunkManager().isChunkLoaded(chunkX, chunkZ)) {
+            return java.util.concurrent.CompletableFuture.completedFuture(safeRtpY(world, blockX, blockZ));
+        }
+        // getChunkFutureSyncOnMainThread hands the load to the server thread itself, so both requests are issued from a pool thread and never wait inside the refill pass.
+        // Asking for EMPTY only reads what is on disk; only a chunk that is already fully generated is promoted to FULL.
+        return java.util.concurrent.CompletableFuture
+                .supplyAsync(() -> world.getChunkManager().getChunkFutureSyncOnMainThread(chunkX, chunkZ, net.minecraft.world.chunk.ChunkStatus.EMPTY, true))
+                .thenCompose(stored -> stored)
+                .thenComposeAsync(stored -> isFullyGenerated(stored.left().orElse(null))
+                        ? world.getChunkManager().getChunkFutureSyncOnMainThread(chunkX, chunkZ, net.minecraft.world.chunk.ChunkStatus.FULL, true).thenApply(chunk -> chunk.left().isPresent())
+                        : java.util.concurrent.CompletableFuture.completedFuture(false))
+                .thenApplyAsync(promoted -> promoted && world.getChunkManager().isChunkLoaded(chunkX, chunkZ)
+                        ? safeRtpY(world, blockX, blockZ)
+                        : java.util.Optional.<Double>empty(), world.getServer())
+                .exceptionally(failure -> java.util.Optional.empty());
+    }
+
+    private static boolean isFullyGenerated(net.minecraft.world.chunk.Chunk chunk) {
+        return chunk instanceof net.minecraft.world.chunk.WorldChunk || chunk instanceof net.minecraft.world.chunk.WrapperProtoChunk;
+    }
+
+    private static java.util.Optional<Double> safeRtpY(ServerWorld world, int blockX, int blockZ) {
         int topY = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, blockX, blockZ);
         net.minecraft.util.math.BlockPos ground = new net.minecraft.util.math.BlockPos(blockX, topY - 1, blockZ);
         net.minecraft.util.math.BlockPos feet = new net.minecraft.util.math.BlockPos(blockX, topY, blockZ);
@@ -925,6 +925,39 @@ public class PlatformAdapterImpl implements IPlatformAdapter {
         int blockX = (int) Math.floor(x);
         int blockZ = (int) Math.floor(z);
         level.getChunk(blockX >> 4, blockZ >> 4);
+        return safeRtpY(level, blockX, blockZ);
+    }
+
+    @Override
+    public java.util.concurrent.CompletableFuture<java.util.Optional<Double>> findGeneratedSafeRtpY(IPlayer player, double x, double z) {
+        if (!(player instanceof MinecraftPlayer mp)) return java.util.concurrent.CompletableFuture.completedFuture(java.util.Optional.empty());
+        ServerLevel level = mp.getHandle().serverLevel();
+        int blockX = (int) Math.floor(x);
+        int blockZ = (int) Math.floor(z);
+        int chunkX = blockX >> 4;
+        int chunkZ = blockZ >> 4;
+        if (level.getChunkSource().hasChunk(chunkX, chunkZ)) {
+            return java.util.concurrent.CompletableFuture.completedFuture(safeRtpY(level, blockX, blockZ));
+        }
+        // getChunkFuture hands the load to the server thread itself, so both requests are issued from a pool thread and never wait inside the refill pass.
+        // Asking for EMPTY only reads what is on disk; only a chunk that is already fully generated is promoted to FULL.
+        return java.util.concurrent.CompletableFuture
+                .supplyAsync(() -> level.getChunkSource().getChunkFuture(chunkX, chunkZ, net.minecraft.world.level.chunk.ChunkStatus.EMPTY, true))
+                .thenCompose(stored -> stored)
+                .thenComposeAsync(stored -> isFullyGenerated(stored.left().orElse(null))
+                        ? level.getChunkSource().getChunkFuture(chunkX, chunkZ, net.minecraft.world.level.chunk.ChunkStatus.FULL, true).thenApply(chunk -> chunk.left().isPresent())
+                        : java.util.concurrent.CompletableFuture.completedFuture(false))
+                .thenApplyAsync(promoted -> promoted && level.getChunkSource().hasChunk(chunkX, chunkZ)
+                        ? safeRtpY(level, blockX, blockZ)
+                        : java.util.Optional.<Double>empty(), level.getServer())
+                .exceptionally(failure -> java.util.Optional.empty());
+    }
+
+    private static boolean isFullyGenerated(net.minecraft.world.level.chunk.ChunkAccess chunk) {
+        return chunk instanceof net.minecraft.world.level.chunk.LevelChunk || chunk instanceof net.minecraft.world.level.chunk.ImposterProtoChunk;
+    }
+
+    private static java.util.Optional<Double> safeRtpY(ServerLevel level, int blockX, int blockZ) {
         int topY = level.getHeight(net.minecraft.world.level.levelgen.Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, blockX, blockZ);
         net.minecraft.core.BlockPos ground = new net.minecraft.core.BlockPos(blockX, topY - 1, blockZ);
         net.minecraft.core.BlockPos feet = new net.minecraft.core.BlockPos(blockX, topY, blockZ);
@@ -412,6 +412,13 @@ public class DiscordConfigHandler extends BaseConfigHandler<DiscordConfigHandler
                 "Maximum number of queued outbound Discord messages. Further messages are dropped rather than blocking the server."
         );
 
+        public ConfigEntry<Integer> outboundCoalesceMillis = new ConfigEntry<>(
+                0,
+                "How long to wait for more plain messages to the same channel before sending, in milliseconds. "
+                        + "Messages that arrive within the window are joined into one Discord message of up to 2000 "
+                        + "characters. 0 sends every message on its own."
+        );
+
         public ConfigEntry<Boolean> useEmbeds = new ConfigEntry<>(
                 false,
                 "Render notification messages as simple Discord embeds instead of plain messages. Chat relay always uses plain messages."
@@ -171,6 +171,14 @@ public class MainConfigHandler extends BaseConfigHandler<MainConfigHandler.Confi
                 300,
                 "How often accumulated online playtime is written to storage so a crash cannot lose a whole session."
         );
+        public ConfigEntry<Integer> playerDataWriteBehindSeconds = new ConfigEntry<>(
+                5,
+                "How long changes to a player's data file are held before being written; several changes inside this window become one write. Pending changes are always written on reload and shutdown. 0 writes every change immediately."
+        );
+        public ConfigEntry<Integer> messageCacheMaxEntries = new ConfigEntry<>(
+                2048,
+                "How many parsed messages without placeholders are kept for reuse. Messages seen more than once are kept ahead of one-off chat lines. 0 disables the cache."
+        );
         public ConfigEntry<Boolean> ignoreCommandsEnable = new ConfigEntry<>(
                 true,
                 "Enable or disable /ignore and /unignore commands."
@@ -227,5 +235,17 @@ public class MainConfigHandler extends BaseConfigHandler<MainConfigHandler.Confi
                 20,
                 "Maximum number of random locations /rtp will try before giving up."
         );
+        public ConfigEntry<Integer> rtpPoolSize = new ConfigEntry<>(
+                16,
+                "Number of pre-checked safe /rtp spots kept ready per world. Spots are found in the background, loading already generated chunks asynchronously and never generating new terrain, so /rtp does not have to. 0 disables the pool."
+        );
+        public ConfigEntry<Integer> rtpPoolTtlSeconds = new ConfigEntry<>(
+                300,
+                "How long a pre-checked /rtp spot stays in the pool before it is discarded."
+        );
+        public ConfigEntry<Integer> rtpPoolTickBudgetMs = new ConfigEntry<>(
+                2,
+                "Maximum server-thread time in milliseconds spent searching for new /rtp spots per refill pass."
+        );
     }
 }
@@ -118,7 +118,32 @@ public final class TicketsConfigHandler extends BaseConfigHandler<TicketsConfigH
                 5,
                 "How often this server polls the shared ticket event table so staff here are notified about tickets and "
                         + "replies that originated on another server. Requires a shared SQL provider; on JSON storage "
-                        + "notifications are local to this server only. Set to 0 to disable polling."
+                        + "notifications are local to this server only. Polling speeds up to twice a second right after "
+                        + "ticket activity and slows to three times this interval when idle. Set to 0 to disable polling."
+        );
+        public ConfigEntry<Boolean> crossServerPushEnable = new ConfigEntry<>(
+                false,
+                "Push ticket events straight to the servers listed in crossServerPushPeers over a socket instead of waiting "
+                        + "for the next poll. The shared SQL event table is still polled as a catch-up after reconnects, at "
+                        + "the slower crossServerPushCatchUpSeconds interval."
+        );
+        public ConfigEntry<String> crossServerPushBind = new ConfigEntry<>(
+                "127.0.0.1:25590",
+                "Address this server listens on for pushed events: host:port for TCP, or unix:/path/to/socket for a Unix "
+                        + "domain socket when all servers share one host. Leave empty to only send."
+        );
+        public ConfigEntry<List<String>> crossServerPushPeers = new ConfigEntry<>(
+                List.of(),
+                "Push addresses of the other servers in the network (the crossServerPushBind of each of them)."
+        );
+        public ConfigEntry<String> crossServerPushSecret = new ConfigEntry<>(
+                "",
+                "Shared secret every server in the network must use. Required when listening on a non-loopback address; "
+                        + "without it such a server does not listen and receives events through SQL polling only."
+        );
+        public ConfigEntry<Integer> crossServerPushCatchUpSeconds = new ConfigEntry<>(
+                60,
+                "How often the SQL event table is still polled while push is enabled, as a safety net for dropped links."
         );
         public ConfigEntry<Integer> listPageSize = new ConfigEntry<>(
                 8,
@@ -512,6 +512,8 @@ public class ConfigPatchService {
                     requireRange(fieldName, value, 15, 3_600));
             case "outboundQueueSize" -> applyConfigEntry(DiscordConfigHandler.Config.class, config, fieldName,
                     requireRange(fieldName, value, 16, 10_000));
+            case "outboundCoalesceMillis" -> applyConfigEntry(DiscordConfigHandler.Config.class, config, fieldName,
+                    requireRange(fieldName, value, 0, 2_000));
             case "shutdownFlushMillis" -> applyConfigEntry(DiscordConfigHandler.Config.class, config, fieldName,
                     requireRange(fieldName, value, 0, 10_000));
             case "countdownAnnounceSeconds" -> applyConfigEntry(DiscordConfigHandler.Config.class, config, fieldName,
@@ -2,6 +2,7 @@ package eu.avalanche7.paradigm.core;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 
@@ -58,6 +59,7 @@ public final class CommonRuntime {
         Placeholders.setPingResolver(platformAdapter::getPlayerPing);
         TaskScheduler taskScheduler = adoptPlatformScheduler(logger, platformAdapter, debugLogger);
         PlayerDataStore playerDataStore = new PlayerDataStore(logger, debugLogger, platformAdapter.getConfig());
+        playerDataStore.setWriteBehindDelayMs(playerDataWriteBehindMs(MainConfigHandler.getConfig()));
         ModerationDataStore moderationDataStore = new ModerationDataStore(logger, debugLogger, platformAdapter.getConfig());
         AdminUtilityDataStore adminUtilityDataStore = new AdminUtilityDataStore(logger, platformAdapter.getConfig());
         WarpStore warpStore = new WarpStore(logger, debugLogger, platformAdapter.getConfig());
@@ -67,6 +69,7 @@ public final class CommonRuntime {
         PermissionsHandler permissionsHandler = new PermissionsHandler(logger, cmConfig, debugLogger, platformAdapter, playerDataStore, storageService);
 
         MessageParser messageParser = new MessageParser(placeholders, platformAdapter);
+        messageParser.setMaxCachedMessages(messageCacheMaxEntries(MainConfigHandler.getConfig()));
         platformAdapter.provideMessageParser(messageParser);
 
         Lang lang = new Lang(logger, MainConfigHandler.getConfig(), messageParser, platformAdapter);
@@ -108,6 +111,7 @@ public final class CommonRuntime {
         groupChatManager.setServices(services);
         registerExternalCommandGuard(services);
         registerPunishmentGuard(services);
+        registerRepositoryCache(services);
 
         List<ParadigmModule> modules = ParadigmModules.compose(groupChatManager);
 
@@ -139,6 +143,18 @@ public final class CommonRuntime {
     public record Runtime(List<ParadigmModule> modules, Services services, PermissionsHandler permissionsHandler) {
     }
 
+    public static long playerDataWriteBehindMs(MainConfigHandler.Config config) {
+        Integer configured = config != null ? ConfigEntry.valueOf(config.playerDataWriteBehindSeconds, 5) : 5;
+        long seconds = configured != null ? configured : 5L;
+        return TimeUnit.SECONDS.toMillis(Math.max(0L, Math.min(seconds, 300L)));
+    }
+
+    public static int messageCacheMaxEntries(MainConfigHandler.Config config) {
+        Integer configured = config != null ? ConfigEntry.valueOf(config.messageCacheMaxEntries, MessageParser.DEFAULT_MAX_CACHED_MESSAGES) : null;
+        int entries = configured != null ? configured : MessageParser.DEFAULT_MAX_CACHED_MESSAGES;
+        return Math.max(0, Math.min(entries, 65_536));
+    }
+
     private static TaskScheduler adoptPlatformScheduler(Logger logger, IPlatformAdapter platformAdapter, DebugLogger debugLogger) {
         TaskScheduler platformScheduler = null;
         try {
@@ -177,6 +193,9 @@ public final class CommonRuntime {
         if (events == null) {
             return;
         }
+        events.onPlayerLeave(event -> {
+            if (event != null && event.getPlayer() != null) CommandNodeAccessGate.forget(event.getPlayer().getUUID());
+        });
         events.onPlayerCommand(event -> {
             if (event == null || event.isCancelled()) {
                 return;
@@ -211,6 +230,19 @@ public final class CommonRuntime {
         });
     }
 
+    private static void registerRepositoryCache(Services services) {
+        IEventSystem events = eventSystemOrNull(services, "repository cache warm-up");
+        if (events == null) {
+            return;
+        }
+        events.onPlayerJoin(event -> {
+            if (event != null && event.getPlayer() != null) services.getStorageService().trackCachedPlayer(event.getPlayer().getUUID());
+        });
+        events.onPlayerLeave(event -> {
+            if (event != null && event.getPlayer() != null) services.getStorageService().evictCachedPlayer(event.getPlayer().getUUID());
+        });
+    }
+
     private static IEventSystem eventSystemOrNull(Services services, String guardName) {
         IEventSystem events = services.getPlatformAdapter().getEventSystem();
         if (events == null) {
@@ -22,6 +22,7 @@ import eu.avalanche7.paradigm.modules.menus.MenuActions;
 import eu.avalanche7.paradigm.modules.menus.MenuRegistry;
 import eu.avalanche7.paradigm.modules.menus.MenuService;
 import eu.avalanche7.paradigm.modules.moderation.PunishmentService;
+import eu.avalanche7.paradigm.modules.permissions.CommandNodeAccessGate;
 import eu.avalanche7.paradigm.modules.permissions.PermissionAdminService;
 import eu.avalanche7.paradigm.modules.permissions.PermissionsHandler;
 import eu.avalanche7.paradigm.modules.tickets.TicketService;
@@ -65,6 +66,8 @@ public class Services {
     private volatile PunishmentService punishmentService;
     private volatile eu.avalanche7.paradigm.modules.moderation.WarnEscalationService warnEscalationService;
     private volatile eu.avalanche7.paradigm.modules.profile.PlayerProfileService playerProfileService;
+    private volatile eu.avalanche7.paradigm.modules.profile.PlayerDirectory playerDirectory;
+    private volatile eu.avalanche7.paradigm.modules.commands.RtpLocationPool rtpLocationPool;
     private volatile eu.avalanche7.paradigm.modules.afk.AfkService afkService;
     private volatile eu.avalanche7.paradigm.modules.playtime.PlaytimeService playtimeService;
     private volatile HologramService hologramService;
@@ -189,6 +192,7 @@ public class Services {
         if (this.platformAdapter != null) {
             try {
                 this.platformAdapter.rewireCommandTreePermissions();
+                CommandNodeAccessGate.commandTreeChanged();
             } catch (Throwable failure) {
                 if (logger != null) {
                     logger.warn("[Paradigm] Failed to rewire command tree permission checks.", failure);
@@ -419,6 +423,28 @@ public class Services {
         }
     }
 
+    public eu.avalanche7.paradigm.modules.profile.PlayerDirectory getPlayerDirectory() {
+        eu.avalanche7.paradigm.modules.profile.PlayerDirectory current = playerDirectory;
+        if (current != null) return current;
+        synchronized (this) {
+            if (playerDirectory == null) {
+                playerDirectory = new eu.avalanche7.paradigm.modules.profile.PlayerDirectory(this);
+            }
+            return playerDirectory;
+        }
+    }
+
+    public eu.avalanche7.paradigm.modules.commands.RtpLocationPool getRtpLocationPool() {
+        eu.avalanche7.paradigm.modules.commands.RtpLocationPool current = rtpLocationPool;
+        if (current != null) return current;
+        synchronized (this) {
+            if (rtpLocationPool == null) {
+                rtpLocationPool = new eu.avalanche7.paradigm.modules.commands.RtpLocationPool(this);
+            }
+            return rtpLocationPool;
+        }
+    }
+
     public eu.avalanche7.paradigm.modules.afk.AfkService getAfkService() {
         eu.avalanche7.paradigm.modules.afk.AfkService current = afkService;
         if (current != null) return current;
@@ -14,7 +14,15 @@ public interface NetworkEventBus {
 
     boolean isRunning();
 
+    /** Announces an event that is already persisted; push transports forward it, polling buses pick it up on their own. */
+    default void publish(NetworkEvent event) {
+    }
+
     default boolean isNetworked() {
         return false;
     }
+
+    default NetworkEventBusMetrics metrics() {
+        return null;
+    }
 }
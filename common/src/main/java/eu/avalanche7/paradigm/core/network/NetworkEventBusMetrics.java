@@ -0,0 +1,36 @@
+package eu.avalanche7.paradigm.core.network;
+
+import java.util.List;
+
+public record NetworkEventBusMetrics(
+        String transport,
+        boolean running,
+        long pollIntervalMs,
+        long polls,
+        long queries,
+        long rowsFetched,
+        int consecutivePollFailures,
+        int connectedPeers,
+        int inboundLinks,
+        List<Channel> channels
+) {
+    public NetworkEventBusMetrics {
+        channels = channels != null ? List.copyOf(channels) : List.of();
+    }
+
+    public NetworkEventBusMetrics withPush(int connectedPeers, int inboundLinks) {
+        return new NetworkEventBusMetrics("socket+sql", running, pollIntervalMs, polls, queries, rowsFetched,
+                consecutivePollFailures, connectedPeers, inboundLinks, channels);
+    }
+
+    public record Channel(
+            String channel,
+            long rowsFetched,
+            long delivered,
+            long pushed,
+            double averageLagMs,
+            long lastLagMs,
+            long maxLagMs
+    ) {
+    }
+}
@@ -64,6 +64,11 @@ public final class NetworkEventCursor {
         return fresh;
     }
 
+    /** Records an event delivered out of band without moving the cursor, so a later catch-up fetch skips it. */
+    public synchronized boolean markSeen(String eventId) {
+        return eventId != null && seenEventIds.putIfAbsent(eventId, Boolean.TRUE) == null;
+    }
+
     public synchronized int trackedCount() {
         return seenEventIds.size();
     }
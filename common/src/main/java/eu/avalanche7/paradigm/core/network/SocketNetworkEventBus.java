@@ -0,0 +1,522 @@
+package eu.avalanche7.paradigm.core.network;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import eu.avalanche7.paradigm.core.Services;
+
+/**
+ * Pushes network events straight to peer servers over TCP or Unix domain sockets. Each server listens on
+ * {@link Settings#bindAddress()} for inbound links and dials every entry of {@link Settings#peers()}; events only
+ * travel from the dialing side to the listening side, so a full mesh lists every other server as a peer.
+ * <p>
+ * The wrapped {@link SqlPollingNetworkEventBus} stays authoritative: it runs as a slow safety net and polls
+ * immediately whenever a peer (re)connects, and its cursor de-duplicates events that arrive both ways.
+ * <p>
+ * The shared secret never crosses the wire: the listening side sends a fresh nonce and the dialing side answers with
+ * HMAC-SHA256(secret, nonce ‖ networkId ‖ serverId), so the secret cannot be read off the wire and a captured
+ * handshake does not answer a later nonce.
+ */
+public class SocketNetworkEventBus implements NetworkEventBus {
+
+    private static final Gson GSON = new Gson();
+    private static final int MAX_FRAME_BYTES = 64 * 1024;
+    private static final int PEER_QUEUE_CAPACITY = 1024;
+    private static final long HEARTBEAT_MS = 15_000L;
+    private static final long RECONNECT_MIN_MS = 1_000L;
+    private static final long RECONNECT_MAX_MS = 30_000L;
+    private static final int MAX_INBOUND_LINKS = 64;
+    private static final long HELLO_TIMEOUT_MS = 5_000L;
+    private static final int NONCE_BYTES = 32;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Services services;
+    private final SqlPollingNetworkEventBus fallback;
+    private final Supplier<Settings> settings;
+    private final List<PeerLink> peers = new CopyOnWriteArrayList<>();
+    private final Set<SocketChannel> inbound = ConcurrentHashMap.newKeySet();
+
+    private volatile Settings active;
+    private volatile ServerSocketChannel server;
+    private volatile ScheduledExecutorService watchdog;
+    private volatile Path unixSocketPath;
+    private volatile boolean running;
+
+    public SocketNetworkEventBus(Services services, SqlPollingNetworkEventBus fallback, Supplier<Settings> settings) {
+        this.services = services;
+        this.fallback = fallback;
+        this.settings = settings;
+    }
+
+    @Override
+    public void registerSource(NetworkEventSource source) {
+        fallback.registerSource(source);
+    }
+
+    @Override
+    public void subscribe(String channel, NetworkEventHandler handler) {
+        fallback.subscribe(channel, handler);
+    }
+
+    @Override
+    public void unsubscribe(String channel, NetworkEventHandler handler) {
+        fallback.unsubscribe(channel, handler);
+    }
+
+    @Override
+    public synchronized void start() {
+        fallback.start();
+        if (running || !fallback.isRunning()) {
+            return;
+        }
+        Settings resolved = settings != null ? settings.get() : null;
+        if (resolved == null) {
+            return;
+        }
+        active = resolved;
+        running = true;
+        // Polling is only the safety net now; never let it back off past the configured catch-up interval.
+        fallback.setIdleBackoff(false);
+        if (resolved.bindAddress() != null && !resolved.bindAddress().isBlank()) {
+            try {
+                openServer(resolved.bindAddress());
+            } catch (IOException | RuntimeException failure) {
+                warn("Paradigm network bus: could not listen on {}; relying on SQL polling for inbound events",
+                        resolved.bindAddress(), failure);
+            }
+        }
+        for (String peer : resolved.peers()) {
+            if (peer == null || peer.isBlank()) {
+                continue;
+            }
+            PeerLink link = new PeerLink(peer.trim());
+            peers.add(link);
+            thread("Paradigm-NetBus-Peer-" + peers.size(), link::run).start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        for (PeerLink link : peers) {
+            link.close();
+        }
+        peers.clear();
+        ServerSocketChannel current = server;
+        server = null;
+        closeQuietly(current);
+        ScheduledExecutorService timer = watchdog;
+        watchdog = null;
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+        for (SocketChannel channel : inbound) {
+            closeQuietly(channel);
+        }
+        inbound.clear();
+        Path socketFile = unixSocketPath;
+        unixSocketPath = null;
+        if (socketFile != null) {
+            try {
+                Files.deleteIfExists(socketFile);
+            } catch (IOException ignored) {
+            }
+        }
+        fallback.stop();
+        fallback.setIdleBackoff(true);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return fallback.isRunning();
+    }
+
+    @Override
+    public boolean isNetworked() {
+        return fallback.isNetworked();
+    }
+
+    @Override
+    public void publish(NetworkEvent event) {
+        if (!running) {
+            fallback.publish(event);
+            return;
+        }
+        if (event == null || event.eventId() == null) {
+            return;
+        }
+        for (PeerLink link : peers) {
+            link.offer(event);
+        }
+    }
+
+    @Override
+    public NetworkEventBusMetrics metrics() {
+        NetworkEventBusMetrics polling = fallback.metrics();
+        return running && polling != null ? polling.withPush(connectedPeers(), inboundLinks()) : polling;
+    }
+
+    public int connectedPeers() {
+        int connected = 0;
+        for (PeerLink link : peers) {
+            if (link.connected) {
+                connected++;
+            }
+        }
+        return connected;
+    }
+
+    public int inboundLinks() {
+        return inbound.size();
+    }
+
+    private void openServer(String bindAddress) throws IOException {
+        SocketAddress address = parseAddress(bindAddress);
+        ServerSocketChannel channel;
+        if (address instanceof UnixDomainSocketAddress unix) {
+            Files.deleteIfExists(unix.getPath());
+            channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            unixSocketPath = unix.getPath();
+        } else {
+            InetSocketAddress inet = (InetSocketAddress) address;
+            if (blank(active.sharedSecret()) && (inet.getAddress() == null || !inet.getAddress().isLoopbackAddress())) {
+                throw new IllegalStateException("crossServerPushSecret must be set to listen on non-loopback address " + bindAddress);
+            }
+            channel = ServerSocketChannel.open();
+        }
+        channel.bind(address);
+        server = channel;
+        watchdog = Executors.newSingleThreadScheduledExecutor(task -> thread("Paradigm-NetBus-Watchdog", task));
+        thread("Paradigm-NetBus-Accept", () -> acceptLoop(channel)).start();
+    }
+
+    private void acceptLoop(ServerSocketChannel channel) {
+        while (running && channel.isOpen()) {
+            try {
+                SocketChannel accepted = channel.accept();
+                if (inbound.size() >= MAX_INBOUND_LINKS) {
+                    warn("Paradigm network bus: refused inbound link from {}; " + MAX_INBOUND_LINKS + " links already open",
+                            remote(accepted), null);
+                    closeQuietly(accepted);
+                    continue;
+                }
+                inbound.add(accepted);
+                thread("Paradigm-NetBus-Inbound", () -> readLoop(accepted)).start();
+            } catch (IOException failure) {
+                if (running && channel.isOpen()) {
+                    warn("Paradigm network bus: accept failed", null, failure);
+                }
+            }
+        }
+    }
+
+    private void readLoop(SocketChannel channel) {
+        Settings current = active;
+        // A blocking channel stream ignores SO_TIMEOUT, so a peer that never says hello is closed from outside.
+        ScheduledFuture<?> helloDeadline = scheduleHelloDeadline(channel);
+        try (DataInputStream in = new DataInputStream(Channels.newInputStream(channel))) {
+            byte[] nonce = new byte[NONCE_BYTES];
+            RANDOM.nextBytes(nonce);
+            DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+            writeFrame(out, GSON.toJson(new Challenge(Base64.getEncoder().encodeToString(nonce))));
+            Hello hello = GSON.fromJson(readFrame(in), Hello.class);
+            if (helloDeadline != null) {
+                helloDeadline.cancel(false);
+            }
+            if (hello == null || !sameNetwork(current, hello.networkId()) || !proofMatches(current, nonce, hello)) {
+                warn("Paradigm network bus: rejected inbound link from {}", remote(channel), null);
+                return;
+            }
+            debug("Paradigm network bus: inbound link from server " + hello.serverId() + " (" + remote(channel) + ")");
+            // The peer was unreachable until now and may have written events we never saw; let SQL fill the gap.
+            fallback.requestCatchUp();
+            while (running) {
+                String frame = readFrame(in);
+                if (frame.isEmpty()) {
+                    continue;
+                }
+                NetworkEvent event = GSON.fromJson(frame, NetworkEvent.class);
+                if (event != null && sameNetwork(current, event.networkId())) {
+                    fallback.deliver(event);
+                }
+            }
+        } catch (EOFException closed) {
+            debug("Paradigm network bus: inbound link from " + remote(channel) + " closed");
+        } catch (IOException | JsonParseException failure) {
+            if (running) {
+                debug("Paradigm network bus: inbound link from " + remote(channel) + " dropped: " + failure.getMessage());
+            }
+        } finally {
+            if (helloDeadline != null) {
+                helloDeadline.cancel(false);
+            }
+            inbound.remove(channel);
+            closeQuietly(channel);
+        }
+    }
+
+    private ScheduledFuture<?> scheduleHelloDeadline(SocketChannel channel) {
+        ScheduledExecutorService timer = watchdog;
+        if (timer == null) {
+            closeQuietly(channel);
+            return null;
+        }
+        try {
+            return timer.schedule(() -> closeQuietly(channel), HELLO_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException stopped) {
+            closeQuietly(channel);
+            return null;
+        }
+    }
+
+    private static String readFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            throw new IOException("frame of " + length + " bytes exceeds the " + MAX_FRAME_BYTES + " byte limit");
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+
+    private static void writeFrame(DataOutputStream out, String frame) throws IOException {
+        byte[] payload = frame.getBytes(StandardCharsets.UTF_8);
+        if (payload.length > MAX_FRAME_BYTES) {
+            throw new IOException("frame of " + payload.length + " bytes exceeds the " + MAX_FRAME_BYTES + " byte limit");
+        }
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.flush();
+    }
+
+    static SocketAddress parseAddress(String value) {
+        String address = value != null ? value.trim() : "";
+        if (address.startsWith("unix:")) {
+            return UnixDomainSocketAddress.of(address.substring("unix:".length()));
+        }
+        int colon = address.lastIndexOf(':');
+        if (colon <= 0 || colon == address.length() - 1) {
+            throw new IllegalArgumentException("Expected host:port or unix:/path but got '" + value + "'");
+        }
+        String host = address.substring(0, colon);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        return new InetSocketAddress(host, Integer.parseInt(address.substring(colon + 1)));
+    }
+
+    private static boolean sameNetwork(Settings settings, String networkId) {
+        return settings == null || settings.networkId() == null || settings.networkId().equalsIgnoreCase(networkId);
+    }
+
+    private static boolean proofMatches(Settings settings, byte[] nonce, Hello hello) {
+        if (hello.proof() == null) {
+            return false;
+        }
+        byte[] offered;
+        try {
+            offered = Base64.getDecoder().decode(hello.proof());
+        } catch (IllegalArgumentException malformed) {
+            return false;
+        }
+        String secret = settings != null ? settings.sharedSecret() : "";
+        return MessageDigest.isEqual(proof(secret, nonce, hello.networkId(), hello.serverId()), offered);
+    }
+
+    static byte[] proof(String secret, byte[] nonce, String networkId, String serverId) {
+        byte[] key = (secret != null ? secret : "").getBytes(StandardCharsets.UTF_8);
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            // SecretKeySpec rejects an empty key; HMAC zero-pads short keys, so a single zero byte is the same key.
+            mac.init(new SecretKeySpec(key.length > 0 ? key : new byte[1], HMAC_ALGORITHM));
+            mac.update(nonce);
+            mac.update((networkId != null ? networkId : "").getBytes(StandardCharsets.UTF_8));
+            mac.update((serverId != null ? serverId : "").getBytes(StandardCharsets.UTF_8));
+            return mac.doFinal();
+        } catch (GeneralSecurityException unavailable) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", unavailable);
+        }
+    }
+
+    private static boolean blank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String remote(SocketChannel channel) {
+        try {
+            SocketAddress address = channel.getRemoteAddress();
+            return address != null ? address.toString() : "local socket";
+        } catch (IOException ignored) {
+            return "unknown";
+        }
+    }
+
+    private static Thread thread(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static void closeQuietly(java.nio.channels.Channel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void warn(String message, Object argument, Throwable failure) {
+        if (services == null || services.getLogger() == null) {
+            return;
+        }
+        if (failure != null) {
+            services.getLogger().warn(message, argument, failure);
+        } else {
+            services.getLogger().warn(message, argument);
+        }
+    }
+
+    private void debug(String message) {
+        if (services != null && services.getDebugLogger() != null) {
+            services.getDebugLogger().debugLog(message);
+        }
+    }
+
+    private final class PeerLink {
+        private final String address;
+        private final BlockingQueue<NetworkEvent> queue = new ArrayBlockingQueue<>(PEER_QUEUE_CAPACITY);
+        private volatile SocketChannel channel;
+        private volatile boolean connected;
+        private volatile boolean closed;
+
+        private PeerLink(String address) {
+            this.address = address;
+        }
+
+        private void offer(NetworkEvent event) {
+            // A stalled peer must not block the publisher; anything dropped here is recovered by its next catch-up poll.
+            while (!queue.offer(event)) {
+                queue.poll();
+            }
+        }
+
+        private void run() {
+            long backoffMs = RECONNECT_MIN_MS;
+            while (running && !closed) {
+                try {
+                    SocketAddress target = parseAddress(address);
+                    SocketChannel opened = target instanceof UnixDomainSocketAddress
+                            ? SocketChannel.open(StandardProtocolFamily.UNIX)
+                            : SocketChannel.open();
+                    channel = opened;
+                    opened.connect(target);
+                    if (target instanceof InetSocketAddress) {
+                        opened.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    }
+                    DataInputStream in = new DataInputStream(Channels.newInputStream(opened));
+                    DataOutputStream out = new DataOutputStream(Channels.newOutputStream(opened));
+                    Settings current = active;
+                    Challenge challenge = GSON.fromJson(readFrame(in), Challenge.class);
+                    if (challenge == null || challenge.nonce() == null) {
+                        throw new IOException("peer sent no handshake challenge");
+                    }
+                    byte[] nonce = Base64.getDecoder().decode(challenge.nonce());
+                    String proof = Base64.getEncoder().encodeToString(
+                            proof(current.sharedSecret(), nonce, current.networkId(), current.serverId()));
+                    writeFrame(out, GSON.toJson(new Hello(current.networkId(), current.serverId(), proof)));
+                    connected = true;
+                    backoffMs = RECONNECT_MIN_MS;
+                    debug("Paradigm network bus: connected to peer " + address);
+                    pump(out);
+                } catch (IOException | RuntimeException failure) {
+                    if (running && !closed) {
+                        debug("Paradigm network bus: peer " + address + " unavailable: " + failure.getMessage());
+                    }
+                } finally {
+                    connected = false;
+                    closeQuietly(channel);
+                    channel = null;
+                }
+                if (!running || closed) {
+                    return;
+                }
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(RECONNECT_MAX_MS, backoffMs * 2);
+            }
+        }
+
+        private void pump(DataOutputStream out) throws IOException {
+            while (running && !closed) {
+                NetworkEvent event;
+                try {
+                    event = queue.poll(HEARTBEAT_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                // An empty frame doubles as a heartbeat so a dead link is noticed without waiting for the next event.
+                writeFrame(out, event != null ? GSON.toJson(event) : "");
+            }
+        }
+
+        private void close() {
+            closed = true;
+            closeQuietly(channel);
+        }
+    }
+
+    public record Settings(String networkId, String serverId, String bindAddress, List<String> peers, String sharedSecret) {
+        public Settings {
+            peers = peers != null ? List.copyOf(peers) : List.of();
+            sharedSecret = sharedSecret != null ? sharedSecret : "";
+        }
+    }
+
+    private record Challenge(String nonce) {
+    }
+
+    private record Hello(String networkId, String serverId, String proof) {
+    }
+}
@@ -7,26 +7,45 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntSupplier;
 
 import eu.avalanche7.paradigm.core.Services;
 
+/**
+ * Polls SQL-backed event sources. The configured interval is the resting rate: after a poll delivers something (or
+ * this server publishes an event) the next poll comes after {@link #MIN_INTERVAL_MS}, then the delay doubles on every
+ * empty poll until it settles at {@link #IDLE_BACKOFF_FACTOR} times the configured interval, or at the interval itself
+ * while idle backoff is off.
+ */
 public class SqlPollingNetworkEventBus implements NetworkEventBus {
 
     private static final int MAX_BATCH = 200;
     private static final int SEEN_CAPACITY = 512;
+    private static final long MIN_INTERVAL_MS = 500L;
+    private static final int IDLE_BACKOFF_FACTOR = 3;
+    private static final long MAX_IDLE_INTERVAL_MS = 60_000L;
 
     private final Services services;
     private final IntSupplier pollSeconds;
     private final List<NetworkEventSource> sources = new CopyOnWriteArrayList<>();
     private final Map<String, List<NetworkEventHandler>> handlers = new ConcurrentHashMap<>();
     private final Map<String, NetworkEventCursor> cursors = new ConcurrentHashMap<>();
+    private final Map<String, ChannelStats> stats = new ConcurrentHashMap<>();
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private final AtomicLong rowsFetched = new AtomicLong();
 
-    private volatile ScheduledFuture<?> pollTask;
+    private ScheduledFuture<?> pollTask;
+    private long pollGeneration;
+    private long nextPollAtMs;
     private volatile boolean running;
     private volatile long baselineMs;
+    private volatile long baseIntervalMs;
+    private volatile long currentIntervalMs;
     private volatile int consecutivePollFailures;
     private volatile long lastPollFailureAtMs;
+    private volatile boolean idleBackoff = true;
 
     public SqlPollingNetworkEventBus(Services services, IntSupplier pollSeconds) {
         this.services = services;
@@ -65,6 +84,14 @@ public class SqlPollingNetworkEventBus implements NetworkEventBus {
         }
     }
 
+    /**
+     * With backoff off the resting rate is the configured interval itself; used when this bus is only the catch-up
+     * behind a push transport, whose interval is documented as an upper bound.
+     */
+    public void setIdleBackoff(boolean enabled) {
+        idleBackoff = enabled;
+    }
+
     @Override
     public synchronized void start() {
         if (running || !hasAvailableSource()) {
@@ -77,23 +104,18 @@ public class SqlPollingNetworkEventBus implements NetworkEventBus {
         running = true;
         long now = System.currentTimeMillis();
         baselineMs = now;
+        baseIntervalMs = TimeUnit.SECONDS.toMillis(interval);
+        currentIntervalMs = baseIntervalMs;
         for (NetworkEventSource source : sources) {
             cursors.computeIfAbsent(source.channel(), key -> new NetworkEventCursor(now, SEEN_CAPACITY)).reset(now);
         }
-        if (services != null && services.getTaskScheduler() != null) {
-            pollTask = services.getTaskScheduler().scheduleAtFixedRateRaw(
-                    this::poll, interval, interval, TimeUnit.SECONDS);
-        }
+        scheduleNext(baseIntervalMs);
     }
 
     @Override
     public synchronized void stop() {
         running = false;
-        ScheduledFuture<?> current = pollTask;
-        pollTask = null;
-        if (current != null) {
-            current.cancel(false);
-        }
+        cancelPending();
     }
 
     @Override
@@ -106,25 +128,39 @@ public class SqlPollingNetworkEventBus implements NetworkEventBus {
         return hasAvailableSource();
     }
 
+    /** A local event usually means replies are coming; poll quickly for a while. */
+    @Override
+    public void publish(NetworkEvent event) {
+        if (running && event != null) {
+            tighten();
+        }
+    }
+
+    @Override
+    public NetworkEventBusMetrics metrics() {
+        List<NetworkEventBusMetrics.Channel> channels = new ArrayList<>();
+        for (NetworkEventSource source : sources) {
+            ChannelStats channel = stats.get(source.channel());
+            channels.add(channel != null ? channel.snapshot(source.channel())
+                    : new NetworkEventBusMetrics.Channel(source.channel(), 0L, 0L, 0L, 0.0D, 0L, 0L));
+        }
+        return new NetworkEventBusMetrics("sql", running, running ? currentIntervalMs : 0L, polls.get(), queries.get(),
+                rowsFetched.get(), consecutivePollFailures, 0, 0, channels);
+    }
+
     public int poll() {
         if (!running) {
             return 0;
         }
+        polls.incrementAndGet();
+        String localServerId = resolveLocalServerId();
         int delivered = 0;
         boolean failed = false;
         for (NetworkEventSource source : sources) {
             try {
-                delivered += pollSource(source);
+                delivered += pollSource(source, localServerId);
             } catch (RuntimeException | LinkageError failure) {
-                if (!failed) {
-                    failed = true;
-                    consecutivePollFailures++;
-                    lastPollFailureAtMs = System.currentTimeMillis();
-                }
-                if (services != null && services.getLogger() != null) {
-                    services.getLogger().warn("Paradigm network bus: polling channel {} failed ({} consecutive failures)",
-                            source.channel(), consecutivePollFailures, failure);
-                }
+                failed |= recordFailure(source.channel(), failed, failure);
             }
         }
         if (!failed) {
@@ -134,13 +170,24 @@ public class SqlPollingNetworkEventBus implements NetworkEventBus {
     }
 
     int pollSource(NetworkEventSource source) {
+        return pollSource(source, resolveLocalServerId());
+    }
+
+    private int pollSource(NetworkEventSource source, String localServerId) {
         if (source == null || !source.available()) {
             return 0;
         }
-        NetworkEventCursor cursor = cursors.computeIfAbsent(source.channel(),
-                key -> new NetworkEventCursor(baselineMs, SEEN_CAPACITY));
-        String localServerId = resolveLocalServerId();
+        NetworkEventCursor cursor = cursor(source.channel());
+        queries.incrementAndGet();
         List<NetworkEvent> batch = source.fetchSince(cursor.cursorMs(), cursor.cursorEventId(), localServerId, MAX_BATCH);
+        return acceptBatch(source.channel(), cursor, batch, localServerId);
+    }
+
+    private int acceptBatch(String channel, NetworkEventCursor cursor, List<NetworkEvent> batch, String localServerId) {
+        int fetched = batch != null ? batch.size() : 0;
+        rowsFetched.addAndGet(fetched);
+        ChannelStats channelStats = stats(channel);
+        channelStats.rowsFetched.addAndGet(fetched);
         List<NetworkEvent> fresh = cursor.accept(batch);
         if (fresh.isEmpty()) {
             return 0;
@@ -154,11 +201,107 @@ public class SqlPollingNetworkEventBus implements NetworkEventBus {
         if (deliverable.isEmpty()) {
             return 0;
         }
-        dispatch(source.channel(), deliverable);
+        dispatch(channel, deliverable, false);
         return deliverable.size();
     }
 
-    private void dispatch(String channel, List<NetworkEvent> events) {
+    /** Delivers an event that arrived over a push transport, unless a poll already delivered it. */
+    public boolean deliver(NetworkEvent event) {
+        if (!running || event == null || event.channel() == null || event.eventId() == null) {
+            return false;
+        }
+        if (isLocal(event, resolveLocalServerId())) {
+            return false;
+        }
+        if (!cursor(event.channel()).markSeen(event.eventId())) {
+            return false;
+        }
+        dispatch(event.channel(), List.of(event), true);
+        return true;
+    }
+
+    /** Runs one poll right away, used after a push link (re)connects to fetch whatever it missed. */
+    public void requestCatchUp() {
+        if (!running) {
+            return;
+        }
+        if (services != null && services.getTaskScheduler() != null) {
+            services.getTaskScheduler().scheduleRaw(this::poll, 0L, TimeUnit.MILLISECONDS);
+        } else {
+            poll();
+        }
+    }
+
+    private void pollAndReschedule(long generation) {
+        int delivered = poll();
+        synchronized (this) {
+            // A tighten() or restart replaced this chain while the poll was running.
+            if (!running || generation != pollGeneration) {
+                return;
+            }
+            pollTask = null;
+            long ceiling = idleBackoff
+                    ? Math.max(baseIntervalMs, Math.min(MAX_IDLE_INTERVAL_MS, baseIntervalMs * IDLE_BACKOFF_FACTOR))
+                    : baseIntervalMs;
+            currentIntervalMs = delivered > 0
+                    ? MIN_INTERVAL_MS
+                    : Math.min(ceiling, Math.max(MIN_INTERVAL_MS, currentIntervalMs * 2));
+            scheduleNext(currentIntervalMs);
+        }
+    }
+
+    private synchronized void tighten() {
+        currentIntervalMs = MIN_INTERVAL_MS;
+        if (pollTask != null && nextPollAtMs - System.currentTimeMillis() > MIN_INTERVAL_MS) {
+            cancelPending();
+            scheduleNext(MIN_INTERVAL_MS);
+        }
+    }
+
+    private void scheduleNext(long delayMs) {
+        if (services == null || services.getTaskScheduler() == null) {
+            return;
+        }
+        long generation = ++pollGeneration;
+        nextPollAtMs = System.currentTimeMillis() + delayMs;
+        pollTask = services.getTaskScheduler().scheduleRaw(() -> pollAndReschedule(generation), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelPending() {
+        ScheduledFuture<?> current = pollTask;
+        pollTask = null;
+        pollGeneration++;
+        if (current != null) {
+            current.cancel(false);
+        }
+    }
+
+    private boolean recordFailure(String channel, boolean alreadyFailed, Throwable failure) {
+        if (!alreadyFailed) {
+            consecutivePollFailures++;
+            lastPollFailureAtMs = System.currentTimeMillis();
+        }
+        if (services != null && services.getLogger() != null) {
+            services.getLogger().warn("Paradigm network bus: polling channel {} failed ({} consecutive failures)",
+                    channel, consecutivePollFailures, failure);
+        }
+        return true;
+    }
+
+    private NetworkEventCursor cursor(String channel) {
+        return cursors.computeIfAbsent(channel, key -> new NetworkEventCursor(baselineMs, SEEN_CAPACITY));
+    }
+
+    private ChannelStats stats(String channel) {
+        return stats.computeIfAbsent(channel, key -> new ChannelStats());
+    }
+
+    private void dispatch(String channel, List<NetworkEvent> events, boolean pushed) {
+        ChannelStats channelStats = stats(channel);
+        long now = System.currentTimeMillis();
+        for (NetworkEvent event : events) {
+            channelStats.recordDelivery(now - event.createdAtMs(), pushed);
+        }
         List<NetworkEventHandler> registered = handlers.get(channel);
         if (registered == null || registered.isEmpty()) {
             return;
@@ -205,4 +348,30 @@ public class SqlPollingNetworkEventBus implements NetworkEventBus {
         }
         return false;
     }
+
+    private static final class ChannelStats {
+        private final AtomicLong rowsFetched = new AtomicLong();
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong pushed = new AtomicLong();
+        private final AtomicLong lagTotalMs = new AtomicLong();
+        private final AtomicLong lagMaxMs = new AtomicLong();
+        private volatile long lagLastMs;
+
+        private void recordDelivery(long lagMs, boolean viaPush) {
+            long lag = Math.max(0L, lagMs);
+            delivered.incrementAndGet();
+            if (viaPush) {
+                pushed.incrementAndGet();
+            }
+            lagTotalMs.addAndGet(lag);
+            lagMaxMs.accumulateAndGet(lag, Math::max);
+            lagLastMs = lag;
+        }
+
+        private NetworkEventBusMetrics.Channel snapshot(String channel) {
+            long count = delivered.get();
+            return new NetworkEventBusMetrics.Channel(channel, rowsFetched.get(), count, pushed.get(),
+                    count > 0 ? (double) lagTotalMs.get() / count : 0.0D, lagLastMs, lagMaxMs.get());
+        }
+    }
 }
@@ -5,14 +5,24 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -20,6 +30,7 @@ import org.slf4j.Logger;
 
 import eu.avalanche7.paradigm.platform.Interfaces.IConfig;
 import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
+import eu.avalanche7.paradigm.storage.model.StoredPlayerProfile;
 import eu.avalanche7.paradigm.utils.AtomicFileIO;
 import eu.avalanche7.paradigm.utils.DebugLogger;
 
@@ -35,6 +46,25 @@ public class PlayerDataStore {
     private final Object lock = new Object();
     private final ConcurrentMap<String, PlayerEntry> cache = new ConcurrentHashMap<>();
     private boolean migrationChecked;
+    private NavigableMap<String, StoredPlayerProfile> profileIndex;
+    private final Map<String, String> profileIndexKeys = new HashMap<>();
+    private final Set<String> temporaryGroupHolders = new HashSet<>();
+
+    private final Object flushLock = new Object();
+    private final Set<String> dirty = new LinkedHashSet<>();
+    private volatile long writeBehindDelayMs;
+    private ScheduledExecutorService flusher;
+    private ScheduledFuture<?> pendingFlush;
+    private boolean closed;
+
+    private final AtomicLong marks = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong entriesWritten = new AtomicLong();
+    private final AtomicLong writeFailures = new AtomicLong();
+    private final AtomicLong flushNanosTotal = new AtomicLong();
+    private final AtomicLong flushNanosMax = new AtomicLong();
+    private final AtomicLong flushNanosLast = new AtomicLong();
 
     public PlayerDataStore(Logger logger, DebugLogger debugLogger, IConfig config) {
         this.logger = logger;
@@ -42,6 +72,99 @@ public class PlayerDataStore {
         this.config = config;
     }
 
+    /**
+     * Sets how long a modified entry may stay in memory before it is written. Every change made to the same
+     * player inside that window is persisted with a single file write; {@code 0} writes on every change.
+     */
+    public void setWriteBehindDelayMs(long delayMs) {
+        long normalized = Math.max(0L, delayMs);
+        // Modes only change under flushLock, so a background flush never overlaps the immediate writes that follow.
+        synchronized (flushLock) {
+            if (normalized == writeBehindDelayMs) {
+                return;
+            }
+            writeBehindDelayMs = normalized;
+            if (normalized == 0L) {
+                flush();
+            }
+        }
+    }
+
+    /** Writes every pending entry now; used on reload and before shutdown. */
+    public void flush() {
+        synchronized (flushLock) {
+            long startedAt = System.nanoTime();
+            Map<String, String> snapshot = new LinkedHashMap<>();
+            List<String> failed = new ArrayList<>();
+            boolean immediate = writeBehindDelayMs <= 0L || closed;
+            synchronized (lock) {
+                if (dirty.isEmpty()) {
+                    return;
+                }
+                for (String uuid : dirty) {
+                    PlayerEntry entry = cache.get(uuid);
+                    if (entry != null) {
+                        snapshot.put(uuid, gson.toJson(entry));
+                    }
+                }
+                dirty.clear();
+                if (immediate) {
+                    // Changes are written in place under lock in this mode; writing outside it could land after a newer one.
+                    writeSnapshot(snapshot, failed);
+                    dirty.addAll(failed);
+                }
+            }
+
+            if (!immediate) {
+                writeSnapshot(snapshot, failed);
+                if (!failed.isEmpty()) {
+                    synchronized (lock) {
+                        dirty.addAll(failed);
+                        scheduleFlushLocked();
+                    }
+                }
+            }
+            recordFlush(System.nanoTime() - startedAt, snapshot.size() - failed.size());
+        }
+    }
+
+    /** Flushes pending writes and stops the background writer; later changes are written immediately. */
+    public void close() {
+        ScheduledExecutorService stopping;
+        synchronized (flushLock) {
+            synchronized (lock) {
+                closed = true;
+                stopping = flusher;
+                flusher = null;
+                pendingFlush = null;
+            }
+        }
+        if (stopping != null) {
+            stopping.shutdownNow();
+        }
+        flush();
+    }
+
+    public Metrics metrics() {
+        int dirtyCount;
+        synchronized (lock) {
+            dirtyCount = dirty.size();
+        }
+        long flushCount = flushes.get();
+        return new Metrics(
+                writeBehindDelayMs,
+                dirtyCount,
+                marks.get(),
+                coalesced.get(),
+                flushCount,
+                entriesWritten.get(),
+                writeFailures.get(),
+                TimeUnit.NANOSECONDS.toMicros(flushNanosLast.get()) / 1000.0D,
+                flushCount > 0 ? TimeUnit.NANOSECONDS.toMicros(flushNanosTotal.get()) / 1000.0D / flushCount : 0.0D,
+                TimeUnit.NANOSECONDS.toMicros(flushNanosMax.get()) / 1000.0D
+        );
+    }
+
     public void ensureExists(IPlayer player) {
         synchronized (lock) {
             PlayerEntry entry = getOrCreateEntry(player);
@@ -321,6 +444,53 @@ public class PlayerDataStore {
         }
     }
 
+    /**
+     * Walks profiles in lowercased-name order starting at {@code namePrefix}, stopping when the visitor returns
+     * {@code false} or the prefix no longer matches. The index is built from disk once and then kept current by
+     * every save, so later walks never touch the playerdata directory.
+     */
+    public void visitProfilesByName(String namePrefix, Predicate<StoredPlayerProfile> visitor) {
+        String prefix = namePrefix != null ? namePrefix.trim().toLowerCase(Locale.ROOT) : "";
+        synchronized (lock) {
+            ensureProfileIndexLocked();
+            for (Map.Entry<String, StoredPlayerProfile> indexed : profileIndex.tailMap(prefix, true).entrySet()) {
+                if (!indexed.getKey().startsWith(prefix) || !visitor.test(indexed.getValue())) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of indexed profiles whose lowercased name starts with {@code namePrefix}, not counting
+     * {@code excludedUuids}. A blank prefix answers from the index size, so the dashboard's unfiltered total costs one
+     * lookup per excluded player instead of a walk over every profile.
+     */
+    public int countProfilesByName(String namePrefix, Set<String> excludedUuids) {
+        String prefix = namePrefix != null ? namePrefix.trim().toLowerCase(Locale.ROOT) : "";
+        synchronized (lock) {
+            ensureProfileIndexLocked();
+            int count = prefix.isEmpty() ? profileIndex.size() : profileIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, false).size();
+            if (excludedUuids != null) {
+                for (String excluded : excludedUuids) {
+                    String key = profileIndexKeys.get(normalizePlayerKey(excluded));
+                    if (key != null && key.startsWith(prefix)) {
+                        count--;
+                    }
+                }
+            }
+            return count;
+        }
+    }
+
+    /** UUIDs of players holding at least one temporary group, from the same index. */
+    public Set<String> listTemporaryGroupHolders() {
+        synchronized (lock) {
+            ensureProfileIndexLocked();
+            return Set.copyOf(temporaryGroupHolders);
+        }
+    }
+
     public void savePlayerEntry(PlayerEntry entry) {
         if (entry == null || entry.getUuid() == null || entry.getUuid().isBlank()) {
             return;
@@ -490,22 +660,126 @@ public class PlayerDataStore {
             return false;
         }
         entry.normalize(entry.getUuid());
+        indexEntryLocked(entry);
+
+        long delayMs = writeBehindDelayMs;
+        if (delayMs <= 0L || closed || cache.get(entry.getUuid()) != entry) {
+            return writeEntryLocked(entry);
+        }
+        marks.incrementAndGet();
+        if (!dirty.add(entry.getUuid())) {
+            coalesced.incrementAndGet();
+        }
+        scheduleFlushLocked();
+        return true;
+    }
+
+    private boolean writeEntryLocked(PlayerEntry entry) {
+        if (entry == null || entry.getUuid() == null || entry.getUuid().isBlank()) {
+            return false;
+        }
+        entry.normalize(entry.getUuid());
+        dirty.remove(entry.getUuid());
+        boolean written = writeJson(entry.getUuid(), gson.toJson(entry));
+        if (written) {
+            entriesWritten.incrementAndGet();
+        }
+        return written;
+    }
+
+    private void writeSnapshot(Map<String, String> snapshot, List<String> failed) {
+        for (Map.Entry<String, String> pending : snapshot.entrySet()) {
+            if (!writeJson(pending.getKey(), pending.getValue())) {
+                failed.add(pending.getKey());
+            }
+        }
+    }
 
-        Path path = resolvePlayerPath(entry.getUuid());
+    private boolean writeJson(String uuid, String json) {
+        Path path = resolvePlayerPath(uuid);
         if (path == null) {
             return false;
         }
 
         try {
-            AtomicFileIO.writeUtf8Atomic(path, writer -> gson.toJson(entry, writer));
+            AtomicFileIO.writeUtf8Atomic(path, writer -> writer.write(json));
             return true;
         } catch (Exception e) {
-            logger.warn("Paradigm: Failed to save playerdata for {}: {}", entry.getUuid(), e.getMessage());
-            debugLogger.debugLog("PlayerDataStore: save failed for " + entry.getUuid(), e);
+            writeFailures.incrementAndGet();
+            logger.warn("Paradigm: Failed to save playerdata for {}: {}", uuid, e.getMessage());
+            debugLogger.debugLog("PlayerDataStore: save failed for " + uuid, e);
             return false;
         }
     }
 
+    private void ensureProfileIndexLocked() {
+        if (profileIndex != null) {
+            return;
+        }
+        List<PlayerEntry> entries = listPlayerEntries();
+        profileIndex = new TreeMap<>();
+        for (PlayerEntry entry : entries) {
+            indexEntryLocked(entry);
+        }
+    }
+
+    private void indexEntryLocked(PlayerEntry entry) {
+        if (profileIndex == null) {
+            return;
+        }
+        String uuid = normalizePlayerKey(entry.getUuid());
+        if (uuid == null) {
+            return;
+        }
+        String previous = profileIndexKeys.remove(uuid);
+        if (previous != null) {
+            profileIndex.remove(previous);
+        }
+        String name = entry.getName() != null ? entry.getName().trim().toLowerCase(Locale.ROOT) : "";
+        String key = name + '\u0000' + uuid;
+        profileIndex.put(key, new StoredPlayerProfile(uuid, entry.getName(), entry.getFirstSeenMs(), entry.getLastSeenMs(), entry.getPlaytimeMs()));
+        profileIndexKeys.put(uuid, key);
+        if (entry.getTempGroups() != null && !entry.getTempGroups().isEmpty()) {
+            temporaryGroupHolders.add(uuid);
+        } else {
+            temporaryGroupHolders.remove(uuid);
+        }
+    }
+
+    private void scheduleFlushLocked() {
+        if (closed || pendingFlush != null || writeBehindDelayMs <= 0L) {
+            return;
+        }
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "Paradigm-PlayerData");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        pendingFlush = flusher.schedule(this::scheduledFlush, writeBehindDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void scheduledFlush() {
+        synchronized (lock) {
+            pendingFlush = null;
+        }
+        try {
+            flush();
+        } catch (RuntimeException failure) {
+            logger.warn("Paradigm: Background playerdata flush failed: {}", failure.getMessage());
+            debugLogger.debugLog("PlayerDataStore: background flush failed", failure);
+        }
+    }
+
+    private void recordFlush(long nanos, int written) {
+        flushes.incrementAndGet();
+        entriesWritten.addAndGet(Math.max(0, written));
+        flushNanosTotal.addAndGet(nanos);
+        flushNanosMax.accumulateAndGet(nanos, Math::max);
+        flushNanosLast.set(nanos);
+    }
+
     private Path resolvePlayerPath(String uuid) {
         if (config == null) {
             return null;
@@ -542,7 +816,7 @@ public class PlayerDataStore {
 
                     PlayerEntry entry = e.getValue() != null ? e.getValue() : new PlayerEntry();
                     entry.normalize(uuid);
-                    if (saveEntryLocked(entry)) {
+                    if (writeEntryLocked(entry)) {
                         cache.putIfAbsent(uuid, entry);
                     } else {
                         complete = false;
@@ -583,6 +857,20 @@ public class PlayerDataStore {
         return normalized.isEmpty() ? null : normalized;
     }
 
+    public record Metrics(
+            long writeBehindDelayMs,
+            int dirty,
+            long marks,
+            long coalesced,
+            long flushes,
+            long entriesWritten,
+            long writeFailures,
+            double lastFlushMs,
+            double averageFlushMs,
+            double maxFlushMs
+    ) {
+    }
+
     private static class LegacyDataFile {
         private Map<String, PlayerEntry> players = new LinkedHashMap<>();
     }
@@ -0,0 +1,130 @@
+package eu.avalanche7.paradigm.modules;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
+
+/**
+ * Case-insensitive trie of online player names. A message is scanned once: every occurrence of the mention
+ * symbol starts a walk down the trie, and the longest complete name reached is the match.
+ */
+final class MentionIndex {
+    private volatile Snapshot snapshot = new Snapshot(new Node(), 0);
+    private volatile boolean stale = true;
+
+    void invalidate() {
+        stale = true;
+    }
+
+    List<Match> find(String message, String symbol, List<IPlayer> online, Function<IPlayer, String> nameOf) {
+        if (message == null || message.isEmpty() || symbol == null || symbol.isEmpty()) {
+            return List.of();
+        }
+        Snapshot current = current(online, nameOf);
+        if (current.root().children.isEmpty()) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>(1);
+        int length = message.length();
+        int symbolLength = symbol.length();
+        int position = 0;
+        while (position <= length - symbolLength) {
+            int start = indexOfIgnoreCase(message, symbol, position);
+            if (start < 0) {
+                break;
+            }
+            int end = longestName(current.root(), message, start + symbolLength);
+            if (end < 0) {
+                position = start + 1;
+                continue;
+            }
+            matches.add(new Match(message.substring(start, end), message.substring(start + symbolLength, end)));
+            position = end;
+        }
+        return matches;
+    }
+
+    static int indexOfIgnoreCase(String text, String token, int from) {
+        if (text == null || token == null || token.isEmpty()) {
+            return -1;
+        }
+        int last = text.length() - token.length();
+        char first = fold(token.charAt(0));
+        for (int i = Math.max(0, from); i <= last; i++) {
+            if (fold(text.charAt(i)) == first && text.regionMatches(true, i, token, 0, token.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Snapshot current(List<IPlayer> online, Function<IPlayer, String> nameOf) {
+        Snapshot current = snapshot;
+        int onlineCount = online != null ? online.size() : 0;
+        if (!stale && current.size() == onlineCount) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (stale || current.size() != onlineCount) {
+                stale = false;
+                current = build(online, onlineCount, nameOf);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    private static Snapshot build(List<IPlayer> online, int onlineCount, Function<IPlayer, String> nameOf) {
+        Node root = new Node();
+        if (online != null) {
+            for (IPlayer player : online) {
+                String name = player != null ? nameOf.apply(player) : null;
+                if (name == null || name.isEmpty()) {
+                    continue;
+                }
+                Node node = root;
+                for (int i = 0; i < name.length(); i++) {
+                    node = node.children.computeIfAbsent(fold(name.charAt(i)), ignored -> new Node());
+                }
+                node.terminal = true;
+            }
+        }
+        return new Snapshot(root, onlineCount);
+    }
+
+    private static int longestName(Node root, String message, int from) {
+        Node node = root;
+        int end = -1;
+        for (int i = from; i < message.length(); i++) {
+            node = node.children.get(fold(message.charAt(i)));
+            if (node == null) {
+                break;
+            }
+            if (node.terminal) {
+                end = i + 1;
+            }
+        }
+        return end;
+    }
+
+    private static char fold(char value) {
+        return Character.toLowerCase(Character.toUpperCase(value));
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private boolean terminal;
+    }
+
+    private record Snapshot(Node root, int size) {
+    }
+
+    record Match(String token, String name) {
+    }
+}
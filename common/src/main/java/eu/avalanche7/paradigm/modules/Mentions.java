@@ -5,9 +5,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import eu.avalanche7.paradigm.configs.MentionConfigHandler;
 import eu.avalanche7.paradigm.core.ParadigmModule;
@@ -26,6 +23,7 @@ public class Mentions implements ParadigmModule {
     private static final String NAME = "Mentions";
     private final Map<String, Long> lastIndividualMentionBySender = new HashMap<>();
     private final Map<String, Long> lastEveryoneMentionBySender = new HashMap<>();
+    private final MentionIndex mentionIndex = new MentionIndex();
     private Services services;
     private IPlatformAdapter platform;
 
@@ -100,7 +98,9 @@ public class Mentions implements ParadigmModule {
         }
         IEventSystem lifecycle = lifecycleEvents(services);
         if (lifecycle != null) {
+            lifecycle.onPlayerJoin(event -> mentionIndex.invalidate());
             lifecycle.onPlayerLeave(event -> {
+                mentionIndex.invalidate();
                 IPlayer player = event != null ? event.getPlayer() : null;
                 if (player == null || player.getUUID() == null) return;
                 lastIndividualMentionBySender.remove(player.getUUID());
@@ -115,12 +115,9 @@ public class Mentions implements ParadigmModule {
 
         MentionConfigHandler.Config mentionConfig = MentionConfigHandler.getConfig();
 
-        String everyoneMentionPlaceholder = mentionConfig.MENTION_SYMBOL.value + "everyone";
-        Pattern everyonePattern = Pattern.compile(Pattern.quote(everyoneMentionPlaceholder), Pattern.CASE_INSENSITIVE);
-        Matcher everyoneMatcher = everyonePattern.matcher(rawMessage);
-
-        if (everyoneMatcher.find()) {
-            handleEveryoneMention(sender, rawMessage, mentionConfig, everyoneMatcher.group(0), services);
+        String everyoneMention = findEveryoneMention(rawMessage, mentionConfig);
+        if (everyoneMention != null) {
+            handleEveryoneMention(sender, rawMessage, mentionConfig, everyoneMention, services);
             return true;
         }
 
@@ -149,16 +146,10 @@ public class Mentions implements ParadigmModule {
     }
 
     private void handleIndividualMentions(IPlayer sender, String rawMessage, MentionConfigHandler.Config mentionConfig, Services services) {
-        String mentionSymbol = mentionConfig.MENTION_SYMBOL.value;
-        List<IPlayer> players = platform.getOnlinePlayers();
-
-        Pattern allPlayersPattern = buildAllPlayersMentionPattern(players, mentionSymbol);
-        Matcher mentionMatcher = allPlayersPattern.matcher(rawMessage);
-
-        if (!mentionMatcher.find()) {
+        List<MentionIndex.Match> mentions = findPlayerMentions(rawMessage, platform.getOnlinePlayers(), mentionConfig);
+        if (mentions.isEmpty()) {
             return;
         }
-        mentionMatcher.reset();
 
         if (sender != null) {
             if (!services.getPermissionsHandler().hasPermission(sender, ParadigmPermissions.MENTION_PLAYER)) {
@@ -171,16 +162,15 @@ public class Mentions implements ParadigmModule {
         }
 
         boolean mentionedSomeone = false;
-        while (mentionMatcher.find()) {
-            String playerName = mentionMatcher.group(1);
-            IPlayer targetPlayer = platform.getPlayerByName(playerName);
+        for (MentionIndex.Match mention : mentions) {
+            IPlayer targetPlayer = platform.getPlayerByName(mention.name());
             if (targetPlayer == null) continue;
             if (sender != null && targetPlayer.getUUID() != null && targetPlayer.getUUID().equals(sender.getUUID())) {
                 continue;
             }
 
             services.getDebugLogger().debugLog("Mention player detected in chat: " + platform.getPlayerName(targetPlayer) + " by " + (sender != null ? platform.getPlayerName(sender) : "Console"));
-            notifyPlayer(targetPlayer, sender, rawMessage, sender == null, mentionConfig, mentionMatcher.group(0));
+            notifyPlayer(targetPlayer, sender, rawMessage, sender == null, mentionConfig, mention.token());
             mentionedSomeone = true;
         }
 
@@ -201,11 +191,8 @@ public class Mentions implements ParadigmModule {
         List<IPlayer> players = platform.getOnlinePlayers();
         boolean isConsole = sender == null;
 
-        String everyoneMentionPlaceholder = mentionConfig.MENTION_SYMBOL.value + "everyone";
-        Pattern everyonePattern = Pattern.compile(Pattern.quote(everyoneMentionPlaceholder), Pattern.CASE_INSENSITIVE);
-        Matcher everyoneMatcher = everyonePattern.matcher(message);
-
-        if (everyoneMatcher.find()) {
+        String everyoneMention = findEveryoneMention(message, mentionConfig);
+        if (everyoneMention != null) {
             if (!isConsole) {
                 if (!services.getPermissionsHandler().hasPermission(sender, ParadigmPermissions.MENTION_EVERYONE)) {
                     platform.sendSystemMessage(sender, services.getLang().translate("mention.no_permission_everyone"));
@@ -217,7 +204,7 @@ public class Mentions implements ParadigmModule {
                 }
             }
 
-            notifyEveryone(players, sender, message, isConsole, mentionConfig, everyoneMatcher.group(0));
+            notifyEveryone(players, sender, message, isConsole, mentionConfig, everyoneMention);
 
             if (!isConsole) {
                 markMentionEveryoneUsed(sender);
@@ -226,12 +213,8 @@ public class Mentions implements ParadigmModule {
             platform.sendSuccess(source, platform.createLiteralComponent("Mentioned everyone successfully."), !isConsole);
             return 1;
         }
-        Pattern allPlayersPattern = buildAllPlayersMentionPattern(players, mentionConfig.MENTION_SYMBOL.value);
-        Matcher mentionMatcher = allPlayersPattern.matcher(message);
-        boolean containsAnyMention = mentionMatcher.find();
-        mentionMatcher.reset();
-
-        if (containsAnyMention && !isConsole) {
+        List<MentionIndex.Match> mentions = findPlayerMentions(message, players, mentionConfig);
+        if (!mentions.isEmpty() && !isConsole) {
             if (!services.getPermissionsHandler().hasPermission(sender, ParadigmPermissions.MENTION_PLAYER)) {
                 platform.sendFailure(source, platform.createLiteralComponent("No permission to mention players."));
                 return 0;
@@ -244,16 +227,15 @@ public class Mentions implements ParadigmModule {
 
         boolean mentionedSomeone = false;
         Set<String> mentionedNames = new LinkedHashSet<>();
-        while (mentionMatcher.find()) {
-            String playerName = mentionMatcher.group(1);
-            IPlayer targetPlayer = platform.getPlayerByName(playerName);
+        for (MentionIndex.Match mention : mentions) {
+            IPlayer targetPlayer = platform.getPlayerByName(mention.name());
             if (targetPlayer == null) continue;
 
             if (!isConsole && sender != null && targetPlayer.getUUID() != null && targetPlayer.getUUID().equals(sender.getUUID())) {
                 continue;
             }
 
-            notifyPlayer(targetPlayer, sender, message, isConsole, mentionConfig, mentionMatcher.group(0));
+            notifyPlayer(targetPlayer, sender, message, isConsole, mentionConfig, mention.token());
             mentionedSomeone = true;
             mentionedNames.add(platform.getPlayerName(targetPlayer));
         }
@@ -326,15 +308,14 @@ public class Mentions implements ParadigmModule {
         platform.playSound(targetPlayer, "minecraft:entity.experience_orb.pickup", "players", 1.0f, 1.0f);
     }
 
-    private Pattern buildAllPlayersMentionPattern(List<IPlayer> players, String mentionSymbol) {
-        if (players.isEmpty()) {
-            return Pattern.compile("(?!x)x");
-        }
-        String allPlayerNames = players.stream()
-                .map(p -> Pattern.quote(platform.getPlayerName(p)))
-                .collect(Collectors.joining("|"));
+    private String findEveryoneMention(String message, MentionConfigHandler.Config mentionConfig) {
+        String token = mentionConfig.MENTION_SYMBOL.value + "everyone";
+        int start = MentionIndex.indexOfIgnoreCase(message, token, 0);
+        return start >= 0 ? message.substring(start, start + token.length()) : null;
+    }
 
-        return Pattern.compile(Pattern.quote(mentionSymbol) + "(" + allPlayerNames + ")", Pattern.CASE_INSENSITIVE);
+    private List<MentionIndex.Match> findPlayerMentions(String message, List<IPlayer> players, MentionConfigHandler.Config mentionConfig) {
+        return mentionIndex.find(message, mentionConfig.MENTION_SYMBOL.value, players, platform::getPlayerName);
     }
 
     private boolean canMentionEveryoneNow(IPlayer sender, MentionConfigHandler.Config config) {
@@ -16,6 +16,7 @@ public class StorageLifecycle implements ParadigmModule {
         services.getManagedConfigSyncService().reconcileOnStartup();
         services.getServerHeartbeatPublisher().start();
         services.getManagedConfigSyncService().start();
+        services.getPlayerDirectory().loadAsync();
     }
 
     @Override public void onEnable(Services services) {}
@@ -34,6 +35,9 @@ public class StorageLifecycle implements ParadigmModule {
 
     @Override
     public void onServerStopped(Object event, Services services) {
+        if (services != null && services.getPlayerDataStore() != null) {
+            services.getPlayerDataStore().close();
+        }
         if (services != null && services.getStorageService() != null) {
             services.getStorageService().close();
         }
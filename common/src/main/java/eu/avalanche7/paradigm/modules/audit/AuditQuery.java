@@ -0,0 +1,86 @@
+package eu.avalanche7.paradigm.modules.audit;
+
+import java.util.Locale;
+
+/**
+ * Filters for an audit search. Actor and target match as case-insensitive substrings, type as an upper-case
+ * substring of the action name, result and source by exact name; blank fields match everything. Results are
+ * newest first and capped at {@link #MAX_LIMIT}.
+ */
+public record AuditQuery(
+        String actor,
+        String type,
+        String result,
+        String source,
+        String target,
+        Long fromMs,
+        Long toMs,
+        int limit
+) {
+    public static final int MAX_LIMIT = 500;
+
+    public AuditQuery {
+        actor = actor != null ? actor.trim().toLowerCase(Locale.ROOT) : "";
+        type = type != null ? type.trim().toUpperCase(Locale.ROOT) : "";
+        result = result != null ? result.trim().toUpperCase(Locale.ROOT) : "";
+        source = source != null ? source.trim().toUpperCase(Locale.ROOT) : "";
+        target = target != null ? target.trim().toLowerCase(Locale.ROOT) : "";
+        limit = Math.max(1, Math.min(limit <= 0 ? 100 : limit, MAX_LIMIT));
+    }
+
+    public static AuditQuery recent(int limit) {
+        return new AuditQuery(null, null, null, null, null, null, null, limit);
+    }
+
+    public static AuditQuery byActor(String actor, int limit) {
+        return new AuditQuery(actor, null, null, null, null, null, null, limit);
+    }
+
+    public static AuditQuery byType(String type, int limit) {
+        return new AuditQuery(null, type, null, null, null, null, null, limit);
+    }
+
+    public boolean matches(AuditEntry entry) {
+        if (entry == null) {
+            return false;
+        }
+        return matchesActor(entry.actorUuid(), entry.actorName())
+                && matchesType(entry.actionType())
+                && matchesResult(entry.result())
+                && matchesSource(entry.source())
+                && matchesTime(entry.timestampMs())
+                && matchesTarget(entry.targetUuid(), entry.targetName());
+    }
+
+    boolean matchesActor(String actorUuid, String actorName) {
+        if (actor.isEmpty()) {
+            return true;
+        }
+        return (actorUuid != null && actorUuid.toLowerCase(Locale.ROOT).contains(actor))
+                || (actorName != null && actorName.toLowerCase(Locale.ROOT).contains(actor));
+    }
+
+    boolean matchesType(AuditActionType actionType) {
+        return type.isEmpty() || (actionType != null && actionType.name().contains(type));
+    }
+
+    boolean matchesResult(AuditResult entryResult) {
+        return result.isEmpty() || (entryResult != null && entryResult.name().equals(result));
+    }
+
+    boolean matchesSource(AuditSource entrySource) {
+        return source.isEmpty() || (entrySource != null && entrySource.name().equals(source));
+    }
+
+    boolean matchesTime(long timestampMs) {
+        return (fromMs == null || timestampMs >= fromMs) && (toMs == null || timestampMs <= toMs);
+    }
+
+    private boolean matchesTarget(String targetUuid, String targetName) {
+        if (target.isEmpty()) {
+            return true;
+        }
+        String haystack = ((targetName != null ? targetName : "") + " " + (targetUuid != null ? targetUuid : "")).toLowerCase(Locale.ROOT);
+        return haystack.contains(target);
+    }
+}
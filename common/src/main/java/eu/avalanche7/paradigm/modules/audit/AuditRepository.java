@@ -7,4 +7,17 @@ public interface AuditRepository {
     List<AuditEntry> recent(int limit);
     List<AuditEntry> byActor(String actor, int limit);
     List<AuditEntry> byType(String type, int limit);
+
+    /** Newest entries matching every filter in {@code query}; the default narrows by actor or type, then filters. */
+    default List<AuditEntry> query(AuditQuery query) {
+        List<AuditEntry> base;
+        if (!query.actor().isEmpty()) {
+            base = byActor(query.actor(), AuditQuery.MAX_LIMIT);
+        } else if (!query.type().isEmpty()) {
+            base = byType(query.type(), AuditQuery.MAX_LIMIT);
+        } else {
+            base = recent(AuditQuery.MAX_LIMIT);
+        }
+        return base.stream().filter(query::matches).limit(query.limit()).toList();
+    }
 }
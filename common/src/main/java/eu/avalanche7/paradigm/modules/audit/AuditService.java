@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import eu.avalanche7.paradigm.core.Services;
 import eu.avalanche7.paradigm.modules.dashboard.auth.DashboardPrincipal;
@@ -15,6 +16,7 @@ public class AuditService {
     private final Services services;
     private final AuditRepository repository;
     private final Executor executor;
+    private volatile Consumer<AuditEntry> appendListener;
 
     public AuditService(Services services, Executor executor) {
         this.services = services;
@@ -32,6 +34,11 @@ public class AuditService {
         this.repository = active;
     }
 
+    /** Receives every entry once it has been persisted; runs on the audit executor. */
+    public void setAppendListener(Consumer<AuditEntry> appendListener) {
+        this.appendListener = appendListener;
+    }
+
     public void dashboard(DashboardPrincipal actor, AuditActionType type, AuditResult result, String message, Map<String, String> details) {
         append(entry(actor != null ? actor.uuid() : "", actor != null ? actor.name() : "", AuditSource.DASHBOARD, type, result, message, details));
     }
@@ -62,6 +69,10 @@ public class AuditService {
         return CompletableFuture.supplyAsync(() -> repository.byType(type, limit), executor);
     }
 
+    public CompletableFuture<List<AuditEntry>> queryAsync(AuditQuery query) {
+        return CompletableFuture.supplyAsync(() -> repository.query(query), executor);
+    }
+
     public List<AuditEntry> recent(int limit) {
         return repository.recent(limit);
     }
@@ -75,7 +86,16 @@ public class AuditService {
     }
 
     private void append(AuditEntry entry) {
-        CompletableFuture.runAsync(() -> repository.append(entry), executor)
+        CompletableFuture.runAsync(() -> {
+                    repository.append(entry);
+                    Consumer<AuditEntry> listener = appendListener;
+                    if (listener != null) {
+                        try {
+                            listener.accept(entry);
+                        } catch (RuntimeException ignored) {
+                        }
+                    }
+                }, executor)
                 .exceptionally(failure -> {
                     Throwable reported = failure.getCause() != null ? failure.getCause() : failure;
                     if (services.getLogger() != null) {
@@ -1,32 +1,80 @@
 package eu.avalanche7.paradigm.modules.audit;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.slf4j.Logger;
 
 import eu.avalanche7.paradigm.platform.Interfaces.IConfig;
+import eu.avalanche7.paradigm.storage.StorageConfig;
 
+/**
+ * Audit log stored as size-capped JSON-lines segments under {@code paradigm/audit}. Every segment has a sidecar
+ * {@code .idx} file with one line per entry (byte offset, length, time, action, result, source and actor), so a
+ * query walks the indexes newest first and parses only entries whose indexed fields match, stopping at the limit.
+ * Writers stay open between appends and a burst of concurrent appends shares one flush. Retention deletes whole
+ * segments, oldest first.
+ */
 public class JsonAuditRepository implements AuditRepository {
     private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+    private static final String LEGACY_FILE = "audit.jsonl";
+    private static final Pattern SEGMENT_FILE = Pattern.compile("audit-(\\d{6,})\\.jsonl");
+    private static final int CACHED_INDEXES = 4;
+    private static final long RETENTION_CHECK_INTERVAL_MS = TimeUnit.HOURS.toMillis(1);
 
-    private final Path path;
+    private final Path directory;
     private final Logger logger;
+    private final long segmentMaxBytes;
+    private final int maxSegments;
+    private final long retentionMs;
     private final Object lock = new Object();
+    private final AtomicInteger appendsInFlight = new AtomicInteger();
+    private final List<Segment> segments = new ArrayList<>();
+    private final Deque<Segment> loadedIndexes = new ArrayDeque<>();
+    private boolean opened;
+    private OutputStream dataOut;
+    private Writer indexOut;
+    private boolean dirty;
+    private long lastRetentionCheckMs;
 
     public JsonAuditRepository(IConfig config, Logger logger) {
-        this.path = config.resolveConfigPath("paradigm/audit/audit.jsonl");
+        this(config, logger, new StorageConfig.JsonAuditConfig());
+    }
+
+    public JsonAuditRepository(IConfig config, Logger logger, StorageConfig.JsonAuditConfig settings) {
+        StorageConfig.JsonAuditConfig effective = settings != null ? settings : new StorageConfig.JsonAuditConfig();
+        this.directory = config.resolveConfigPath("paradigm/audit");
         this.logger = logger;
+        this.segmentMaxBytes = Math.max(64L, effective.segmentMaxKilobytes) * 1024L;
+        this.maxSegments = Math.max(0, effective.maxSegments);
+        this.retentionMs = TimeUnit.DAYS.toMillis(Math.max(0, effective.retentionDays));
     }
 
     @Override
@@ -34,102 +82,466 @@ public class JsonAuditRepository implements AuditRepository {
         if (entry == null) {
             return;
         }
-        synchronized (lock) {
-            try {
-                Files.createDirectories(path.getParent());
-                try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
-                        java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.APPEND)) {
-                    writer.write(GSON.toJson(entry));
-                    writer.newLine();
-                }
-            } catch (IOException | RuntimeException t) {
-                if (logger != null) {
-                    logger.warn("Paradigm audit: failed to append audit entry: {}", t.getMessage());
+        appendsInFlight.incrementAndGet();
+        try {
+            synchronized (lock) {
+                try {
+                    openLocked();
+                    byte[] line = (GSON.toJson(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+                    Segment active = activeSegment();
+                    if (active.size > 0L && active.size + line.length > segmentMaxBytes) {
+                        rollLocked();
+                        active = activeSegment();
+                    } else if (System.currentTimeMillis() - lastRetentionCheckMs >= RETENTION_CHECK_INTERVAL_MS) {
+                        applyRetentionLocked();
+                    }
+                    IndexEntry indexed = IndexEntry.of(active.size, line.length, entry);
+                    dataOut.write(line);
+                    indexOut.write(indexed.toLine());
+                    active.size += line.length;
+                    active.add(indexed);
+                    dirty = true;
+                } catch (IOException | RuntimeException t) {
+                    if (logger != null) {
+                        logger.warn("Paradigm audit: failed to append audit entry: {}", t.getMessage());
+                    }
                 }
             }
+        } finally {
+            if (appendsInFlight.decrementAndGet() == 0) {
+                flush();
+            }
         }
     }
 
     @Override
     public List<AuditEntry> recent(int limit) {
-        return filter(null, null, limit);
+        return query(AuditQuery.recent(limit));
     }
 
     @Override
     public List<AuditEntry> byActor(String actor, int limit) {
-        return filter(actor, null, limit);
+        return query(AuditQuery.byActor(actor, limit));
     }
 
     @Override
     public List<AuditEntry> byType(String type, int limit) {
-        return filter(null, type, limit);
+        return query(AuditQuery.byType(type, limit));
     }
 
-    private List<AuditEntry> filter(String actor, String type, int limit) {
-        int max = Math.max(1, Math.min(limit <= 0 ? 100 : limit, 500));
-        String actorQuery = actor != null ? actor.trim().toLowerCase(Locale.ROOT) : "";
-        String typeQuery = type != null ? type.trim().toUpperCase(Locale.ROOT) : "";
-        List<AuditEntry> entries = new ArrayList<>();
+    @Override
+    public List<AuditEntry> query(AuditQuery query) {
+        List<AuditEntry> matches = new ArrayList<>();
         int malformedLines = 0;
-
         synchronized (lock) {
-            if (!Files.exists(path)) {
-                return List.of();
-            }
-            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    if (line.isBlank()) {
-                        continue;
-                    }
-
-                    AuditEntry entry;
-                    try {
-                        entry = GSON.fromJson(line, AuditEntry.class);
-                    } catch (RuntimeException malformed) {
-                        malformedLines++;
+            try {
+                openLocked();
+                flushLocked();
+                for (int s = segments.size() - 1; s >= 0 && matches.size() < query.limit(); s--) {
+                    Segment segment = segments.get(s);
+                    if (!segment.mayContain(query.fromMs(), query.toMs())) {
                         continue;
                     }
-
-                    if (entry == null || !matches(entry, actorQuery, typeQuery)) {
+                    List<IndexEntry> entries = indexLocked(segment);
+                    if (entries.isEmpty()) {
                         continue;
                     }
-                    entries.add(entry);
-                    if (entries.size() > max * 4) {
-                        entries = new ArrayList<>(entries.subList(entries.size() - max * 2, entries.size()));
+                    try (FileChannel channel = FileChannel.open(segment.data, StandardOpenOption.READ)) {
+                        for (int i = entries.size() - 1; i >= 0 && matches.size() < query.limit(); i--) {
+                            IndexEntry indexed = entries.get(i);
+                            if (!indexed.matches(query)) {
+                                continue;
+                            }
+                            AuditEntry entry = read(channel, indexed);
+                            if (entry == null) {
+                                malformedLines++;
+                            } else if (query.matches(entry)) {
+                                matches.add(entry);
+                            }
+                        }
                     }
                 }
-            } catch (IOException t) {
+            } catch (IOException | RuntimeException t) {
                 if (logger != null) {
                     logger.warn("Paradigm audit: failed to read audit log: {}", t.getMessage());
                 }
-                return List.of();
             }
         }
 
         if (malformedLines > 0 && logger != null) {
-            logger.warn("Paradigm audit: skipped {} malformed audit log line(s) while reading {}.", malformedLines, path.getFileName());
+            logger.warn("Paradigm audit: skipped {} malformed audit log line(s) while reading {}.", malformedLines, directory.getFileName());
         }
+        return List.copyOf(matches);
+    }
 
-        Collections.reverse(entries);
-        return entries.size() > max ? List.copyOf(entries.subList(0, max)) : List.copyOf(entries);
+    /** Flushes buffered appends and closes the open segment; a later append or query reopens it. */
+    public void close() {
+        synchronized (lock) {
+            flushLocked();
+            closeWritersLocked();
+            opened = false;
+            segments.clear();
+            loadedIndexes.clear();
+        }
     }
 
-    private static boolean matches(AuditEntry entry, String actorQuery, String typeQuery) {
-        if (entry == null) {
-            return false;
+    private void flush() {
+        synchronized (lock) {
+            flushLocked();
         }
-        if (!actorQuery.isBlank()) {
-            String actorUuid = entry.actorUuid() != null ? entry.actorUuid().toLowerCase(Locale.ROOT) : "";
-            String actorName = entry.actorName() != null ? entry.actorName().toLowerCase(Locale.ROOT) : "";
-            if (!actorUuid.contains(actorQuery) && !actorName.contains(actorQuery)) {
-                return false;
+    }
+
+    private void flushLocked() {
+        if (!dirty || dataOut == null) {
+            return;
+        }
+        try {
+            dataOut.flush();
+            indexOut.flush();
+            dirty = false;
+        } catch (IOException t) {
+            if (logger != null) {
+                logger.warn("Paradigm audit: failed to flush audit log: {}", t.getMessage());
             }
         }
-        if (!typeQuery.isBlank()) {
-            String action = entry.actionType() != null ? entry.actionType().name() : "";
-            return action.contains(typeQuery);
+    }
+
+    private void openLocked() throws IOException {
+        if (opened) {
+            return;
+        }
+        Files.createDirectories(directory);
+        adoptLegacyFileLocked();
+        segments.clear();
+        loadedIndexes.clear();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "audit-*.jsonl")) {
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.add(new Segment(directory, Long.parseLong(matcher.group(1))));
+                }
+            }
+        }
+        segments.sort(Comparator.comparingLong(segment -> segment.number));
+        if (segments.isEmpty()) {
+            segments.add(new Segment(directory, 1L));
+        }
+        Segment active = activeSegment();
+        active.entries = loadIndexLocked(active, true);
+        openWritersLocked(active);
+        opened = true;
+        applyRetentionLocked();
+    }
+
+    /** The single pre-segment audit file becomes segment zero; its index is built on first read. */
+    private void adoptLegacyFileLocked() throws IOException {
+        Path legacy = directory.resolve(LEGACY_FILE);
+        Segment first = new Segment(directory, 0L);
+        if (Files.exists(legacy) && !Files.exists(first.data)) {
+            Files.move(legacy, first.data);
+        }
+    }
+
+    private Segment activeSegment() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private void rollLocked() throws IOException {
+        flushLocked();
+        closeWritersLocked();
+        Segment previous = activeSegment();
+        Segment next = new Segment(directory, previous.number + 1L);
+        next.entries = new ArrayList<>();
+        segments.add(next);
+        openWritersLocked(next);
+        rememberIndexLocked(previous);
+        applyRetentionLocked();
+    }
+
+    private void openWritersLocked(Segment segment) throws IOException {
+        dataOut = new BufferedOutputStream(Files.newOutputStream(segment.data,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 64 * 1024);
+        indexOut = Files.newBufferedWriter(segment.index, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void closeWritersLocked() {
+        try {
+            if (dataOut != null) {
+                dataOut.close();
+            }
+            if (indexOut != null) {
+                indexOut.close();
+            }
+        } catch (IOException t) {
+            if (logger != null) {
+                logger.warn("Paradigm audit: failed to close audit segment: {}", t.getMessage());
+            }
+        } finally {
+            dataOut = null;
+            indexOut = null;
+        }
+    }
+
+    private void applyRetentionLocked() {
+        long now = System.currentTimeMillis();
+        lastRetentionCheckMs = now;
+        while (segments.size() > 1) {
+            Segment oldest = segments.get(0);
+            boolean overCount = maxSegments > 0 && segments.size() > maxSegments;
+            boolean expired = retentionMs > 0L && oldest.lastWriteMs() < now - retentionMs;
+            if (!overCount && !expired) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(oldest.data);
+                Files.deleteIfExists(oldest.index);
+            } catch (IOException t) {
+                if (logger != null) {
+                    logger.warn("Paradigm audit: failed to delete expired audit segment {}: {}", oldest.data.getFileName(), t.getMessage());
+                }
+                return;
+            }
+            segments.remove(0);
+            loadedIndexes.remove(oldest);
+        }
+    }
+
+    /** Index of a closed segment, loaded on demand; only the newest few stay in memory besides the active one. */
+    private List<IndexEntry> indexLocked(Segment segment) throws IOException {
+        if (segment.entries != null) {
+            return segment.entries;
+        }
+        List<IndexEntry> entries = loadIndexLocked(segment, false);
+        segment.entries = entries;
+        rememberIndexLocked(segment);
+        return entries;
+    }
+
+    private void rememberIndexLocked(Segment segment) {
+        loadedIndexes.addLast(segment);
+        while (loadedIndexes.size() > CACHED_INDEXES) {
+            loadedIndexes.removeFirst().entries = null;
+        }
+    }
+
+    /**
+     * Reads the sidecar index and checks it against the data file. Index lines past the end of the data are
+     * dropped, data past the last indexed line is scanned and indexed, and either repair rewrites the sidecar.
+     * For the active segment a torn last line is cut off so the next append starts on a fresh line.
+     */
+    private List<IndexEntry> loadIndexLocked(Segment segment, boolean active) throws IOException {
+        List<IndexEntry> entries = new ArrayList<>();
+        long dataSize = Files.exists(segment.data) ? Files.size(segment.data) : 0L;
+        long indexedEnd = 0L;
+        boolean rewrite = false;
+        if (Files.exists(segment.index)) {
+            try (BufferedReader reader = Files.newBufferedReader(segment.index, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    IndexEntry indexed = IndexEntry.parse(line);
+                    if (indexed == null || indexed.offset() < indexedEnd || indexed.offset() + indexed.length() > dataSize) {
+                        rewrite = true;
+                        break;
+                    }
+                    entries.add(indexed);
+                    indexedEnd = indexed.offset() + indexed.length();
+                }
+            }
+        } else {
+            rewrite = dataSize > 0L;
+        }
+        if (indexedEnd < dataSize) {
+            long validEnd = scan(segment, indexedEnd, entries);
+            rewrite = true;
+            if (active && validEnd < dataSize) {
+                try (FileChannel channel = FileChannel.open(segment.data, StandardOpenOption.WRITE)) {
+                    channel.truncate(validEnd);
+                }
+                if (logger != null) {
+                    logger.warn("Paradigm audit: discarded {} byte(s) of an incomplete entry at the end of {}.",
+                            dataSize - validEnd, segment.data.getFileName());
+                }
+                dataSize = validEnd;
+            }
+        }
+        if (rewrite) {
+            try (BufferedWriter writer = Files.newBufferedWriter(segment.index, StandardCharsets.UTF_8)) {
+                for (IndexEntry indexed : entries) {
+                    writer.write(indexed.toLine());
+                }
+            }
+        }
+        segment.size = dataSize;
+        segment.minTimeMs = Long.MAX_VALUE;
+        segment.maxTimeMs = Long.MIN_VALUE;
+        for (IndexEntry indexed : entries) {
+            segment.widen(indexed.timestampMs());
+        }
+        return entries;
+    }
+
+    /** Indexes complete lines from {@code from}; returns the offset just past the last complete line. */
+    private long scan(Segment segment, long from, List<IndexEntry> entries) throws IOException {
+        long offset = from;
+        long lineStart = from;
+        int malformedLines = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream(512);
+        try (FileChannel channel = FileChannel.open(segment.data, StandardOpenOption.READ)) {
+            channel.position(from);
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024);
+            int next;
+            while ((next = in.read()) >= 0) {
+                offset++;
+                if (next != '\n') {
+                    line.write(next);
+                    continue;
+                }
+                AuditEntry entry = parse(line.toString(StandardCharsets.UTF_8));
+                if (entry != null) {
+                    entries.add(IndexEntry.of(lineStart, (int) (offset - lineStart), entry));
+                } else if (line.size() > 0) {
+                    malformedLines++;
+                }
+                line.reset();
+                lineStart = offset;
+            }
+        }
+        if (malformedLines > 0 && logger != null) {
+            logger.warn("Paradigm audit: skipped {} malformed audit log line(s) while indexing {}.", malformedLines, segment.data.getFileName());
+        }
+        return lineStart;
+    }
+
+    private static AuditEntry read(FileChannel channel, IndexEntry indexed) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(indexed.length());
+        long position = indexed.offset();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return null;
+            }
+            position += read;
+        }
+        return parse(new String(buffer.array(), StandardCharsets.UTF_8));
+    }
+
+    private static AuditEntry parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            return GSON.fromJson(line, AuditEntry.class);
+        } catch (RuntimeException malformed) {
+            return null;
+        }
+    }
+
+    private static final class Segment {
+        private final long number;
+        private final Path data;
+        private final Path index;
+        private long size;
+        private long minTimeMs = Long.MAX_VALUE;
+        private long maxTimeMs = Long.MIN_VALUE;
+        private List<IndexEntry> entries;
+
+        private Segment(Path directory, long number) {
+            this.number = number;
+            String base = String.format(Locale.ROOT, "audit-%06d", number);
+            this.data = directory.resolve(base + ".jsonl");
+            this.index = directory.resolve(base + ".idx");
+        }
+
+        private void add(IndexEntry indexed) {
+            entries.add(indexed);
+            widen(indexed.timestampMs());
+        }
+
+        private void widen(long timestampMs) {
+            minTimeMs = Math.min(minTimeMs, timestampMs);
+            maxTimeMs = Math.max(maxTimeMs, timestampMs);
+        }
+
+        /** False only when the segment's time span is known and lies entirely outside the range. */
+        private boolean mayContain(Long fromMs, Long toMs) {
+            if (minTimeMs > maxTimeMs) {
+                return true;
+            }
+            return (fromMs == null || maxTimeMs >= fromMs) && (toMs == null || minTimeMs <= toMs);
+        }
+
+        private long lastWriteMs() {
+            if (minTimeMs <= maxTimeMs) {
+                return maxTimeMs;
+            }
+            try {
+                return Files.getLastModifiedTime(data).toMillis();
+            } catch (IOException missing) {
+                return Long.MIN_VALUE;
+            }
+        }
+    }
+
+    /** One sidecar index line: where the entry lives and the fields queries filter on most. */
+    private record IndexEntry(
+            long offset,
+            int length,
+            long timestampMs,
+            AuditActionType actionType,
+            AuditResult result,
+            AuditSource source,
+            String actorUuid,
+            String actorName
+    ) {
+        private static IndexEntry of(long offset, int length, AuditEntry entry) {
+            return new IndexEntry(offset, length, entry.timestampMs(), entry.actionType(), entry.result(), entry.source(),
+                    field(entry.actorUuid()), field(entry.actorName()));
+        }
+
+        private static IndexEntry parse(String line) {
+            String[] parts = line.split("\t", -1);
+            if (parts.length != 8) {
+                return null;
+            }
+            try {
+                return new IndexEntry(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2]),
+                        enumValue(AuditActionType.class, parts[3]), enumValue(AuditResult.class, parts[4]),
+                        enumValue(AuditSource.class, parts[5]), parts[6], parts[7]);
+            } catch (NumberFormatException malformed) {
+                return null;
+            }
+        }
+
+        private String toLine() {
+            return offset + "\t" + length + "\t" + timestampMs
+                    + "\t" + (actionType != null ? actionType.name() : "")
+                    + "\t" + (result != null ? result.name() : "")
+                    + "\t" + (source != null ? source.name() : "")
+                    + "\t" + actorUuid + "\t" + actorName + "\n";
+        }
+
+        private boolean matches(AuditQuery query) {
+            return query.matchesTime(timestampMs)
+                    && query.matchesType(actionType)
+                    && query.matchesResult(result)
+                    && query.matchesSource(source)
+                    && query.matchesActor(actorUuid, actorName);
+        }
+
+        private static String field(String value) {
+            return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+        }
+
+        private static <T extends Enum<T>> T enumValue(Class<T> type, String value) {
+            if (value.isEmpty()) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, value);
+            } catch (IllegalArgumentException ignored) {
+                return null;
+            }
         }
-        return true;
     }
 }
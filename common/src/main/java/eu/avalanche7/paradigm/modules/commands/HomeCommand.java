@@ -82,7 +82,8 @@ public class HomeCommand implements ParadigmModule {
                     return;
                 }
                 services.getPlatformAdapter().getPlayerLocation(player)
-                        .ifPresent(location -> services.getStorageService().runAsync(
+                        .ifPresent(location -> services.getStorageService().runPlayerAsync(
+                                player.getUUID(),
                                 "home.death_back_save",
                                 () -> {
                                     services.getStorageService().players().setBackLocation(player.getUUID(), fromDataLocation(location));
@@ -454,7 +455,8 @@ public class HomeCommand implements ParadigmModule {
             return;
         }
 
-        services.getStorageService().runAsync(
+        services.getStorageService().runPlayerAsync(
+                uuid,
                 "home.suggestions",
                 () -> services.getStorageService().players().listHomes(uuid),
                 services.getTaskScheduler(),
@@ -559,7 +561,7 @@ public class HomeCommand implements ParadigmModule {
             return;
         }
         String uuid = player.getUUID();
-        services.getStorageService().runAsync(operation, () -> {
+        services.getStorageService().runPlayerAsync(uuid, operation, () -> {
             services.getStorageService().players().setBackLocation(uuid, fromDataLocation(location));
             return null;
         }, services.getTaskScheduler(), ignored -> {}, ignored -> {});
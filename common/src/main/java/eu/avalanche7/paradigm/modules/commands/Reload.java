@@ -13,6 +13,7 @@ import java.util.concurrent.TimeUnit;
 
 import eu.avalanche7.paradigm.ParadigmAPI;
 import eu.avalanche7.paradigm.configs.*;
+import eu.avalanche7.paradigm.core.CommonRuntime;
 import eu.avalanche7.paradigm.core.ParadigmModule;
 import eu.avalanche7.paradigm.core.Services;
 import eu.avalanche7.paradigm.modules.Announcements;
@@ -106,7 +107,10 @@ public class Reload implements ParadigmModule {
                             }
 
                             refreshModuleStates(services, prevEnabled);
+                            services.getPlayerDataStore().flush();
                             if ("main".equals(cfg) || "all".equals(cfg)) {
+                                services.getPlayerDataStore().setWriteBehindDelayMs(CommonRuntime.playerDataWriteBehindMs(services.getMainConfig()));
+                                services.getMessageParser().setMaxCachedMessages(CommonRuntime.messageCacheMaxEntries(services.getMainConfig()));
                                 refreshAllCommandStates(services);
                                 services.getPermissionsHandler().refreshInternalPermissions();
                             }
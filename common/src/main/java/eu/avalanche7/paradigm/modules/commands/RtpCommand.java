@@ -34,6 +34,7 @@ public class RtpCommand implements ParadigmModule {
 
     @Override
     public void onServerStarting(Object event, Services services) {
+        services.getRtpLocationPool().start();
     }
 
     @Override
@@ -46,6 +47,7 @@ public class RtpCommand implements ParadigmModule {
 
     @Override
     public void onServerStopping(Object event, Services services) {
+        services.getRtpLocationPool().stop();
     }
 
     @Override
@@ -86,6 +88,13 @@ public class RtpCommand implements ParadigmModule {
         int maxRadius = Math.max(minRadius + 1, services.getMainConfig().rtpMaxRadius.value);
         int maxAttempts = Math.max(1, services.getMainConfig().rtpMaxAttempts.value);
 
+        Optional<PlayerDataStore.StoredLocation> pooled = services.getRtpLocationPool().take(player, origin, minRadius, maxRadius);
+        if (pooled.isPresent() && services.getPlatformAdapter().teleportPlayer(player, pooled.get())) {
+            saveBackLocationAsync(player, origin);
+            send(player, "rtp.teleported", "Teleported to a random location.");
+            return 1;
+        }
+
         ThreadLocalRandom random = ThreadLocalRandom.current();
         double minSq = (double) minRadius * minRadius;
         double maxSq = (double) maxRadius * maxRadius;
@@ -119,7 +128,7 @@ public class RtpCommand implements ParadigmModule {
         }
         String uuid = player.getUUID();
         StoredLocation storedLocation = fromDataLocation(location);
-        services.getStorageService().runAsync("rtp.back_save", () -> {
+        services.getStorageService().runPlayerAsync(uuid, "rtp.back_save", () -> {
             services.getStorageService().players().setBackLocation(uuid, storedLocation);
             return null;
         }, services.getTaskScheduler(), ignored -> {}, ignored -> {});
@@ -0,0 +1,276 @@
+package eu.avalanche7.paradigm.modules.commands;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import eu.avalanche7.paradigm.configs.MainConfigHandler;
+import eu.avalanche7.paradigm.core.Services;
+import eu.avalanche7.paradigm.data.PlayerDataStore;
+import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
+
+/**
+ * Safe /rtp landing spots found ahead of time, one pool per world. A refill pass runs on the server thread every
+ * {@link #REFILL_PERIOD_MS}, but only once the previous pass has run, so a lagging server does not pile passes up and
+ * spend the tick budget several times over. Each pass samples the same radius ring /rtp uses uniformly around online players and starts an
+ * asynchronous probe for each point, stopping once its time budget is spent. A probe reads the column's chunk from
+ * disk if it is not loaded and never generates terrain; at most {@link #MAX_PROBES_IN_FLIGHT} run at once.
+ * {@link #take} serves a random fresh spot inside the caller's ring that is not near another player.
+ */
+public final class RtpLocationPool {
+    private static final long REFILL_PERIOD_MS = 50L;
+    private static final int MAX_PROBES_PER_PASS = 64;
+    private static final int MAX_PROBES_IN_FLIGHT = 16;
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final Services services;
+    private final Map<String, ConcurrentLinkedDeque<Spot>> pools = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> probing = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean refillQueued = new AtomicBoolean();
+    private final AtomicLong probes = new AtomicLong();
+    private final AtomicLong found = new AtomicLong();
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private ScheduledFuture<?> refillTask;
+    private int nextAnchor;
+    private long windowStartNanos = System.nanoTime();
+    private final AtomicLong windowFound = new AtomicLong();
+    private volatile double foundPerMinute;
+
+    public RtpLocationPool(Services services) {
+        this.services = services;
+    }
+
+    public synchronized void start() {
+        if (refillTask != null || services == null || services.getTaskScheduler() == null) {
+            return;
+        }
+        refillTask = services.getTaskScheduler().scheduleAtFixedRateRaw(this::queueRefill, REFILL_PERIOD_MS, REFILL_PERIOD_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void queueRefill() {
+        if (!refillQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            services.getPlatformAdapter().executeOnServerThread(() -> {
+                try {
+                    refill();
+                } finally {
+                    refillQueued.set(false);
+                }
+            });
+        } catch (RuntimeException failure) {
+            refillQueued.set(false);
+            throw failure;
+        }
+    }
+
+    public synchronized void stop() {
+        if (refillTask != null) {
+            refillTask.cancel(false);
+            refillTask = null;
+        }
+        pools.clear();
+        probing.clear();
+    }
+
+    /**
+     * Removes and returns a random pooled spot in {@code origin}'s world between the two radii and at least
+     * {@code minRadius} from every other player there, re-checked on the way out.
+     */
+    Optional<PlayerDataStore.StoredLocation> take(IPlayer player, PlayerDataStore.StoredLocation origin, int minRadius, int maxRadius) {
+        ConcurrentLinkedDeque<Spot> pool = origin != null ? pools.get(origin.getWorldId()) : null;
+        if (pool == null || pool.isEmpty()) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        double minSq = (double) minRadius * minRadius;
+        double maxSq = (double) maxRadius * maxRadius;
+        List<PlayerDataStore.StoredLocation> others = playerPositions(origin.getWorldId());
+        List<Spot> candidates = new ArrayList<>();
+        Iterator<Spot> spots = pool.iterator();
+        while (spots.hasNext()) {
+            Spot spot = spots.next();
+            if (spot.expiresAtMs() <= now) {
+                spots.remove();
+                expired.incrementAndGet();
+                continue;
+            }
+            double distanceSq = distanceSq(spot.x(), spot.z(), origin);
+            if (distanceSq >= minSq && distanceSq <= maxSq && clearOf(others, spot.x(), spot.z(), minSq)) {
+                candidates.add(spot);
+            }
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (!candidates.isEmpty()) {
+            Spot spot = candidates.remove(random.nextInt(candidates.size()));
+            if (!pool.remove(spot)) {
+                continue;
+            }
+            Optional<Double> y = services.getPlatformAdapter().findSafeRtpY(player, spot.x(), spot.z());
+            if (y.isPresent()) {
+                served.incrementAndGet();
+                return Optional.of(new PlayerDataStore.StoredLocation(origin.getWorldId(), spot.x(), y.get(), spot.z(), origin.getYaw(), origin.getPitch()));
+            }
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    private void refill() {
+        MainConfigHandler.Config config = services.getMainConfig();
+        int poolSize = config != null ? Math.max(0, config.rtpPoolSize.value) : 0;
+        if (poolSize == 0) {
+            pools.clear();
+            probing.clear();
+            return;
+        }
+        List<IPlayer> online = services.getPlatformAdapter().getOnlinePlayers();
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+        if (online == null || online.isEmpty()) {
+            return;
+        }
+
+        int minRadius = Math.max(0, config.rtpMinRadius.value);
+        int maxRadius = Math.max(minRadius + 1, config.rtpMaxRadius.value);
+        long ttlMs = TimeUnit.SECONDS.toMillis(Math.max(1, config.rtpPoolTtlSeconds.value));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.rtpPoolTickBudgetMs.value));
+        double minSq = (double) minRadius * minRadius;
+        double maxSq = (double) maxRadius * maxRadius;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, List<PlayerDataStore.StoredLocation>> positions = new HashMap<>();
+
+        int fullAnchors = 0;
+        for (int probe = 0; probe < MAX_PROBES_PER_PASS && fullAnchors < online.size()
+                && inFlight.get() < MAX_PROBES_IN_FLIGHT && System.nanoTime() < deadline; probe++) {
+            IPlayer anchor = online.get(Math.floorMod(nextAnchor++, online.size()));
+            PlayerDataStore.StoredLocation origin = anchor != null ? services.getPlatformAdapter().getPlayerLocation(anchor).orElse(null) : null;
+            if (origin == null || origin.getWorldId() == null) {
+                fullAnchors++;
+                continue;
+            }
+            String worldId = origin.getWorldId();
+            ConcurrentLinkedDeque<Spot> pool = pools.computeIfAbsent(worldId, ignored -> new ConcurrentLinkedDeque<>());
+            AtomicInteger pending = probing.computeIfAbsent(worldId, ignored -> new AtomicInteger());
+            if (pool.size() + pending.get() >= poolSize) {
+                fullAnchors++;
+                continue;
+            }
+            fullAnchors = 0;
+            // Uniform over the ring's area, not its radius, so spots do not bunch up near the inner edge.
+            double distance = Math.sqrt(minSq + random.nextDouble() * (maxSq - minSq));
+            double angle = random.nextDouble() * Math.PI * 2.0;
+            double blockX = Math.floor(origin.getX() + distance * Math.cos(angle)) + 0.5;
+            double blockZ = Math.floor(origin.getZ() + distance * Math.sin(angle)) + 0.5;
+            List<PlayerDataStore.StoredLocation> others = positions.computeIfAbsent(worldId, this::playerPositions);
+            if (!clearOf(others, blockX, blockZ, minSq)) {
+                continue;
+            }
+            probes.incrementAndGet();
+            pending.incrementAndGet();
+            inFlight.incrementAndGet();
+            services.getPlatformAdapter().findGeneratedSafeRtpY(anchor, blockX, blockZ).whenComplete((y, failure) -> {
+                pending.decrementAndGet();
+                inFlight.decrementAndGet();
+                if (failure == null && y != null && y.isPresent() && pools.get(worldId) == pool) {
+                    pool.addLast(new Spot(blockX, blockZ, System.currentTimeMillis() + ttlMs));
+                    found.incrementAndGet();
+                    windowFound.incrementAndGet();
+                }
+            });
+        }
+        updateRate();
+    }
+
+    private List<PlayerDataStore.StoredLocation> playerPositions(String worldId) {
+        List<PlayerDataStore.StoredLocation> positions = new ArrayList<>();
+        List<IPlayer> online = services.getPlatformAdapter().getOnlinePlayers();
+        if (online == null) {
+            return positions;
+        }
+        for (IPlayer player : online) {
+            PlayerDataStore.StoredLocation location = player != null ? services.getPlatformAdapter().getPlayerLocation(player).orElse(null) : null;
+            if (location != null && worldId.equals(location.getWorldId())) {
+                positions.add(location);
+            }
+        }
+        return positions;
+    }
+
+    private static boolean clearOf(List<PlayerDataStore.StoredLocation> players, double x, double z, double minSq) {
+        for (PlayerDataStore.StoredLocation player : players) {
+            if (distanceSq(x, z, player) < minSq) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double distanceSq(double x, double z, PlayerDataStore.StoredLocation location) {
+        double dx = x - location.getX();
+        double dz = z - location.getZ();
+        return dx * dx + dz * dz;
+    }
+
+    private void evictExpired(long now) {
+        for (ConcurrentLinkedDeque<Spot> pool : pools.values()) {
+            Spot head;
+            while ((head = pool.peekFirst()) != null && head.expiresAtMs() <= now) {
+                if (pool.remove(head)) {
+                    expired.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void updateRate() {
+        long elapsed = System.nanoTime() - windowStartNanos;
+        if (elapsed >= RATE_WINDOW_NANOS) {
+            foundPerMinute = windowFound.getAndSet(0) * (double) TimeUnit.MINUTES.toNanos(1) / elapsed;
+            windowStartNanos += elapsed;
+        }
+    }
+
+    public Stats stats() {
+        int depth = 0;
+        for (ConcurrentLinkedDeque<Spot> pool : pools.values()) {
+            depth += pool.size();
+        }
+        MainConfigHandler.Config config = services != null ? services.getMainConfig() : null;
+        return new Stats(config != null ? Math.max(0, config.rtpPoolSize.value) : 0, pools.size(), depth, inFlight.get(),
+                probes.get(), found.get(), served.get(), expired.get(), misses.get(), foundPerMinute);
+    }
+
+    private record Spot(double x, double z, long expiresAtMs) {
+    }
+
+    public record Stats(
+            int targetPerWorld,
+            int worlds,
+            int depth,
+            int probing,
+            long probes,
+            long found,
+            long served,
+            long expired,
+            long misses,
+            double foundPerMinute
+    ) {
+    }
+}
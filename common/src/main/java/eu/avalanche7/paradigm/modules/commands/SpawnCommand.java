@@ -156,7 +156,7 @@ public class SpawnCommand implements ParadigmModule {
             return;
         }
         String uuid = player.getUUID();
-        services.getStorageService().runAsync("spawn.back_save", () -> {
+        services.getStorageService().runPlayerAsync(uuid, "spawn.back_save", () -> {
             services.getStorageService().players().setBackLocation(uuid, fromDataLocation(location));
             return null;
         }, services.getTaskScheduler(), ignored -> {}, ignored -> {});
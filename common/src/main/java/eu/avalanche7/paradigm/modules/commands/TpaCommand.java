@@ -624,7 +624,7 @@ public class TpaCommand implements ParadigmModule {
             return;
         }
         String uuid = player.getUUID();
-        services.getStorageService().runAsync("tpa.back_save", () -> {
+        services.getStorageService().runPlayerAsync(uuid, "tpa.back_save", () -> {
             services.getStorageService().players().setBackLocation(uuid, fromDataLocation(location));
             return null;
         }, services.getTaskScheduler(), ignored -> {}, ignored -> {});
@@ -495,7 +495,7 @@ public class WarpCommand implements ParadigmModule {
             return;
         }
         String uuid = player.getUUID();
-        services.getStorageService().runAsync(operation, () -> {
+        services.getStorageService().runPlayerAsync(uuid, operation, () -> {
             services.getStorageService().players().setBackLocation(uuid, fromDataLocation(location));
             return null;
         }, services.getTaskScheduler(), ignored -> {}, ignored -> {});
@@ -41,7 +41,8 @@ public class GodCommand extends AbstractAdminCommand {
             IPlayer player = event != null ? event.getPlayer() : null;
             if (player != null && player.getUUID() != null) {
                 String uuid = player.getUUID();
-                services.getStorageService().runAsync(
+                services.getStorageService().runPlayerAsync(
+                        uuid,
                         "admin.god.join_load",
                         () -> services.getStorageService().adminState().isGod(uuid),
                         services.getTaskScheduler(),
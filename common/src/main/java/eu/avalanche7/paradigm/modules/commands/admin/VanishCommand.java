@@ -41,7 +41,8 @@ public class VanishCommand extends AbstractAdminCommand {
             IPlayer player = event != null ? event.getPlayer() : null;
             if (player != null && player.getUUID() != null) {
                 String uuid = player.getUUID();
-                services.getStorageService().runAsync(
+                services.getStorageService().runPlayerAsync(
+                        uuid,
                         "admin.vanish.join_load",
                         () -> services.getStorageService().adminState().isVanished(uuid),
                         services.getTaskScheduler(),
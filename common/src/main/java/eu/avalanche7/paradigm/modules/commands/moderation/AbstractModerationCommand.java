@@ -9,6 +9,8 @@ import eu.avalanche7.paradigm.platform.Interfaces.ICommandSource;
 import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
 
 public abstract class AbstractModerationCommand implements ParadigmModule {
+    static final int PLAYER_SUGGESTION_LIMIT = 50;
+
     protected Services services;
 
     @Override
@@ -73,10 +75,12 @@ public abstract class AbstractModerationCommand implements ParadigmModule {
         IPlayer online = services.getPlatformAdapter().getPlayerByName(input);
         if (online == null) online = services.getPlatformAdapter().getPlayerByUuid(input);
         if (online != null) return new PlayerIdentity(online.getUUID(), online.getName(), online);
-        String value = input.trim();
-        return services.getStorageService().players().listProfiles().stream()
-                .filter(profile -> value.equalsIgnoreCase(profile.uuid()) || value.equalsIgnoreCase(profile.name()))
-                .findFirst().map(profile -> new PlayerIdentity(profile.uuid(), profile.name(), null)).orElse(null);
+        return services.getPlayerDirectory().resolve(input)
+                .map(entry -> new PlayerIdentity(entry.uuid(), entry.name(), null)).orElse(null);
+    }
+
+    protected ICommandBuilder.SuggestionProvider knownPlayerNames() {
+        return (context, input) -> services.getPlayerDirectory().complete(input, PLAYER_SUGGESTION_LIMIT);
     }
 
     protected ScopeReason parseScopeReason(String raw) {
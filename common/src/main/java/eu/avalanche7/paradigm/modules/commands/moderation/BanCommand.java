@@ -29,6 +29,7 @@ public class BanCommand extends AbstractModerationCommand {
                 .requires(src -> allowed(src, "ban", ParadigmPermissions.BAN))
                 .then(builder()
                         .argument("player", ICommandBuilder.ArgumentType.WORD)
+                        .suggests(knownPlayerNames())
                         .executes(ctx -> ban(ctx.getSource(), ctx.getStringArgument("player"), null))
                         .then(builder()
                                 .argument("reason", ICommandBuilder.ArgumentType.GREEDY_STRING)
@@ -42,6 +43,7 @@ public class BanCommand extends AbstractModerationCommand {
                 .requires(src -> allowed(src, literal, ParadigmPermissions.BAN))
                 .then(builder()
                         .argument("player", ICommandBuilder.ArgumentType.WORD)
+                        .suggests(knownPlayerNames())
                         .executes(ctx -> unban(ctx.getSource(), ctx.getStringArgument("player"), null))
                         .then(builder().argument("reason", ICommandBuilder.ArgumentType.GREEDY_STRING)
                                 .executes(ctx -> unban(ctx.getSource(), ctx.getStringArgument("player"), ctx.getStringArgument("reason")))));
@@ -87,7 +87,8 @@ public class JailCommand extends AbstractModerationCommand {
             if (uuid == null || uuid.isBlank()) {
                 return;
             }
-            services.getStorageService().runAsync(
+            services.getStorageService().runPlayerAsync(
+                    uuid,
                     "moderation.jail.join_load",
                     () -> services.getStorageService().moderation().getJailState(uuid).orElse(null),
                     services.getTaskScheduler(),
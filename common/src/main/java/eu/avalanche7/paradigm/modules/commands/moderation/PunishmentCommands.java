@@ -28,9 +28,11 @@ public final class PunishmentCommands {
                                         .executes(context -> revoke(context.getSource(), context.getStringArgument("id"), context.getStringArgument("reason"), services)))))
                 .then(platform.createCommandBuilder().literal("history")
                         .then(platform.createCommandBuilder().argument("player", ICommandBuilder.ArgumentType.WORD)
+                                .suggests((context, input) -> services.getPlayerDirectory().complete(input, AbstractModerationCommand.PLAYER_SUGGESTION_LIMIT))
                                 .executes(context -> history(context.getSource(), context.getStringArgument("player"), services))));
         platform.registerCommand(platform.createCommandBuilder().literal("history").requires(source -> allowed(source, services))
                 .then(platform.createCommandBuilder().argument("player", ICommandBuilder.ArgumentType.WORD)
+                        .suggests((context, input) -> services.getPlayerDirectory().complete(input, AbstractModerationCommand.PLAYER_SUGGESTION_LIMIT))
                         .executes(context -> history(context.getSource(), context.getStringArgument("player"), services))));
         return paradigm.then(branch);
     }
@@ -77,13 +79,10 @@ public final class PunishmentCommands {
         return StorageCommandSupport.runForSource(services, source, "moderation.punishment.history", () -> {
             String uuid = onlineUuid != null && !onlineUuid.isBlank() ? onlineUuid : target;
             String name = onlineName != null && !onlineName.isBlank() ? onlineName : target;
-            var profile = services.getStorageService().players().listProfiles().stream()
-                    .filter(item -> target.equalsIgnoreCase(item.uuid()) || target.equalsIgnoreCase(item.name()))
-                    .findFirst()
-                    .orElse(null);
+            var profile = services.getPlayerDirectory().resolve(target).orElse(null);
             if (profile != null) {
                 uuid = profile.uuid();
-                name = profile.name();
+                name = profile.name() != null ? profile.name() : name;
             }
             return new HistoryResult(name, services.getPunishmentService().history(uuid, 1, 10));
         }, result -> {
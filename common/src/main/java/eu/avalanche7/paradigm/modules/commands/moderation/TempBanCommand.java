@@ -63,6 +63,7 @@ public class TempBanCommand extends AbstractModerationCommand {
                 .requires(src -> allowed(src, "tempban", ParadigmPermissions.TEMP_BAN))
                 .then(builder()
                         .argument("player", ICommandBuilder.ArgumentType.WORD)
+                        .suggests(knownPlayerNames())
                         .then(builder()
                                 .argument("duration", ICommandBuilder.ArgumentType.WORD)
                                 .suggests(List.of("30m", "1h", "1d", "7d"))
@@ -70,7 +70,8 @@ public final class StorageCommandSupport {
             return 0;
         }
         String playerUuid = player.getUUID();
-        services.getStorageService().runAsync(
+        services.getStorageService().runPlayerAsync(
+                playerUuid,
                 operation,
                 work,
                 services.getTaskScheduler(),
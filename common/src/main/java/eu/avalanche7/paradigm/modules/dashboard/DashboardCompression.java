@@ -0,0 +1,53 @@
+package eu.avalanche7.paradigm.modules.dashboard;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/** Gzip helpers shared by the static asset table and API responses. */
+public final class DashboardCompression {
+    /** Bodies smaller than this are sent as they are; the gzip header and a round of CPU are not worth it. */
+    public static final int MIN_COMPRESS_BYTES = 1024;
+
+    private DashboardCompression() {
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] pieces = part.trim().split(";");
+            String coding = pieces[0].trim();
+            if (!"gzip".equals(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < pieces.length; i++) {
+                String param = pieces[i].trim().replace(" ", "");
+                refused |= param.equals("q=0") || param.matches("q=0\\.0{0,3}");
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Gzipped copy of {@code body}, or {@code null} when that would not make it smaller. */
+    public static byte[] gzip(byte[] body) {
+        if (body == null || body.length < MIN_COMPRESS_BYTES) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = out.toByteArray();
+        return compressed.length < body.length ? compressed : null;
+    }
+}
@@ -0,0 +1,395 @@
+package eu.avalanche7.paradigm.modules.dashboard;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import eu.avalanche7.paradigm.core.ParadigmEvents;
+import eu.avalanche7.paradigm.metrics.ServerTickMetrics;
+import eu.avalanche7.paradigm.modules.audit.AuditEntry;
+import eu.avalanche7.paradigm.modules.dashboard.api.AuthApiHandler;
+import eu.avalanche7.paradigm.modules.discord.DiscordConnectionStatus;
+import eu.avalanche7.paradigm.modules.permissions.ParadigmPermissions;
+import eu.avalanche7.paradigm.modules.tickets.Ticket;
+import eu.avalanche7.paradigm.modules.tickets.TicketEvent;
+import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
+
+/**
+ * Server-Sent Events channel for open dashboard tabs ({@code GET /api/events}). One producer thread samples tick
+ * metrics and the Discord state every {@link #PULSE_MS}, drains queued player, audit and ticket events, serializes
+ * each event once and hands the same frame to every tab allowed to see it. Each tab has a small queue drained by a
+ * writer thread of its own, so a stalled tab only stalls itself; a tab whose queue fills up or whose write hangs past
+ * {@link #WRITE_DEADLINE_MS} is dropped and reconnects. The producer does nothing while no tab is connected, and no
+ * tab costs a server-thread hop or a storage read.
+ */
+final class DashboardEventStream implements ParadigmEvents.Listener {
+    private static final long PULSE_MS = 2_000L;
+    private static final long HEARTBEAT_MS = 15_000L;
+    private static final long WRITE_DEADLINE_MS = 10_000L;
+    private static final int MAX_CLIENTS = 32;
+    private static final int MAX_QUEUED_FRAMES = 64;
+    private static final int OVERVIEW = 1;
+    private static final int AUDIT = 1 << 1;
+    private static final int TICKETS = 1 << 2;
+    private static final int DISCORD = 1 << 3;
+
+    private final DashboardService dashboard;
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<Frame> pending = new ConcurrentLinkedQueue<>();
+    private ScheduledExecutorService producer;
+    private ExecutorService writers;
+    private volatile Frame lastTick;
+    private volatile Frame lastDiscord;
+    private long lastHeartbeatMs;
+
+    DashboardEventStream(DashboardService dashboard) {
+        this.dashboard = dashboard;
+    }
+
+    DashboardResponse subscribe(DashboardRequestContext ctx) {
+        if (clients.size() >= MAX_CLIENTS) {
+            return DashboardResponse.apiError(503, "stream_unavailable", "Too many live dashboard connections.");
+        }
+        int topics = topics(ctx);
+        if (topics == 0) {
+            return DashboardResponse.apiError(403, "permission_denied", "You do not have permission to view any live dashboard events.");
+        }
+        String sessionCookie = ctx.cookie(AuthApiHandler.cookieName());
+        return DashboardResponse.stream(200, "text/event-stream; charset=utf-8",
+                Map.of("Cache-Control", "no-store", "X-Accel-Buffering", "no"),
+                exchange -> attach(new Client(exchange, topics, sessionCookie)));
+    }
+
+    void playerJoined(IPlayer player) {
+        queuePlayer("join", player);
+    }
+
+    void playerLeft(IPlayer player) {
+        queuePlayer("leave", player);
+    }
+
+    void auditAppended(AuditEntry entry) {
+        if (entry != null && !clients.isEmpty()) {
+            queue(new Frame("audit", AUDIT, entry));
+        }
+    }
+
+    @Override public void onTicketCreated(Ticket ticket, TicketEvent event) { queueTicket(event); }
+    @Override public void onTicketReplied(Ticket ticket, TicketEvent event) { queueTicket(event); }
+    @Override public void onTicketClaimed(Ticket ticket, TicketEvent event) { queueTicket(event); }
+    @Override public void onTicketAssigned(Ticket ticket, TicketEvent event) { queueTicket(event); }
+    @Override public void onTicketResolved(Ticket ticket, TicketEvent event) { queueTicket(event); }
+    @Override public void onTicketClosed(Ticket ticket, TicketEvent event) { queueTicket(event); }
+    @Override public void onTicketReopened(Ticket ticket, TicketEvent event) { queueTicket(event); }
+
+    int connectedClients() {
+        return clients.size();
+    }
+
+    /** Ends every open stream; tabs reconnect on their own once the dashboard is back. */
+    void disconnectAll() {
+        for (Client client : clients) {
+            drop(client);
+        }
+    }
+
+    synchronized void close() {
+        disconnectAll();
+        if (producer != null) {
+            producer.shutdownNow();
+            producer = null;
+        }
+        if (writers != null) {
+            writers.shutdownNow();
+            writers = null;
+        }
+        pending.clear();
+        lastTick = null;
+        lastDiscord = null;
+    }
+
+    private void attach(Client client) throws IOException {
+        ensureProducer();
+        clients.add(client);
+        StringBuilder greeting = new StringBuilder("retry: 5000\n\n");
+        Frame tick = lastTick;
+        Frame discord = lastDiscord;
+        if (tick != null && client.accepts(tick)) greeting.append(tick.text());
+        if (discord != null && client.accepts(discord)) greeting.append(discord.text());
+        send(client, greeting.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private synchronized void ensureProducer() {
+        if (producer != null) {
+            return;
+        }
+        producer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Paradigm-Dashboard-Events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writers = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "Paradigm-Dashboard-Events-Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        producer.scheduleWithFixedDelay(this::pulse, PULSE_MS, PULSE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void pulse() {
+        try {
+            if (clients.isEmpty()) {
+                pending.clear();
+                return;
+            }
+            long startedMs = System.currentTimeMillis();
+            for (Client client : clients) {
+                if (client.stalled(startedMs)) {
+                    drop(client);
+                }
+            }
+            Frame tick = sampleTick();
+            if (tick != null && (lastTick == null || !tick.data().equals(lastTick.data()))) {
+                lastTick = tick;
+                broadcast(tick);
+            }
+            Frame discord = sampleDiscord();
+            if (discord != null && (lastDiscord == null || !discord.data().equals(lastDiscord.data()))) {
+                lastDiscord = discord;
+                broadcast(discord);
+            }
+            Frame queued;
+            while ((queued = pending.poll()) != null) {
+                broadcast(queued);
+            }
+            long now = System.currentTimeMillis();
+            if (now - lastHeartbeatMs >= HEARTBEAT_MS) {
+                lastHeartbeatMs = now;
+                heartbeat();
+            }
+        } catch (RuntimeException failure) {
+            if (dashboard.services().getLogger() != null) {
+                dashboard.services().getLogger().warn("Paradigm Dashboard: live event pulse failed: {}", failure.toString());
+            }
+        }
+    }
+
+    private void broadcast(Frame frame) {
+        byte[] bytes = null;
+        for (Client client : clients) {
+            if (!client.accepts(frame)) {
+                continue;
+            }
+            if (bytes == null) {
+                bytes = frame.text().getBytes(StandardCharsets.UTF_8);
+            }
+            send(client, bytes);
+        }
+    }
+
+    private void heartbeat() {
+        byte[] ping = ": ping\n\n".getBytes(StandardCharsets.UTF_8);
+        boolean requireLogin = dashboard.config().requireLogin;
+        for (Client client : clients) {
+            if (requireLogin && dashboard.auth().validateSession(client.sessionCookie) == null) {
+                drop(client);
+            } else {
+                send(client, ping);
+            }
+        }
+    }
+
+    /** Queues {@code bytes} for the client's writer, dropping the client when it has fallen too far behind. */
+    private void send(Client client, byte[] bytes) {
+        ExecutorService executor = writers;
+        boolean overflow;
+        boolean startWriter = false;
+        synchronized (client) {
+            if (client.closed) {
+                return;
+            }
+            overflow = client.queued.size() >= MAX_QUEUED_FRAMES;
+            if (!overflow) {
+                client.queued.add(bytes);
+                startWriter = !client.draining;
+                client.draining = true;
+            }
+        }
+        if (overflow || startWriter && executor == null) {
+            drop(client);
+            return;
+        }
+        if (startWriter) {
+            try {
+                executor.execute(() -> drain(client));
+            } catch (RejectedExecutionException rejected) {
+                drop(client);
+            }
+        }
+    }
+
+    private void drain(Client client) {
+        while (true) {
+            byte[] next;
+            synchronized (client) {
+                next = client.closed ? null : client.queued.poll();
+                if (next == null) {
+                    client.draining = false;
+                    return;
+                }
+            }
+            if (!client.write(next)) {
+                drop(client);
+                return;
+            }
+        }
+    }
+
+    private void drop(Client client) {
+        clients.remove(client);
+        client.close();
+    }
+
+    private int topics(DashboardRequestContext ctx) {
+        int topics = 0;
+        if (dashboard.canAccessPage(ctx.principal(), ParadigmPermissions.DASHBOARD_OVERVIEW)) topics |= OVERVIEW;
+        if (dashboard.canAccessPage(ctx.principal(), ParadigmPermissions.DASHBOARD_AUDIT)) topics |= AUDIT;
+        if (dashboard.canAccessPage(ctx.principal(), ParadigmPermissions.DASHBOARD_TICKETS, ParadigmPermissions.TICKET_MANAGE)) topics |= TICKETS;
+        if (dashboard.hasPermission(ctx.principal(), ParadigmPermissions.DISCORD_MANAGE)) topics |= DISCORD;
+        return topics;
+    }
+
+    private static Frame sampleTick() {
+        ServerTickMetrics.Snapshot tick = ServerTickMetrics.snapshot();
+        if (!tick.available()) {
+            return null;
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("available", true);
+        data.put("tps", round(tick.tps()));
+        data.put("mspt", round(tick.mspt()));
+        data.put("p95Mspt", round(tick.p95Mspt()));
+        data.put("maxMspt", round(tick.maxMspt()));
+        return new Frame("tick", OVERVIEW, data);
+    }
+
+    private Frame sampleDiscord() {
+        DiscordConnectionStatus status;
+        try {
+            status = dashboard.services().getDiscordService().status();
+        } catch (RuntimeException | LinkageError ignored) {
+            return null;
+        }
+        if (status == null) {
+            return null;
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("enabled", status.enabled());
+        data.put("state", status.state().name());
+        data.put("summary", status.summary());
+        return new Frame("discord", DISCORD, data);
+    }
+
+    private void queuePlayer(String type, IPlayer player) {
+        if (player == null || clients.isEmpty()) {
+            return;
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", type);
+        data.put("name", player.getName());
+        data.put("uuid", player.getUUID());
+        queue(new Frame("player", OVERVIEW, data));
+    }
+
+    private void queueTicket(TicketEvent event) {
+        if (event == null || clients.isEmpty()) {
+            return;
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("ticketKey", event.ticketKey());
+        data.put("type", event.eventType().name());
+        data.put("actorName", Objects.requireNonNullElse(event.actorName(), ""));
+        data.put("serverId", Objects.requireNonNullElse(event.serverId(), ""));
+        queue(new Frame("ticket", TICKETS, data));
+    }
+
+    private void queue(Frame frame) {
+        pending.add(frame);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10.0D) / 10.0D;
+    }
+
+    private record Frame(String event, int topic, Object data) {
+        private String text() {
+            return "event: " + event + "\ndata: " + DashboardJson.toCompactJson(data) + "\n\n";
+        }
+    }
+
+    private static final class Client {
+        private final HttpExchange exchange;
+        private final OutputStream out;
+        private final int topics;
+        private final String sessionCookie;
+        private final ArrayDeque<byte[]> queued = new ArrayDeque<>();
+        private boolean draining;
+        private volatile boolean closed;
+        private volatile long writingSinceMs;
+
+        private Client(HttpExchange exchange, int topics, String sessionCookie) {
+            this.exchange = exchange;
+            this.out = exchange.getResponseBody();
+            this.topics = topics;
+            this.sessionCookie = sessionCookie;
+        }
+
+        private boolean accepts(Frame frame) {
+            return (topics & frame.topic()) != 0;
+        }
+
+        /** Called only from the client's writer, one frame at a time. */
+        private boolean write(byte[] bytes) {
+            writingSinceMs = System.currentTimeMillis();
+            try {
+                out.write(bytes);
+                out.flush();
+                return true;
+            } catch (IOException | RuntimeException failed) {
+                return false;
+            } finally {
+                writingSinceMs = 0L;
+            }
+        }
+
+        private boolean stalled(long nowMs) {
+            long since = writingSinceMs;
+            return since > 0L && nowMs - since > WRITE_DEADLINE_MS;
+        }
+
+        private void close() {
+            synchronized (this) {
+                closed = true;
+                queued.clear();
+            }
+            try {
+                exchange.close();
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+}
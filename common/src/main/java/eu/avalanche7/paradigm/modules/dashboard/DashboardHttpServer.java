@@ -83,15 +83,46 @@ public class DashboardHttpServer implements AutoCloseable {
         exchange.getResponseHeaders().set("Content-Type", response.contentType());
         applyCorsHeaders(exchange);
         for (Map.Entry<String, String> header : response.headers().entrySet()) {
-            exchange.getResponseHeaders().set(header.getKey(), header.getValue());
+            if ("Vary".equalsIgnoreCase(header.getKey())) {
+                exchange.getResponseHeaders().add(header.getKey(), header.getValue());
+            } else {
+                exchange.getResponseHeaders().set(header.getKey(), header.getValue());
+            }
         }
-        byte[] body = response.body();
-        exchange.sendResponseHeaders(response.status(), body.length);
+        if (response.stream() != null) {
+            exchange.sendResponseHeaders(response.status(), 0);
+            try {
+                response.stream().attach(exchange);
+            } catch (IOException | RuntimeException failure) {
+                exchange.close();
+            }
+            return;
+        }
+        byte[] body = compressIfAccepted(exchange, response);
+        exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
         try (var os = exchange.getResponseBody()) {
             os.write(body);
         }
     }
 
+    /** Gzips large JSON bodies for clients that accept it; assets arrive already encoded and pass through. */
+    private byte[] compressIfAccepted(HttpExchange exchange, DashboardResponse response) {
+        byte[] body = response.body();
+        if (body.length < DashboardCompression.MIN_COMPRESS_BYTES
+                || response.headers().containsKey("Content-Encoding")
+                || !response.contentType().startsWith("application/json")
+                || !DashboardCompression.acceptsGzip(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+            return body;
+        }
+        byte[] compressed = DashboardCompression.gzip(body);
+        if (compressed == null) {
+            return body;
+        }
+        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        exchange.getResponseHeaders().add("Vary", "Accept-Encoding");
+        return compressed;
+    }
+
     private boolean isApi(HttpExchange exchange) {
         String path = exchange.getRequestURI() != null ? exchange.getRequestURI().getPath() : "";
         return path != null && path.startsWith("/api/");
@@ -211,6 +242,7 @@ public class DashboardHttpServer implements AutoCloseable {
     @Override
     public void close() {
         running = false;
+        dashboard.events().disconnectAll();
         if (server != null) {
             server.stop(1);
             server = null;
@@ -8,6 +8,7 @@ import com.google.gson.JsonObject;
 
 public final class DashboardJson {
     public static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+    private static final Gson COMPACT = new GsonBuilder().disableHtmlEscaping().create();
 
     private DashboardJson() {
     }
@@ -16,6 +17,11 @@ public final class DashboardJson {
         return GSON.toJson(value);
     }
 
+    /** Single-line JSON for API responses and Server-Sent Events {@code data:} fields. */
+    public static String toCompactJson(Object value) {
+        return COMPACT.toJson(value);
+    }
+
     public static <T> T fromJson(Reader reader, Class<T> type) {
         return GSON.fromJson(reader, type);
     }
@@ -1,19 +1,28 @@
 package eu.avalanche7.paradigm.modules.dashboard;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+import com.sun.net.httpserver.HttpExchange;
+
 public class DashboardResponse {
     private final int status;
     private final String contentType;
     private final byte[] body;
     private final Map<String, String> headers;
+    private final Stream stream;
 
     public DashboardResponse(int status, String contentType, byte[] body, Map<String, String> headers) {
+        this(status, contentType, body, headers, null);
+    }
+
+    private DashboardResponse(int status, String contentType, byte[] body, Map<String, String> headers, Stream stream) {
         this.status = status;
         this.contentType = contentType;
         this.body = body != null ? body : new byte[0];
         this.headers = headers != null ? headers : Map.of();
+        this.stream = stream;
     }
 
     public int status() {
@@ -32,8 +41,12 @@ public class DashboardResponse {
         return headers;
     }
 
+    public Stream stream() {
+        return stream;
+    }
+
     public static DashboardResponse json(int status, Object data) {
-        return new DashboardResponse(status, "application/json; charset=utf-8", DashboardJson.toJson(data).getBytes(java.nio.charset.StandardCharsets.UTF_8), Map.of("Cache-Control", "no-store"));
+        return new DashboardResponse(status, "application/json; charset=utf-8", DashboardJson.toCompactJson(data).getBytes(java.nio.charset.StandardCharsets.UTF_8), Map.of("Cache-Control", "no-store"));
     }
 
     public static DashboardResponse apiOk(Object data) {
@@ -52,6 +65,18 @@ public class DashboardResponse {
         return new DashboardResponse(status, contentType, body, headers);
     }
 
+    /**
+     * A response whose body is written after the handler returns. The server sends the headers with chunked
+     * encoding and hands the exchange to {@code stream}, which then owns it and must close it.
+     */
+    public static DashboardResponse stream(int status, String contentType, Map<String, String> headers, Stream stream) {
+        return new DashboardResponse(status, contentType, null, headers, stream);
+    }
+
+    public interface Stream {
+        void attach(HttpExchange exchange) throws IOException;
+    }
+
     public record ApiEnvelope(boolean ok, Object data, ApiError error, List<String> warnings) {
     }
 
@@ -95,6 +95,7 @@ public class DashboardRouter {
                     DashboardResponse denied = denyPage(ctx, ParadigmPermissions.DASHBOARD_OVERVIEW, "You do not have permission to view the overview.");
                     return denied != null ? denied : overview.get(ctx);
                 }
+                if ("GET".equals(method) && "/api/events".equals(path)) return dashboard.events().subscribe(ctx);
                 if ("GET".equals(method) && "/api/players".equals(path)) return players.list(ctx);
                 if ("GET".equals(method) && "/api/servers".equals(path)) {
                     DashboardResponse denied = denyPage(ctx, ParadigmPermissions.DASHBOARD_SERVERS, "You do not have permission to view servers.");
@@ -281,7 +282,7 @@ public class DashboardRouter {
 
                 return DashboardResponse.apiError(404, "not_found", "Unknown API endpoint.");
             }
-            return staticAssets.serve(path);
+            return staticAssets.serve(ctx);
         } catch (Throwable t) {
             if (DashboardRequestContext.causedByPayloadTooLarge(t)) {
                 return DashboardResponse.apiError(413, "payload_too_large", "Dashboard request body is too large.");
@@ -34,6 +34,8 @@ import eu.avalanche7.paradigm.configs.schema.RemoteConfigSnapshot;
 import eu.avalanche7.paradigm.configs.schema.RemoteConfigValidationService;
 import eu.avalanche7.paradigm.core.ParadigmModule;
 import eu.avalanche7.paradigm.core.Services;
+import eu.avalanche7.paradigm.core.network.NetworkEventBus;
+import eu.avalanche7.paradigm.core.network.NetworkEventBusMetrics;
 import eu.avalanche7.paradigm.modules.Announcements;
 import eu.avalanche7.paradigm.modules.Restart;
 import eu.avalanche7.paradigm.modules.audit.AuditActionType;
@@ -53,6 +55,7 @@ import eu.avalanche7.paradigm.modules.permissions.PermissionAssignmentId;
 import eu.avalanche7.paradigm.modules.permissions.PermissionDefinition;
 import eu.avalanche7.paradigm.modules.permissions.PermissionMutationRequest;
 import eu.avalanche7.paradigm.modules.permissions.PermissionNodeRegistry;
+import eu.avalanche7.paradigm.modules.tickets.TicketsModule;
 import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
 import eu.avalanche7.paradigm.storage.StorageConfig;
 import eu.avalanche7.paradigm.storage.StorageProviderType;
@@ -66,6 +69,7 @@ import eu.avalanche7.paradigm.storage.migration.StorageMigrationOptions;
 import eu.avalanche7.paradigm.storage.model.StoredJailState;
 import eu.avalanche7.paradigm.storage.model.StoredPermissionNode;
 import eu.avalanche7.paradigm.storage.model.StoredUserPermissionData;
+import eu.avalanche7.paradigm.storage.repository.PlayerRepository;
 import eu.avalanche7.paradigm.utils.ServerThreadCalls;
 
 public class DashboardService implements AutoCloseable {
@@ -86,6 +90,11 @@ public class DashboardService implements AutoCloseable {
         thread.setDaemon(true);
         return thread;
     });
+    private static final long OVERVIEW_SHARE_MS = 1_000L;
+
+    private final DashboardEventStream eventStream = new DashboardEventStream(this);
+    private CompletableFuture<Object> sharedOverview;
+    private long sharedOverviewStartedMs;
     private volatile DashboardConfig config;
     private volatile DashboardHttpServer httpServer;
 
@@ -96,6 +105,12 @@ public class DashboardService implements AutoCloseable {
         this.heartbeatService = new DashboardHeartbeatService(services);
         this.permissionAdminService = services.getPermissionAdminService();
         this.moderationService = new ModerationService(services, auditService);
+        if (auditService != null) {
+            auditService.setAppendListener(eventStream::auditAppended);
+        }
+        if (services.getParadigmEvents() != null) {
+            services.getParadigmEvents().register(eventStream);
+        }
     }
 
     public synchronized boolean start() {
@@ -155,6 +170,10 @@ public class DashboardService implements AutoCloseable {
         return executor;
     }
 
+    DashboardEventStream events() {
+        return eventStream;
+    }
+
     public ConfigSchemaRegistry schemaRegistry() {
         return new ConfigSchemaRegistry(services);
     }
@@ -311,7 +330,22 @@ public class DashboardService implements AutoCloseable {
         return permission -> hasPermission(principal, permission);
     }
 
-    public CompletableFuture<Object> overviewAsync() {
+    /**
+     * Requests arriving within {@link #OVERVIEW_SHARE_MS} of each other (several tabs reacting to the same live
+     * event) share one computation.
+     */
+    public synchronized CompletableFuture<Object> overviewAsync() {
+        long now = System.currentTimeMillis();
+        CompletableFuture<Object> shared = sharedOverview;
+        if (shared != null && now - sharedOverviewStartedMs < OVERVIEW_SHARE_MS && !shared.isCompletedExceptionally()) {
+            return shared;
+        }
+        sharedOverview = computeOverviewAsync();
+        sharedOverviewStartedMs = now;
+        return sharedOverview;
+    }
+
+    private CompletableFuture<Object> computeOverviewAsync() {
         return ServerThreadCalls.supply(services, this::captureOverviewRuntime)
                 .thenApplyAsync(runtime -> {
                     StorageService.StorageStatus storage = services.getStorageService().status();
@@ -345,11 +379,21 @@ public class DashboardService implements AutoCloseable {
                     ));
                     data.put("modules", Map.of("total", runtime.modules(), "enabled", runtime.enabledModules()));
                     data.put("recentActivity", auditService.recent(6));
+                    data.put("networkEvents", networkEventMetrics());
+                    data.put("rtpPool", services.getRtpLocationPool().stats());
+                    data.put("messageCache", services.getMessageParser().cacheStats());
+                    data.put("formatPlanCache", services.getMessageParser().getFormattingParser().planCacheStats());
                     data.put("warnings", warnings);
                     return (Object) data;
                 }, executor);
     }
 
+    private NetworkEventBusMetrics networkEventMetrics() {
+        TicketsModule tickets = TicketsModule.current();
+        NetworkEventBus bus = tickets != null ? tickets.networkEvents() : null;
+        return bus != null ? bus.metrics() : null;
+    }
+
     public CompletableFuture<Object> serversAsync() {
         return ServerThreadCalls.supply(services, () -> heartbeatService.captureLocal(config, running()))
                 .handle((local, failure) -> local)
@@ -738,6 +782,10 @@ public class DashboardService implements AutoCloseable {
             data.put("mysqlDriverState", status.mysqlDriverState());
             data.put("serverIdentity", status.serverIdentity());
             data.put("sql", maskedSql());
+            data.put("connectionPool", services.getStorageService().connectionPoolMetrics());
+            data.put("cache", services.getStorageService().repositoryCacheMetrics());
+            data.put("executor", services.getStorageService().executorMetrics());
+            data.put("playerDataWrites", services.getPlayerDataStore().metrics());
             return data;
         }, executor);
     }
@@ -782,7 +830,7 @@ public class DashboardService implements AutoCloseable {
             var permissions = services.getPermissionsHandler();
             Map<String, Object> data = new LinkedHashMap<>();
             int groupCount = safeList(() -> services.getStorageService().permissions().listGroups()).size();
-            int userCount = safeList(() -> services.getStorageService().permissions().listUsers()).size();
+            int userCount = services.getStorageService().permissions().countUsers(null);
             int trackCount = permissions.listPermissionTracks().size();
             int nodeCount = permissions.knownPermissionNodes().size();
             data.put("internalEnabled", permissions.isInternalPermissionsEnabled());
@@ -840,62 +888,73 @@ public class DashboardService implements AutoCloseable {
         }, executor);
     }
 
-    public CompletableFuture<Object> permissionUsersAsync(String query, int page, int pageSize) {
+    /**
+     * One page of known players, or of configured permission subjects when {@code configuredOnly} is set. The
+     * search matches a name prefix or a full UUID and is answered by the storage query; only the returned rows
+     * get their permission assignments loaded.
+     */
+    public CompletableFuture<Object> permissionUsersAsync(String query, int page, int pageSize, boolean configuredOnly) {
         return onlinePlayersAsync().thenApplyAsync(onlinePlayers -> {
-            String q = query != null ? query.trim().toLowerCase(java.util.Locale.ROOT) : "";
-            Map<String, Map<String, Object>> discovered = new LinkedHashMap<>();
-            for (var profile : safeList(() -> services.getStorageService().players().listProfiles())) {
-                mergeUser(discovered, profile.uuid(), profile.name(), profile.lastSeenMs(), false);
-            }
-            if (services.getPlayerDataStore() != null) {
-                for (var profile : services.getPlayerDataStore().listPlayerEntries()) {
-                    mergeUser(discovered, profile.getUuid(), profile.getName(), profile.getLastSeenMs(), false);
-                }
-            }
-            for (OnlinePlayerSnapshot online : onlinePlayers) {
-                mergeUser(discovered, online.uuid(), online.name(), System.currentTimeMillis(), true);
+            String q = safeText(query);
+            int size = clampPageSize(pageSize);
+            int current = Math.max(1, page);
+            int offset = pageOffset(current, size);
+            Set<String> online = new java.util.HashSet<>();
+            for (OnlinePlayerSnapshot player : onlinePlayers) {
+                online.add(safeText(player.uuid()).toLowerCase(java.util.Locale.ROOT));
             }
-            for (var user : safeList(() -> services.getStorageService().permissions().listUsers())) {
-                Map<String, Object> row = mergeUser(discovered, user.uuid(), user.name(), 0L, false);
-                row.put("groups", user.groups().size());
-                row.put("permissions", user.permissions().size());
-                List<Map<String, Object>> assignments = new ArrayList<>();
-                for (StoredPermissionNode node : user.permissions()) {
-                    assignments.add(permissionAssignment("user permission", user.name() != null ? user.name() : user.uuid(), user.uuid(), node));
+            Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+            int total;
+            if (configuredOnly) {
+                var permissions = services.getStorageService().permissions();
+                total = permissions.countUsers(q);
+                for (StoredUserPermissionData user : safeList(() -> permissions.queryUsers(q, offset, size))) {
+                    String name = safeText(user.name()).isBlank()
+                            ? services.getStorageService().players().getProfile(user.uuid()).map(profile -> profile.name()).orElse("")
+                            : user.name();
+                    Map<String, Object> row = mergeUser(rows, user.uuid(), name, 0L, online.contains(safeText(user.uuid()).toLowerCase(java.util.Locale.ROOT)));
+                    putPermissionAssignments(row, user);
                 }
-                for (StoredUserPermissionData.GroupAssignment group : user.groups()) {
-                    Map<String, Object> assignment = new LinkedHashMap<>();
-                    assignment.put("kind", "user group");
-                    assignment.put("owner", user.name() != null ? user.name() : user.uuid());
-                    assignment.put("target", user.uuid());
-                    assignment.put("id", PermissionAssignmentId.ensure(group.assignmentId(), "user_group", user.uuid(), group.groupName(), false,
-                            group.contextSet(), group.expiresAtMs(), group.assignedBy() + "@" + group.assignedAtMs()));
-                    assignment.put("node", group.groupName());
-                    assignment.put("denied", false);
-                    assignment.put("contexts", group.contextSet().asMap());
-                    assignment.put("expiresAtMs", group.expiresAtMs());
-                    assignments.add(assignment);
+            } else {
+                var players = services.getStorageService().players();
+                PlayerRepository.ProfileQuery profiles = PlayerRepository.ProfileQuery.byName(q, offset, size);
+                total = players.countProfiles(profiles);
+                for (var profile : safeList(() -> players.queryProfiles(profiles))) {
+                    mergeUser(rows, profile.uuid(), profile.name(), profile.lastSeenMs(), online.contains(safeText(profile.uuid()).toLowerCase(java.util.Locale.ROOT)));
                 }
-                row.put("assignments", assignments);
-            }
-            List<Map<String, Object>> rows = new ArrayList<>();
-            for (Map<String, Object> row : discovered.values()) {
-                String uuid = safeText((String) row.get("uuid"));
-                String name = safeText((String) row.get("name"));
-                if (!q.isBlank()
-                        && !uuid.toLowerCase(java.util.Locale.ROOT).contains(q)
-                        && !name.toLowerCase(java.util.Locale.ROOT).contains(q)) {
-                    continue;
+                for (Map<String, Object> row : rows.values()) {
+                    services.getStorageService().permissions().getUser((String) row.get("uuid"))
+                            .ifPresent(user -> putPermissionAssignments(row, user));
                 }
-                rows.add(row);
             }
-            rows.sort(java.util.Comparator.comparing(row -> safeText((String) row.get("name")), String.CASE_INSENSITIVE_ORDER));
-            int size = clampPageSize(pageSize);
-            int current = Math.max(1, page);
-            return (Object) Map.of("users", page(rows, current, size), "total", rows.size(), "page", current, "pageSize", size);
+            return (Object) Map.of("users", List.copyOf(rows.values()), "total", total, "page", current, "pageSize", size);
         }, executor);
     }
 
+    private void putPermissionAssignments(Map<String, Object> row, StoredUserPermissionData user) {
+        String owner = user.name() != null && !user.name().isBlank() ? user.name() : user.uuid();
+        row.put("groups", user.groups().size());
+        row.put("permissions", user.permissions().size());
+        List<Map<String, Object>> assignments = new ArrayList<>();
+        for (StoredPermissionNode node : user.permissions()) {
+            assignments.add(permissionAssignment("user permission", owner, user.uuid(), node));
+        }
+        for (StoredUserPermissionData.GroupAssignment group : user.groups()) {
+            Map<String, Object> assignment = new LinkedHashMap<>();
+            assignment.put("kind", "user group");
+            assignment.put("owner", owner);
+            assignment.put("target", user.uuid());
+            assignment.put("id", PermissionAssignmentId.ensure(group.assignmentId(), "user_group", user.uuid(), group.groupName(), false,
+                    group.contextSet(), group.expiresAtMs(), group.assignedBy() + "@" + group.assignedAtMs()));
+            assignment.put("node", group.groupName());
+            assignment.put("denied", false);
+            assignment.put("contexts", group.contextSet().asMap());
+            assignment.put("expiresAtMs", group.expiresAtMs());
+            assignments.add(assignment);
+        }
+        row.put("assignments", assignments);
+    }
+
     public CompletableFuture<Object> permissionUserAsync(String uuidOrName) {
         return resolveUuidAsync(uuidOrName).thenApplyAsync(uuid -> {
             if (uuid == null) {
@@ -1004,10 +1063,9 @@ public class DashboardService implements AutoCloseable {
     public CompletableFuture<Object> moderationPlayerAsync(String uuidOrName) {
         String q = safeText(uuidOrName);
         return resolveOnlinePlayerAsync(q).thenApplyAsync(online -> {
-            var profile = services.getStorageService().players().listProfiles().stream()
-                    .filter(item -> q.equalsIgnoreCase(item.uuid()) || q.equalsIgnoreCase(item.name())).findFirst().orElse(null);
+            var profile = services.getPlayerDirectory().resolve(q).orElse(null);
             String uuid = profile != null ? profile.uuid() : online != null ? online.uuid() : validUuid(q) ? q : "";
-            String name = profile != null ? profile.name() : online != null ? online.name() : q;
+            String name = profile != null && profile.name() != null ? profile.name() : online != null ? online.name() : q;
             List<Map<String, Object>> punishments = services.getPunishmentService().history(uuid, 1, 100).stream().map(this::punishmentDto).toList();
             return (Object) Map.of("player", Map.of("uuid", uuid, "name", name), "punishments", punishments, "warnings", List.of());
         }, executor);
@@ -1065,24 +1123,9 @@ public class DashboardService implements AutoCloseable {
 
     public CompletableFuture<Object> auditQueryAsync(String actor, String type, String result, String source, String target,
                                                      Long fromMs, Long toMs, int page, int pageSize) {
-        CompletableFuture<List<eu.avalanche7.paradigm.modules.audit.AuditEntry>> base;
-        if (!safeText(actor).isBlank()) base = auditService.actorAsync(actor, limitForAudit());
-        else if (!safeText(type).isBlank()) base = auditService.typeAsync(type, limitForAudit());
-        else base = CompletableFuture.completedFuture(auditService.recent(limitForAudit()));
-        return base.thenApply(entries -> {
-            String expectedResult = safeText(result).toUpperCase(java.util.Locale.ROOT);
-            String expectedSource = safeText(source).toUpperCase(java.util.Locale.ROOT);
-            String expectedTarget = safeText(target).toLowerCase(java.util.Locale.ROOT);
-            List<eu.avalanche7.paradigm.modules.audit.AuditEntry> filtered = entries.stream().filter(entry -> {
-                if (!expectedResult.isBlank() && (entry.result() == null || !entry.result().name().equals(expectedResult))) return false;
-                if (!expectedSource.isBlank() && (entry.source() == null || !entry.source().name().equals(expectedSource))) return false;
-                if (!expectedTarget.isBlank()) {
-                    String haystack = (safeText(entry.targetName()) + " " + safeText(entry.targetUuid())).toLowerCase(java.util.Locale.ROOT);
-                    if (!haystack.contains(expectedTarget)) return false;
-                }
-                if (fromMs != null && entry.timestampMs() < fromMs) return false;
-                return toMs == null || entry.timestampMs() <= toMs;
-            }).toList();
+        eu.avalanche7.paradigm.modules.audit.AuditQuery query = new eu.avalanche7.paradigm.modules.audit.AuditQuery(
+                actor, type, result, source, target, fromMs, toMs, limitForAudit());
+        return auditService.queryAsync(query).thenApply(filtered -> {
             int size = clampPageSize(pageSize);
             int current = Math.max(1, page);
             return Map.of("entries", page(filtered, current, size), "total", filtered.size(), "page", current, "pageSize", size);
@@ -1233,6 +1276,12 @@ public class DashboardService implements AutoCloseable {
         next.sql.password = !safeText(request.sqlPassword).isBlank() ? request.sqlPassword : current.sql.password;
         next.sql.passwordEnv = safeText(request.sqlPasswordEnv);
         next.sql.poolSize = request.sqlPoolSize != null ? Math.max(1, Math.min(request.sqlPoolSize, 50)) : 5;
+        next.sql.poolMinIdle = Math.min(current.sql.poolMinIdle, next.sql.poolSize);
+        next.sql.poolIdleTimeoutSeconds = current.sql.poolIdleTimeoutSeconds;
+        next.sql.poolConnectionTimeoutSeconds = current.sql.poolConnectionTimeoutSeconds;
+        next.sql.poolValidationTimeoutSeconds = current.sql.poolValidationTimeoutSeconds;
+        next.sql.statementCacheSize = current.sql.statementCacheSize;
+        next.sql.batchSize = current.sql.batchSize;
         next.sql.ssl = Boolean.TRUE.equals(request.sqlSsl);
         next.runtimeLibraries = current.runtimeLibraries;
         return next;
@@ -1292,6 +1341,10 @@ public class DashboardService implements AutoCloseable {
         return row;
     }
 
+    private static int pageOffset(int page, int pageSize) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) (Math.max(1, page) - 1) * pageSize);
+    }
+
     private static int clampPageSize(int pageSize) {
         return Math.max(10, Math.min(pageSize > 0 ? pageSize : 25, 100));
     }
@@ -1333,6 +1386,13 @@ public class DashboardService implements AutoCloseable {
     @Override
     public void close() {
         stop();
+        eventStream.close();
+        if (auditService != null) {
+            auditService.setAppendListener(null);
+        }
+        if (services.getParadigmEvents() != null) {
+            services.getParadigmEvents().unregister(eventStream);
+        }
         executor.shutdownNow();
     }
 }
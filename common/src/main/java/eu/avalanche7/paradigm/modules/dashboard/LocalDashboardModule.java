@@ -15,6 +15,7 @@ import eu.avalanche7.paradigm.modules.permissions.PermissionDefinition;
 import eu.avalanche7.paradigm.platform.Interfaces.ICommandBuilder;
 import eu.avalanche7.paradigm.platform.Interfaces.ICommandSource;
 import eu.avalanche7.paradigm.platform.Interfaces.IComponent;
+import eu.avalanche7.paradigm.platform.Interfaces.IEventSystem;
 import eu.avalanche7.paradigm.platform.Interfaces.IPlatformAdapter;
 import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
 
@@ -71,7 +72,21 @@ public class LocalDashboardModule implements ParadigmModule {
         }
     }
 
-    @Override public void registerEventListeners(Object eventBus, Services services) {}
+    @Override
+    public void registerEventListeners(Object eventBus, Services services) {
+        IEventSystem lifecycle = lifecycleEvents(services);
+        if (lifecycle == null) {
+            return;
+        }
+        lifecycle.onPlayerJoin(event -> {
+            DashboardService current = dashboard;
+            if (current != null && event != null) current.events().playerJoined(event.getPlayer());
+        });
+        lifecycle.onPlayerLeave(event -> {
+            DashboardService current = dashboard;
+            if (current != null && event != null) current.events().playerLeft(event.getPlayer());
+        });
+    }
     @Override public void registerCommands(Object dispatcher, Object registryAccess, Services services) {}
 
     public ICommandBuilder buildCommandBranch(IPlatformAdapter platform, Services services) {
@@ -59,7 +59,7 @@ public class AuthApiHandler {
         return DashboardResponse.bytes(
                 200,
                 "application/json; charset=utf-8",
-                eu.avalanche7.paradigm.modules.dashboard.DashboardJson.toJson(new DashboardResponse.ApiEnvelope(true, loginData, null, java.util.List.of())).getBytes(java.nio.charset.StandardCharsets.UTF_8),
+                eu.avalanche7.paradigm.modules.dashboard.DashboardJson.toCompactJson(new DashboardResponse.ApiEnvelope(true, loginData, null, java.util.List.of())).getBytes(java.nio.charset.StandardCharsets.UTF_8),
                 Map.of("Set-Cookie", cookie, "Cache-Control", "no-store")
         );
     }
@@ -70,7 +70,7 @@ public class AuthApiHandler {
         return DashboardResponse.bytes(
                 200,
                 "application/json; charset=utf-8",
-                eu.avalanche7.paradigm.modules.dashboard.DashboardJson.toJson(new DashboardResponse.ApiEnvelope(true, Map.of("loggedOut", true), null, java.util.List.of())).getBytes(java.nio.charset.StandardCharsets.UTF_8),
+                eu.avalanche7.paradigm.modules.dashboard.DashboardJson.toCompactJson(new DashboardResponse.ApiEnvelope(true, Map.of("loggedOut", true), null, java.util.List.of())).getBytes(java.nio.charset.StandardCharsets.UTF_8),
                 Map.of("Set-Cookie", COOKIE_NAME + "=; Path=/; HttpOnly; SameSite=Lax; Max-Age=0", "Cache-Control", "no-store")
         );
     }
@@ -52,6 +52,7 @@ public class DiscordApiHandler {
         view.put("sentCount", status.sentCount());
         view.put("droppedCount", status.droppedCount());
         view.put("failedCount", status.failedCount());
+        view.put("channels", discord.channelMetrics());
         view.put("lastError", status.lastError() != null ? status.lastError() : "");
         view.put("warnings", status.warnings());
         return DashboardResponse.apiOk(view);
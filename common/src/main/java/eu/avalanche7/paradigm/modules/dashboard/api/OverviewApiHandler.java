@@ -23,16 +23,18 @@ public class OverviewApiHandler {
     private record PlayerSnapshot(List<Map<String, Object>> players, int maxPlayers) {
     }
 
+    private static final long PLAYERS_SHARE_MS = 1_000L;
+
     private final DashboardService dashboard;
+    private CompletableFuture<PlayerSnapshot> sharedPlayers;
+    private long sharedPlayersStartedMs;
 
     public OverviewApiHandler(DashboardService dashboard) {
         this.dashboard = dashboard;
     }
 
     public DashboardResponse get(DashboardRequestContext ctx) throws Exception {
-        CompletableFuture<PlayerSnapshot> playersFuture =
-                ServerThreadCalls.supply(dashboard.services(), this::captureOnlinePlayers)
-                        .exceptionally(failure -> new PlayerSnapshot(List.of(), 0));
+        CompletableFuture<PlayerSnapshot> playersFuture = playersAsync();
         Object rawOverview = dashboard.overviewAsync().get();
         PlayerSnapshot playerSnapshot = playersFuture.get();
 
@@ -53,6 +55,16 @@ public class OverviewApiHandler {
         return DashboardResponse.apiOk(data);
     }
 
+    private synchronized CompletableFuture<PlayerSnapshot> playersAsync() {
+        long now = System.currentTimeMillis();
+        if (sharedPlayers == null || now - sharedPlayersStartedMs >= PLAYERS_SHARE_MS) {
+            sharedPlayers = ServerThreadCalls.supply(dashboard.services(), this::captureOnlinePlayers)
+                    .exceptionally(failure -> new PlayerSnapshot(List.of(), 0));
+            sharedPlayersStartedMs = now;
+        }
+        return sharedPlayers;
+    }
+
     private PlayerSnapshot captureOnlinePlayers() {
         IPlatformAdapter platform = dashboard.services().getPlatformAdapter();
         List<Map<String, Object>> players = new ArrayList<>();
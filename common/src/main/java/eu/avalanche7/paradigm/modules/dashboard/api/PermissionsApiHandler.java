@@ -29,7 +29,8 @@ public class PermissionsApiHandler {
     }
 
     public DashboardResponse users(DashboardRequestContext ctx) throws Exception {
-        return DashboardResponse.apiOk(dashboard.permissionUsersAsync(ctx.query().get("query"), integer(ctx, "page", 1), integer(ctx, "pageSize", 25)).get());
+        return DashboardResponse.apiOk(dashboard.permissionUsersAsync(ctx.query().get("query"), integer(ctx, "page", 1), integer(ctx, "pageSize", 25),
+                "true".equalsIgnoreCase(ctx.query().get("configured"))).get());
     }
 
     public DashboardResponse user(DashboardRequestContext ctx) throws Exception {
@@ -2,16 +2,20 @@ package eu.avalanche7.paradigm.modules.dashboard.api;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import eu.avalanche7.paradigm.modules.dashboard.DashboardRequestContext;
 import eu.avalanche7.paradigm.modules.dashboard.DashboardResponse;
 import eu.avalanche7.paradigm.modules.dashboard.DashboardService;
 import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
+import eu.avalanche7.paradigm.storage.model.StoredPlayerProfile;
+import eu.avalanche7.paradigm.storage.repository.PlayerRepository;
 import eu.avalanche7.paradigm.utils.ServerThreadCalls;
 
 public class PlayerApiHandler {
@@ -38,61 +42,61 @@ public class PlayerApiHandler {
         return DashboardResponse.apiOk(data);
     }
 
+    /**
+     * Online players matching the filter come first, followed by one page of stored profiles. Online players are
+     * excluded from the storage query so every player appears exactly once and offsets stay exact.
+     */
     private Object buildDirectory(String filter, int page, int pageSize, List<OnlinePlayer> onlinePlayers) {
-        Map<String, Map<String, Object>> discovered = new LinkedHashMap<>();
+        PlayerRepository players = dashboard.services().getStorageService().players();
+        PlayerRepository.ProfileQuery probe = PlayerRepository.ProfileQuery.byName(filter, 0, 0);
 
-        try {
-            for (var profile : dashboard.services().getStorageService().players().listProfiles()) {
-                merge(discovered, profile.uuid(), profile.name(), profile.lastSeenMs(), false)
-                        .merge("playtimeMs", profile.playtimeMs(), PlayerApiHandler::maxPlaytime);
+        long now = System.currentTimeMillis();
+        Map<String, Map<String, Object>> online = new LinkedHashMap<>();
+        for (OnlinePlayer player : onlinePlayers) {
+            if (!probe.matches(new StoredPlayerProfile(player.uuid(), player.name(), 0L, now))) {
+                continue;
             }
-        } catch (Throwable ignored) {
+            Map<String, Object> row = merge(online, player.uuid(), player.name(), now, true);
+            row.put("afk", player.afk());
+            row.merge("playtimeMs", player.playtimeMs(), PlayerApiHandler::maxPlaytime);
+        }
+        List<Map<String, Object>> onlineRows = new ArrayList<>(online.values());
+        onlineRows.sort(Comparator.comparing(row -> safe((String) row.get("name")), String.CASE_INSENSITIVE_ORDER));
 
+        Set<String> onlineUuids = new HashSet<>();
+        for (OnlinePlayer player : onlinePlayers) {
+            onlineUuids.add(safe(player.uuid()).toLowerCase(Locale.ROOT));
         }
+        PlayerRepository.ProfileQuery offline = probe.excluding(onlineUuids);
 
+        int current = Math.max(1, page);
+        long requestedFrom = (long) (current - 1) * (long) pageSize;
+        List<Map<String, Object>> rows = new ArrayList<>(pageSize);
+        int onlineFrom = (int) Math.min(requestedFrom, onlineRows.size());
+        rows.addAll(onlineRows.subList(onlineFrom, Math.min(onlineRows.size(), onlineFrom + pageSize)));
+
+        int matchTotal = onlineRows.size();
+        int knownTotal = onlineUuids.size();
         try {
-            if (dashboard.services().getPlayerDataStore() != null) {
-                for (var profile : dashboard.services().getPlayerDataStore().listPlayerEntries()) {
-                    merge(discovered, profile.getUuid(), profile.getName(), profile.getLastSeenMs(), false)
-                            .merge("playtimeMs", profile.getPlaytimeMs(), PlayerApiHandler::maxPlaytime);
+            matchTotal += players.countProfiles(offline);
+            knownTotal += players.countProfiles(PlayerRepository.ProfileQuery.byName("", 0, 0).excluding(onlineUuids));
+            if (rows.size() < pageSize) {
+                int offlineFrom = (int) Math.min(Integer.MAX_VALUE, Math.max(0L, requestedFrom - onlineRows.size()));
+                Map<String, Map<String, Object>> stored = new LinkedHashMap<>();
+                for (StoredPlayerProfile profile : players.queryProfiles(offline.page(offlineFrom, pageSize - rows.size()))) {
+                    merge(stored, profile.uuid(), profile.name(), profile.lastSeenMs(), false)
+                            .merge("playtimeMs", profile.playtimeMs(), PlayerApiHandler::maxPlaytime);
                 }
+                rows.addAll(stored.values());
             }
         } catch (Throwable ignored) {
 
         }
 
-        long now = System.currentTimeMillis();
-        for (OnlinePlayer online : onlinePlayers) {
-            Map<String, Object> row = merge(discovered, online.uuid(), online.name(), now, true);
-            row.put("afk", online.afk());
-            row.merge("playtimeMs", online.playtimeMs(), PlayerApiHandler::maxPlaytime);
-        }
-
-        int knownTotal = discovered.size();
-        List<Map<String, Object>> rows = new ArrayList<>();
-        for (Map<String, Object> row : discovered.values()) {
-            String uuid = safe((String) row.get("uuid"));
-            String name = safe((String) row.get("name"));
-            if (!filter.isBlank()
-                    && !uuid.toLowerCase(Locale.ROOT).contains(filter)
-                    && !name.toLowerCase(Locale.ROOT).contains(filter)) {
-                continue;
-            }
-            rows.add(row);
-        }
-
-        rows.sort(Comparator
-                .<Map<String, Object>, Boolean>comparing(row -> !Boolean.TRUE.equals(row.get("online")))
-                .thenComparing(row -> safe((String) row.get("name")), String.CASE_INSENSITIVE_ORDER));
-
-        int current = Math.max(1, page);
-        long requestedFrom = (long) (current - 1) * (long) pageSize;
-        int from = requestedFrom >= rows.size() ? rows.size() : (int) requestedFrom;
-        int to = Math.min(rows.size(), from + pageSize);
         return Map.of(
-                "players", List.copyOf(rows.subList(from, to)),
+                "players", List.copyOf(rows),
                 "total", knownTotal,
-                "matchTotal", rows.size(),
+                "matchTotal", matchTotal,
                 "knownTotal", knownTotal,
                 "page", current,
                 "pageSize", pageSize
@@ -2,12 +2,23 @@ package eu.avalanche7.paradigm.modules.dashboard.api;
 
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import eu.avalanche7.paradigm.modules.dashboard.DashboardCompression;
 import eu.avalanche7.paradigm.modules.dashboard.DashboardConfig;
+import eu.avalanche7.paradigm.modules.dashboard.DashboardRequestContext;
 import eu.avalanche7.paradigm.modules.dashboard.DashboardResponse;
 
+/**
+ * Serves the dashboard's HTML, scripts, styles and language files from an in-memory table. Every asset is read,
+ * rewritten (index.html) and gzipped once; requests only pick the plain or gzipped bytes and answer a matching
+ * {@code If-None-Match} with 304. The known assets are loaded when the dashboard starts, anything else on first use.
+ */
 public class StaticAssetHandler {
     private static final List<String> EXTRA_STYLES = List.of(
             "dashboard-shell.css",
@@ -46,36 +57,70 @@ public class StaticAssetHandler {
             "dashboard-polish.js"
     );
 
+    private static final List<String> LANGUAGES = List.of("lang/en.json", "lang/cs.json", "lang/ru.json");
+
     private final DashboardConfig config;
     private final String assetVersion;
+    private final Map<String, Asset> assets = new ConcurrentHashMap<>();
 
     public StaticAssetHandler(DashboardConfig config) {
         this.config = config;
         this.assetVersion = Long.toUnsignedString(System.nanoTime(), 36);
+        List<String> preload = new ArrayList<>(List.of("index.html", "style.css", "app.js", "i18n.js"));
+        preload.addAll(EXTRA_STYLES);
+        preload.addAll(SCRIPTS_AFTER_APP);
+        preload.addAll(LANGUAGES);
+        for (String asset : preload) {
+            try {
+                Asset loaded = load(asset);
+                if (loaded != null) {
+                    assets.put(asset, loaded);
+                }
+            } catch (Exception ignored) {
+                // Served (or reported) on first request instead.
+            }
+        }
     }
 
-    public DashboardResponse serve(String rawPath) {
-        String asset = normalize(rawPath);
+    public DashboardResponse serve(DashboardRequestContext ctx) {
+        String asset = normalize(ctx.path());
         if (asset == null) {
             return DashboardResponse.apiError(404, "not_found", "Asset not found.");
         }
+        Asset cached = assets.get(asset);
+        if (cached == null) {
+            try {
+                cached = load(asset);
+            } catch (Throwable t) {
+                return DashboardResponse.apiError(500, "asset_error", "Failed to load asset.");
+            }
+            if (cached == null) {
+                return DashboardResponse.apiError(404, "not_found", "Asset not found.");
+            }
+            assets.putIfAbsent(asset, cached);
+        }
+        return cached.response(ctx.header("If-None-Match"), ctx.header("Accept-Encoding"));
+    }
+
+    private Asset load(String asset) throws Exception {
         try (InputStream in = StaticAssetHandler.class.getClassLoader().getResourceAsStream("dashboard/" + asset)) {
             if (in == null) {
-                return DashboardResponse.apiError(404, "not_found", "Asset not found.");
+                return null;
             }
             byte[] bytes = in.readAllBytes();
             if ("index.html".equals(asset)) {
                 String html = injectDashboardAssets(new String(bytes, StandardCharsets.UTF_8));
                 bytes = html.getBytes(StandardCharsets.UTF_8);
             }
-            return DashboardResponse.bytes(200, contentType(asset), bytes, Map.of(
-                    "Cache-Control", cacheControl(asset)
-            ));
-        } catch (Throwable t) {
-            return DashboardResponse.apiError(500, "asset_error", "Failed to load asset.");
+            return new Asset(contentType(asset), cacheControl(asset), etag(bytes), bytes, DashboardCompression.gzip(bytes));
         }
     }
 
+    private static String etag(byte[] bytes) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+    }
+
     private String injectDashboardAssets(String html) {
         String result = html;
         result = versionExistingAsset(result, "href", "/style.css");
@@ -122,7 +167,8 @@ public class StaticAssetHandler {
 
     private String cacheControl(String asset) {
         if ("index.html".equals(asset)) {
-            return "no-cache, no-store, must-revalidate";
+            // Revalidated on every load; the ETag changes whenever the versioned asset URLs inside it do.
+            return "no-cache, must-revalidate";
         }
         if (asset.endsWith(".json")) {
             return "no-cache";
@@ -158,6 +204,50 @@ public class StaticAssetHandler {
         return null;
     }
 
+    /** The gzipped bytes carry their own strong tag ({@code "<tag>-gz"}); either one revalidates. */
+    private record Asset(String contentType, String cacheControl, String etag, byte[] plain, byte[] gzipped) {
+        private DashboardResponse response(String ifNoneMatch, String acceptEncoding) {
+            boolean gzip = gzipped != null && DashboardCompression.acceptsGzip(acceptEncoding);
+            String tag = gzip ? gzipEtag() : etag;
+            if (matches(ifNoneMatch)) {
+                return DashboardResponse.bytes(304, contentType, new byte[0], gzipped != null
+                        ? Map.of("Cache-Control", cacheControl, "ETag", tag, "Vary", "Accept-Encoding")
+                        : Map.of("Cache-Control", cacheControl, "ETag", tag));
+            }
+            if (gzip) {
+                return DashboardResponse.bytes(200, contentType, gzipped, Map.of(
+                        "Cache-Control", cacheControl,
+                        "ETag", tag,
+                        "Content-Encoding", "gzip",
+                        "Vary", "Accept-Encoding"
+                ));
+            }
+            return DashboardResponse.bytes(200, contentType, plain, gzipped != null
+                    ? Map.of("Cache-Control", cacheControl, "ETag", etag, "Vary", "Accept-Encoding")
+                    : Map.of("Cache-Control", cacheControl, "ETag", etag));
+        }
+
+        private boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag) || (gzipped != null && tag.equals(gzipEtag()))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+
     private static String contentType(String asset) {
         if (asset.endsWith(".js")) return "application/javascript; charset=utf-8";
         if (asset.endsWith(".css")) return "text/css; charset=utf-8";
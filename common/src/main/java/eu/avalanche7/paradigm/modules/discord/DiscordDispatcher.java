@@ -1,24 +1,36 @@
 package eu.avalanche7.paradigm.modules.discord;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 import eu.avalanche7.paradigm.utils.DebugLogger;
 
+/**
+ * Outbound Discord queue with one worker per resolved channel, so a rate-limited channel (usually the console
+ * relay) only delays its own messages. Each channel keeps FIFO order; retries go back to the front. With a
+ * coalescing window set, consecutive plain messages for the same channel and identity are joined with newlines
+ * into one send of at most {@link DiscordSanitizer#MAX_DISCORD_CONTENT_LENGTH} characters.
+ */
 public final class DiscordDispatcher {
     private static final int MAX_SEND_ATTEMPTS = 3;
     private static final int RECENT_KEY_MEMORY = 256;
     private static final long POLL_INTERVAL_MILLIS = 250L;
+    private static final long STOP_JOIN_MILLIS = 1000L;
 
     public interface Sender {
         Result send(String channelId, DiscordMessage message);
@@ -41,7 +53,11 @@ public final class DiscordDispatcher {
     private final Sender sender;
     private final ChannelResolver channelResolver;
     private final DebugLogger debugLogger;
-    private final BlockingQueue<Attempt> queue;
+    private final int capacity;
+    private final LongSupplier coalesceWindowMillis;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger workerSequence = new AtomicInteger();
 
     private final AtomicBoolean running = new AtomicBoolean();
     private final AtomicBoolean accepting = new AtomicBoolean();
@@ -51,8 +67,6 @@ public final class DiscordDispatcher {
     private final AtomicLong deduped = new AtomicLong();
     private final AtomicLong outstanding = new AtomicLong();
 
-    private volatile Thread worker;
-
     private final Map<String, Boolean> recentKeys = new LinkedHashMap<>(RECENT_KEY_MEMORY + 1, 0.75f, true) {
         @Override
         protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
@@ -61,41 +75,63 @@ public final class DiscordDispatcher {
     };
 
     public DiscordDispatcher(Sender sender, ChannelResolver channelResolver, DebugLogger debugLogger, int queueSize) {
+        this(sender, channelResolver, debugLogger, queueSize, () -> 0L);
+    }
+
+    public DiscordDispatcher(Sender sender, ChannelResolver channelResolver, DebugLogger debugLogger, int queueSize,
+                             LongSupplier coalesceWindowMillis) {
         this.sender = sender;
         this.channelResolver = channelResolver;
         this.debugLogger = debugLogger;
-        this.queue = new ArrayBlockingQueue<>(Math.max(16, Math.min(queueSize, 10_000)));
+        this.capacity = Math.max(16, Math.min(queueSize, 10_000));
+        this.coalesceWindowMillis = coalesceWindowMillis != null ? coalesceWindowMillis : () -> 0L;
     }
 
     public synchronized void start() {
-        Thread previous = worker;
-        if (previous != null && previous.isAlive()) {
-            debug("Dispatcher start ignored because the previous worker is still stopping.");
-            return;
+        for (Channel channel : channels.values()) {
+            Thread previous = channel.worker;
+            if (previous != null && previous.isAlive()) {
+                debug("Dispatcher start ignored because a previous worker is still stopping.");
+                return;
+            }
         }
         if (!running.compareAndSet(false, true)) {
             return;
         }
         accepting.set(true);
-        outstanding.set(queue.size());
-        Thread thread = new Thread(this::runLoop, "paradigm-discord-dispatch");
-        thread.setDaemon(true);
-        worker = thread;
-        thread.start();
+        outstanding.set(queued.get());
+        for (Channel channel : channels.values()) {
+            if (!channel.queue.isEmpty()) {
+                startWorker(channel);
+            }
+        }
     }
 
     public boolean enqueue(DiscordMessage message) {
         if (message == null || message.isEmpty() || !accepting.get()) {
             return false;
         }
-        if (!queue.offer(new Attempt(message, 0))) {
+        String channelId = channelResolver.channelId(message.destination());
+        if (channelId == null || channelId.isBlank()) {
+            failed.incrementAndGet();
+            debug("No channel configured for destination " + message.destination() + "; message discarded.");
+            return false;
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
             long total = dropped.incrementAndGet();
             if (total == 1 || total % 50 == 0) {
                 debug("Outbound queue is full; dropped " + total + " Discord message(s) so far.");
             }
             return false;
         }
+        Channel channel = channels.computeIfAbsent(channelId, Channel::new);
+        channel.destinations.add(message.destination().name());
         outstanding.incrementAndGet();
+        channel.queue.offerLast(new Attempt(message, 0, System.nanoTime(), 1));
+        if (channel.worker == null && running.get()) {
+            startWorker(channel);
+        }
         return true;
     }
 
@@ -133,29 +169,41 @@ public final class DiscordDispatcher {
             return;
         }
 
-        Thread thread = worker;
-        if (thread != null) {
-            thread.interrupt();
+        List<Thread> threads = new ArrayList<>();
+        for (Channel channel : channels.values()) {
+            Thread thread = channel.worker;
+            if (thread != null) {
+                thread.interrupt();
+                threads.add(thread);
+            }
+        }
+        long deadline = System.currentTimeMillis() + STOP_JOIN_MILLIS;
+        for (Thread thread : threads) {
             try {
-                thread.join(1000L);
+                thread.join(Math.max(1L, deadline - System.currentTimeMillis()));
             } catch (InterruptedException interrupted) {
                 Thread.currentThread().interrupt();
-            }
-            if (!thread.isAlive() && worker == thread) {
-                worker = null;
+                break;
             }
         }
 
-        int discarded = queue.size();
-        queue.clear();
+        int discarded = 0;
+        for (Channel channel : channels.values()) {
+            Attempt attempt;
+            while ((attempt = channel.queue.pollFirst()) != null) {
+                queued.decrementAndGet();
+                discarded += attempt.parts();
+            }
+        }
         if (discarded > 0) {
-            dropped.addAndGet(discarded);
-            outstanding.updateAndGet(value -> Math.max(0L, value - discarded));
+            int total = discarded;
+            dropped.addAndGet(total);
+            outstanding.updateAndGet(value -> Math.max(0L, value - total));
         }
     }
 
     public int queueDepth() {
-        return queue.size();
+        return Math.max(0, queued.get());
     }
 
     public long droppedCount() {
@@ -178,40 +226,128 @@ public final class DiscordDispatcher {
         return running.get();
     }
 
-    private void runLoop() {
+    /** Per-channel queue depth, delivery counts and enqueue-to-delivery latency, busiest channel first. */
+    public List<ChannelMetrics> channelMetrics() {
+        List<ChannelMetrics> metrics = new ArrayList<>(channels.size());
+        for (Channel channel : channels.values()) {
+            long delivered = channel.sent.get();
+            metrics.add(new ChannelMetrics(
+                    channel.channelId,
+                    List.copyOf(channel.destinations),
+                    channel.queue.size(),
+                    delivered,
+                    channel.failed.get(),
+                    channel.coalesced.get(),
+                    delivered > 0 ? channel.latencyNanosTotal.get() / 1_000_000.0D / delivered : 0.0D,
+                    channel.latencyNanosMax.get() / 1_000_000.0D,
+                    channel.worker != null));
+        }
+        metrics.sort(Comparator.comparingLong(ChannelMetrics::sent).reversed().thenComparing(ChannelMetrics::channelId));
+        return metrics;
+    }
+
+    private void startWorker(Channel channel) {
+        synchronized (channel) {
+            Thread existing = channel.worker;
+            if (existing != null && existing.isAlive()) {
+                return;
+            }
+            Thread thread = new Thread(() -> runLoop(channel), "paradigm-discord-dispatch-" + workerSequence.incrementAndGet());
+            thread.setDaemon(true);
+            channel.worker = thread;
+            thread.start();
+        }
+    }
+
+    private void runLoop(Channel channel) {
         Thread current = Thread.currentThread();
         try {
-            while (running.get() && worker == current) {
+            while (running.get() && channel.worker == current) {
                 Attempt attempt;
                 try {
-                    attempt = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    attempt = channel.queue.pollFirst(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (attempt == null) {
+                        continue;
+                    }
+                    queued.decrementAndGet();
+                    attempt = coalesce(channel, attempt);
                 } catch (InterruptedException interrupted) {
                     Thread.currentThread().interrupt();
                     return;
                 }
-                if (attempt == null) {
-                    continue;
-                }
                 boolean requeued = false;
                 try {
-                    requeued = deliver(attempt);
+                    requeued = deliver(channel, attempt);
                 } catch (RuntimeException failure) {
-                    failed.incrementAndGet();
+                    failed.addAndGet(attempt.parts());
+                    channel.failed.addAndGet(attempt.parts());
                     debug("Unexpected dispatcher failure: " + failure.getClass().getSimpleName());
                 } finally {
                     if (!requeued) {
-                        outstanding.updateAndGet(value -> Math.max(0L, value - 1L));
+                        int parts = attempt.parts();
+                        outstanding.updateAndGet(value -> Math.max(0L, value - parts));
                     }
                 }
             }
         } finally {
-            if (worker == current) {
-                worker = null;
+            synchronized (channel) {
+                if (channel.worker == current) {
+                    channel.worker = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Joins {@code first} with the plain messages queued right behind it, waiting up to the coalescing window for
+     * more to arrive. Stops at the first message that cannot be merged and leaves it at the head of the queue.
+     */
+    private Attempt coalesce(Channel channel, Attempt first) throws InterruptedException {
+        long window = Math.max(0L, coalesceWindowMillis.getAsLong());
+        if (window == 0L || first.attempts() > 0 || !coalescible(first.message())) {
+            return first;
+        }
+        StringBuilder content = new StringBuilder(first.message().content());
+        int parts = first.parts();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(window);
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            Attempt next = remaining > 0L
+                    ? channel.queue.pollFirst(remaining, TimeUnit.NANOSECONDS)
+                    : channel.queue.pollFirst();
+            if (next == null) {
+                break;
+            }
+            DiscordMessage candidate = next.message();
+            if (next.attempts() > 0 || !coalescible(candidate) || !sameShape(first.message(), candidate)
+                    || content.length() + 1 + candidate.content().length() > DiscordSanitizer.MAX_DISCORD_CONTENT_LENGTH) {
+                channel.queue.offerFirst(next);
+                break;
             }
+            queued.decrementAndGet();
+            content.append('\n').append(candidate.content());
+            parts += next.parts();
         }
+        if (parts == first.parts()) {
+            return first;
+        }
+        channel.coalesced.addAndGet(parts - first.parts());
+        DiscordMessage merged = first.message();
+        return new Attempt(new DiscordMessage(merged.destination(), content.toString(), null, merged.allowMentions(),
+                null, merged.identity()), 0, first.enqueuedAtNanos(), parts);
+    }
+
+    private static boolean coalescible(DiscordMessage message) {
+        return message.embed() == null && message.dedupeKey() == null && !message.content().isBlank();
     }
 
-    private boolean deliver(Attempt attempt) {
+    private static boolean sameShape(DiscordMessage first, DiscordMessage candidate) {
+        return first.destination() == candidate.destination()
+                && first.allowMentions() == candidate.allowMentions()
+                && Objects.equals(first.identity(), candidate.identity());
+    }
+
+    private boolean deliver(Channel channel, Attempt attempt) {
         DiscordMessage message = attempt.message();
         String dedupeKey = message.dedupeKey();
         if (dedupeKey != null && alreadyDelivered(dedupeKey)) {
@@ -219,16 +355,13 @@ public final class DiscordDispatcher {
             return false;
         }
 
-        String channelId = channelResolver.channelId(message.destination());
-        if (channelId == null || channelId.isBlank()) {
-            failed.incrementAndGet();
-            debug("No channel configured for destination " + message.destination() + "; message discarded.");
-            return false;
-        }
-
-        Sender.Result result = sender.send(channelId, message);
+        Sender.Result result = sender.send(channel.channelId, message);
         if (result != null && result.success()) {
-            sent.incrementAndGet();
+            sent.addAndGet(attempt.parts());
+            channel.sent.addAndGet(attempt.parts());
+            long latency = System.nanoTime() - attempt.enqueuedAtNanos();
+            channel.latencyNanosTotal.addAndGet(latency * attempt.parts());
+            channel.latencyNanosMax.accumulateAndGet(latency, Math::max);
             if (dedupeKey != null) {
                 rememberDelivered(dedupeKey);
             }
@@ -241,13 +374,12 @@ public final class DiscordDispatcher {
                 && accepting.get()
                 && running.get()
                 && attempt.attempts() + 1 < MAX_SEND_ATTEMPTS) {
-            if (queue.offer(new Attempt(message, attempt.attempts() + 1))) {
-                return true;
-            }
-            dropped.incrementAndGet();
-            return false;
+            queued.incrementAndGet();
+            channel.queue.offerFirst(new Attempt(message, attempt.attempts() + 1, attempt.enqueuedAtNanos(), attempt.parts()));
+            return true;
         }
-        failed.incrementAndGet();
+        failed.addAndGet(attempt.parts());
+        channel.failed.addAndGet(attempt.parts());
         debug("Discord send failed permanently: " + error);
         return false;
     }
@@ -311,9 +443,11 @@ public final class DiscordDispatcher {
     }
 
     List<DiscordMessage> snapshot() {
-        List<DiscordMessage> messages = new ArrayList<>(queue.size());
-        for (Attempt attempt : queue) {
-            messages.add(attempt.message());
+        List<DiscordMessage> messages = new ArrayList<>(queueDepth());
+        for (Channel channel : channels.values()) {
+            for (Attempt attempt : channel.queue) {
+                messages.add(attempt.message());
+            }
         }
         return messages;
     }
@@ -324,6 +458,34 @@ public final class DiscordDispatcher {
         }
     }
 
-    private record Attempt(DiscordMessage message, int attempts) {
+    private record Attempt(DiscordMessage message, int attempts, long enqueuedAtNanos, int parts) {
+    }
+
+    private static final class Channel {
+        private final String channelId;
+        private final LinkedBlockingDeque<Attempt> queue = new LinkedBlockingDeque<>();
+        private final Set<String> destinations = ConcurrentHashMap.newKeySet();
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong coalesced = new AtomicLong();
+        private final AtomicLong latencyNanosTotal = new AtomicLong();
+        private final AtomicLong latencyNanosMax = new AtomicLong();
+        private volatile Thread worker;
+
+        private Channel(String channelId) {
+            this.channelId = channelId;
+        }
+    }
+
+    public record ChannelMetrics(
+            String channelId,
+            List<String> destinations,
+            int queued,
+            long sent,
+            long failed,
+            long coalesced,
+            double averageLatencyMs,
+            double maxLatencyMs,
+            boolean workerActive) {
     }
 }
@@ -190,7 +190,8 @@ public final class DiscordService implements DiscordOutbox {
                     return current != null ? destination.channelId(current) : "";
                 },
                 debugLogger,
-                clampQueueSize(config));
+                clampQueueSize(config),
+                () -> coalesceWindowMillis(config()));
         dispatcher = queue;
         queue.start();
 
@@ -564,6 +565,11 @@ public final class DiscordService implements DiscordOutbox {
         return Math.max(0L, Math.min(value, 10_000L));
     }
 
+    static long coalesceWindowMillis(DiscordConfigHandler.Config config) {
+        Integer configured = config != null ? config.outboundCoalesceMillis.get() : null;
+        return configured != null ? Math.max(0, Math.min(configured, 2_000)) : 0L;
+    }
+
     static int clampQueueSize(DiscordConfigHandler.Config config) {
         Integer configured = config != null ? config.outboundQueueSize.get() : null;
         int value = configured != null ? configured : 500;
@@ -810,6 +816,11 @@ public final class DiscordService implements DiscordOutbox {
                 false));
     }
 
+    public List<DiscordDispatcher.ChannelMetrics> channelMetrics() {
+        DiscordDispatcher queue = dispatcher;
+        return queue != null ? queue.channelMetrics() : List.of();
+    }
+
     public DiscordConnectionStatus status() {
         DiscordConfigHandler.Config config = config();
         DiscordDispatcher queue = dispatcher;
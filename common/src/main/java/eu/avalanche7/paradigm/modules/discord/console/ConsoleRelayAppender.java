@@ -8,7 +8,10 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -19,6 +22,11 @@ import org.apache.logging.log4j.core.config.Property;
 
 import eu.avalanche7.paradigm.modules.discord.DiscordSanitizer;
 
+/**
+ * Relays console output to Discord. Logging threads only enqueue raw event fields into a preallocated ring; a
+ * dedicated consumer thread filters, collapses repeats and renders them into the buffer that {@link #drainChunks}
+ * hands out.
+ */
 public final class ConsoleRelayAppender extends AbstractAppender {
     private static final String OWN_PACKAGE_PREFIX = "eu.avalanche7.paradigm.modules.discord";
     private static final String DISCORD_DEBUG_PREFIX = "[Paradigm-Debug] [Discord]";
@@ -33,9 +41,23 @@ public final class ConsoleRelayAppender extends AbstractAppender {
     private static final String DIM = ESC + "[2m";
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
 
+    private static final int RING_CAPACITY = 4_096;
+    private static final long CONSUMER_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final int ringMask = RING_CAPACITY - 1;
+    private final AtomicLongArray slotSequence = new AtomicLongArray(RING_CAPACITY);
+    private final Level[] slotLevel = new Level[RING_CAPACITY];
+    private final String[] slotLogger = new String[RING_CAPACITY];
+    private final String[] slotMessage = new String[RING_CAPACITY];
+    private final long[] slotTime = new long[RING_CAPACITY];
+    private final Throwable[] slotThrown = new Throwable[RING_CAPACITY];
+    private final AtomicLong ringTail = new AtomicLong();
+    private final AtomicLong ringDropped = new AtomicLong();
+    private long ringHead;
+
     private final Object bufferLock = new Object();
     private final Deque<String> buffer = new ArrayDeque<>();
-    private final AtomicInteger droppedSinceFlush = new AtomicInteger();
+    private int droppedSinceFlush;
     private int bufferedChars;
     private Level lastLevel;
     private String lastLoggerName;
@@ -48,6 +70,7 @@ public final class ConsoleRelayAppender extends AbstractAppender {
     private final Level minimumLevel;
     private final List<Pattern> ignoredPatterns;
     private final Runnable onCriticalEvent;
+    private volatile Thread consumer;
 
     public ConsoleRelayAppender(String name, Level minimumLevel, List<String> ignoredPatterns) {
         this(name, minimumLevel, ignoredPatterns, null);
@@ -59,6 +82,9 @@ public final class ConsoleRelayAppender extends AbstractAppender {
         this.minimumLevel = minimumLevel != null ? minimumLevel : Level.INFO;
         this.ignoredPatterns = compile(ignoredPatterns);
         this.onCriticalEvent = onCriticalEvent;
+        for (int i = 0; i < RING_CAPACITY; i++) {
+            slotSequence.set(i, i);
+        }
     }
 
     private static List<Pattern> compile(List<String> patterns) {
@@ -78,57 +104,144 @@ public final class ConsoleRelayAppender extends AbstractAppender {
         return compiled;
     }
 
+    @Override
+    public void start() {
+        super.start();
+        if (consumer == null) {
+            Thread thread = new Thread(this::consumeLoop, "Paradigm-Discord-ConsoleRelay");
+            thread.setDaemon(true);
+            consumer = thread;
+            thread.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        Thread thread = consumer;
+        consumer = null;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Runs on the logging thread, so it only copies the raw event fields into a free ring slot. Everything else
+     * happens on the consumer thread; when the ring is full the event is counted and dropped.
+     */
     @Override
     public void append(LogEvent event) {
         if (event == null) {
             return;
         }
+        Level level = event.getLevel();
+        if (level == null || !level.isMoreSpecificThan(minimumLevel)) {
+            return;
+        }
         String loggerName = event.getLoggerName();
         String message = event.getMessage() != null ? event.getMessage().getFormattedMessage() : "";
         if (isDiscordLog(loggerName, message)) {
             return;
         }
-        Level level = event.getLevel();
-        if (level == null || !level.isMoreSpecificThan(minimumLevel)) {
-            return;
+
+        long position = ringTail.get();
+        while (true) {
+            long available = slotSequence.get((int) position & ringMask) - position;
+            if (available == 0L) {
+                if (ringTail.compareAndSet(position, position + 1L)) {
+                    break;
+                }
+                position = ringTail.get();
+            } else if (available < 0L) {
+                ringDropped.incrementAndGet();
+                return;
+            } else {
+                position = ringTail.get();
+            }
         }
-        Throwable thrown = event.getThrown();
+        int slot = (int) position & ringMask;
+        slotLevel[slot] = level;
+        slotLogger[slot] = loggerName;
+        slotMessage[slot] = message;
+        slotTime[slot] = event.getTimeMillis();
+        slotThrown[slot] = event.getThrown();
+        slotSequence.set(slot, position + 1L);
+    }
 
-        if (thrown == null && collapseRepeat(level, loggerName, message)) {
-            return;
+    private void consumeLoop() {
+        Thread self = Thread.currentThread();
+        while (consumer == self) {
+            boolean critical = false;
+            try {
+                synchronized (bufferLock) {
+                    critical = drainRingLocked();
+                }
+            } catch (RuntimeException ignored) {
+            }
+            if (critical && onCriticalEvent != null) {
+                try {
+                    onCriticalEvent.run();
+                } catch (RuntimeException ignored) {
+                }
+            }
+            LockSupport.parkNanos(this, CONSUMER_IDLE_NANOS);
+        }
+    }
+
+    /** Moves every published slot into the rendered buffer; returns whether a critical line was among them. */
+    private boolean drainRingLocked() {
+        boolean critical = false;
+        while (true) {
+            int slot = (int) ringHead & ringMask;
+            if (slotSequence.get(slot) != ringHead + 1L) {
+                break;
+            }
+            Level level = slotLevel[slot];
+            String loggerName = slotLogger[slot];
+            String message = slotMessage[slot];
+            long timeMillis = slotTime[slot];
+            Throwable thrown = slotThrown[slot];
+            slotLevel[slot] = null;
+            slotLogger[slot] = null;
+            slotMessage[slot] = null;
+            slotThrown[slot] = null;
+            slotSequence.set(slot, ringHead + RING_CAPACITY);
+            ringHead++;
+            critical |= processLocked(level, loggerName, message, timeMillis, thrown);
+        }
+        long dropped = ringDropped.getAndSet(0L);
+        if (dropped > 0L) {
+            droppedSinceFlush = (int) Math.min(Integer.MAX_VALUE, droppedSinceFlush + dropped);
+        }
+        return critical;
+    }
+
+    private boolean processLocked(Level level, String loggerName, String message, long timeMillis, Throwable thrown) {
+        if (thrown == null && collapseRepeatLocked(level, loggerName, message)) {
+            return false;
         }
 
         String exceptionSummary = thrown != null ? summarize(thrown) : null;
         String matchable = exceptionSummary != null ? message + " " + exceptionSummary : message;
         for (Pattern pattern : ignoredPatterns) {
             if (pattern.matcher(matchable).find()) {
-                return;
+                return false;
             }
         }
 
         ConsoleSeverity severity = ConsoleSeverity.classify(level, matchable, thrown);
-        String rendered = render(level, severity, event.getTimeMillis(), truncate(message));
-
-        synchronized (bufferLock) {
-            flushPendingStreakMarkerLocked();
-            offerLocked(rendered);
-            if (exceptionSummary != null) {
-                offerLocked(renderExceptionSummary(truncate(exceptionSummary), severity, level));
-                if (severity.warrantsStackFrames()) {
-                    for (String frame : renderStackFrames(thrown.getStackTrace(), MAX_STACK_FRAMES)) {
-                        offerLocked(frame);
-                    }
+        flushPendingStreakMarkerLocked();
+        offerLocked(render(level, severity, timeMillis, truncate(message)));
+        if (exceptionSummary != null) {
+            offerLocked(renderExceptionSummary(truncate(exceptionSummary), severity, level));
+            if (severity.warrantsStackFrames()) {
+                for (String frame : renderStackFrames(thrown.getStackTrace(), MAX_STACK_FRAMES)) {
+                    offerLocked(frame);
                 }
             }
-            rememberLastEntryLocked(level, loggerName, message, thrown == null && severity.isCollapsible());
-        }
-
-        if (severity == ConsoleSeverity.CRITICAL && onCriticalEvent != null) {
-            try {
-                onCriticalEvent.run();
-            } catch (RuntimeException ignored) {
-            }
         }
+        rememberLastEntryLocked(level, loggerName, message, thrown == null && severity.isCollapsible());
+        return severity == ConsoleSeverity.CRITICAL;
     }
 
     private static boolean isDiscordLog(String loggerName, String message) {
@@ -137,16 +250,14 @@ public final class ConsoleRelayAppender extends AbstractAppender {
                 || message.startsWith(DISCORD_LOG_PREFIX);
     }
 
-    private boolean collapseRepeat(Level level, String loggerName, String message) {
-        synchronized (bufferLock) {
-            if (lastCollapsible && level == lastLevel
-                    && Objects.equals(loggerName, lastLoggerName)
-                    && message.equals(lastMessage)) {
-                repeatStreak++;
-                return true;
-            }
-            return false;
+    private boolean collapseRepeatLocked(Level level, String loggerName, String message) {
+        if (lastCollapsible && level == lastLevel
+                && Objects.equals(loggerName, lastLoggerName)
+                && message.equals(lastMessage)) {
+            repeatStreak++;
+            return true;
         }
+        return false;
     }
 
     private void rememberLastEntryLocked(Level level, String loggerName, String message, boolean collapsible) {
@@ -190,13 +301,11 @@ public final class ConsoleRelayAppender extends AbstractAppender {
 
     private String formatTime(long timeMillis) {
         long second = Math.floorDiv(timeMillis, 1000L);
-        synchronized (bufferLock) {
-            if (second != cachedTimeSecond) {
-                cachedTimeSecond = second;
-                cachedTimeText = TIME_FORMAT.format(Instant.ofEpochMilli(timeMillis).atZone(ZoneId.systemDefault()));
-            }
-            return cachedTimeText;
+        if (second != cachedTimeSecond) {
+            cachedTimeSecond = second;
+            cachedTimeText = TIME_FORMAT.format(Instant.ofEpochMilli(timeMillis).atZone(ZoneId.systemDefault()));
         }
+        return cachedTimeText;
     }
 
     private static String colorizeBody(String message, ConsoleSeverity severity, Level level) {
@@ -254,7 +363,7 @@ public final class ConsoleRelayAppender extends AbstractAppender {
         while (!buffer.isEmpty() && (buffer.size() > MAX_BUFFERED_LINES || bufferedChars > MAX_BUFFERED_CHARS)) {
             String removed = buffer.removeFirst();
             bufferedChars -= removed.length();
-            droppedSinceFlush.incrementAndGet();
+            droppedSinceFlush++;
         }
     }
 
@@ -269,18 +378,20 @@ public final class ConsoleRelayAppender extends AbstractAppender {
         List<String> lines;
         int dropped;
         synchronized (bufferLock) {
+            drainRingLocked();
             flushPendingStreakMarkerLocked();
             lastCollapsible = false;
             lastLevel = null;
             lastLoggerName = null;
             lastMessage = null;
-            if (buffer.isEmpty() && droppedSinceFlush.get() == 0) {
+            if (buffer.isEmpty() && droppedSinceFlush == 0) {
                 return List.of();
             }
             lines = new ArrayList<>(buffer);
             buffer.clear();
             bufferedChars = 0;
-            dropped = droppedSinceFlush.getAndSet(0);
+            dropped = droppedSinceFlush;
+            droppedSinceFlush = 0;
         }
 
         List<String> withMarker = new ArrayList<>();
@@ -20,14 +20,23 @@ public final class HologramRenderer {
         this.platform = platform;
     }
 
-    public String upsert(String id, HologramDefinition definition, HologramLine line, String runtimeId, IPlayer viewer) {
+    /**
+     * The line text with every placeholder filled in for {@code viewer}; two renders that resolve to the same string
+     * produce the same component, so callers compare this before sending an update.
+     */
+    public String resolve(HologramDefinition definition, HologramLine line, IPlayer viewer) {
+        if (!line.dynamic() && viewer == null) return line.template();
+        return services.getPlatformAdapter().replacePlaceholders(globalPlaceholders(line.template(), definition.dimension), viewer);
+    }
+
+    public String upsert(String id, HologramDefinition definition, HologramLine line, String resolved, String runtimeId) {
         double y = definition.y - (line.index() * definition.lineSpacing);
         IHologramPlatform.Location location = new IHologramPlatform.Location(
                 definition.dimension, definition.x, y, definition.z);
         if (!platform.isChunkLoaded(location)) return null;
         String key = HologramService.ownershipKey(id, definition, line.index());
-        IComponent text = line.dynamic() || viewer != null
-                ? parse(line.template(), definition.dimension, viewer)
+        IComponent text = line.dynamic()
+                ? services.getMessageParser().parseMessage(resolved, null)
                 : staticTemplates.computeIfAbsent(key + "\n" + line.template(), ignored -> parse(line.template(), definition.dimension, null));
         return platform.upsertLine(new IHologramPlatform.LineRequest(key, location, definition.viewDistance, text.copy(), definition.display.copy()), runtimeId);
     }
@@ -41,11 +50,11 @@ public final class HologramRenderer {
                 definition.interaction.width, definition.interaction.height), runtimeId);
     }
 
-    public IHologramPlatform.LineRequest viewerRequest(String ownershipKey, HologramDefinition definition, HologramLine line, IPlayer viewer) {
+    public IHologramPlatform.LineRequest viewerRequest(String ownershipKey, HologramDefinition definition, HologramLine line, IPlayer viewer, String resolved) {
         double y = definition.y - (line.index() * definition.lineSpacing);
         IHologramPlatform.Location location = new IHologramPlatform.Location(definition.dimension, definition.x, y, definition.z);
         return new IHologramPlatform.LineRequest(ownershipKey, location, definition.viewDistance,
-                parse(line.template(), definition.dimension, viewer), definition.display.copy());
+                services.getMessageParser().parseMessage(resolved, viewer), definition.display.copy());
     }
 
     public void remove(String runtimeId) {
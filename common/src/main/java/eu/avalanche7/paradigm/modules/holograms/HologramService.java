@@ -2,6 +2,8 @@ package eu.avalanche7.paradigm.modules.holograms;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -25,6 +27,8 @@ public final class HologramService {
     private static final int MAX_DIRTY_PER_PASS = 64;
     private static final int MAX_CHUNK_PROBES_PER_PASS = 96;
     private static final int MAX_ENTITY_PROBES_PER_PASS = 128;
+    private static final int VIEWER_CELL_SHIFT = 4;
+    private static final double VIEWER_RANGE_SLACK = 24.0D;
 
     private final Services services;
     private final IHologramPlatform platform;
@@ -37,6 +41,11 @@ public final class HologramService {
     private final Object lock = new Object();
     private final AtomicBoolean lifecycleQueued = new AtomicBoolean();
     private final Map<String, RuntimeEntity> runtime = new LinkedHashMap<>();
+    private final Map<String, Set<String>> runtimeKeysBySource = new HashMap<>();
+    private final Map<String, ViewerCell> viewerCells = new HashMap<>();
+    private final Map<String, Set<String>> viewersBySource = new HashMap<>();
+    private final Map<String, Set<String>> sourcesByViewer = new HashMap<>();
+    private final Map<String, IPlayer> onlineViewers = new HashMap<>();
     private final Set<String> dirtySources = new LinkedHashSet<>();
     private final Map<String, Long> nextDue = new LinkedHashMap<>();
     private final HologramCooldowns interactionCooldowns = new HologramCooldowns();
@@ -44,8 +53,10 @@ public final class HologramService {
     private HologramUpdateScheduler scheduler;
     private boolean active;
     private int chunkProbeOffset;
+    private List<String> entityProbeOrder = List.of();
     private int entityProbeOffset;
     private boolean startupCleanupPending;
+    private volatile boolean viewersStale = true;
 
     public HologramService(Services services) {
         this.services = Objects.requireNonNull(services, "services");
@@ -87,6 +98,9 @@ public final class HologramService {
         if (platform != null) platform.setInteractionHandler(null);
         for (RuntimeEntity entry : new ArrayList<>(runtime.values())) removeRuntime(entry);
         runtime.clear();
+        runtimeKeysBySource.clear();
+        clearViewers();
+        entityProbeOrder = List.of();
         nextDue.clear();
         dirtySources.clear();
         interactionCooldowns.clear();
@@ -131,6 +145,7 @@ public final class HologramService {
 
     public TemporaryHologram updateTemporary(String id, HologramDefinition definition, Long expiresAt) {
         TemporaryHologram updated = temporary.update(id, definition, expiresAt);
+        removeSourceRuntime(HologramSourceIndex.sourceId(true, id));
         rebuildIndex();
         markDirty(HologramSourceIndex.sourceId(true, id));
         queueLifecycle();
@@ -241,10 +256,11 @@ public final class HologramService {
         synchronized (lock) {
             for (HologramSourceIndex.Source source : index.all()) {
                 String sourceId = source.sourceId();
-                long count = runtime.values().stream().filter(value -> sourceId.equals(value.sourceId)).count();
+                int count = runtimeKeysBySource.getOrDefault(sourceId, Set.of()).size();
+                int viewers = viewersBySource.getOrDefault(sourceId, Set.of()).size();
                 boolean loaded = platform != null && platform.isChunkLoaded(source.location());
                 statuses.put(sourceId, new RuntimeStatus(source.persistent() ? source.id() : "temporary:" + source.id(),
-                        source.persistent(), loaded, (int) count, nextDue.getOrDefault(sourceId, 0L),
+                        source.persistent(), loaded, count, viewers, nextDue.getOrDefault(sourceId, 0L),
                         dirtySources.contains(sourceId)));
             }
         }
@@ -286,6 +302,7 @@ public final class HologramService {
             removeSourceRuntime(HologramSourceIndex.sourceId(true, expired));
             rebuildIndex();
         }
+        trackViewers();
         probeChunks();
         probeRuntimeEntities();
         processDue(now);
@@ -330,49 +347,142 @@ public final class HologramService {
             nextDue.put(source.sourceId(), now + definition.refreshIntervalSeconds * 1000L);
             return;
         }
-        for (int lineIndex = 0; lineIndex < definition.lines.size(); lineIndex++) {
-            HologramLine line = HologramLine.of(lineIndex, definition.lines.get(lineIndex));
-            if (viewerSpecific) renderForViewers(source, line);
-            else renderShared(source, line, null);
+        if (viewerSpecific) renderForViewers(source);
+        else {
+            for (int lineIndex = 0; lineIndex < definition.lines.size(); lineIndex++) {
+                renderShared(source, HologramLine.of(lineIndex, definition.lines.get(lineIndex)));
+            }
         }
         if (definition.interaction.enabled) {
             String key = interactionOwnershipKey(source.id(), definition);
             RuntimeEntity previous = runtime.get(key);
-            String runtimeId = renderer.upsertInteraction(source.id(), definition, previous != null ? previous.runtimeId : null);
-            if (runtimeId != null) runtime.put(key, new RuntimeEntity(key, source.sourceId(), runtimeId));
+            if (previous == null || !previous.fingerprint.equals(source.fingerprint())) {
+                String runtimeId = renderer.upsertInteraction(source.id(), definition, previous != null ? previous.runtimeId : null);
+                if (runtimeId != null) putRuntime(new RuntimeEntity(key, source.sourceId(), runtimeId, null, source.fingerprint()));
+            }
         }
-        if (hasDynamicContent(definition) || hasDynamicVisibility(definition.visibility) || viewerSpecific) {
+        // Nobody in range means nothing to refresh; trackViewers marks the source dirty when someone walks in.
+        boolean watched = !viewersBySource.getOrDefault(source.sourceId(), Set.of()).isEmpty();
+        if (hasDynamicVisibility(definition.visibility) || ((hasDynamicContent(definition) || viewerSpecific) && watched)) {
             nextDue.put(source.sourceId(), now + definition.refreshIntervalSeconds * 1000L);
         }
         else nextDue.remove(source.sourceId());
     }
 
-    private void renderShared(HologramSourceIndex.Source source, HologramLine line, IPlayer viewer) {
+    private void renderShared(HologramSourceIndex.Source source, HologramLine line) {
         String key = ownershipKey(source.id(), source.definition(), line.index());
         RuntimeEntity previous = runtime.get(key);
-        String runtimeId = renderer.upsert(source.id(), source.definition(), line, previous != null ? previous.runtimeId : null, viewer);
-        if (runtimeId != null) runtime.put(key, new RuntimeEntity(key, source.sourceId(), runtimeId));
+        String text = renderer.resolve(source.definition(), line, null);
+        if (previous != null && previous.matches(text, source.fingerprint())) return;
+        String runtimeId = renderer.upsert(source.id(), source.definition(), line, text, previous != null ? previous.runtimeId : null);
+        if (runtimeId != null) putRuntime(new RuntimeEntity(key, source.sourceId(), runtimeId, text, source.fingerprint()));
+    }
+
+    private void renderForViewers(HologramSourceIndex.Source source) {
+        HologramDefinition definition = source.definition();
+        List<IPlayer> viewers = new ArrayList<>();
+        for (String uuid : viewersBySource.getOrDefault(source.sourceId(), Set.of())) {
+            IPlayer player = onlineViewers.get(uuid);
+            if (player != null && conditions.test(definition.visibility, definition, player)) viewers.add(player);
+        }
+        Set<String> visible = new HashSet<>();
+        for (int lineIndex = 0; lineIndex < definition.lines.size(); lineIndex++) {
+            HologramLine line = HologramLine.of(lineIndex, definition.lines.get(lineIndex));
+            String prefix = ownershipKey(source.id(), definition, line.index()) + ":viewer:";
+            for (IPlayer player : viewers) {
+                String key = prefix + player.getUUID();
+                visible.add(key);
+                RuntimeEntity previous = runtime.get(key);
+                String text = renderer.resolve(definition, line, player);
+                if (previous != null && previous.matches(text, source.fingerprint())) continue;
+                IHologramPlatform.LineRequest request = renderer.viewerRequest(key, definition, line, player, text);
+                String runtimeId = platform.upsertViewerLine(request, player, previous != null ? previous.runtimeId : null);
+                if (runtimeId != null) putRuntime(new RuntimeEntity(key, source.sourceId(), runtimeId, text, source.fingerprint()));
+            }
+        }
+        for (String key : List.copyOf(runtimeKeysBySource.getOrDefault(source.sourceId(), Set.of()))) {
+            if (key.contains(":viewer:") && !visible.contains(key)) removeRuntimeKey(key);
+        }
     }
 
-    private void renderForViewers(HologramSourceIndex.Source source, HologramLine line) {
-        String prefix = ownershipKey(source.id(), source.definition(), line.index()) + ":viewer:";
-        Set<String> visible = new LinkedHashSet<>();
+    /**
+     * Re-buckets online players into 16-block cells and, for each player whose cell changed, recomputes which
+     * sources they are in range of. Sources that gain or lose a viewer are marked dirty; everything else is left
+     * alone, so a server where nobody crosses a cell boundary does no per-source work here.
+     */
+    private void trackViewers() {
+        if (viewersStale) {
+            viewersStale = false;
+            clearViewers();
+        }
+        Set<String> seen = new HashSet<>();
         for (IPlayer player : services.getPlatformAdapter().getOnlinePlayers()) {
-            String key = prefix + player.getUUID();
-            if (!conditions.test(source.definition().visibility, source.definition(), player)) {
-                removeRuntimeKey(key);
-                continue;
+            String uuid = player != null ? player.getUUID() : null;
+            if (uuid == null) continue;
+            seen.add(uuid);
+            onlineViewers.put(uuid, player);
+            ViewerCell cell = ViewerCell.of(player);
+            if (Objects.equals(cell, viewerCells.get(uuid)) && viewerCells.containsKey(uuid)) continue;
+            viewerCells.put(uuid, cell);
+            Set<String> inRange = new HashSet<>();
+            if (cell != null) {
+                for (HologramSourceIndex.Source source : index.all()) {
+                    if (withinViewRange(player, source.definition())) inRange.add(source.sourceId());
+                }
             }
-            visible.add(key);
-            RuntimeEntity previous = runtime.get(key);
-            IHologramPlatform.LineRequest request = renderer.viewerRequest(key, source.definition(), line, player);
-            String runtimeId = platform.upsertViewerLine(request, player, previous != null ? previous.runtimeId : null);
-            if (runtimeId != null) runtime.put(key, new RuntimeEntity(key, source.sourceId(), runtimeId));
+            Set<String> previous = sourcesByViewer.getOrDefault(uuid, Set.of());
+            for (String sourceId : previous) {
+                if (!inRange.contains(sourceId)) leaveSource(uuid, sourceId);
+            }
+            for (String sourceId : inRange) {
+                if (!previous.contains(sourceId)) {
+                    viewersBySource.computeIfAbsent(sourceId, ignored -> new HashSet<>()).add(uuid);
+                    dirtySources.add(sourceId);
+                }
+            }
+            if (inRange.isEmpty()) sourcesByViewer.remove(uuid);
+            else sourcesByViewer.put(uuid, inRange);
+        }
+        if (seen.size() == viewerCells.size()) return;
+        for (String uuid : List.copyOf(viewerCells.keySet())) {
+            if (seen.contains(uuid)) continue;
+            viewerCells.remove(uuid);
+            onlineViewers.remove(uuid);
+            for (String sourceId : sourcesByViewer.getOrDefault(uuid, Set.of())) leaveSource(uuid, sourceId);
+            sourcesByViewer.remove(uuid);
         }
-        runtime.values().stream()
-                .filter(value -> source.sourceId().equals(value.sourceId) && value.key.startsWith(prefix) && !visible.contains(value.key))
-                .toList()
-                .forEach(value -> removeRuntimeKey(value.key));
+    }
+
+    private boolean viewerSpecific(String sourceId) {
+        HologramSourceIndex.Source source = index.source(sourceId);
+        return source != null && requiresViewerSpecificRendering(source.definition());
+    }
+
+    private void leaveSource(String uuid, String sourceId) {
+        Set<String> viewers = viewersBySource.get(sourceId);
+        if (viewers != null) {
+            viewers.remove(uuid);
+            if (viewers.isEmpty()) viewersBySource.remove(sourceId);
+        }
+        if (viewerSpecific(sourceId)) dirtySources.add(sourceId);
+    }
+
+    private void clearViewers() {
+        viewerCells.clear();
+        viewersBySource.clear();
+        sourcesByViewer.clear();
+        onlineViewers.clear();
+    }
+
+    private static boolean withinViewRange(IPlayer player, HologramDefinition definition) {
+        String world = player.getWorldId();
+        Double x = player.getX();
+        Double z = player.getZ();
+        if (world == null || x == null || z == null || !world.equalsIgnoreCase(definition.dimension)) return false;
+        double range = (definition.viewDistance != null ? definition.viewDistance : 48.0D) + VIEWER_RANGE_SLACK;
+        double dx = x - definition.x;
+        double dz = z - definition.z;
+        return dx * dx + dz * dz <= range * range;
     }
 
     private void probeChunks() {
@@ -383,21 +493,24 @@ public final class HologramService {
             HologramSourceIndex.ChunkKey key = chunks.get(Math.floorMod(chunkProbeOffset++, chunks.size()));
             boolean loaded = platform.isChunkLoaded(key.location());
             for (String sourceId : index.sourcesInChunk(key)) {
-                boolean hasRuntime = runtime.values().stream().anyMatch(value -> sourceId.equals(value.sourceId));
-                if (loaded && !hasRuntime) dirtySources.add(sourceId);
+                boolean hasRuntime = runtimeKeysBySource.containsKey(sourceId);
+                if (loaded && !hasRuntime && (viewersBySource.containsKey(sourceId) || !viewerSpecific(sourceId))) dirtySources.add(sourceId);
                 if (!loaded && hasRuntime) removeSourceRuntime(sourceId);
             }
         }
     }
 
     private void probeRuntimeEntities() {
-        List<RuntimeEntity> entities = new ArrayList<>(runtime.values());
-        if (entities.isEmpty()) return;
-        int count = Math.min(MAX_ENTITY_PROBES_PER_PASS, entities.size());
-        for (int offset = 0; offset < count; offset++) {
-            RuntimeEntity entity = entities.get(Math.floorMod(entityProbeOffset++, entities.size()));
-            if (!platform.isEntityLoaded(entity.runtimeId)) {
-                runtime.remove(entity.key);
+        if (runtime.isEmpty()) return;
+        int count = Math.min(MAX_ENTITY_PROBES_PER_PASS, runtime.size());
+        for (int probed = 0; probed < count; probed++) {
+            if (entityProbeOffset >= entityProbeOrder.size()) {
+                entityProbeOrder = List.copyOf(runtime.keySet());
+                entityProbeOffset = 0;
+            }
+            RuntimeEntity entity = runtime.get(entityProbeOrder.get(entityProbeOffset++));
+            if (entity != null && !platform.isEntityLoaded(entity.runtimeId)) {
+                forgetRuntime(entity.key);
                 dirtySources.add(entity.sourceId);
             }
         }
@@ -424,6 +537,7 @@ public final class HologramService {
     private void rebuildIndexLocked() {
         index.rebuild(store.snapshot(), temporary.list());
         nextDue.keySet().removeIf(id -> !index.contains(id));
+        viewersStale = true;
     }
 
     private void markAllDirty() {
@@ -439,17 +553,35 @@ public final class HologramService {
     }
 
     private void removeSourceRuntime(String sourceId) {
-        List<RuntimeEntity> entries = runtime.values().stream().filter(value -> sourceId.equals(value.sourceId)).toList();
-        for (RuntimeEntity entry : entries) {
-            runtime.remove(entry.key);
-            removeRuntime(entry);
+        Set<String> keys = runtimeKeysBySource.remove(sourceId);
+        if (keys != null) {
+            for (String key : keys) {
+                RuntimeEntity entry = runtime.remove(key);
+                if (entry != null) removeRuntime(entry);
+            }
         }
         nextDue.remove(sourceId);
         dirtySources.remove(sourceId);
     }
 
-    private void removeRuntimeKey(String key) {
+    private void putRuntime(RuntimeEntity entry) {
+        runtime.put(entry.key, entry);
+        runtimeKeysBySource.computeIfAbsent(entry.sourceId, ignored -> new LinkedHashSet<>()).add(entry.key);
+    }
+
+    private RuntimeEntity forgetRuntime(String key) {
         RuntimeEntity entry = runtime.remove(key);
+        if (entry == null) return null;
+        Set<String> keys = runtimeKeysBySource.get(entry.sourceId);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) runtimeKeysBySource.remove(entry.sourceId);
+        }
+        return entry;
+    }
+
+    private void removeRuntimeKey(String key) {
+        RuntimeEntity entry = forgetRuntime(key);
         if (entry != null) removeRuntime(entry);
     }
 
@@ -542,10 +674,26 @@ public final class HologramService {
         return HologramStore.normalizeId(id);
     }
 
-    public record RuntimeStatus(String id, boolean persistent, boolean chunkLoaded, int renderedEntities, long nextDueAt, boolean dirty) {
+    public record RuntimeStatus(String id, boolean persistent, boolean chunkLoaded, int renderedEntities, int nearbyViewers,
+                                long nextDueAt, boolean dirty) {
     }
 
-    private record RuntimeEntity(String key, String sourceId, String runtimeId) {
+    /** {@code text} is the resolved line text last sent for this entity, or null for interaction entities. */
+    /** A spawned entity with the text and source fingerprint it was last sent with. */
+    private record RuntimeEntity(String key, String sourceId, String runtimeId, String text, String fingerprint) {
+        private boolean matches(String currentText, String currentFingerprint) {
+            return text != null && text.equals(currentText) && fingerprint.equals(currentFingerprint);
+        }
+    }
+
+    private record ViewerCell(String dimension, int x, int z) {
+        private static ViewerCell of(IPlayer player) {
+            String world = player.getWorldId();
+            Double x = player.getX();
+            Double z = player.getZ();
+            if (world == null || x == null || z == null) return null;
+            return new ViewerCell(world, ((int) Math.floor(x)) >> VIEWER_CELL_SHIFT, ((int) Math.floor(z)) >> VIEWER_CELL_SHIFT);
+        }
     }
 
     public static final class Config {
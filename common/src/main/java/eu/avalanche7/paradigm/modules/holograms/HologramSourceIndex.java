@@ -9,9 +9,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
 import eu.avalanche7.paradigm.platform.Interfaces.IHologramPlatform;
 
 public final class HologramSourceIndex {
+    private static final Gson FINGERPRINT_GSON = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
 
     private final Map<String, Source> sources = new LinkedHashMap<>();
     private final Map<ChunkKey, LinkedHashSet<String>> chunkIndex = new LinkedHashMap<>();
@@ -21,13 +25,16 @@ public final class HologramSourceIndex {
         sources.clear();
         chunkIndex.clear();
         interactionSources.clear();
+        String settings = config != null ? config.defaultViewDistance + "/" + config.defaultRefreshIntervalSeconds + "/" : "";
         if (config != null && config.enabled) {
-            config.holograms.forEach((id, definition) ->
-                    add(new Source(sourceId(false, id), id, true, definition.copy())));
+            config.holograms.forEach((id, definition) -> {
+                HologramDefinition copy = definition.copy();
+                add(new Source(sourceId(false, id), id, true, copy, fingerprint(settings, copy)));
+            });
         }
         if (temporary != null) {
             for (TemporaryHologram value : temporary) {
-                add(new Source(sourceId(true, value.id), value.id, false, value.definition));
+                add(new Source(sourceId(true, value.id), value.id, false, value.definition, fingerprint(settings, value.definition)));
             }
         }
     }
@@ -86,11 +93,20 @@ public final class HologramSourceIndex {
         return keys;
     }
 
+    /**
+     * Everything besides the resolved text that decides how a source's entities are spawned: position, spacing,
+     * display and interaction settings and the global defaults. The renderer skips an entity only when both its text
+     * and this fingerprint are unchanged.
+     */
+    private static String fingerprint(String settings, HologramDefinition definition) {
+        return settings + FINGERPRINT_GSON.toJson(definition);
+    }
+
     public static String sourceId(boolean temporary, String id) {
         return (temporary ? "temporary:" : "persistent:") + id;
     }
 
-    public record Source(String sourceId, String id, boolean persistent, HologramDefinition definition) {
+    public record Source(String sourceId, String id, boolean persistent, HologramDefinition definition, String fingerprint) {
         public IHologramPlatform.Location location() {
             return new IHologramPlatform.Location(definition.dimension, definition.x, definition.y, definition.z);
         }
@@ -1,53 +1,64 @@
 package eu.avalanche7.paradigm.modules.moderation;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 import eu.avalanche7.paradigm.storage.identity.ServerScope;
 
+/**
+ * Active punishments indexed by subject UUID and IP hash so login and chat checks only touch the subject's own
+ * records. Expiry is tracked in a time-ordered set and evicted lazily from the head on lookup.
+ */
 public final class ActivePunishmentCache {
-    private volatile Map<String, PunishmentRecord> byId = Map.of();
+    private static final Comparator<Expiry> EXPIRY_ORDER = Comparator.comparingLong(Expiry::atMs).thenComparing(Expiry::punishmentId);
+
+    private volatile Index index = new Index();
 
     public synchronized void replace(Collection<PunishmentRecord> records) {
         long now = System.currentTimeMillis();
-        Map<String, PunishmentRecord> next = new LinkedHashMap<>();
+        Index next = new Index();
         if (records != null) {
             for (PunishmentRecord record : records) {
                 if (record != null && record.activeAt(now)) {
-                    next.put(record.punishmentId(), record);
+                    next.add(record);
                 }
             }
         }
-        byId = Map.copyOf(next);
+        index = next;
     }
 
     public synchronized void put(PunishmentRecord record) {
         if (record == null || !record.activeAt(System.currentTimeMillis())) return;
-        Map<String, PunishmentRecord> next = new LinkedHashMap<>(byId);
-        next.put(record.punishmentId(), record);
-        byId = Map.copyOf(next);
+        Index current = index;
+        current.remove(record.punishmentId());
+        current.add(record);
     }
 
     public synchronized void remove(String punishmentId) {
-        if (punishmentId == null || !byId.containsKey(punishmentId)) return;
-        Map<String, PunishmentRecord> next = new LinkedHashMap<>(byId);
-        next.remove(punishmentId);
-        byId = Map.copyOf(next);
+        if (punishmentId == null) return;
+        index.remove(punishmentId);
     }
 
     public List<PunishmentRecord> activeFor(String uuid, String ipHash, String networkId, String serverId) {
         long now = System.currentTimeMillis();
-        Map<String, PunishmentRecord> snapshot = byId;
-        return snapshot.values().stream().filter(record -> {
-            if (!record.activeAt(now) || !record.appliesTo(networkId, serverId)) return false;
-            boolean uuidMatch = uuid != null && record.subjectUuid() != null && record.subjectUuid().equalsIgnoreCase(uuid);
-            boolean ipMatch = ipHash != null && record.subjectIpHash() != null && record.subjectIpHash().equals(ipHash);
-            return uuidMatch || ipMatch;
-        }).sorted(precedence()).toList();
+        Index snapshot = index;
+        evictExpired(snapshot, now);
+        List<PunishmentRecord> matches = new ArrayList<>(2);
+        String uuidKey = uuidKey(uuid);
+        collect(snapshot, uuidKey != null ? snapshot.bySubjectUuid.get(uuidKey) : null, now, networkId, serverId, matches);
+        collect(snapshot, ipHash != null ? snapshot.byIpHash.get(ipHash) : null, now, networkId, serverId, matches);
+        if (matches.size() > 1) {
+            matches.sort(precedence());
+        }
+        return List.copyOf(matches);
     }
 
     public Optional<PunishmentRecord> loginBlock(String uuid, String ipHash, String networkId, String serverId) {
@@ -55,7 +66,39 @@ public final class ActivePunishmentCache {
                 .filter(record -> record.type() == PunishmentType.BAN || record.type() == PunishmentType.IP_BAN).findFirst();
     }
 
-    public int size() { return byId.size(); }
+    public int size() { return index.byId.size(); }
+
+    private static void collect(Index snapshot, Set<String> ids, long now, String networkId, String serverId, List<PunishmentRecord> out) {
+        if (ids == null) return;
+        for (String id : ids) {
+            PunishmentRecord record = snapshot.byId.get(id);
+            if (record != null && record.activeAt(now) && record.appliesTo(networkId, serverId) && !out.contains(record)) {
+                out.add(record);
+            }
+        }
+    }
+
+    private void evictExpired(Index snapshot, long now) {
+        Expiry head = firstOrNull(snapshot.expiries);
+        if (head == null || head.atMs() > now) return;
+        synchronized (this) {
+            while ((head = firstOrNull(snapshot.expiries)) != null && head.atMs() <= now) {
+                snapshot.expiries.remove(head);
+                PunishmentRecord record = snapshot.byId.get(head.punishmentId());
+                if (record != null && record.expiresAtMs() != null && record.expiresAtMs() == head.atMs()) {
+                    snapshot.remove(head.punishmentId());
+                }
+            }
+        }
+    }
+
+    private static Expiry firstOrNull(ConcurrentSkipListSet<Expiry> expiries) {
+        return expiries.ceiling(new Expiry(Long.MIN_VALUE, ""));
+    }
+
+    private static String uuidKey(String uuid) {
+        return uuid == null || uuid.isBlank() ? null : uuid.trim().toLowerCase(Locale.ROOT);
+    }
 
     private static Comparator<PunishmentRecord> precedence() {
         return Comparator.comparingInt(ActivePunishmentCache::score).thenComparing(PunishmentRecord::createdAtMs).reversed()
@@ -67,4 +110,48 @@ public final class ActivePunishmentCache {
         if (record.type() == PunishmentType.IP_BAN) score += 10;
         return score;
     }
+
+    /** Mutated only while holding the cache monitor; readers use the concurrent maps without locking. */
+    private static final class Index {
+        private final Map<String, PunishmentRecord> byId = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> bySubjectUuid = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> byIpHash = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<Expiry> expiries = new ConcurrentSkipListSet<>(EXPIRY_ORDER);
+
+        private void add(PunishmentRecord record) {
+            String id = record.punishmentId();
+            byId.put(id, record);
+            link(bySubjectUuid, uuidKey(record.subjectUuid()), id);
+            link(byIpHash, record.subjectIpHash(), id);
+            if (record.expiresAtMs() != null) {
+                expiries.add(new Expiry(record.expiresAtMs(), id));
+            }
+        }
+
+        private void remove(String punishmentId) {
+            PunishmentRecord record = byId.remove(punishmentId);
+            if (record == null) return;
+            unlink(bySubjectUuid, uuidKey(record.subjectUuid()), punishmentId);
+            unlink(byIpHash, record.subjectIpHash(), punishmentId);
+            if (record.expiresAtMs() != null) {
+                expiries.remove(new Expiry(record.expiresAtMs(), punishmentId));
+            }
+        }
+
+        private static void link(Map<String, Set<String>> map, String key, String id) {
+            if (key == null) return;
+            map.computeIfAbsent(key, ignored -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        private static void unlink(Map<String, Set<String>> map, String key, String id) {
+            if (key == null) return;
+            map.computeIfPresent(key, (ignored, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private record Expiry(long atMs, String punishmentId) {
+    }
 }
@@ -14,6 +14,7 @@ import eu.avalanche7.paradigm.modules.audit.AuditResult;
 import eu.avalanche7.paradigm.modules.audit.AuditService;
 import eu.avalanche7.paradigm.modules.dashboard.auth.DashboardPrincipal;
 import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
+import eu.avalanche7.paradigm.storage.StorageLane;
 import eu.avalanche7.paradigm.storage.identity.ServerScope;
 import eu.avalanche7.paradigm.utils.TaskScheduler;
 
@@ -152,7 +153,7 @@ public final class PunishmentService {
 
     public void refreshAsync() {
         if (!refreshRunning.compareAndSet(false, true)) return;
-        services.getStorageService().runStorageAsync("moderation.cache-refresh", () -> {
+        services.getStorageService().runStorageAsync(StorageLane.INTERACTIVE, "moderation.cache-refresh", () -> {
             try {
                 if (!started.get()) return;
                 synchronized (mutationLock) {
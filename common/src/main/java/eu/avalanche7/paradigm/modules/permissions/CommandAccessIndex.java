@@ -0,0 +1,165 @@
+package eu.avalanche7.paradigm.modules.permissions;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player table of internal-permission decisions for command nodes. Every command path gets a small integer id
+ * the first time it is asked about; a player's table holds one byte per id and is filled by a single batch
+ * evaluation, so the Brigadier requirement for each node is an array read while the command tree is sent.
+ * <p>
+ * A table is rebuilt when the permission state version changes or a timed rule it depends on expires. Rebuilding
+ * the command tree (reload, discovery) starts a new generation and forgets all ids and tables.
+ */
+final class CommandAccessIndex {
+    private static final byte UNKNOWN = 0;
+    private static final byte UNDEFINED = 1;
+    private static final byte ALLOW = 2;
+    private static final byte DENY = 3;
+    private static final int MAX_TABLES = 1024;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final Map<UUID, Table> tables = new ConcurrentHashMap<>();
+    private volatile String[] nodes = new String[64];
+    private int size;
+    private volatile long generation;
+
+    /** Returns the internal decision for {@code commandPath}, building or extending the player's table as needed. */
+    Boolean decide(PermissionsHandler handler, UUID playerUuid, String commandPath) {
+        int id = idOf(commandPath);
+        long now = System.currentTimeMillis();
+        Table table = tables.get(playerUuid);
+        if (table == null || !table.isCurrent(generation, handler.permissionsStateVersion(), now)) {
+            table = build(handler, playerUuid);
+            if (table == null) {
+                return null;
+            }
+        }
+        byte[] decisions = table.decisions;
+        byte state = id < decisions.length ? decisions[id] : UNKNOWN;
+        if (state == UNKNOWN) {
+            state = fill(handler, playerUuid, table, id);
+        }
+        return state == ALLOW ? Boolean.TRUE : state == DENY ? Boolean.FALSE : null;
+    }
+
+    /** Builds the player's table for every known command path, so sending the tree afterwards only reads it. */
+    void prepare(PermissionsHandler handler, UUID playerUuid) {
+        Table table = tables.get(playerUuid);
+        if (table == null || !table.isCurrent(generation, handler.permissionsStateVersion(), System.currentTimeMillis())) {
+            build(handler, playerUuid);
+        }
+    }
+
+    void forget(UUID playerUuid) {
+        tables.remove(playerUuid);
+    }
+
+    synchronized void commandTreeChanged() {
+        ids.clear();
+        nodes = new String[64];
+        size = 0;
+        generation++;
+        tables.clear();
+    }
+
+    private int idOf(String commandPath) {
+        Integer id = ids.get(commandPath);
+        return id != null ? id : register(commandPath);
+    }
+
+    private synchronized int register(String commandPath) {
+        Integer existing = ids.get(commandPath);
+        if (existing != null) {
+            return existing;
+        }
+        String[] current = nodes;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        int id = size;
+        current[id] = ("command." + commandPath).trim().toLowerCase(Locale.ROOT);
+        nodes = current;
+        size = id + 1;
+        ids.put(commandPath, id);
+        return id;
+    }
+
+    private Table build(PermissionsHandler handler, UUID playerUuid) {
+        String[] batch;
+        long batchGeneration;
+        synchronized (this) {
+            batch = Arrays.copyOf(nodes, size);
+            batchGeneration = generation;
+        }
+        PermissionAPI.BatchDecision result = handler.queryInternalPermissions(playerUuid, batch);
+        if (result == null) {
+            tables.remove(playerUuid);
+            return null;
+        }
+        byte[] decisions = new byte[batch.length];
+        for (int i = 0; i < decisions.length; i++) {
+            decisions[i] = encode(result.allowed()[i]);
+        }
+        Table table = new Table(batchGeneration, result.stateVersion(), result.validUntilMs(), decisions);
+        if (tables.size() >= MAX_TABLES && !tables.containsKey(playerUuid)) {
+            tables.clear();
+        }
+        tables.put(playerUuid, table);
+        return table;
+    }
+
+    private byte fill(PermissionsHandler handler, UUID playerUuid, Table table, int id) {
+        String[] current = nodes;
+        String node = id < current.length ? current[id] : null;
+        if (node == null) {
+            // The command tree was rebuilt under us; this id no longer names anything.
+            return UNDEFINED;
+        }
+        PermissionAPI.BatchDecision result = handler.queryInternalPermissions(playerUuid, new String[] {node});
+        if (result == null) {
+            return UNDEFINED;
+        }
+        byte state = encode(result.allowed()[0]);
+        if (result.stateVersion() != table.version) {
+            // The state moved on while this table was in use; the next lookup rebuilds it against the new version.
+            tables.remove(playerUuid, table);
+            return state;
+        }
+        synchronized (table) {
+            byte[] decisions = table.decisions;
+            if (id >= decisions.length) {
+                decisions = Arrays.copyOf(decisions, Math.max(id + 1, decisions.length * 2));
+            }
+            decisions[id] = state;
+            table.decisions = decisions;
+            table.validUntilMs = Math.min(table.validUntilMs, result.validUntilMs());
+        }
+        return state;
+    }
+
+    private static byte encode(Boolean allowed) {
+        return allowed == null ? UNDEFINED : allowed ? ALLOW : DENY;
+    }
+
+    private static final class Table {
+        private final long generation;
+        private final long version;
+        private volatile long validUntilMs;
+        private volatile byte[] decisions;
+
+        private Table(long generation, long version, long validUntilMs, byte[] decisions) {
+            this.generation = generation;
+            this.version = version;
+            this.validUntilMs = validUntilMs;
+            this.decisions = decisions;
+        }
+
+        private boolean isCurrent(long currentGeneration, long stateVersion, long now) {
+            return generation == currentGeneration && version == stateVersion && now < validUntilMs;
+        }
+    }
+}
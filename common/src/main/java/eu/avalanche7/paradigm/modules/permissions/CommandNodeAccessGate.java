@@ -2,17 +2,17 @@ package eu.avalanche7.paradigm.modules.permissions;
 
 import java.util.UUID;
 
+import eu.avalanche7.paradigm.utils.ReflectiveAccess;
+
 public final class CommandNodeAccessGate {
 
     private static volatile PermissionsHandler handler;
-    private static final java.lang.reflect.Field REQUIREMENT_FIELD = resolveRequirementField();
+    private static final CommandAccessIndex ACCESS_INDEX = new CommandAccessIndex();
+    private static final ReflectiveAccess.FieldAccess REQUIREMENT_FIELD = resolveRequirementField();
 
-    private static java.lang.reflect.Field resolveRequirementField() {
+    private static ReflectiveAccess.FieldAccess resolveRequirementField() {
         try {
-            Class<?> nodeClass = Class.forName("com.mojang.brigadier.tree.CommandNode");
-            java.lang.reflect.Field field = nodeClass.getDeclaredField("requirement");
-            field.setAccessible(true);
-            return field;
+            return ReflectiveAccess.declaredField(Class.forName("com.mojang.brigadier.tree.CommandNode"), "requirement");
         } catch (Throwable ignored) {
             return null;
         }
@@ -44,10 +44,39 @@ public final class CommandNodeAccessGate {
 
     public static void install(PermissionsHandler permissionsHandler) {
         handler = permissionsHandler;
+        ACCESS_INDEX.commandTreeChanged();
     }
 
     public static void uninstall() {
         handler = null;
+        ACCESS_INDEX.commandTreeChanged();
+    }
+
+    /** Forgets every cached command decision; call after command nodes were added, removed or rewired. */
+    public static void commandTreeChanged() {
+        ACCESS_INDEX.commandTreeChanged();
+    }
+
+    /** Evaluates the player's command decisions up front so sending their command tree is only table reads. */
+    public static void prepare(UUID playerUuid) {
+        PermissionsHandler current = handler;
+        if (current == null || playerUuid == null || !current.isExternalCommandPermissionsEnabled()) {
+            return;
+        }
+        try {
+            ACCESS_INDEX.prepare(current, playerUuid);
+        } catch (Throwable ignored) {
+        }
+    }
+
+    public static void forget(String playerUuid) {
+        if (playerUuid == null || playerUuid.isBlank()) {
+            return;
+        }
+        try {
+            ACCESS_INDEX.forget(UUID.fromString(playerUuid.trim()));
+        } catch (IllegalArgumentException ignored) {
+        }
     }
 
     public static boolean isEnabled() {
@@ -64,7 +93,11 @@ public final class CommandNodeAccessGate {
             if (!current.isExternalCommandPermissionsEnabled()) {
                 return null;
             }
-            return current.queryDefinedPermission(playerUuid, "command." + commandPath);
+            Boolean luckPermsDecision = current.queryLuckPermsPermission(playerUuid, "command." + commandPath);
+            if (luckPermsDecision != null) {
+                return luckPermsDecision;
+            }
+            return ACCESS_INDEX.decide(current, playerUuid, commandPath);
         } catch (Throwable ignored) {
             return null;
         }
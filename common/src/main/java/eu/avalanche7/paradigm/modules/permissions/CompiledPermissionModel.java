@@ -0,0 +1,356 @@
+package eu.avalanche7.paradigm.modules.permissions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import eu.avalanche7.paradigm.modules.permissions.context.PermissionContextMatchResult;
+import eu.avalanche7.paradigm.modules.permissions.context.PermissionContextSet;
+import eu.avalanche7.paradigm.utils.DebugLogger;
+
+/** Pre-parsed rules of one {@link PermissionDataStore.PermissionState} snapshot; rebuilt whenever the state version moves. */
+final class CompiledPermissionModel {
+    private static final RuleSet EMPTY_RULES = new RuleSet(null, new CompiledRule[0]);
+
+    private final long version;
+    private final Map<String, CompiledGroup> groups;
+    private final Map<String, RuleSet> users;
+
+    private CompiledPermissionModel(long version, Map<String, CompiledGroup> groups, Map<String, RuleSet> users) {
+        this.version = version;
+        this.groups = groups;
+        this.users = users;
+    }
+
+    static CompiledPermissionModel compile(PermissionDataStore.PermissionState state, long version, int maxInheritanceDepth, DebugLogger debugLogger) {
+        Map<String, CompiledGroup> groups = new HashMap<>();
+        for (Map.Entry<String, PermissionDataStore.GroupEntry> entry : state.groups.entrySet()) {
+            String name = entry.getKey().trim().toLowerCase(Locale.ROOT);
+            PermissionDataStore.GroupEntry group = entry.getValue();
+            if (group == null) {
+                continue;
+            }
+            groups.put(name, new CompiledGroup(name, RuleSet.compile(group.permissions, group.contextualPermissions)));
+        }
+        for (CompiledGroup group : groups.values()) {
+            List<CompiledGroup> flattened = new ArrayList<>();
+            flatten(state, groups, group.name, new HashSet<>(), 0, maxInheritanceDepth, flattened, debugLogger);
+            group.lineage = flattened.toArray(new CompiledGroup[0]);
+        }
+
+        Map<String, RuleSet> users = new HashMap<>();
+        for (Map.Entry<String, PermissionDataStore.UserEntry> entry : state.users.entrySet()) {
+            PermissionDataStore.UserEntry user = entry.getValue();
+            if (user == null) {
+                continue;
+            }
+            RuleSet rules = RuleSet.compile(user.permissions, user.contextualPermissions);
+            if (rules != EMPTY_RULES) {
+                users.put(entry.getKey(), rules);
+            }
+        }
+        return new CompiledPermissionModel(version, groups, users);
+    }
+
+    private static void flatten(PermissionDataStore.PermissionState state, Map<String, CompiledGroup> groups, String groupName,
+                                Set<String> visited, int depth, int maxDepth, List<CompiledGroup> out, DebugLogger debugLogger) {
+        if (groupName == null || groupName.isBlank()) {
+            return;
+        }
+        if (depth > maxDepth) {
+            debugLogger.debugLog("[PermissionAPI] Inheritance depth limit reached at group: " + groupName);
+            return;
+        }
+        String normalized = groupName.trim().toLowerCase(Locale.ROOT);
+        if (!visited.add(normalized)) {
+            return;
+        }
+        CompiledGroup group = groups.get(normalized);
+        if (group == null) {
+            return;
+        }
+        out.add(group);
+        PermissionDataStore.GroupEntry entry = state.groups.get(normalized);
+        if (entry != null && entry.inherits != null) {
+            for (String parent : entry.inherits) {
+                flatten(state, groups, parent, visited, depth + 1, maxDepth, out, debugLogger);
+            }
+        }
+    }
+
+    long version() {
+        return version;
+    }
+
+    void evaluate(String normalizedUuid, List<String> playerGroups, String node, PermissionContextSet currentContext, long now, Lookup lookup) {
+        RuleSet userRules = users.get(normalizedUuid);
+        if (userRules != null) {
+            userRules.collect(node, currentContext, now, "user", normalizedUuid, 20, lookup);
+        }
+        for (String rootGroup : playerGroups) {
+            CompiledGroup root = groups.get(rootGroup);
+            if (root == null) {
+                continue;
+            }
+            for (CompiledGroup group : root.lineage) {
+                group.rules.collect(node, currentContext, now, "group", group.name, 10, lookup);
+            }
+        }
+    }
+
+    static RuleDecision pickBetter(RuleDecision current, RuleDecision candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        if (current == null) {
+            return candidate;
+        }
+
+        if (candidate.contextSpecificity() != current.contextSpecificity()) {
+            return candidate.contextSpecificity() > current.contextSpecificity() ? candidate : current;
+        }
+        if (candidate.specificity() != current.specificity()) {
+            return candidate.specificity() > current.specificity() ? candidate : current;
+        }
+        if (candidate.sourceRank() != current.sourceRank()) {
+            return candidate.sourceRank() > current.sourceRank() ? candidate : current;
+        }
+        if (!candidate.allowed() && current.allowed()) {
+            return candidate;
+        }
+        return current;
+    }
+
+    record RuleDecision(boolean allowed, int contextSpecificity, int specificity, int sourceRank, String rule, String sourceType, String sourceName) {
+    }
+
+    /** Accumulates the winning rule of a lookup and the earliest future expiry that could change it. */
+    static final class Lookup {
+        RuleDecision best;
+        long validUntilMs = Long.MAX_VALUE;
+
+        void expiresAt(Long expiresAtMs) {
+            if (expiresAtMs != null && expiresAtMs > 0L && expiresAtMs < validUntilMs) {
+                validUntilMs = expiresAtMs;
+            }
+        }
+    }
+
+    private static final class CompiledGroup {
+        private final String name;
+        private final RuleSet rules;
+        private CompiledGroup[] lineage = new CompiledGroup[0];
+
+        private CompiledGroup(String name, RuleSet rules) {
+            this.name = name;
+            this.rules = rules;
+        }
+    }
+
+    private static final class CompiledRule {
+        private final boolean allowed;
+        private final int specificity;
+        private final String rule;
+        private final PermissionContextSet contexts;
+        private final Long expiresAtMs;
+        private final String[] globParts;
+
+        private CompiledRule(boolean allowed, int specificity, String rule, PermissionContextSet contexts, Long expiresAtMs, String[] globParts) {
+            this.allowed = allowed;
+            this.specificity = specificity;
+            this.rule = rule;
+            this.contexts = contexts;
+            this.expiresAtMs = expiresAtMs;
+            this.globParts = globParts;
+        }
+
+        private void offer(PermissionContextSet currentContext, long now, String sourceType, String sourceName, int sourceRank, Lookup lookup) {
+            int contextSpecificity = 0;
+            if (contexts != null) {
+                if (expiresAtMs != null && expiresAtMs <= now) {
+                    return;
+                }
+                PermissionContextMatchResult match = contexts.match(currentContext);
+                if (!match.matches()) {
+                    return;
+                }
+                contextSpecificity = match.specificity();
+                lookup.expiresAt(expiresAtMs);
+            }
+            lookup.best = pickBetter(lookup.best, new RuleDecision(allowed, contextSpecificity, specificity, sourceRank, rule, sourceType, sourceName));
+        }
+
+        private boolean globMatches(String node) {
+            String first = globParts[0];
+            String last = globParts[globParts.length - 1];
+            if (node.length() < first.length() + last.length() || !node.startsWith(first) || !node.endsWith(last)) {
+                return false;
+            }
+            int cursor = first.length();
+            int limit = node.length() - last.length();
+            for (int i = 1; i < globParts.length - 1; i++) {
+                String part = globParts[i];
+                if (part.isEmpty()) {
+                    continue;
+                }
+                int found = node.indexOf(part, cursor);
+                if (found < 0 || found + part.length() > limit) {
+                    return false;
+                }
+                cursor = found + part.length();
+            }
+            return true;
+        }
+    }
+
+    private static final class TrieNode {
+        private Map<String, TrieNode> children;
+        private List<CompiledRule> exact;
+        private List<CompiledRule> subtree;
+
+        private TrieNode child(String segment) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(segment, ignored -> new TrieNode());
+        }
+
+        private static void add(TrieNode node, boolean subtree, CompiledRule rule) {
+            if (subtree) {
+                if (node.subtree == null) node.subtree = new ArrayList<>(2);
+                node.subtree.add(rule);
+            } else {
+                if (node.exact == null) node.exact = new ArrayList<>(2);
+                node.exact.add(rule);
+            }
+        }
+    }
+
+    /**
+     * Exact nodes and {@code prefix.*} wildcards live in a dot-segment trie; any other wildcard
+     * (for example {@code *.admin} or {@code essentials*}) is kept as a pre-split glob.
+     */
+    private static final class RuleSet {
+        private final TrieNode root;
+        private final CompiledRule[] globs;
+
+        private RuleSet(TrieNode root, CompiledRule[] globs) {
+            this.root = root;
+            this.globs = globs;
+        }
+
+        private static RuleSet compile(List<String> plainRules, List<PermissionDataStore.PermissionRuleEntry> contextualRules) {
+            TrieNode root = new TrieNode();
+            List<CompiledRule> globs = new ArrayList<>();
+            boolean any = false;
+            if (plainRules != null) {
+                for (String raw : plainRules) {
+                    any |= add(root, globs, raw, null, null);
+                }
+            }
+            if (contextualRules != null) {
+                for (PermissionDataStore.PermissionRuleEntry rule : contextualRules) {
+                    if (rule == null || rule.permission == null) {
+                        continue;
+                    }
+                    any |= add(root, globs, rule.denied ? "-" + rule.permission : rule.permission, rule.contextSet(), rule.expiresAtMs);
+                }
+            }
+            return any ? new RuleSet(root, globs.toArray(new CompiledRule[0])) : EMPTY_RULES;
+        }
+
+        private static boolean add(TrieNode root, List<CompiledRule> globs, String rawRule, PermissionContextSet contexts, Long expiresAtMs) {
+            if (rawRule == null) {
+                return false;
+            }
+            String trimmed = rawRule.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.isBlank()) {
+                return false;
+            }
+            boolean allowed = true;
+            String pattern = trimmed;
+            if (pattern.startsWith("-")) {
+                allowed = false;
+                pattern = pattern.substring(1).trim();
+            }
+            if (pattern.isBlank()) {
+                return false;
+            }
+
+            int specificity = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c != '*' && c != '.') {
+                    specificity++;
+                }
+            }
+
+            if ("*".equals(pattern)) {
+                TrieNode.add(root, true, new CompiledRule(allowed, specificity, trimmed, contexts, expiresAtMs, null));
+            } else if (pattern.endsWith(".*")) {
+                TrieNode.add(walk(root, pattern.substring(0, pattern.length() - 2)), true,
+                        new CompiledRule(allowed, specificity, trimmed, contexts, expiresAtMs, null));
+            } else if (pattern.indexOf('*') >= 0) {
+                globs.add(new CompiledRule(allowed, specificity, trimmed, contexts, expiresAtMs, pattern.split("\\*", -1)));
+            } else {
+                TrieNode.add(walk(root, pattern), false, new CompiledRule(allowed, specificity, trimmed, contexts, expiresAtMs, null));
+            }
+            return true;
+        }
+
+        private static TrieNode walk(TrieNode root, String path) {
+            TrieNode node = root;
+            int start = 0;
+            while (true) {
+                int dot = path.indexOf('.', start);
+                String segment = dot < 0 ? path.substring(start) : path.substring(start, dot);
+                node = node.child(segment);
+                if (dot < 0) {
+                    return node;
+                }
+                start = dot + 1;
+            }
+        }
+
+        private void collect(String node, PermissionContextSet currentContext, long now, String sourceType, String sourceName, int sourceRank, Lookup lookup) {
+            if (root == null) {
+                return;
+            }
+            offerAll(root.subtree, currentContext, now, sourceType, sourceName, sourceRank, lookup);
+            TrieNode cursor = root;
+            int start = 0;
+            while (cursor != null) {
+                int dot = node.indexOf('.', start);
+                String segment = dot < 0 ? node.substring(start) : node.substring(start, dot);
+                cursor = cursor.children != null ? cursor.children.get(segment) : null;
+                if (cursor == null) {
+                    break;
+                }
+                offerAll(cursor.subtree, currentContext, now, sourceType, sourceName, sourceRank, lookup);
+                if (dot < 0) {
+                    offerAll(cursor.exact, currentContext, now, sourceType, sourceName, sourceRank, lookup);
+                    break;
+                }
+                start = dot + 1;
+            }
+            for (CompiledRule glob : globs) {
+                if (glob.globMatches(node)) {
+                    glob.offer(currentContext, now, sourceType, sourceName, sourceRank, lookup);
+                }
+            }
+        }
+
+        private static void offerAll(List<CompiledRule> rules, PermissionContextSet currentContext, long now, String sourceType, String sourceName, int sourceRank, Lookup lookup) {
+            if (rules == null) {
+                return;
+            }
+            for (CompiledRule rule : rules) {
+                rule.offer(currentContext, now, sourceType, sourceName, sourceRank, lookup);
+            }
+        }
+    }
+}
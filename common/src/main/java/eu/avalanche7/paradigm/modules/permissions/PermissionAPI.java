@@ -41,6 +41,9 @@ public class PermissionAPI {
     private final java.util.concurrent.atomic.AtomicLong stateVersion = new java.util.concurrent.atomic.AtomicLong();
 
     private PermissionDataStore.PermissionState state = PermissionDataStore.PermissionState.createDefault();
+    private volatile CompiledPermissionModel compiledModel;
+    private final Object compileLock = new Object();
+    private final PermissionDecisionCache decisionCache = new PermissionDecisionCache();
 
     public PermissionAPI(Logger logger, DebugLogger debugLogger, PermissionDataStore dataStore, PlayerDataStore playerDataStore) {
         this.logger = logger;
@@ -1221,31 +1224,57 @@ public class PermissionAPI {
             return null;
         }
 
+        String normalizedNode = permissionNode.trim().toLowerCase(Locale.ROOT);
+        PermissionContextSet contexts = currentContext != null ? currentContext : PermissionContextSet.empty();
+        long now = System.currentTimeMillis();
+        PermissionDecisionCache.Decision cached = decisionCache.get(stateVersion.get(), playerUuid, contexts, normalizedNode, now);
+        if (cached != null) {
+            return cached.allowed();
+        }
+
         stateLock.readLock().lock();
         try {
-            PermissionDataStore.PermissionState snapshot = this.state;
-            String normalizedNode = permissionNode.trim().toLowerCase(Locale.ROOT);
+            CompiledPermissionModel model = compiledModel();
             String normalizedUuid = playerUuid.toString().toLowerCase(Locale.ROOT);
+            CompiledPermissionModel.Lookup lookup = new CompiledPermissionModel.Lookup();
+            List<String> groups = resolvePlayerGroups(this.state, normalizedUuid, this.state.users.get(normalizedUuid), contexts, now, lookup);
+            model.evaluate(normalizedUuid, groups, normalizedNode, contexts, now, lookup);
 
-            PermissionDataStore.UserEntry user = snapshot.users.get(normalizedUuid);
-
-            RuleDecision userDecision = bestRuleMatch(user != null ? user.permissions : List.of(), normalizedNode, "user", normalizedUuid, currentContext, 20);
-            userDecision = pickBetter(userDecision, bestContextRuleMatch(user != null ? user.contextualPermissions : List.of(), normalizedNode, "user", normalizedUuid, currentContext, 20));
-
-            List<String> groups = resolvePlayerGroups(snapshot, normalizedUuid, user, currentContext);
-            RuleDecision groupDecision = null;
-
-            for (String groupName : groups) {
-                RuleDecision candidate = evaluateGroup(snapshot, groupName, normalizedNode, currentContext, new HashSet<>(), 0);
-                groupDecision = pickBetter(groupDecision, candidate);
-            }
-
-            RuleDecision decision = pickBetter(userDecision, groupDecision);
-            if (decision != null) {
-                return decision.allowed;
-            }
+            Boolean allowed = lookup.best != null ? lookup.best.allowed() : null;
+            decisionCache.put(model.version(), playerUuid, contexts, normalizedNode, new PermissionDecisionCache.Decision(allowed, lookup.validUntilMs));
+            return allowed;
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
 
+    /**
+     * Evaluates many nodes for one player in the current server context under a single read lock, resolving the
+     * player's groups once instead of once per node. Nodes must already be trimmed and lower-case.
+     */
+    public BatchDecision hasPermissions(UUID playerUuid, String[] normalizedNodes) {
+        if (playerUuid == null || normalizedNodes == null) {
             return null;
+        }
+        PermissionContextResolver resolver = this.contextResolver;
+        PermissionContextSet contexts = resolver != null ? resolver.currentServer() : PermissionContextSet.empty();
+        long now = System.currentTimeMillis();
+        stateLock.readLock().lock();
+        try {
+            long version = stateVersion.get();
+            CompiledPermissionModel model = compiledModel();
+            String normalizedUuid = playerUuid.toString().toLowerCase(Locale.ROOT);
+            CompiledPermissionModel.Lookup groupLookup = new CompiledPermissionModel.Lookup();
+            List<String> groups = resolvePlayerGroups(this.state, normalizedUuid, this.state.users.get(normalizedUuid), contexts, now, groupLookup);
+            long validUntilMs = groupLookup.validUntilMs;
+            Boolean[] allowed = new Boolean[normalizedNodes.length];
+            for (int i = 0; i < normalizedNodes.length; i++) {
+                CompiledPermissionModel.Lookup lookup = new CompiledPermissionModel.Lookup();
+                model.evaluate(normalizedUuid, groups, normalizedNodes[i], contexts, now, lookup);
+                allowed[i] = lookup.best != null ? lookup.best.allowed() : null;
+                validUntilMs = Math.min(validUntilMs, lookup.validUntilMs);
+            }
+            return new BatchDecision(version, allowed, validUntilMs);
         } finally {
             stateLock.readLock().unlock();
         }
@@ -1258,26 +1287,19 @@ public class PermissionAPI {
 
         stateLock.readLock().lock();
         try {
-            PermissionDataStore.PermissionState snapshot = this.state;
+            CompiledPermissionModel model = compiledModel();
             String normalizedNode = permissionNode.trim().toLowerCase(Locale.ROOT);
             String normalizedUuid = playerUuid.toString().toLowerCase(Locale.ROOT);
-            PermissionDataStore.UserEntry user = snapshot.users.get(normalizedUuid);
             PermissionContextResolver resolver = this.contextResolver;
             PermissionContextSet currentContext = resolver != null ? resolver.currentServer() : PermissionContextSet.empty();
-            List<String> groups = resolvePlayerGroups(snapshot, normalizedUuid, user, currentContext);
+            long now = System.currentTimeMillis();
+            CompiledPermissionModel.Lookup lookup = new CompiledPermissionModel.Lookup();
+            List<String> groups = resolvePlayerGroups(this.state, normalizedUuid, this.state.users.get(normalizedUuid), currentContext, now, lookup);
+            model.evaluate(normalizedUuid, groups, normalizedNode, currentContext, now, lookup);
 
-            RuleDecision userDecision = bestRuleMatch(user != null ? user.permissions : List.of(), normalizedNode, "user", normalizedUuid, currentContext, 20);
-            userDecision = pickBetter(userDecision, bestContextRuleMatch(user != null ? user.contextualPermissions : List.of(), normalizedNode, "user", normalizedUuid, currentContext, 20));
-
-            RuleDecision groupDecision = null;
-            for (String groupName : groups) {
-                RuleDecision candidate = evaluateGroup(snapshot, groupName, normalizedNode, currentContext, new HashSet<>(), 0);
-                groupDecision = pickBetter(groupDecision, candidate);
-            }
-
-            RuleDecision decision = pickBetter(userDecision, groupDecision);
+            CompiledPermissionModel.RuleDecision decision = lookup.best;
             if (decision != null) {
-                return new PermissionExplain(decision.allowed, decision.sourceType, decision.sourceName, decision.rule, List.copyOf(groups));
+                return new PermissionExplain(decision.allowed(), decision.sourceType(), decision.sourceName(), decision.rule(), List.copyOf(groups));
             }
 
             return new PermissionExplain(null, "none", "", "", List.copyOf(groups));
@@ -1286,9 +1308,29 @@ public class PermissionAPI {
         }
     }
 
+    private CompiledPermissionModel compiledModel() {
+        long version = stateVersion.get();
+        CompiledPermissionModel model = this.compiledModel;
+        if (model != null && model.version() == version) {
+            return model;
+        }
+        synchronized (compileLock) {
+            model = this.compiledModel;
+            if (model == null || model.version() != version) {
+                model = CompiledPermissionModel.compile(this.state, version, MAX_INHERITANCE_DEPTH, debugLogger);
+                this.compiledModel = model;
+            }
+            return model;
+        }
+    }
+
     private List<String> resolvePlayerGroups(PermissionDataStore.PermissionState snapshot, String normalizedUuid, PermissionDataStore.UserEntry user, PermissionContextSet currentContext) {
+        return resolvePlayerGroups(snapshot, normalizedUuid, user, currentContext, System.currentTimeMillis(), null);
+    }
+
+    private List<String> resolvePlayerGroups(PermissionDataStore.PermissionState snapshot, String normalizedUuid, PermissionDataStore.UserEntry user,
+                                             PermissionContextSet currentContext, long now, CompiledPermissionModel.Lookup lookup) {
         Map<String, Long> groups = new LinkedHashMap<>();
-        long now = System.currentTimeMillis();
 
         if (snapshot.defaultGroup != null && !snapshot.defaultGroup.isBlank()) {
             groups.put(snapshot.defaultGroup.trim().toLowerCase(Locale.ROOT), Long.MAX_VALUE);
@@ -1307,6 +1349,7 @@ public class PermissionAPI {
                     }
                     if (temp.getExpiresAtMs() <= 0L || temp.getExpiresAtMs() > now) {
                         groups.put(temp.getGroup().trim().toLowerCase(Locale.ROOT), temp.getExpiresAtMs());
+                        if (lookup != null) lookup.expiresAt(temp.getExpiresAtMs());
                     }
                 }
             }
@@ -1321,6 +1364,7 @@ public class PermissionAPI {
                     PermissionContextMatchResult match = assignment.contextSet().match(currentContext);
                     if (match.matches()) {
                         groups.put(assignment.group.trim().toLowerCase(Locale.ROOT), assignment.expiresAtMs != null ? assignment.expiresAtMs : Long.MAX_VALUE);
+                        if (lookup != null) lookup.expiresAt(assignment.expiresAtMs);
                     }
                 }
             }
@@ -1329,196 +1373,6 @@ public class PermissionAPI {
         return new ArrayList<>(groups.keySet());
     }
 
-    private RuleDecision evaluateGroup(
-            PermissionDataStore.PermissionState snapshot,
-            String groupName,
-            String permissionNode,
-            PermissionContextSet currentContext,
-            Set<String> visited,
-            int depth
-    ) {
-        if (groupName == null || groupName.isBlank()) {
-            return null;
-        }
-        if (depth > MAX_INHERITANCE_DEPTH) {
-            debugLogger.debugLog("[PermissionAPI] Inheritance depth limit reached at group: " + groupName);
-            return null;
-        }
-
-        String normalizedGroup = groupName.trim().toLowerCase(Locale.ROOT);
-        if (!visited.add(normalizedGroup)) {
-            return null;
-        }
-
-        PermissionDataStore.GroupEntry group = snapshot.groups.get(normalizedGroup);
-        if (group == null) {
-            return null;
-        }
-
-        RuleDecision result = bestRuleMatch(group.permissions, permissionNode, "group", normalizedGroup, currentContext, 10);
-        result = pickBetter(result, bestContextRuleMatch(group.contextualPermissions, permissionNode, "group", normalizedGroup, currentContext, 10));
-
-        if (group.inherits != null) {
-            for (String parentGroup : group.inherits) {
-                RuleDecision inherited = evaluateGroup(snapshot, parentGroup, permissionNode, currentContext, visited, depth + 1);
-                result = pickBetter(result, inherited);
-            }
-        }
-
-        return result;
-    }
-
-    private RuleDecision bestRuleMatch(List<String> rules, String permissionNode) {
-        return bestRuleMatch(rules, permissionNode, "", "", PermissionContextSet.empty(), 0);
-    }
-
-    private RuleDecision bestRuleMatch(List<String> rules, String permissionNode, String sourceType, String sourceName, PermissionContextSet currentContext, int sourceRank) {
-        if (rules == null || rules.isEmpty()) {
-            return null;
-        }
-
-        RuleDecision best = null;
-
-        for (String rawRule : rules) {
-            RuleDecision parsed = parseRule(rawRule, permissionNode, sourceType, sourceName, 0, sourceRank);
-            best = pickBetter(best, parsed);
-        }
-
-        return best;
-    }
-
-    private RuleDecision bestContextRuleMatch(List<PermissionDataStore.PermissionRuleEntry> rules, String permissionNode, String sourceType, String sourceName, PermissionContextSet currentContext, int sourceRank) {
-        if (rules == null || rules.isEmpty()) {
-            return null;
-        }
-
-        RuleDecision best = null;
-        long now = System.currentTimeMillis();
-        for (PermissionDataStore.PermissionRuleEntry rule : rules) {
-            if (rule == null || rule.permission == null) {
-                continue;
-            }
-            if (rule.expiresAtMs != null && rule.expiresAtMs <= now) {
-                continue;
-            }
-            PermissionContextMatchResult match = rule.contextSet().match(currentContext);
-            if (!match.matches()) {
-                continue;
-            }
-            RuleDecision parsed = parseRule(rule.denied ? "-" + rule.permission : rule.permission, permissionNode, sourceType, sourceName, match.specificity(), sourceRank);
-            best = pickBetter(best, parsed);
-        }
-        return best;
-    }
-
-    private RuleDecision pickBetter(RuleDecision current, RuleDecision candidate) {
-        if (candidate == null) {
-            return current;
-        }
-        if (current == null) {
-            return candidate;
-        }
-
-        if (candidate.contextSpecificity > current.contextSpecificity) {
-            return candidate;
-        }
-        if (candidate.contextSpecificity < current.contextSpecificity) {
-            return current;
-        }
-
-        if (candidate.specificity > current.specificity) {
-            return candidate;
-        }
-        if (candidate.specificity < current.specificity) {
-            return current;
-        }
-
-        if (candidate.sourceRank > current.sourceRank) {
-            return candidate;
-        }
-        if (candidate.sourceRank < current.sourceRank) {
-            return current;
-        }
-
-        if (!candidate.allowed && current.allowed) {
-            return candidate;
-        }
-
-        return current;
-    }
-
-    private RuleDecision parseRule(String rawRule, String requestedNode) {
-        return parseRule(rawRule, requestedNode, "", "");
-    }
-
-    private RuleDecision parseRule(String rawRule, String requestedNode, String sourceType, String sourceName) {
-        return parseRule(rawRule, requestedNode, sourceType, sourceName, 0, 0);
-    }
-
-    private RuleDecision parseRule(String rawRule, String requestedNode, String sourceType, String sourceName, int contextSpecificity, int sourceRank) {
-        if (rawRule == null) {
-            return null;
-        }
-
-        String trimmed = rawRule.trim().toLowerCase(Locale.ROOT);
-        if (trimmed.isBlank()) {
-            return null;
-        }
-
-        boolean allowed = true;
-        String pattern = trimmed;
-
-        if (pattern.startsWith("-")) {
-            allowed = false;
-            pattern = pattern.substring(1).trim();
-        }
-
-        if (pattern.isBlank()) {
-            return null;
-        }
-
-        if (!matches(pattern, requestedNode)) {
-            return null;
-        }
-
-        int specificity = calculateSpecificity(pattern);
-        return new RuleDecision(allowed, contextSpecificity, specificity, sourceRank, trimmed, sourceType, sourceName);
-    }
-
-    private boolean matches(String pattern, String node) {
-        if ("*".equals(pattern)) {
-            return true;
-        }
-        if (pattern.equals(node)) {
-            return true;
-        }
-        if (pattern.endsWith(".*")) {
-            String prefix = pattern.substring(0, pattern.length() - 2);
-            return node.equals(prefix) || node.startsWith(prefix + ".");
-        }
-        if (pattern.contains("*")) {
-            String regex = pattern
-                    .replace(".", "\\\\.")
-                    .replace("*", ".*");
-            return node.matches(regex);
-        }
-        return false;
-    }
-
-    private int calculateSpecificity(String pattern) {
-        int score = 0;
-        for (int i = 0; i < pattern.length(); i++) {
-            char c = pattern.charAt(i);
-            if (c != '*' && c != '.') {
-                score++;
-            }
-        }
-        return score;
-    }
-
-    private record RuleDecision(boolean allowed, int contextSpecificity, int specificity, int sourceRank, String rule, String sourceType, String sourceName) {
-    }
-
     public record PermissionMeta(String primaryGroup, String prefix, String suffix, List<String> groups) {
     }
 
@@ -1535,6 +1389,10 @@ public class PermissionAPI {
                            List<String> permanentGroups, List<TemporaryGroupInfo> temporaryGroups, PermissionMeta meta) {
     }
 
+    /** Per-node results of {@link #hasPermissions}, valid for {@code stateVersion} until {@code validUntilMs}. */
+    public record BatchDecision(long stateVersion, Boolean[] allowed, long validUntilMs) {
+    }
+
     public record PermissionExplain(Boolean allowed, String sourceType, String sourceName, String rule, List<String> groupsChecked) {
     }
 
@@ -1777,9 +1635,11 @@ public class PermissionAPI {
             String name = existing != null ? normalizeGroupName(existing.name()) : null;
             if (name != null && !desiredTracks.contains(name)) repository.deleteTrack(name);
         }
+        List<StoredPermissionTrack> storedTracks = new ArrayList<>();
         for (Map.Entry<String, List<String>> entry : snapshot.tracks.entrySet()) {
-            repository.saveTrack(new StoredPermissionTrack(entry.getKey(), entry.getValue()));
+            storedTracks.add(new StoredPermissionTrack(entry.getKey(), entry.getValue()));
         }
+        repository.saveTracks(storedTracks);
 
         Set<String> desiredGroups = new LinkedHashSet<>(snapshot.groups.keySet());
         for (StoredPermissionGroup existing : repository.listGroups()) {
@@ -1789,6 +1649,7 @@ public class PermissionAPI {
             }
         }
 
+        List<StoredPermissionGroup> storedGroups = new ArrayList<>();
         for (Map.Entry<String, PermissionDataStore.GroupEntry> groupEntry : snapshot.groups.entrySet()) {
             String groupName = normalizeGroupName(groupEntry.getKey());
             PermissionDataStore.GroupEntry entry = groupEntry.getValue();
@@ -1809,7 +1670,7 @@ public class PermissionAPI {
                     permissions.add(node);
                 }
             }
-            repository.saveGroup(new StoredPermissionGroup(
+            storedGroups.add(new StoredPermissionGroup(
                     groupName,
                     entry.description != null ? entry.description : "",
                     entry.prefix != null ? entry.prefix : "",
@@ -1819,6 +1680,7 @@ public class PermissionAPI {
                     permissions
             ));
         }
+        repository.saveGroups(storedGroups);
 
         Set<String> desiredUsers = new LinkedHashSet<>(snapshot.users.keySet());
         for (StoredUserPermissionData existing : repository.listUsers()) {
@@ -1828,6 +1690,7 @@ public class PermissionAPI {
             }
         }
 
+        List<StoredUserPermissionData> storedUsers = new ArrayList<>();
         for (Map.Entry<String, PermissionDataStore.UserEntry> userEntry : snapshot.users.entrySet()) {
             String uuid = normalizeUuid(userEntry.getKey());
             PermissionDataStore.UserEntry entry = userEntry.getValue();
@@ -1870,8 +1733,9 @@ public class PermissionAPI {
                     permissions.add(node);
                 }
             }
-            repository.saveUser(new StoredUserPermissionData(uuid, "", groups, permissions));
+            storedUsers.add(new StoredUserPermissionData(uuid, "", groups, permissions));
         }
+        repository.saveUsers(storedUsers);
     }
 
     private static String normalizeUuid(String uuid) {
@@ -0,0 +1,55 @@
+package eu.avalanche7.paradigm.modules.permissions;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import eu.avalanche7.paradigm.modules.permissions.context.PermissionContextSet;
+
+final class PermissionDecisionCache {
+    private static final int MAX_PLAYERS = 1024;
+    private static final int MAX_NODES_PER_CONTEXT = 4096;
+
+    private final Map<UUID, Map<PermissionContextSet, Map<String, Decision>>> decisions = new ConcurrentHashMap<>();
+    private volatile long version = Long.MIN_VALUE;
+
+    Decision get(long stateVersion, UUID playerUuid, PermissionContextSet contexts, String node, long now) {
+        if (stateVersion != version) {
+            return null;
+        }
+        Map<PermissionContextSet, Map<String, Decision>> byContext = decisions.get(playerUuid);
+        if (byContext == null) {
+            return null;
+        }
+        Map<String, Decision> byNode = byContext.get(contexts);
+        if (byNode == null) {
+            return null;
+        }
+        Decision decision = byNode.get(node);
+        return decision != null && now < decision.validUntilMs() ? decision : null;
+    }
+
+    void put(long stateVersion, UUID playerUuid, PermissionContextSet contexts, String node, Decision decision) {
+        if (stateVersion != version) {
+            synchronized (this) {
+                if (stateVersion != version) {
+                    decisions.clear();
+                    version = stateVersion;
+                }
+            }
+        }
+        if (decisions.size() >= MAX_PLAYERS && !decisions.containsKey(playerUuid)) {
+            decisions.clear();
+        }
+        Map<String, Decision> byNode = decisions
+                .computeIfAbsent(playerUuid, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(contexts, ignored -> new ConcurrentHashMap<>());
+        if (byNode.size() >= MAX_NODES_PER_CONTEXT) {
+            byNode.clear();
+        }
+        byNode.put(node, decision);
+    }
+
+    record Decision(Boolean allowed, long validUntilMs) {
+    }
+}
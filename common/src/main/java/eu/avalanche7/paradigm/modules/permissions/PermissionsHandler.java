@@ -483,20 +483,9 @@ public class PermissionsHandler {
             return null;
         }
 
-        if (isLuckPermsAvailable()) {
-            try {
-                net.luckperms.api.LuckPerms api = net.luckperms.api.LuckPermsProvider.get();
-                net.luckperms.api.model.user.User user = api.getUserManager().getUser(playerUuid);
-                if (user != null) {
-                    warmupUserPermissionsOnce(user);
-                    net.luckperms.api.util.Tristate lpState = user.getCachedData().getPermissionData().checkPermission(permission);
-                    if (lpState != net.luckperms.api.util.Tristate.UNDEFINED) {
-                        return lpState.asBoolean();
-                    }
-                }
-            } catch (RuntimeException | LinkageError t) {
-                debugLogger.debugLog("[PermissionsHandler] LuckPerms UUID explicit query failed for '" + permission + "': " + t);
-            }
+        Boolean luckPermsDecision = queryLuckPermsPermission(playerUuid, permission);
+        if (luckPermsDecision != null) {
+            return luckPermsDecision;
         }
 
         if (isInternalPermissionsEnabled()) {
@@ -510,6 +499,40 @@ public class PermissionsHandler {
         return null;
     }
 
+    /** LuckPerms' explicit answer for a node, or {@code null} when LuckPerms is absent or leaves it undefined. */
+    Boolean queryLuckPermsPermission(UUID playerUuid, String permission) {
+        if (!isLuckPermsAvailable()) {
+            return null;
+        }
+        try {
+            net.luckperms.api.LuckPerms api = net.luckperms.api.LuckPermsProvider.get();
+            net.luckperms.api.model.user.User user = api.getUserManager().getUser(playerUuid);
+            if (user != null) {
+                warmupUserPermissionsOnce(user);
+                net.luckperms.api.util.Tristate lpState = user.getCachedData().getPermissionData().checkPermission(permission);
+                if (lpState != net.luckperms.api.util.Tristate.UNDEFINED) {
+                    return lpState.asBoolean();
+                }
+            }
+        } catch (RuntimeException | LinkageError t) {
+            debugLogger.debugLog("[PermissionsHandler] LuckPerms UUID explicit query failed for '" + permission + "': " + t);
+        }
+        return null;
+    }
+
+    /** Internal-permission answers for many nodes at once, or {@code null} when internal permissions are off. */
+    PermissionAPI.BatchDecision queryInternalPermissions(UUID playerUuid, String[] normalizedNodes) {
+        if (!isInternalPermissionsEnabled()) {
+            return null;
+        }
+        try {
+            return internalPermissionApi.hasPermissions(playerUuid, normalizedNodes);
+        } catch (RuntimeException t) {
+            debugLogger.debugLog("[PermissionsHandler] Internal batch query failed for " + playerUuid + ": " + t);
+            return null;
+        }
+    }
+
     public Boolean queryDefinedPermission(UUID playerUuid, String permission, PermissionContextSet context) {
         if (playerUuid == null || permission == null || permission.isBlank()) return null;
         PermissionContextSet effectiveContext = context != null ? context : PermissionContextSet.empty();
@@ -942,6 +965,7 @@ public class PermissionsHandler {
         try {
             IPlayer online = platform.getPlayerByUuid(playerUuid.toString());
             if (online != null) {
+                CommandNodeAccessGate.prepare(playerUuid);
                 platform.refreshPlayerCommandTree(online);
             }
         } catch (RuntimeException t) {
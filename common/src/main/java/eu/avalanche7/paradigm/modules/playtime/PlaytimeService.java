@@ -1,5 +1,6 @@
 package eu.avalanche7.paradigm.modules.playtime;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -8,6 +9,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import eu.avalanche7.paradigm.core.Services;
+import eu.avalanche7.paradigm.modules.profile.PlayerProfileService;
 import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
 import eu.avalanche7.paradigm.storage.model.StoredPlayerProfile;
 
@@ -111,42 +113,34 @@ public final class PlaytimeService {
         if (services == null) {
             return;
         }
-        long now = System.currentTimeMillis();
-        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
-            Session session = entry.getValue();
-            long delta = session.consumePending(now);
-            if (delta > 0L) {
-                services.getPlayerProfileService().mergeAsync("playtime.flush", entry.getKey(), session.name, true, delta);
-            }
-        }
+        services.getPlayerProfileService().mergeAllAsync("playtime.flush", consumePending());
     }
 
     public void flushAllBlocking() {
         if (services == null) {
             return;
         }
+        services.getPlayerProfileService().mergeAllOrEach(consumePending());
+    }
+
+    private List<PlayerProfileService.PendingMerge> consumePending() {
         long now = System.currentTimeMillis();
+        List<PlayerProfileService.PendingMerge> pending = new ArrayList<>();
         for (Map.Entry<String, Session> entry : sessions.entrySet()) {
             Session session = entry.getValue();
             long delta = session.consumePending(now);
-            if (delta <= 0L) {
-                continue;
-            }
-            try {
-                services.getPlayerProfileService().merge(entry.getKey(), session.name, true, delta);
-            } catch (RuntimeException failure) {
-                if (services.getLogger() != null) {
-                    services.getLogger().warn("[Paradigm] Playtime: failed to flush playtime for {}.", entry.getKey(), failure);
-                }
+            if (delta > 0L) {
+                pending.add(new PlayerProfileService.PendingMerge(entry.getKey(), session.name, true, delta));
             }
         }
+        return pending;
     }
 
     private void loadBaseAsync(String uuid, Session session) {
         if (services == null || services.getStorageService() == null) {
             return;
         }
-        services.getStorageService().runStorageAsync("playtime.load", () -> {
+        services.getStorageService().runPlayerStorageAsync(uuid, "playtime.load", () -> {
             session.applyPersistedBase(services.getPlayerProfileService().find(uuid)
                     .map(StoredPlayerProfile::playtimeMs).orElse(0L));
         });
@@ -0,0 +1,182 @@
+package eu.avalanche7.paradigm.modules.profile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import eu.avalanche7.paradigm.core.Services;
+import eu.avalanche7.paradigm.storage.model.StoredPlayerProfile;
+
+/**
+ * Case-insensitive name to UUID index over every known player profile. It is filled once from storage and then
+ * kept current from profile merges, so offline name lookups and tab completion never scan the players table.
+ * When two profiles share a name the most recently seen one wins.
+ */
+public final class PlayerDirectory {
+    private final Services services;
+    private final ConcurrentSkipListMap<String, Entry> byName = new ConcurrentSkipListMap<>();
+    private final Map<String, String> nameKeyByUuid = new ConcurrentHashMap<>();
+    private final AtomicBoolean loadStarted = new AtomicBoolean();
+    private volatile boolean loaded;
+
+    public PlayerDirectory(Services services) {
+        this.services = services;
+    }
+
+    public void loadAsync() {
+        if (services == null || services.getStorageService() == null || !loadStarted.compareAndSet(false, true)) {
+            return;
+        }
+        services.getStorageService().runStorageAsync("player-directory.load", () -> {
+            try {
+                load();
+            } finally {
+                if (!loaded) {
+                    loadStarted.set(false);
+                }
+            }
+        });
+    }
+
+    private void load() {
+        List<StoredPlayerProfile> profiles = services.getStorageService().players().listProfiles();
+        for (StoredPlayerProfile profile : profiles) {
+            if (PlayerProfileService.hasData(profile)) {
+                record(profile.uuid(), profile.name(), profile.lastSeenMs());
+            }
+        }
+        loaded = true;
+        if (services.getDebugLogger() != null) {
+            services.getDebugLogger().debugLog("PlayerDirectory: indexed " + byName.size() + " player names.");
+        }
+    }
+
+    public void record(StoredPlayerProfile profile) {
+        if (profile != null) {
+            record(profile.uuid(), profile.name(), profile.lastSeenMs());
+        }
+    }
+
+    public synchronized void record(String uuid, String name, long lastSeenMs) {
+        String uuidKey = key(uuid);
+        String nameKey = key(name);
+        if (uuidKey == null || nameKey == null) {
+            return;
+        }
+        String previousKey = nameKeyByUuid.get(uuidKey);
+        if (previousKey != null && !previousKey.equals(nameKey)) {
+            byName.computeIfPresent(previousKey, (ignored, entry) -> entry.uuid().equals(uuidKey) ? null : entry);
+            nameKeyByUuid.remove(uuidKey);
+        }
+        Entry current = byName.get(nameKey);
+        if (current != null && !current.uuid().equals(uuidKey)) {
+            if (current.lastSeenMs() > lastSeenMs) {
+                return;
+            }
+            nameKeyByUuid.remove(current.uuid(), nameKey);
+        }
+        byName.put(nameKey, new Entry(uuidKey, name.trim(), lastSeenMs));
+        nameKeyByUuid.put(uuidKey, nameKey);
+    }
+
+    /** Resolves an exact, case-insensitive player name. */
+    public Optional<Entry> find(String name) {
+        String nameKey = key(name);
+        if (nameKey == null) {
+            return Optional.empty();
+        }
+        Entry entry = byName.get(nameKey);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+        if (loaded && !sharedStorage()) {
+            return Optional.empty();
+        }
+        return lookupStorage(name);
+    }
+
+    /** Resolves a stored profile UUID or a player name to the directory entry. */
+    public Optional<Entry> resolve(String nameOrUuid) {
+        String value = nameOrUuid != null ? nameOrUuid.trim() : "";
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        if (isUuid(value)) {
+            String uuidKey = value.toLowerCase(Locale.ROOT);
+            String nameKey = nameKeyByUuid.get(uuidKey);
+            Entry entry = nameKey != null ? byName.get(nameKey) : null;
+            if (entry != null && entry.uuid().equals(uuidKey)) {
+                return Optional.of(entry);
+            }
+            if (services != null && services.getStorageService() != null) {
+                Optional<StoredPlayerProfile> profile = services.getStorageService().players().getProfile(uuidKey);
+                if (profile.isPresent()) {
+                    return profile.map(found -> new Entry(uuidKey, found.name(), found.lastSeenMs()));
+                }
+            }
+        }
+        return find(value);
+    }
+
+    /** Known player names starting with {@code prefix}, in case-insensitive order. */
+    public List<String> complete(String prefix, int limit) {
+        String start = prefix != null ? prefix.trim().toLowerCase(Locale.ROOT) : "";
+        int max = Math.max(0, limit);
+        List<String> names = new ArrayList<>(Math.min(max, 16));
+        for (Map.Entry<String, Entry> entry : byName.tailMap(start, true).entrySet()) {
+            if (names.size() >= max || !entry.getKey().startsWith(start)) {
+                break;
+            }
+            names.add(entry.getValue().name());
+        }
+        return names;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return byName.size();
+    }
+
+    private Optional<Entry> lookupStorage(String name) {
+        if (services == null || services.getStorageService() == null) {
+            return Optional.empty();
+        }
+        Optional<StoredPlayerProfile> match = services.getStorageService().players().findProfilesByName(name).stream()
+                .filter(PlayerProfileService::hasData)
+                .findFirst();
+        match.ifPresent(this::record);
+        return match.map(profile -> new Entry(key(profile.uuid()), profile.name(), profile.lastSeenMs()));
+    }
+
+    private boolean sharedStorage() {
+        return services != null && services.getStorageService() != null && services.getStorageService().isMysqlActive();
+    }
+
+    private static boolean isUuid(String value) {
+        try {
+            java.util.UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException ignored) {
+            return false;
+        }
+    }
+
+    private static String key(String value) {
+        if (value == null) {
+            return null;
+        }
+        String key = value.trim().toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+
+    public record Entry(String uuid, String name, long lastSeenMs) {
+    }
+}
@@ -1,6 +1,11 @@
 package eu.avalanche7.paradigm.modules.profile;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 import eu.avalanche7.paradigm.core.Services;
@@ -33,10 +38,7 @@ public final class PlayerProfileService {
                 return direct;
             }
         }
-        return services.getStorageService().players().listProfiles().stream()
-                .filter(profile -> profile != null && hasData(profile)
-                        && (value.equalsIgnoreCase(profile.uuid()) || value.equalsIgnoreCase(profile.name())))
-                .findFirst();
+        return services.getPlayerDirectory().find(value).flatMap(entry -> find(entry.uuid()));
     }
 
     public static boolean hasData(StoredPlayerProfile profile) {
@@ -65,10 +67,72 @@ public final class PlayerProfileService {
             StoredPlayerProfile existing = services.getStorageService().players().getProfile(key).orElse(null);
             StoredPlayerProfile updated = merged(existing, key, name, touchSeen, playtimeDeltaMs, System.currentTimeMillis());
             services.getStorageService().players().upsertProfile(updated);
+            services.getPlayerDirectory().record(updated);
             return updated;
         }
     }
 
+    /** Applies many merges with one profile read and one batched write instead of a round trip per player. */
+    public List<StoredPlayerProfile> mergeAll(Collection<PendingMerge> merges) {
+        if (merges == null || merges.isEmpty() || services == null || services.getStorageService() == null) {
+            return List.of();
+        }
+        Map<String, PendingMerge> byUuid = new LinkedHashMap<>();
+        for (PendingMerge merge : merges) {
+            String key = merge != null ? normalize(merge.uuid()) : null;
+            if (key != null) {
+                byUuid.merge(key, merge, PendingMerge::combine);
+            }
+        }
+        if (byUuid.isEmpty()) {
+            return List.of();
+        }
+        synchronized (mutationLock) {
+            Map<String, StoredPlayerProfile> existing = services.getStorageService().players().getProfiles(byUuid.keySet());
+            long now = System.currentTimeMillis();
+            List<StoredPlayerProfile> updated = new ArrayList<>(byUuid.size());
+            for (Map.Entry<String, PendingMerge> entry : byUuid.entrySet()) {
+                PendingMerge merge = entry.getValue();
+                updated.add(merged(existing.get(entry.getKey()), entry.getKey(), merge.name(), merge.touchSeen(), merge.playtimeDeltaMs(), now));
+            }
+            services.getStorageService().players().upsertProfiles(updated);
+            PlayerDirectory directory = services.getPlayerDirectory();
+            updated.forEach(directory::record);
+            return updated;
+        }
+    }
+
+    public void mergeAllAsync(String operation, Collection<PendingMerge> merges) {
+        if (merges == null || merges.isEmpty() || services == null || services.getStorageService() == null) {
+            return;
+        }
+        List<PendingMerge> snapshot = List.copyOf(merges);
+        services.getStorageService().runStorageAsync(operation, () -> mergeAllOrEach(snapshot));
+    }
+
+    /**
+     * {@link #mergeAll} that falls back to one {@link #merge} per player when the batch fails, so one bad row does
+     * not drop everyone's update.
+     */
+    public void mergeAllOrEach(Collection<PendingMerge> merges) {
+        try {
+            mergeAll(merges);
+        } catch (RuntimeException batchFailure) {
+            for (PendingMerge merge : merges) {
+                if (merge == null) {
+                    continue;
+                }
+                try {
+                    merge(merge.uuid(), merge.name(), merge.touchSeen(), merge.playtimeDeltaMs());
+                } catch (RuntimeException failure) {
+                    if (services.getLogger() != null) {
+                        services.getLogger().warn("[Paradigm] Profiles: failed to merge profile update for {}.", merge.uuid(), failure);
+                    }
+                }
+            }
+        }
+    }
+
     public static StoredPlayerProfile merged(StoredPlayerProfile existing, String uuid, String name,
                                              boolean touchSeen, long playtimeDeltaMs, long nowMs) {
         long firstSeen = existing != null && existing.firstSeenMs() > 0L ? existing.firstSeenMs() : nowMs;
@@ -90,7 +154,7 @@ public final class PlayerProfileService {
         if (normalize(uuid) == null || services == null || services.getStorageService() == null) {
             return;
         }
-        services.getStorageService().runStorageAsync(operation, () -> merge(uuid, name, touchSeen, playtimeDeltaMs));
+        services.getStorageService().runPlayerStorageAsync(uuid, operation, () -> merge(uuid, name, touchSeen, playtimeDeltaMs));
     }
 
     private static String normalize(String uuid) {
@@ -100,4 +164,12 @@ public final class PlayerProfileService {
         String value = uuid.trim().toLowerCase(Locale.ROOT);
         return value.isEmpty() ? null : value;
     }
+
+    public record PendingMerge(String uuid, String name, boolean touchSeen, long playtimeDeltaMs) {
+        private PendingMerge combine(PendingMerge later) {
+            String resolvedName = later.name() != null && !later.name().isBlank() ? later.name() : name;
+            return new PendingMerge(uuid, resolvedName, touchSeen || later.touchSeen(),
+                    Math.max(0L, playtimeDeltaMs) + Math.max(0L, later.playtimeDeltaMs()));
+        }
+    }
 }
@@ -27,6 +27,8 @@ public final class Tablist implements ParadigmModule {
     private static volatile Tablist current;
     private final TablistMetadataProvider metadataProvider;
     private final Map<String, PlayerSnapshot> snapshots = new HashMap<>();
+    private final TablistOrder order = new TablistOrder();
+    private final RefreshStats stats = new RefreshStats();
     private Services services;
     private ScheduledFuture<?> refreshTask;
     private ScheduledFuture<?> worldWatchTask;
@@ -97,6 +99,7 @@ public final class Tablist implements ParadigmModule {
                 String uuid = player != null ? player.getUUID() : null;
                 if (uuid != null) {
                     snapshots.remove(uuid);
+                    order.remove(uuid);
                     if (resolver instanceof TablistMetadataResolver r) r.invalidate(uuid);
                 }
                 scheduleRefresh(0);
@@ -120,24 +123,39 @@ public final class Tablist implements ParadigmModule {
 
     public void refreshNow() {
         if (!active || services == null) return;
+        long startedAt = System.nanoTime();
         List<IPlayer> players = services.getPlatformAdapter().getOnlinePlayers();
         List<TablistEntry> entries = new ArrayList<>(players.size());
         for (IPlayer player : players) {
-            entries.add(new TablistEntry(player, safe(player.getUUID()), safe(player.getName()), safe(player.getWorldId()),
-                    Math.max(0, services.getPlatformAdapter().getPlayerPing(player)), resolver.resolve(player)));
+            entries.add(entry(player));
         }
 
         TablistConfigHandler.Config config = TablistConfigHandler.getConfig();
-        List<TablistEntry> sorted = TablistSorter.sort(entries, config.sorting.value);
-        Map<String, Integer> orders = new HashMap<>();
-        for (int index = 0; index < sorted.size(); index++) orders.put(sorted.get(index).uuid(), index);
+        order.update(entries, config.sorting.value);
 
+        RenderPass pass = new RenderPass(config, entries.size());
         Set<String> online = new HashSet<>();
         for (TablistEntry entry : entries) {
             online.add(entry.uuid());
-            apply(entry, config.resolve(entry.worldId()), orders.getOrDefault(entry.uuid(), 0), entries.size());
+            apply(entry, pass, order.keyOf(entry.uuid()));
         }
         snapshots.keySet().removeIf(uuid -> !online.contains(uuid));
+        stats.record(pass, entries.size(), System.nanoTime() - startedAt);
+    }
+
+    /** Re-renders only the given players, keeping everyone else's state and the current order. */
+    private void refreshPlayers(List<IPlayer> players) {
+        long startedAt = System.nanoTime();
+        RenderPass pass = new RenderPass(TablistConfigHandler.getConfig(), services.getPlatformAdapter().getOnlinePlayers().size());
+        for (IPlayer player : players) {
+            TablistEntry entry = entry(player);
+            apply(entry, pass, order.keyOf(entry.uuid()));
+        }
+        stats.record(pass, players.size(), System.nanoTime() - startedAt);
+    }
+
+    public RefreshMetrics refreshMetrics() {
+        return stats.snapshot();
     }
 
     boolean isRefreshScheduled() {
@@ -165,6 +183,7 @@ public final class Tablist implements ParadigmModule {
         if (active || services == null) return;
         active = true;
         resolver = metadataProvider != null ? metadataProvider : new TablistMetadataResolver(services);
+        stats.reset();
         int seconds = Math.max(1, Math.min(3600, TablistConfigHandler.getConfig().refreshInterval.value));
         refreshTask = services.getTaskScheduler().scheduleAtFixedRate(this::refreshNow, 0, seconds, TimeUnit.SECONDS);
         worldWatchTask = services.getTaskScheduler().scheduleAtFixedRate(this::watchWorlds,
@@ -179,6 +198,7 @@ public final class Tablist implements ParadigmModule {
         worldWatchTask = null;
         resolver = null;
         snapshots.clear();
+        order.clear();
         if (resetPlayers && services != null) {
             for (IPlayer player : services.getPlatformAdapter().getOnlinePlayers()) {
                 services.getPlatformAdapter().resetPlayerListState(player);
@@ -188,16 +208,21 @@ public final class Tablist implements ParadigmModule {
 
     private void watchWorlds() {
         if (!active || services == null) return;
+        List<IPlayer> changed = null;
         for (IPlayer player : services.getPlatformAdapter().getOnlinePlayers()) {
             String uuid = safe(player.getUUID());
             if (uuid.isEmpty()) continue;
             PlayerSnapshot previous = snapshots.get(uuid);
-            String currentWorld = safe(player.getWorldId());
-            if (previous == null || !previous.world().equals(currentWorld)) {
+            if (previous == null) {
                 refreshNow();
                 return;
             }
+            if (!previous.world().equals(safe(player.getWorldId()))) {
+                if (changed == null) changed = new ArrayList<>();
+                changed.add(player);
+            }
         }
+        if (changed != null) refreshPlayers(changed);
     }
 
     private void scheduleRefresh(long delayTicks) {
@@ -228,6 +253,15 @@ public final class Tablist implements ParadigmModule {
                 "{count}", String.valueOf(config.perWorldOverrides != null ? config.perWorldOverrides.size() : 0));
         send(source, services, "tablist.status.refresh_interval", "Refresh interval: {seconds}s", "{seconds}", String.valueOf(config.refreshInterval.value));
         send(source, services, "tablist.status.pending_refresh", "Immediate refresh pending: {state}", "{state}", String.valueOf(isImmediateRefreshPending()));
+        RefreshMetrics metrics = refreshMetrics();
+        send(source, services, "tablist.status.refresh_cost", "Refresh cost: {passes} passes, {average}ms avg, {max}ms max, last {players} players in {last}ms",
+                "{passes}", String.valueOf(metrics.passes()), "{average}", String.format(java.util.Locale.ROOT, "%.2f", metrics.averageMs()),
+                "{max}", String.format(java.util.Locale.ROOT, "%.2f", metrics.maxMs()), "{players}", String.valueOf(metrics.lastPlayers()),
+                "{last}", String.format(java.util.Locale.ROOT, "%.2f", metrics.lastMs()));
+        send(source, services, "tablist.status.refresh_work", "Rendered: {headers} headers ({shared} shared), {names} names, {orders} order updates, {unchanged} unchanged",
+                "{headers}", String.valueOf(metrics.headersParsed()), "{shared}", String.valueOf(metrics.headersShared()),
+                "{names}", String.valueOf(metrics.namesParsed()), "{orders}", String.valueOf(metrics.orderUpdates()),
+                "{unchanged}", String.valueOf(metrics.unchanged()));
         return 1;
     }
 
@@ -267,38 +301,181 @@ public final class Tablist implements ParadigmModule {
         services.getPlatformAdapter().sendSuccess(source, services.getPlatformAdapter().createLiteralComponent("§b[Tablist] §f" + raw), false);
     }
 
-    private void apply(TablistEntry entry, TablistConfigHandler.Resolved config, int order, int onlineCount) {
-        ServerIdentity identity = services.getStorageService().context() != null
-                ? services.getStorageService().context().serverIdentity() : null;
-        int maxPlayers = services.getPlatformAdapter().getMaxPlayers();
-        String header = TablistPlaceholderResolver.expand(String.join("\n", config.header()), entry, onlineCount, maxPlayers, identity, false);
-        String footer = TablistPlaceholderResolver.expand(String.join("\n", config.footer()), entry, onlineCount, maxPlayers, identity, false);
-        String name = TablistPlaceholderResolver.expand(config.playerFormat(), entry, onlineCount, maxPlayers, identity, config.showPing());
-        if (config.showPing() && !config.playerFormat().contains("{ping}")) {
-            name += " <color:gray>" + entry.ping() + "ms</color>";
-        }
+    private TablistEntry entry(IPlayer player) {
+        return new TablistEntry(player, safe(player.getUUID()), safe(player.getName()), safe(player.getWorldId()),
+                Math.max(0, services.getPlatformAdapter().getPlayerPing(player)), resolver.resolve(player));
+    }
 
+    /**
+     * Each text is expanded only when an input its template actually uses has changed, and parsed only when the
+     * expansion differs from what the player already has. A header/footer without player placeholders left after
+     * expansion is parsed once per pass and shared by every player who sees the same text.
+     */
+    private void apply(TablistEntry entry, RenderPass pass, int order) {
+        WorldView view = pass.view(entry.worldId());
         PlayerSnapshot previous = snapshots.get(entry.uuid());
-        if (previous == null || !previous.header().equals(header) || !previous.footer().equals(footer)) {
-            IComponent parsedHeader = services.getMessageParser().parseMessage(header, entry.player());
-            IComponent parsedFooter = services.getMessageParser().parseMessage(footer, entry.player());
-            services.getPlatformAdapter().setPlayerListHeaderFooter(entry.player(), parsedHeader, parsedFooter);
+        boolean sent = false;
+
+        // Header and footer are expanded together, so both templates are part of the key; a reload that only
+        // changes the footer must still re-render it.
+        RenderInputs headerInputs = view.inputs(view.headerTemplate() + '\u0000' + view.footerTemplate(), view.headerSlots(), entry, pass, -1, null);
+        String header;
+        String footer;
+        if (previous != null && previous.headerInputs().equals(headerInputs)) {
+            header = previous.header();
+            footer = previous.footer();
+        } else {
+            header = TablistPlaceholderResolver.expand(view.headerTemplate(), entry, pass.onlineCount, pass.maxPlayers, pass.identity, false);
+            footer = TablistPlaceholderResolver.expand(view.footerTemplate(), entry, pass.onlineCount, pass.maxPlayers, pass.identity, false);
+            if (previous == null || !previous.header().equals(header) || !previous.footer().equals(footer)) {
+                IComponent[] parsed = pass.headerFooter(header, footer, entry.player());
+                services.getPlatformAdapter().setPlayerListHeaderFooter(entry.player(), parsed[0], parsed[1]);
+                sent = true;
+            }
         }
-        if (previous == null || !previous.displayName().equals(name)) {
+
+        TablistConfigHandler.Resolved config = view.config();
+        RenderInputs nameInputs = view.inputs(config.playerFormat(), view.nameSlots(), entry, pass,
+                config.showPing() ? entry.ping() : -1, entry.metadata());
+        String name;
+        if (previous != null && previous.nameInputs().equals(nameInputs)) {
+            name = previous.displayName();
+        } else {
+            name = TablistPlaceholderResolver.expand(config.playerFormat(), entry, pass.onlineCount, pass.maxPlayers, pass.identity, config.showPing());
+            if (config.showPing() && !config.playerFormat().contains("{ping}")) {
+                name += " <color:gray>" + entry.ping() + "ms</color>";
+            }
+            // Metadata is part of the inputs, so a group or prefix change re-parses the name even when its text is equal.
             services.getPlatformAdapter().setPlayerListDisplayName(entry.player(),
                     services.getMessageParser().parseMessage(name, entry.player()));
+            pass.namesParsed++;
+            sent = true;
         }
+
         if (previous == null || previous.order() != order) {
             services.getPlatformAdapter().setPlayerListOrder(entry.player(), order);
+            pass.orderUpdates++;
+            sent = true;
         }
-        snapshots.put(entry.uuid(), new PlayerSnapshot(header, footer, name, order, entry.worldId(), entry.ping(), entry.metadata()));
+        if (!sent) pass.unchanged++;
+        snapshots.put(entry.uuid(), new PlayerSnapshot(headerInputs, header, footer, nameInputs, name, order, entry.worldId()));
     }
 
     private static String safe(String value) {
         return value != null ? value : "";
     }
 
-    private record PlayerSnapshot(String header, String footer, String displayName, int order, String world,
-                                  int ping, TablistMetadata metadata) {
+    private record PlayerSnapshot(RenderInputs headerInputs, String header, String footer, RenderInputs nameInputs,
+                                  String displayName, int order, String world) {
+    }
+
+    /** Everything an expansion reads; inputs the template does not use are left at a fixed value. */
+    private record RenderInputs(String template, int onlineCount, int maxPlayers, ServerIdentity identity, String world,
+                                int ping, TablistMetadata metadata) {
+    }
+
+    private record WorldView(TablistConfigHandler.Resolved config, String headerTemplate, String footerTemplate,
+                             TablistPlaceholderResolver.Slots headerSlots, TablistPlaceholderResolver.Slots nameSlots) {
+        private RenderInputs inputs(String template, TablistPlaceholderResolver.Slots slots, TablistEntry entry,
+                                    RenderPass pass, int ping, TablistMetadata metadata) {
+            return new RenderInputs(template,
+                    slots.onlineCount() ? pass.onlineCount : 0,
+                    slots.maxPlayers() ? pass.maxPlayers : 0,
+                    slots.identity() ? pass.identity : null,
+                    slots.world() ? entry.worldId() : "",
+                    ping,
+                    metadata);
+        }
+    }
+
+    /** State shared by every player rendered in one refresh. */
+    private final class RenderPass {
+        private final TablistConfigHandler.Config config;
+        private final int onlineCount;
+        private final int maxPlayers;
+        private final ServerIdentity identity;
+        private final Map<String, WorldView> views = new HashMap<>();
+        private final Map<String, IComponent[]> sharedHeaders = new HashMap<>();
+        private int headersParsed;
+        private int headersShared;
+        private int namesParsed;
+        private int orderUpdates;
+        private int unchanged;
+
+        private RenderPass(TablistConfigHandler.Config config, int onlineCount) {
+            this.config = config;
+            this.onlineCount = onlineCount;
+            this.maxPlayers = services.getPlatformAdapter().getMaxPlayers();
+            this.identity = services.getStorageService().context() != null
+                    ? services.getStorageService().context().serverIdentity() : null;
+        }
+
+        private WorldView view(String worldId) {
+            return views.computeIfAbsent(worldId, ignored -> {
+                TablistConfigHandler.Resolved resolved = config.resolve(worldId);
+                String header = String.join("\n", resolved.header());
+                String footer = String.join("\n", resolved.footer());
+                return new WorldView(resolved, header, footer,
+                        TablistPlaceholderResolver.slots(header).union(TablistPlaceholderResolver.slots(footer)),
+                        TablistPlaceholderResolver.slots(resolved.playerFormat()));
+            });
+        }
+
+        private IComponent[] headerFooter(String header, String footer, IPlayer player) {
+            boolean shareable = header.indexOf('{') < 0 && footer.indexOf('{') < 0;
+            String key = header + '\u0000' + footer;
+            IComponent[] parsed = shareable ? sharedHeaders.get(key) : null;
+            if (parsed != null) {
+                headersShared++;
+                return parsed;
+            }
+            parsed = new IComponent[]{
+                    services.getMessageParser().parseMessage(header, player),
+                    services.getMessageParser().parseMessage(footer, player)
+            };
+            headersParsed++;
+            if (shareable) sharedHeaders.put(key, parsed);
+            return parsed;
+        }
+    }
+
+    private static final class RefreshStats {
+        private long passes;
+        private long totalNanos;
+        private long maxNanos;
+        private long lastNanos;
+        private int lastPlayers;
+        private long headersParsed;
+        private long headersShared;
+        private long namesParsed;
+        private long orderUpdates;
+        private long unchanged;
+
+        private void record(RenderPass pass, int players, long nanos) {
+            passes++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            lastNanos = nanos;
+            lastPlayers = players;
+            headersParsed += pass.headersParsed;
+            headersShared += pass.headersShared;
+            namesParsed += pass.namesParsed;
+            orderUpdates += pass.orderUpdates;
+            unchanged += pass.unchanged;
+        }
+
+        private void reset() {
+            passes = totalNanos = maxNanos = lastNanos = headersParsed = headersShared = namesParsed = orderUpdates = unchanged = 0L;
+            lastPlayers = 0;
+        }
+
+        private RefreshMetrics snapshot() {
+            return new RefreshMetrics(passes, passes > 0 ? totalNanos / 1_000_000.0D / passes : 0.0D, maxNanos / 1_000_000.0D,
+                    lastNanos / 1_000_000.0D, lastPlayers, headersParsed, headersShared, namesParsed, orderUpdates, unchanged);
+        }
+    }
+
+    public record RefreshMetrics(long passes, double averageMs, double maxMs, double lastMs, int lastPlayers,
+                                 long headersParsed, long headersShared, long namesParsed, long orderUpdates, long unchanged) {
     }
 }
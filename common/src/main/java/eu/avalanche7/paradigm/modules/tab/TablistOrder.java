@@ -0,0 +1,114 @@
+package eu.avalanche7.paradigm.modules.tab;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the sorted player list between refreshes. Players whose sort key did not change keep their place; the rest
+ * are re-inserted by binary search. Each player gets a sparse order key (spaced {@link #SPACING} apart) that only
+ * changes when that player moves, so inserting or removing one player does not renumber everyone else. Keys are
+ * renumbered only when two neighbours leave no gap.
+ */
+final class TablistOrder {
+    private static final int SPACING = 1 << 12;
+    private static final long MIN_KEY = -(1L << 30);
+    private static final long MAX_KEY = 1L << 30;
+
+    private final List<Slot> sorted = new ArrayList<>();
+    private final Map<String, Slot> byUuid = new HashMap<>();
+    private List<String> rules;
+    private Comparator<TablistEntry> comparator;
+    private Comparator<Slot> slotComparator;
+
+    void update(List<TablistEntry> entries, List<String> configuredRules) {
+        List<String> normalizedRules = configuredRules != null ? List.copyOf(configuredRules) : List.of();
+        if (comparator == null || !Objects.equals(rules, normalizedRules)) {
+            rules = normalizedRules;
+            comparator = TablistSorter.comparator(normalizedRules);
+            slotComparator = (left, right) -> comparator.compare(left.entry, right.entry);
+            clear();
+        }
+
+        Map<String, TablistEntry> incoming = new LinkedHashMap<>();
+        for (TablistEntry entry : entries) incoming.put(entry.uuid(), entry);
+
+        List<TablistEntry> placed = new ArrayList<>();
+        Iterator<Slot> iterator = sorted.iterator();
+        while (iterator.hasNext()) {
+            Slot slot = iterator.next();
+            TablistEntry next = incoming.remove(slot.entry.uuid());
+            if (next != null && comparator.compare(slot.entry, next) == 0) {
+                slot.entry = next;
+                continue;
+            }
+            iterator.remove();
+            byUuid.remove(slot.entry.uuid());
+            if (next != null) placed.add(next);
+        }
+        placed.addAll(incoming.values());
+
+        if (placed.size() > sorted.size()) {
+            for (TablistEntry entry : placed) sorted.add(new Slot(entry));
+            sorted.sort(slotComparator);
+            renumber();
+            return;
+        }
+        for (TablistEntry entry : placed) insert(entry);
+    }
+
+    int keyOf(String uuid) {
+        Slot slot = byUuid.get(uuid);
+        return slot != null ? slot.key : 0;
+    }
+
+    void remove(String uuid) {
+        Slot slot = byUuid.remove(uuid);
+        if (slot != null) sorted.remove(slot);
+    }
+
+    void clear() {
+        sorted.clear();
+        byUuid.clear();
+    }
+
+    private void insert(TablistEntry entry) {
+        Slot slot = new Slot(entry);
+        int found = Collections.binarySearch(sorted, slot, slotComparator);
+        int index = found >= 0 ? found : -found - 1;
+        long low = index > 0 ? sorted.get(index - 1).key
+                : (sorted.isEmpty() ? -SPACING : sorted.get(0).key - 2L * SPACING);
+        long high = index < sorted.size() ? sorted.get(index).key : low + 2L * SPACING;
+        sorted.add(index, slot);
+        if (high - low < 2 || low < MIN_KEY || high > MAX_KEY) {
+            renumber();
+            return;
+        }
+        slot.key = (int) ((low + high) / 2);
+        byUuid.put(entry.uuid(), slot);
+    }
+
+    private void renumber() {
+        byUuid.clear();
+        for (int index = 0; index < sorted.size(); index++) {
+            Slot slot = sorted.get(index);
+            slot.key = index * SPACING;
+            byUuid.put(slot.entry.uuid(), slot);
+        }
+    }
+
+    private static final class Slot {
+        private TablistEntry entry;
+        private int key;
+
+        private Slot(TablistEntry entry) {
+            this.entry = entry;
+        }
+    }
+}
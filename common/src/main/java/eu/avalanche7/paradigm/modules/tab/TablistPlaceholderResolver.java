@@ -19,6 +19,25 @@ public final class TablistPlaceholderResolver {
         return value;
     }
 
+    /** Which of the placeholders above a template uses, so a caller can tell whether a new input changes its expansion. */
+    public static Slots slots(String input) {
+        String value = input != null ? input : "";
+        return new Slots(
+                value.contains("{online_players}") || value.contains("{max_players}"),
+                value.contains("{max_players}"),
+                value.contains("{server_name}") || value.contains("{server_id}") || value.contains("{network_id}"),
+                value.contains("{world}"),
+                value.contains("{ping}")
+        );
+    }
+
+    public record Slots(boolean onlineCount, boolean maxPlayers, boolean identity, boolean world, boolean ping) {
+        public Slots union(Slots other) {
+            return new Slots(onlineCount || other.onlineCount, maxPlayers || other.maxPlayers, identity || other.identity,
+                    world || other.world, ping || other.ping);
+        }
+    }
+
     private static String safe(String value) {
         return value != null ? value : "";
     }
@@ -9,6 +9,13 @@ public final class TablistSorter {
     }
 
     public static List<TablistEntry> sort(List<TablistEntry> entries, List<String> configuredRules) {
+        List<TablistEntry> sorted = new ArrayList<>(entries != null ? entries : List.of());
+        sorted.sort(comparator(configuredRules));
+        return List.copyOf(sorted);
+    }
+
+    /** The full ordering for the configured rules; ties are broken by name and then UUID, so no two players compare equal. */
+    public static Comparator<TablistEntry> comparator(List<String> configuredRules) {
         List<TablistSortRule> rules = configuredRules == null ? List.of() : configuredRules.stream()
                 .map(TablistSortRule::parse)
                 .filter(java.util.Objects::nonNull)
@@ -20,13 +27,9 @@ public final class TablistSorter {
             Comparator<TablistEntry> next = comparator(rule);
             comparator = comparator == null ? next : comparator.thenComparing(next);
         }
-        comparator = comparator
+        return comparator
                 .thenComparing(TablistEntry::playerName, String.CASE_INSENSITIVE_ORDER)
                 .thenComparing(TablistEntry::uuid, Comparator.nullsLast(String::compareTo));
-
-        List<TablistEntry> sorted = new ArrayList<>(entries != null ? entries : List.of());
-        sorted.sort(comparator);
-        return List.copyOf(sorted);
     }
 
     private static Comparator<TablistEntry> comparator(TablistSortRule rule) {
@@ -22,6 +22,7 @@ public class TicketService {
 
     private final Services services;
     private volatile TicketNotifier notifier;
+    private volatile Consumer<TicketEvent> networkPublisher;
 
     public TicketService(Services services) {
         this.services = services;
@@ -31,6 +32,10 @@ public class TicketService {
         this.notifier = notifier;
     }
 
+    public void setNetworkPublisher(Consumer<TicketEvent> networkPublisher) {
+        this.networkPublisher = networkPublisher;
+    }
+
     public TicketOutcome create(TicketActor actor, String categoryId, String message) {
         TicketsConfigHandler.Config config = config();
         if (!enabled(config)) {
@@ -102,7 +107,7 @@ public class TicketService {
                 createdEvent.ticketKey(), createdEvent.eventType(), createdEvent.actorUuid(), createdEvent.actorName(),
                 createdEvent.serverId(), createdEvent.oldValue(), createdEvent.newValue(), result.ticket().createdAtMs());
         publish(events -> events.ticketCreated(result.ticket(), admittedEvent));
-        notify(target -> target.ticketCreated(result.ticket(), admittedEvent));
+        notify(admittedEvent, target -> target.ticketCreated(result.ticket(), admittedEvent));
         return TicketOutcome.ok(result.ticket());
     }
 
@@ -148,7 +153,7 @@ public class TicketService {
             audit(actor, result.ticket(), "reply", Map.of("authorType", authorType.name()));
         }
         publish(bus -> bus.ticketReplied(result.ticket(), replied));
-        notify(target -> target.ticketReplied(result.ticket(), replied, newMessage));
+        notify(replied, target -> target.ticketReplied(result.ticket(), replied, newMessage));
         return TicketOutcome.ok(result.ticket());
     }
 
@@ -183,7 +188,7 @@ public class TicketService {
         }
         audit(actor, result.ticket(), "claim", Map.of("assignee", String.valueOf(actor.name())));
         publish(bus -> bus.ticketClaimed(result.ticket(), events.get(0)));
-        notify(target -> target.ticketClaimed(result.ticket(), events.get(0)));
+        notify(events.get(0), target -> target.ticketClaimed(result.ticket(), events.get(0)));
         return TicketOutcome.ok(result.ticket());
     }
 
@@ -256,7 +261,7 @@ public class TicketService {
         audit(actor, result.ticket(), "assign", Map.of("assignee", String.valueOf(target.name()),
                 "assigneeUuid", String.valueOf(target.uuid()), "assigneeOnline", String.valueOf(target.online())));
         publish(bus -> bus.ticketAssigned(result.ticket(), events.get(0)));
-        notify(target2 -> target2.ticketAssigned(result.ticket(), events.get(0)));
+        notify(events.get(0), target2 -> target2.ticketAssigned(result.ticket(), events.get(0)));
         return TicketOutcome.ok(result.ticket());
     }
 
@@ -393,7 +398,7 @@ public class TicketService {
         audit(actor, result.ticket(), "resolve", Map.of("oldStatus", ticket.status().name(),
                 "newStatus", TicketStatus.RESOLVED.name()));
         publish(bus -> bus.ticketResolved(result.ticket(), events.get(0)));
-        notify(target -> target.ticketResolved(result.ticket(), events.get(0)));
+        notify(events.get(0), target -> target.ticketResolved(result.ticket(), events.get(0)));
         return TicketOutcome.ok(result.ticket());
     }
 
@@ -427,7 +432,7 @@ public class TicketService {
                     "newStatus", TicketStatus.CLOSED.name()));
         }
         publish(bus -> bus.ticketClosed(result.ticket(), events.get(0)));
-        notify(target -> target.ticketClosed(result.ticket(), events.get(0)));
+        notify(events.get(0), target -> target.ticketClosed(result.ticket(), events.get(0)));
         return TicketOutcome.ok(result.ticket());
     }
 
@@ -469,7 +474,7 @@ public class TicketService {
                     "newStatus", nextStatus.name()));
         }
         publish(bus -> bus.ticketReopened(result.ticket(), events.get(0)));
-        notify(target -> target.ticketReopened(result.ticket(), events.get(0)));
+        notify(events.get(0), target -> target.ticketReopened(result.ticket(), events.get(0)));
         return TicketOutcome.ok(result.ticket());
     }
 
@@ -592,7 +597,7 @@ public class TicketService {
             if (result.ok()) {
                 closed++;
                 publish(bus -> bus.ticketClosed(result.ticket(), autoEvent));
-                notify(target -> target.ticketClosed(result.ticket(), autoEvent));
+                notify(autoEvent, target -> target.ticketClosed(result.ticket(), autoEvent));
             }
         }
         return closed;
@@ -786,7 +791,14 @@ public class TicketService {
         }
     }
 
-    private void notify(Consumer<TicketNotifier> action) {
+    private void notify(TicketEvent event, Consumer<TicketNotifier> action) {
+        Consumer<TicketEvent> publisher = networkPublisher;
+        if (publisher != null && event != null) {
+            try {
+                publisher.accept(event);
+            } catch (RuntimeException | LinkageError ignored) {
+            }
+        }
         TicketNotifier current = notifier;
         if (current == null) {
             return;
@@ -14,6 +14,7 @@ import eu.avalanche7.paradigm.configs.TicketsConfigHandler;
 import eu.avalanche7.paradigm.core.ParadigmModule;
 import eu.avalanche7.paradigm.core.Services;
 import eu.avalanche7.paradigm.core.network.NetworkEventBus;
+import eu.avalanche7.paradigm.core.network.SocketNetworkEventBus;
 import eu.avalanche7.paradigm.core.network.SqlPollingNetworkEventBus;
 import eu.avalanche7.paradigm.modules.commands.shared.CommandMessages;
 import eu.avalanche7.paradigm.modules.permissions.ParadigmPermissions;
@@ -75,9 +76,12 @@ public class TicketsModule implements ParadigmModule {
         this.tickets = services.getTicketService();
         this.notifier = new TicketNotifier(services);
         this.view = new TicketChatView(services);
-        this.networkEvents = new SqlPollingNetworkEventBus(services, this::crossServerPollSeconds);
+        this.networkEvents = new SocketNetworkEventBus(services,
+                new SqlPollingNetworkEventBus(services, this::crossServerPollSeconds), this::crossServerPushSettings);
         TicketNetworkEvents.install(networkEvents, services, tickets, notifier);
         this.tickets.setNotifier(notifier);
+        NetworkEventBus bus = networkEvents;
+        this.tickets.setNetworkPublisher(ticketEvent -> bus.publish(TicketNetworkEvents.toNetworkEvent(ticketEvent)));
         current = this;
     }
 
@@ -109,6 +113,10 @@ public class TicketsModule implements ParadigmModule {
         stopTasks();
     }
 
+    public NetworkEventBus networkEvents() {
+        return networkEvents;
+    }
+
     public void reloadTasks() {
         if (services == null) {
             return;
@@ -606,9 +614,23 @@ public class TicketsModule implements ParadigmModule {
 
     private int crossServerPollSeconds() {
         TicketsConfigHandler.Config config = TicketsConfigHandler.configOrNull();
+        if (crossServerPushSettings() != null) {
+            return Math.max(1, ConfigEntry.valueOf(config.crossServerPushCatchUpSeconds, 60));
+        }
         return ConfigEntry.valueOf(config != null ? config.crossServerNotifyPollSeconds : null, 5);
     }
 
+    private SocketNetworkEventBus.Settings crossServerPushSettings() {
+        TicketsConfigHandler.Config config = TicketsConfigHandler.configOrNull();
+        if (config == null || !ConfigEntry.valueOf(config.crossServerPushEnable, false) || tickets == null) {
+            return null;
+        }
+        return new SocketNetworkEventBus.Settings(tickets.networkId(), tickets.serverId(),
+                ConfigEntry.valueOf(config.crossServerPushBind, ""),
+                ConfigEntry.valueOf(config.crossServerPushPeers, List.of()),
+                ConfigEntry.valueOf(config.crossServerPushSecret, ""));
+    }
+
     private int pageSize() {
         TicketsConfigHandler.Config config = TicketsConfigHandler.configOrNull();
         return Math.max(1, ConfigEntry.valueOf(config != null ? config.listPageSize : null, 8));
@@ -2,6 +2,7 @@ package eu.avalanche7.paradigm.platform.Interfaces;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -214,6 +215,15 @@ public interface IPlatformAdapter {
         return Optional.empty();
     }
 
+    /**
+     * Same check as {@link #findSafeRtpY}, in the player's world, without stalling the server thread: a chunk that
+     * is not loaded is read from disk asynchronously, and one that was never fully generated answers empty instead
+     * of being generated. The future may complete on any thread.
+     */
+    default CompletableFuture<Optional<Double>> findGeneratedSafeRtpY(IPlayer player, double x, double z) {
+        return CompletableFuture.completedFuture(Optional.empty());
+    }
+
     default boolean isFirstJoin(IPlayer player) {
         return false;
     }
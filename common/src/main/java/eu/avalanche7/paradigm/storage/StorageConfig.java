@@ -25,6 +25,7 @@ public class StorageConfig {
     public SqliteConfig sqlite = new SqliteConfig();
     public SqlConfig sql = new SqlConfig();
     public RuntimeLibrariesConfig runtimeLibraries = new RuntimeLibrariesConfig();
+    public JsonAuditConfig jsonAudit = new JsonAuditConfig();
 
     public static StorageConfig load(IConfig platformConfig, Logger logger) {
         StorageConfig defaults = new StorageConfig();
@@ -111,9 +112,11 @@ public class StorageConfig {
         if (sqlite == null) sqlite = new SqliteConfig();
         if (sql == null) sql = new SqlConfig();
         if (runtimeLibraries == null) runtimeLibraries = new RuntimeLibrariesConfig();
+        if (jsonAudit == null) jsonAudit = new JsonAuditConfig();
         sql.normalize();
         sqlite.normalize();
         runtimeLibraries.normalize();
+        jsonAudit.normalize();
         return this;
     }
 
@@ -139,6 +142,7 @@ public class StorageConfig {
         defaults.sqlite = loaded.sqlite != null ? loaded.sqlite : defaults.sqlite;
         defaults.sql = loaded.sql != null ? loaded.sql : defaults.sql;
         defaults.runtimeLibraries = loaded.runtimeLibraries != null ? loaded.runtimeLibraries : defaults.runtimeLibraries;
+        defaults.jsonAudit = loaded.jsonAudit != null ? loaded.jsonAudit : defaults.jsonAudit;
         return defaults;
     }
 
@@ -165,6 +169,12 @@ public class StorageConfig {
         public String password = "";
         public String passwordEnv = "";
         public int poolSize = 5;
+        public int poolMinIdle = 1;
+        public int poolIdleTimeoutSeconds = 600;
+        public int poolConnectionTimeoutSeconds = 10;
+        public int poolValidationTimeoutSeconds = 3;
+        public int statementCacheSize = 64;
+        public int batchSize = 500;
         public boolean ssl = false;
 
         void normalize() {
@@ -176,6 +186,13 @@ public class StorageConfig {
             if (password == null) password = "";
             if (passwordEnv == null) passwordEnv = "";
             if (poolSize <= 0) poolSize = 5;
+            if (poolMinIdle < 0) poolMinIdle = 0;
+            if (poolMinIdle > poolSize) poolMinIdle = poolSize;
+            if (poolIdleTimeoutSeconds < 0) poolIdleTimeoutSeconds = 0;
+            if (poolConnectionTimeoutSeconds <= 0) poolConnectionTimeoutSeconds = 10;
+            if (poolValidationTimeoutSeconds <= 0) poolValidationTimeoutSeconds = 3;
+            if (statementCacheSize < 0) statementCacheSize = 0;
+            if (batchSize <= 0) batchSize = 500;
         }
     }
 
@@ -203,4 +220,18 @@ public class StorageConfig {
             }
         }
     }
+
+    /** Segment sizing and retention for the JSON audit log; 0 disables the count or age limit. */
+    public static class JsonAuditConfig {
+        public int segmentMaxKilobytes = 4096;
+        public int maxSegments = 64;
+        public int retentionDays = 180;
+
+        void normalize() {
+            if (segmentMaxKilobytes <= 0) segmentMaxKilobytes = 4096;
+            if (segmentMaxKilobytes < 64) segmentMaxKilobytes = 64;
+            if (maxSegments < 0) maxSegments = 0;
+            if (retentionDays < 0) retentionDays = 0;
+        }
+    }
 }
@@ -0,0 +1,297 @@
+package eu.avalanche7.paradigm.storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * One bounded set of workers per {@link StorageLane}, plus latency histograms keyed by operation name. A full lane
+ * rejects new work instead of growing without limit.
+ * <p>
+ * Each worker is a single thread with its own queue. Work submitted with an affinity key (a player UUID) always goes
+ * to the same worker, so one player's writes run in the order they were submitted even when the lane has several
+ * workers; work without a key goes to the least busy worker.
+ */
+public final class StorageExecutor {
+    private static final int MAX_TRACKED_OPERATIONS = 128;
+    private static final String OTHER_OPERATION = "other";
+    private static final long[] BUCKET_BOUNDS_MICROS = {
+            1_000L, 2_000L, 5_000L, 10_000L, 25_000L, 50_000L, 100_000L, 250_000L,
+            500_000L, 1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, Long.MAX_VALUE
+    };
+
+    private final Map<StorageLane, Lane> lanes = new EnumMap<>(StorageLane.class);
+    private final Map<String, LatencyHistogram> operations = new ConcurrentHashMap<>();
+
+    StorageExecutor(int interactiveWorkers, int bulkWorkers) {
+        lanes.put(StorageLane.INTERACTIVE, new Lane(StorageLane.INTERACTIVE, interactiveWorkers));
+        lanes.put(StorageLane.BULK, new Lane(StorageLane.BULK, bulkWorkers));
+    }
+
+    <T> CompletableFuture<T> submit(StorageLane lane, String operation, Supplier<T> task) {
+        return submit(lane, operation, null, task);
+    }
+
+    <T> CompletableFuture<T> submit(StorageLane lane, String operation, String affinityKey, Supplier<T> task) {
+        Lane target = lanes.get(lane != null ? lane : StorageLane.BULK);
+        ThreadPoolExecutor worker = target.worker(affinityKey);
+        LatencyHistogram histogram = histogram(operation);
+        long queuedAt = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            long startedAt = System.nanoTime();
+            target.queueWait.record(startedAt - queuedAt, true);
+            boolean succeeded = false;
+            try {
+                T result = task.get();
+                succeeded = true;
+                return result;
+            } finally {
+                histogram.record(System.nanoTime() - startedAt, succeeded);
+                histogram.lane = target.lane;
+            }
+        }, worker);
+    }
+
+    void shutdown() {
+        for (Lane lane : lanes.values()) {
+            for (ThreadPoolExecutor worker : lane.workers) {
+                worker.shutdown();
+            }
+        }
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Lane lane : lanes.values()) {
+            for (ThreadPoolExecutor worker : lane.workers) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L || !worker.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    int shutdownNow() {
+        int discarded = 0;
+        for (Lane lane : lanes.values()) {
+            for (ThreadPoolExecutor worker : lane.workers) {
+                discarded += worker.shutdownNow().size();
+            }
+        }
+        return discarded;
+    }
+
+    Metrics metrics() {
+        List<LaneMetrics> laneMetrics = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes.values()) {
+            LatencySnapshot wait = lane.queueWait.snapshot();
+            int active = 0;
+            int queued = 0;
+            long completed = 0L;
+            for (ThreadPoolExecutor worker : lane.workers) {
+                active += worker.getActiveCount();
+                queued += worker.getQueue().size();
+                completed += worker.getCompletedTaskCount();
+            }
+            laneMetrics.add(new LaneMetrics(
+                    lane.lane.key(),
+                    lane.workers.length,
+                    active,
+                    queued,
+                    lane.lane.queueCapacity(),
+                    completed,
+                    lane.rejected.get(),
+                    wait.averageMs(),
+                    wait.p95Ms(),
+                    wait.maxMs()
+            ));
+        }
+        List<OperationMetrics> operationMetrics = new ArrayList<>(operations.size());
+        for (Map.Entry<String, LatencyHistogram> entry : operations.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            LatencySnapshot latency = histogram.snapshot();
+            if (latency.count() == 0L) {
+                continue;
+            }
+            operationMetrics.add(new OperationMetrics(
+                    entry.getKey(),
+                    histogram.lane != null ? histogram.lane.key() : "",
+                    latency.count(),
+                    latency.failures(),
+                    latency.averageMs(),
+                    latency.p50Ms(),
+                    latency.p95Ms(),
+                    latency.p99Ms(),
+                    latency.maxMs()
+            ));
+        }
+        operationMetrics.sort(Comparator.comparingLong(OperationMetrics::count).reversed().thenComparing(OperationMetrics::operation));
+        return new Metrics(laneMetrics, operationMetrics);
+    }
+
+    private LatencyHistogram histogram(String operation) {
+        String key = operation == null || operation.isBlank() ? OTHER_OPERATION : operation.trim().toLowerCase(Locale.ROOT);
+        LatencyHistogram existing = operations.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (operations.size() >= MAX_TRACKED_OPERATIONS) {
+            key = OTHER_OPERATION;
+        }
+        return operations.computeIfAbsent(key, ignored -> new LatencyHistogram());
+    }
+
+    private static final class Lane {
+        private final StorageLane lane;
+        private final ThreadPoolExecutor[] workers;
+        private final LatencyHistogram queueWait = new LatencyHistogram();
+        private final AtomicLong rejected = new AtomicLong();
+
+        private Lane(StorageLane lane, int workers) {
+            this.lane = lane;
+            int threads = Math.max(1, workers);
+            int perWorkerCapacity = Math.max(1, lane.queueCapacity() / threads);
+            AtomicInteger counter = new AtomicInteger();
+            String prefix = "Paradigm-Storage-" + Character.toUpperCase(lane.key().charAt(0)) + lane.key().substring(1) + "-";
+            this.workers = new ThreadPoolExecutor[threads];
+            for (int i = 0; i < threads; i++) {
+                this.workers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(perWorkerCapacity),
+                        r -> {
+                            Thread thread = new Thread(r, prefix + counter.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        (task, pool) -> {
+                            rejected.incrementAndGet();
+                            throw new RejectedExecutionException(pool.isShutdown()
+                                    ? "Storage " + lane.key() + " lane is shut down."
+                                    : "Storage " + lane.key() + " lane queue is full.");
+                        });
+            }
+        }
+
+        private ThreadPoolExecutor worker(String affinityKey) {
+            if (workers.length == 1) {
+                return workers[0];
+            }
+            if (affinityKey != null && !affinityKey.isBlank()) {
+                return workers[Math.floorMod(affinityKey.trim().toLowerCase(Locale.ROOT).hashCode(), workers.length)];
+            }
+            ThreadPoolExecutor best = workers[0];
+            int bestLoad = Integer.MAX_VALUE;
+            for (ThreadPoolExecutor worker : workers) {
+                int load = worker.getQueue().size() + worker.getActiveCount();
+                if (load < bestLoad) {
+                    best = worker;
+                    bestLoad = load;
+                }
+            }
+            return best;
+        }
+    }
+
+    /** Fixed power-of-roughly-two buckets; percentiles report the upper bound of the bucket they fall in. */
+    private static final class LatencyHistogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MICROS.length);
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile StorageLane lane;
+
+        private void record(long nanos, boolean succeeded) {
+            long elapsed = Math.max(0L, nanos);
+            long micros = TimeUnit.NANOSECONDS.toMicros(elapsed);
+            int bucket = 0;
+            while (micros >= BUCKET_BOUNDS_MICROS[bucket]) {
+                bucket++;
+            }
+            buckets.incrementAndGet(bucket);
+            totalNanos.addAndGet(elapsed);
+            maxNanos.accumulateAndGet(elapsed, Math::max);
+            if (!succeeded) {
+                failures.incrementAndGet();
+            }
+        }
+
+        private LatencySnapshot snapshot() {
+            long[] counts = new long[buckets.length()];
+            long total = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            double maxMs = maxNanos.get() / 1_000_000.0D;
+            double averageMs = total > 0L ? totalNanos.get() / 1_000_000.0D / total : 0.0D;
+            return new LatencySnapshot(total, failures.get(), averageMs,
+                    percentile(counts, total, 0.50D, maxMs),
+                    percentile(counts, total, 0.95D, maxMs),
+                    percentile(counts, total, 0.99D, maxMs),
+                    maxMs);
+        }
+
+        private static double percentile(long[] counts, long total, double quantile, double maxMs) {
+            if (total == 0L) {
+                return 0.0D;
+            }
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    long bound = BUCKET_BOUNDS_MICROS[i];
+                    return bound == Long.MAX_VALUE ? maxMs : Math.min(maxMs, bound / 1_000.0D);
+                }
+            }
+            return maxMs;
+        }
+    }
+
+    private record LatencySnapshot(long count, long failures, double averageMs, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    public record LaneMetrics(
+            String lane,
+            int workers,
+            int active,
+            int queued,
+            int queueCapacity,
+            long completed,
+            long rejected,
+            double averageWaitMs,
+            double p95WaitMs,
+            double maxWaitMs
+    ) {
+    }
+
+    public record OperationMetrics(
+            String operation,
+            String lane,
+            long count,
+            long failures,
+            double averageMs,
+            double p50Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs
+    ) {
+    }
+
+    public record Metrics(List<LaneMetrics> lanes, List<OperationMetrics> operations) {
+    }
+}
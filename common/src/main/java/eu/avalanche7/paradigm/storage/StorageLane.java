@@ -0,0 +1,26 @@
+package eu.avalanche7.paradigm.storage;
+
+/**
+ * Queue a storage operation runs on. Player-facing work goes to {@link #INTERACTIVE} so it never waits behind
+ * migrations, reloads or periodic flushes on {@link #BULK}.
+ */
+public enum StorageLane {
+    INTERACTIVE("interactive", 512),
+    BULK("bulk", 2048);
+
+    private final String key;
+    private final int queueCapacity;
+
+    StorageLane(String key, int queueCapacity) {
+        this.key = key;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    int queueCapacity() {
+        return queueCapacity;
+    }
+}
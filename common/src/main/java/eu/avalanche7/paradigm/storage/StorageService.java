@@ -8,8 +8,6 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -24,6 +22,7 @@ import eu.avalanche7.paradigm.data.PlayerDataStore;
 import eu.avalanche7.paradigm.data.WarpStore;
 import eu.avalanche7.paradigm.modules.audit.AuditRepository;
 import eu.avalanche7.paradigm.platform.Interfaces.IConfig;
+import eu.avalanche7.paradigm.storage.cache.RepositoryCache;
 import eu.avalanche7.paradigm.storage.identity.ServerIdentity;
 import eu.avalanche7.paradigm.storage.identity.ServerIdentityService;
 import eu.avalanche7.paradigm.storage.identity.StorageContext;
@@ -41,6 +40,7 @@ import eu.avalanche7.paradigm.storage.runtime.RuntimeJdbcDriverProvider;
 import eu.avalanche7.paradigm.storage.runtime.RuntimeLibrary;
 import eu.avalanche7.paradigm.storage.runtime.RuntimeLibraryDownloadResult;
 import eu.avalanche7.paradigm.storage.runtime.RuntimeLibraryManager;
+import eu.avalanche7.paradigm.storage.sql.SqlConnectionPool;
 import eu.avalanche7.paradigm.storage.sql.SqlStorageProvider;
 import eu.avalanche7.paradigm.storage.sqlite.SqliteStorageProvider;
 import eu.avalanche7.paradigm.utils.DebugLogger;
@@ -53,10 +53,11 @@ public class StorageService implements AutoCloseable {
     private final StorageConfig config;
     private final ServerIdentityService identityService;
     private final StorageContext context;
-    private final ExecutorService executor;
+    private final StorageExecutor executor;
     private final JsonStorageProvider jsonProvider;
     private final RuntimeLibraryManager runtimeLibraryManager;
     private final RuntimeJdbcDriverProvider runtimeJdbcDriverProvider;
+    private final RepositoryCache repositoryCache = new RepositoryCache();
     private final Object lifecycleLock = new Object();
 
     private StorageProvider activeProvider;
@@ -83,15 +84,11 @@ public class StorageService implements AutoCloseable {
         this.config = StorageConfig.load(platformConfig, logger);
         this.identityService = new ServerIdentityService(logger, config);
         this.context = new StorageContext(identityService.current());
-        this.executor = Executors.newSingleThreadExecutor(r -> {
-            Thread thread = new Thread(r, "Paradigm-Storage");
-            thread.setDaemon(true);
-            return thread;
-        });
-        this.jsonProvider = new JsonStorageProvider(logger, debugLogger, platformConfig, context, playerDataStore, warpStore, moderationDataStore, adminUtilityDataStore);
+        this.jsonProvider = new JsonStorageProvider(logger, debugLogger, platformConfig, context, playerDataStore, warpStore, moderationDataStore, adminUtilityDataStore, config.jsonAudit);
         this.runtimeLibraryManager = new RuntimeLibraryManager(config, platformConfig, logger);
         this.runtimeJdbcDriverProvider = new RuntimeJdbcDriverProvider(runtimeLibraryManager, logger);
         initialize();
+        this.executor = new StorageExecutor(interactiveWorkers(), 1);
     }
 
     private void initialize() {
@@ -164,8 +161,44 @@ public class StorageService implements AutoCloseable {
         );
     }
 
+    /**
+     * SQLite and JSON keep one worker per lane because they serialize on a single connection or file anyway; MySQL
+     * lets interactive work use all but one pooled connection, leaving that one for the bulk lane.
+     */
+    private int interactiveWorkers() {
+        StorageProvider provider = activeProvider;
+        if (provider == null || provider.type() != StorageProviderType.MYSQL) {
+            return 1;
+        }
+        return Math.max(1, Math.min(4, config.sql.poolSize - 1));
+    }
+
+    public StorageExecutor.Metrics executorMetrics() {
+        return executor.metrics();
+    }
+
+    public SqlConnectionPool.Metrics connectionPoolMetrics() {
+        return activeProvider instanceof SqlStorageProvider sqlProvider ? sqlProvider.connectionPoolMetrics() : null;
+    }
+
+    public RepositoryCache.Metrics repositoryCacheMetrics() {
+        return repositoryCache.metrics();
+    }
+
+    /** Starts caching an online player's homes and back location and loads them on the interactive lane. */
+    public void trackCachedPlayer(String uuid) {
+        if (!repositoryCache.track(activeProvider, uuid)) {
+            return;
+        }
+        runPlayerStorageAsync(uuid, "storage.cache-warm", () -> repositoryCache.load(uuid));
+    }
+
+    public void evictCachedPlayer(String uuid) {
+        repositoryCache.evict(uuid);
+    }
+
     public CompletableFuture<StorageTestResult> testAsync() {
-        return submitStorageTask(() -> {
+        return submitStorageTask(StorageLane.INTERACTIVE, "storage.test", () -> {
             StorageProvider provider = activeProvider;
             StorageTestResult result;
             if (selectedProviderType == StorageProviderType.JSON) {
@@ -200,7 +233,7 @@ public class StorageService implements AutoCloseable {
     }
 
     public CompletableFuture<StorageTestResult> testConfigurationAsync(StorageConfig candidate) {
-        return submitStorageTask(() -> {
+        return submitStorageTask(StorageLane.BULK, "storage.test-configuration", () -> {
             StorageConfig effective = candidate != null ? candidate : config;
             StorageProviderType type = effective.providerType(logger);
             if (type == StorageProviderType.JSON) {
@@ -228,17 +261,55 @@ public class StorageService implements AutoCloseable {
     }
 
     public CompletableFuture<StorageMigrationService.MigrationSummary> migrateAsync(String source, String target, StorageMigrationOptions options) {
-        return submitStorageTask(() -> migrate(source, target, options));
+        return submitStorageTask(StorageLane.BULK, "storage.migrate", () -> migrate(source, target, options));
+    }
+
+    public <T> void runAsync(
+            String operation,
+            Supplier<T> supplier,
+            TaskScheduler scheduler,
+            Consumer<T> onSuccessOnServerThread,
+            Consumer<Throwable> onFailureOnServerThread
+    ) {
+        runAsync(StorageLane.INTERACTIVE, operation, supplier, scheduler, onSuccessOnServerThread, onFailureOnServerThread);
     }
 
     public <T> void runAsync(
+            StorageLane lane,
             String operation,
             Supplier<T> supplier,
             TaskScheduler scheduler,
             Consumer<T> onSuccessOnServerThread,
             Consumer<Throwable> onFailureOnServerThread
     ) {
-        submitStorageTask(() -> {
+        runAsync(lane, null, operation, supplier, scheduler, onSuccessOnServerThread, onFailureOnServerThread);
+    }
+
+    /**
+     * {@link #runAsync} on the interactive lane, always on the same worker for {@code playerUuid}, so one player's
+     * operations run in the order they were submitted.
+     */
+    public <T> void runPlayerAsync(
+            String playerUuid,
+            String operation,
+            Supplier<T> supplier,
+            TaskScheduler scheduler,
+            Consumer<T> onSuccessOnServerThread,
+            Consumer<Throwable> onFailureOnServerThread
+    ) {
+        runAsync(StorageLane.INTERACTIVE, playerUuid, operation, supplier, scheduler, onSuccessOnServerThread, onFailureOnServerThread);
+    }
+
+    private <T> void runAsync(
+            StorageLane lane,
+            String affinityKey,
+            String operation,
+            Supplier<T> supplier,
+            TaskScheduler scheduler,
+            Consumer<T> onSuccessOnServerThread,
+            Consumer<Throwable> onFailureOnServerThread
+    ) {
+        submitStorageTask(lane, affinityKey, operation, () -> {
             try {
                 return supplier.get();
             } catch (Exception failure) {
@@ -276,7 +347,20 @@ public class StorageService implements AutoCloseable {
     }
 
     public void runStorageAsync(String operation, Runnable work) {
-        submitStorageTask(() -> {
+        runStorageAsync(StorageLane.BULK, operation, work);
+    }
+
+    public void runStorageAsync(StorageLane lane, String operation, Runnable work) {
+        runStorageAsync(lane, null, operation, work);
+    }
+
+    /** Fire-and-forget player work on the interactive lane, ordered per player like {@link #runPlayerAsync}. */
+    public void runPlayerStorageAsync(String playerUuid, String operation, Runnable work) {
+        runStorageAsync(StorageLane.INTERACTIVE, playerUuid, operation, work);
+    }
+
+    private void runStorageAsync(StorageLane lane, String affinityKey, String operation, Runnable work) {
+        submitStorageTask(lane, affinityKey, operation, () -> {
             try {
                 work.run();
             } catch (Exception failure) {
@@ -301,9 +385,13 @@ public class StorageService implements AutoCloseable {
         });
     }
 
-    private <T> CompletableFuture<T> submitStorageTask(Supplier<T> task) {
+    private <T> CompletableFuture<T> submitStorageTask(StorageLane lane, String operation, Supplier<T> task) {
+        return submitStorageTask(lane, null, operation, task);
+    }
+
+    private <T> CompletableFuture<T> submitStorageTask(StorageLane lane, String affinityKey, String operation, Supplier<T> task) {
         try {
-            return CompletableFuture.supplyAsync(task, executor);
+            return executor.submit(lane, safeOperation(operation), affinityKey, task);
         } catch (RejectedExecutionException rejected) {
             synchronized (lifecycleLock) {
                 if (closed) {
@@ -312,7 +400,7 @@ public class StorageService implements AutoCloseable {
                 }
                 if (!closing) {
                     return CompletableFuture.failedFuture(
-                            new StorageException("Storage service is not accepting new work.", rejected));
+                            new StorageException("Storage service is not accepting new work: " + rejected.getMessage(), rejected));
                 }
                 try {
                     return CompletableFuture.completedFuture(task.get());
@@ -371,6 +459,8 @@ public class StorageService implements AutoCloseable {
             }
             return new StorageMigrationService(logger).migrate(sourceProvider, targetProvider, context.serverIdentity(), effectiveOptions);
         } finally {
+            // The migration writes through the raw providers, behind the cache's back.
+            repositoryCache.invalidate();
             if (closeTarget && targetProvider != null) {
                 targetProvider.close();
             }
@@ -438,8 +528,8 @@ public class StorageService implements AutoCloseable {
         return "backups".equals(first) || "libs".equals(first) || "runtime-libs".equals(first);
     }
 
-    public PlayerRepository players() { return requireProvider().players(); }
-    public WarpRepository warps() { return requireProvider().warps(); }
+    public PlayerRepository players() { return repositoryCache.players(requireProvider()); }
+    public WarpRepository warps() { return repositoryCache.warps(requireProvider()); }
     public PermissionRepository permissions() { return requireProvider().permissions(); }
     public ModerationRepository moderation() { return requireProvider().moderation(); }
     public AdminStateRepository adminState() { return requireProvider().adminState(); }
@@ -539,7 +629,7 @@ public class StorageService implements AutoCloseable {
         boolean interrupted = false;
         try {
             if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
-                int discarded = executor.shutdownNow().size();
+                int discarded = executor.shutdownNow();
                 if (logger != null) {
                     logger.warn("Paradigm storage: forced executor shutdown after timeout; {} queued operation(s) were cancelled.", discarded);
                 }
@@ -549,13 +639,14 @@ public class StorageService implements AutoCloseable {
             }
         } catch (InterruptedException failure) {
             interrupted = true;
-            int discarded = executor.shutdownNow().size();
+            int discarded = executor.shutdownNow();
             if (logger != null) {
                 logger.warn("Paradigm storage: executor shutdown was interrupted; {} queued operation(s) were cancelled.", discarded);
             }
         }
 
         synchronized (lifecycleLock) {
+            repositoryCache.clear();
             try {
                 if (activeProvider != null) {
                     activeProvider.close();
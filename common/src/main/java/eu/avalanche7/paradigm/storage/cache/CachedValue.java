@@ -0,0 +1,50 @@
+package eu.avalanche7.paradigm.storage.cache;
+
+/**
+ * One cached value with a version that moves on every install. A load captures the version before it queries and
+ * installs only if nothing was installed meanwhile, so a slow read of old rows cannot overwrite a newer write. A
+ * writer that loses that race drops the value instead, and the next read reloads it.
+ */
+final class CachedValue<T> {
+    private T value;
+    private long loadedAtMs;
+    private long version;
+
+    synchronized long version() {
+        return version;
+    }
+
+    /** The value, or {@code null} when nothing is cached or it is older than {@code ttlMs} (0 never expires). */
+    synchronized T fresh(long ttlMs) {
+        if (value == null || (ttlMs > 0L && System.currentTimeMillis() - loadedAtMs >= ttlMs)) {
+            return null;
+        }
+        return value;
+    }
+
+    synchronized boolean install(long expectedVersion, T loaded) {
+        if (expectedVersion != version || loaded == null) {
+            return false;
+        }
+        value = loaded;
+        loadedAtMs = System.currentTimeMillis();
+        version++;
+        return true;
+    }
+
+    /** Installs what a writer just stored, or forgets the value if another install got there first. */
+    synchronized void replace(long expectedVersion, T written) {
+        if (!install(expectedVersion, written)) {
+            invalidate();
+        }
+    }
+
+    synchronized void replace(T written) {
+        replace(version, written);
+    }
+
+    synchronized void invalidate() {
+        value = null;
+        version++;
+    }
+}
@@ -0,0 +1,196 @@
+package eu.avalanche7.paradigm.storage.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import eu.avalanche7.paradigm.storage.model.StoredHome;
+import eu.avalanche7.paradigm.storage.model.StoredLocation;
+import eu.avalanche7.paradigm.storage.model.StoredPlayerProfile;
+import eu.avalanche7.paradigm.storage.repository.PlayerRepository;
+
+/**
+ * Caches homes and back locations of tracked (online) players. A player's home list is held whole, so a lookup
+ * for a name that is not in it is answered without a query. Anything else passes straight through.
+ */
+final class CachingPlayerRepository implements PlayerRepository {
+    private final PlayerRepository delegate;
+    private final RepositoryCache cache;
+    private final Map<String, Entry> tracked = new ConcurrentHashMap<>();
+
+    CachingPlayerRepository(PlayerRepository delegate, RepositoryCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    void track(String uuidKey) {
+        if (!uuidKey.isEmpty()) {
+            tracked.computeIfAbsent(uuidKey, ignored -> new Entry());
+        }
+    }
+
+    void load(String uuidKey) {
+        Entry entry = tracked.get(uuidKey);
+        if (entry != null) {
+            homes(uuidKey, entry);
+            back(uuidKey, entry);
+        }
+    }
+
+    void evict(String uuidKey) {
+        tracked.remove(uuidKey);
+    }
+
+    void invalidate() {
+        for (Entry entry : tracked.values()) {
+            entry.homes.invalidate();
+            entry.back.invalidate();
+        }
+    }
+
+    int cachedPlayers() {
+        return tracked.size();
+    }
+
+    @Override
+    public List<StoredHome> listHomes(String uuid) {
+        String uuidKey = RepositoryCache.key(uuid);
+        Entry entry = tracked.get(uuidKey);
+        if (entry == null) {
+            cache.homes.miss();
+            return delegate.listHomes(uuid);
+        }
+        return homes(uuidKey, entry);
+    }
+
+    @Override
+    public Optional<StoredHome> getHome(String uuid, String homeName) {
+        String uuidKey = RepositoryCache.key(uuid);
+        Entry entry = tracked.get(uuidKey);
+        if (entry == null || homeName == null) {
+            cache.homes.miss();
+            return delegate.getHome(uuid, homeName);
+        }
+        boolean caseVariant = false;
+        for (StoredHome home : homes(uuidKey, entry)) {
+            if (homeName.equals(home.name())) {
+                return Optional.of(home);
+            }
+            caseVariant |= homeName.equalsIgnoreCase(home.name());
+        }
+        if (!caseVariant) {
+            return Optional.empty();
+        }
+        // Whether a different-case name matches depends on the database collation; let the database decide.
+        cache.homes.miss();
+        return delegate.getHome(uuid, homeName);
+    }
+
+    @Override
+    public void saveHome(StoredHome home) {
+        delegate.saveHome(home);
+        refreshHomes(home != null ? home.uuid() : null);
+    }
+
+    @Override
+    public boolean deleteHome(String uuid, String homeName) {
+        boolean deleted = delegate.deleteHome(uuid, homeName);
+        refreshHomes(uuid);
+        return deleted;
+    }
+
+    @Override
+    public Optional<StoredLocation> getBackLocation(String uuid) {
+        String uuidKey = RepositoryCache.key(uuid);
+        Entry entry = tracked.get(uuidKey);
+        if (entry == null) {
+            cache.back.miss();
+            return delegate.getBackLocation(uuid);
+        }
+        return back(uuidKey, entry);
+    }
+
+    @Override
+    public void setBackLocation(String uuid, StoredLocation location) {
+        delegate.setBackLocation(uuid, location);
+        Entry entry = tracked.get(RepositoryCache.key(uuid));
+        if (entry != null && location != null) {
+            entry.back.replace(Optional.of(location));
+        }
+    }
+
+    @Override
+    public void saveHomes(Collection<StoredHome> homes) {
+        delegate.saveHomes(homes);
+        homes.stream().filter(java.util.Objects::nonNull).map(home -> RepositoryCache.key(home.uuid())).distinct().forEach(this::refreshHomes);
+    }
+
+    @Override
+    public void setBackLocations(Collection<BackLocation> locations) {
+        delegate.setBackLocations(locations);
+        for (BackLocation location : locations) {
+            Entry entry = location != null ? tracked.get(RepositoryCache.key(location.uuid())) : null;
+            if (entry != null && location.location() != null) {
+                entry.back.replace(Optional.of(location.location()));
+            }
+        }
+    }
+
+    private void refreshHomes(String uuid) {
+        Entry entry = tracked.get(RepositoryCache.key(uuid));
+        if (entry != null) {
+            long version = entry.homes.version();
+            entry.homes.replace(version, List.copyOf(delegate.listHomes(uuid)));
+        }
+    }
+
+    private List<StoredHome> homes(String uuidKey, Entry entry) {
+        List<StoredHome> cached = entry.homes.fresh(cache.ttlMs());
+        if (cached != null) {
+            cache.homes.hit();
+            return cached;
+        }
+        cache.homes.miss();
+        long version = entry.homes.version();
+        List<StoredHome> loaded = List.copyOf(delegate.listHomes(uuidKey));
+        entry.homes.install(version, loaded);
+        return loaded;
+    }
+
+    private Optional<StoredLocation> back(String uuidKey, Entry entry) {
+        Optional<StoredLocation> cached = entry.back.fresh(cache.ttlMs());
+        if (cached != null) {
+            cache.back.hit();
+            return cached;
+        }
+        cache.back.miss();
+        long version = entry.back.version();
+        Optional<StoredLocation> loaded = delegate.getBackLocation(uuidKey);
+        entry.back.install(version, loaded);
+        return loaded;
+    }
+
+    @Override public List<StoredPlayerProfile> listProfiles() { return delegate.listProfiles(); }
+    @Override public Optional<StoredPlayerProfile> getProfile(String uuid) { return delegate.getProfile(uuid); }
+    @Override public void upsertProfile(StoredPlayerProfile profile) { delegate.upsertProfile(profile); }
+    @Override public List<StoredPlayerProfile> findProfilesByName(String name) { return delegate.findProfilesByName(name); }
+    @Override public List<StoredPlayerProfile> queryProfiles(ProfileQuery query) { return delegate.queryProfiles(query); }
+    @Override public int countProfiles(ProfileQuery query) { return delegate.countProfiles(query); }
+    @Override public Map<String, StoredPlayerProfile> getProfiles(Collection<String> uuids) { return delegate.getProfiles(uuids); }
+    @Override public void upsertProfiles(Collection<StoredPlayerProfile> profiles) { delegate.upsertProfiles(profiles); }
+    @Override public List<StoredHome> listAllHomes() { return delegate.listAllHomes(); }
+    @Override public List<BackLocation> listAllBackLocations() { return delegate.listAllBackLocations(); }
+    @Override public List<IgnoredPlayer> listAllIgnoredPlayers() { return delegate.listAllIgnoredPlayers(); }
+    @Override public void addIgnoredPlayers(Collection<IgnoredPlayer> entries) { delegate.addIgnoredPlayers(entries); }
+    @Override public Set<String> listIgnoredPlayers(String uuid) { return delegate.listIgnoredPlayers(uuid); }
+    @Override public boolean addIgnoredPlayer(String uuid, String ignoredUuid) { return delegate.addIgnoredPlayer(uuid, ignoredUuid); }
+    @Override public boolean removeIgnoredPlayer(String uuid, String ignoredUuid) { return delegate.removeIgnoredPlayer(uuid, ignoredUuid); }
+
+    private static final class Entry {
+        private final CachedValue<List<StoredHome>> homes = new CachedValue<>();
+        private final CachedValue<Optional<StoredLocation>> back = new CachedValue<>();
+    }
+}
@@ -0,0 +1,106 @@
+package eu.avalanche7.paradigm.storage.cache;
+
+import java.util.List;
+import java.util.Optional;
+
+import eu.avalanche7.paradigm.data.WarpStore;
+import eu.avalanche7.paradigm.storage.model.StoredLocation;
+import eu.avalanche7.paradigm.storage.model.StoredWarp;
+import eu.avalanche7.paradigm.storage.repository.WarpRepository;
+
+/**
+ * Caches the warp list and the global spawn. The list is held whole and in the delegate's order, so a lookup picks
+ * the same row the database would and a missing warp is answered without a query.
+ */
+final class CachingWarpRepository implements WarpRepository {
+    private final WarpRepository delegate;
+    private final RepositoryCache cache;
+    private final CachedValue<List<StoredWarp>> warps = new CachedValue<>();
+    private final CachedValue<Optional<StoredLocation>> spawn = new CachedValue<>();
+
+    CachingWarpRepository(WarpRepository delegate, RepositoryCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    void invalidate() {
+        warps.invalidate();
+        spawn.invalidate();
+    }
+
+    int cachedWarps() {
+        List<StoredWarp> cached = warps.fresh(0L);
+        return cached != null ? cached.size() : 0;
+    }
+
+    @Override
+    public void saveWarp(StoredWarp warp) {
+        delegate.saveWarp(warp);
+        refreshWarps();
+    }
+
+    @Override
+    public Optional<StoredWarp> getWarp(String name) {
+        String key = WarpStore.normalizeWarpKey(name);
+        if (key == null) {
+            return Optional.empty();
+        }
+        for (StoredWarp warp : warps()) {
+            if (key.equals(WarpStore.normalizeWarpKey(warp.name()))) {
+                return Optional.of(warp);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean deleteWarp(String name) {
+        boolean deleted = delegate.deleteWarp(name);
+        refreshWarps();
+        return deleted;
+    }
+
+    @Override
+    public List<StoredWarp> listWarps() {
+        return warps();
+    }
+
+    @Override
+    public Optional<StoredLocation> getGlobalSpawn() {
+        Optional<StoredLocation> cached = spawn.fresh(cache.ttlMs());
+        if (cached != null) {
+            cache.warps.hit();
+            return cached;
+        }
+        cache.warps.miss();
+        long version = spawn.version();
+        Optional<StoredLocation> loaded = delegate.getGlobalSpawn();
+        spawn.install(version, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void setGlobalSpawn(StoredLocation location) {
+        delegate.setGlobalSpawn(location);
+        long version = spawn.version();
+        spawn.replace(version, delegate.getGlobalSpawn());
+    }
+
+    private void refreshWarps() {
+        long version = warps.version();
+        warps.replace(version, List.copyOf(delegate.listWarps()));
+    }
+
+    private List<StoredWarp> warps() {
+        List<StoredWarp> cached = warps.fresh(cache.ttlMs());
+        if (cached != null) {
+            cache.warps.hit();
+            return cached;
+        }
+        cache.warps.miss();
+        long version = warps.version();
+        List<StoredWarp> loaded = List.copyOf(delegate.listWarps());
+        warps.install(version, loaded);
+        return loaded;
+    }
+}
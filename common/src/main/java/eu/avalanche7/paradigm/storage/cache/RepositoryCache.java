@@ -0,0 +1,166 @@
+package eu.avalanche7.paradigm.storage.cache;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import eu.avalanche7.paradigm.storage.StorageProvider;
+import eu.avalanche7.paradigm.storage.StorageProviderType;
+import eu.avalanche7.paradigm.storage.repository.PlayerRepository;
+import eu.avalanche7.paradigm.storage.repository.WarpRepository;
+
+/**
+ * Read-through caches in front of the SQL player and warp repositories. Homes and back locations are cached only
+ * for online players (warmed on join, dropped on quit); warps and the global spawn are cached for everyone. Writes
+ * go to storage first and then refresh the cached copy. JSON storage is already held in memory and is not wrapped.
+ * <p>
+ * Home, back and warp rows are keyed by this server's id and only written through this process, so a cached copy
+ * cannot be made stale by another backend. On MySQL, entries still expire after {@link #SHARED_TTL_MS} so edits
+ * made directly in the database show up.
+ */
+public final class RepositoryCache {
+    private static final long SHARED_TTL_MS = TimeUnit.SECONDS.toMillis(60);
+
+    final Counter homes = new Counter();
+    final Counter back = new Counter();
+    final Counter warps = new Counter();
+
+    private StorageProvider boundProvider;
+    private CachingPlayerRepository playerCache;
+    private CachingWarpRepository warpCache;
+    private volatile long ttlMs;
+
+    public synchronized PlayerRepository players(StorageProvider provider) {
+        if (!cacheable(provider)) {
+            return provider.players();
+        }
+        bind(provider);
+        return playerCache;
+    }
+
+    public synchronized WarpRepository warps(StorageProvider provider) {
+        if (!cacheable(provider)) {
+            return provider.warps();
+        }
+        bind(provider);
+        return warpCache;
+    }
+
+    /**
+     * Starts caching the player's homes and back location; cheap enough to call on the server thread. Returns
+     * {@code false} when the provider is not cached at all.
+     */
+    public synchronized boolean track(StorageProvider provider, String uuid) {
+        if (!cacheable(provider)) {
+            return false;
+        }
+        bind(provider);
+        playerCache.track(key(uuid));
+        return true;
+    }
+
+    /** Loads a tracked player's homes and back location so their first /home or /back is served from memory. */
+    public void load(String uuid) {
+        CachingPlayerRepository current = currentPlayerCache();
+        if (current != null) {
+            current.load(key(uuid));
+        }
+    }
+
+    public void evict(String uuid) {
+        CachingPlayerRepository current = currentPlayerCache();
+        if (current != null) {
+            current.evict(key(uuid));
+        }
+    }
+
+    /** Drops every cached value but keeps tracking the same players; the next read of each goes to storage. */
+    public synchronized void invalidate() {
+        if (playerCache != null) {
+            playerCache.invalidate();
+        }
+        if (warpCache != null) {
+            warpCache.invalidate();
+        }
+    }
+
+    public synchronized void clear() {
+        boundProvider = null;
+        playerCache = null;
+        warpCache = null;
+    }
+
+    public synchronized Metrics metrics() {
+        return new Metrics(
+                boundProvider != null,
+                boundProvider != null ? boundProvider.type().configValue() : "",
+                ttlMs,
+                playerCache != null ? playerCache.cachedPlayers() : 0,
+                warpCache != null ? warpCache.cachedWarps() : 0,
+                homes.snapshot(),
+                back.snapshot(),
+                warps.snapshot()
+        );
+    }
+
+    long ttlMs() {
+        return ttlMs;
+    }
+
+    private synchronized CachingPlayerRepository currentPlayerCache() {
+        return playerCache;
+    }
+
+    private static boolean cacheable(StorageProvider provider) {
+        return provider != null && provider.type() != StorageProviderType.JSON;
+    }
+
+    private void bind(StorageProvider provider) {
+        if (boundProvider == provider) {
+            return;
+        }
+        boundProvider = provider;
+        ttlMs = provider.type() == StorageProviderType.MYSQL ? SHARED_TTL_MS : 0L;
+        playerCache = new CachingPlayerRepository(provider.players(), this);
+        warpCache = new CachingWarpRepository(provider.warps(), this);
+    }
+
+    static String key(String uuid) {
+        return uuid != null ? uuid.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    static final class Counter {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+
+        void hit() {
+            hits.incrementAndGet();
+        }
+
+        void miss() {
+            misses.incrementAndGet();
+        }
+
+        private Area snapshot() {
+            long hitCount = hits.get();
+            long missCount = misses.get();
+            long total = hitCount + missCount;
+            return new Area(hitCount, missCount, total > 0L ? (double) hitCount / total : 0.0D);
+        }
+    }
+
+    public record Area(long hits, long misses, double hitRate) {
+    }
+
+    public record Metrics(
+            boolean enabled,
+            String provider,
+            long ttlMs,
+            int cachedPlayers,
+            int cachedWarps,
+            Area homes,
+            Area back,
+            Area warps
+    ) {
+    }
+}
@@ -1,8 +1,11 @@
 package eu.avalanche7.paradigm.storage.json;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.slf4j.Logger;
 
@@ -13,8 +16,10 @@ import eu.avalanche7.paradigm.platform.Interfaces.IConfig;
 import eu.avalanche7.paradigm.storage.model.StoredPermissionGroup;
 import eu.avalanche7.paradigm.storage.model.StoredPermissionNode;
 import eu.avalanche7.paradigm.storage.model.StoredPermissionTrack;
+import eu.avalanche7.paradigm.storage.model.StoredPlayerProfile;
 import eu.avalanche7.paradigm.storage.model.StoredUserPermissionData;
 import eu.avalanche7.paradigm.storage.repository.PermissionRepository;
+import eu.avalanche7.paradigm.storage.repository.PlayerRepository;
 import eu.avalanche7.paradigm.utils.DebugLogger;
 
 public class JsonPermissionRepository implements PermissionRepository {
@@ -219,6 +224,41 @@ public class JsonPermissionRepository implements PermissionRepository {
         return result;
     }
 
+    @Override
+    public List<StoredUserPermissionData> queryUsers(String search, int offset, int limit) {
+        if (limit <= 0) return List.of();
+        List<StoredUserPermissionData> result = new ArrayList<>(Math.min(limit, 100));
+        for (StoredPlayerProfile subject : subjects(search).stream().skip(Math.max(0, offset)).limit(limit).toList()) {
+            getUser(subject.uuid()).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public int countUsers(String search) {
+        return subjects(search).size();
+    }
+
+    /** Configured subjects resolved against the in-memory playerdata index, without reading assignments. */
+    private List<StoredPlayerProfile> subjects(String search) {
+        PlayerRepository.ProfileQuery query = PlayerRepository.ProfileQuery.byName(search, 0, 0);
+        Set<String> uuids = new LinkedHashSet<>(permissionStore.load().users.keySet());
+        if (playerDataStore != null) {
+            uuids.addAll(playerDataStore.listTemporaryGroupHolders());
+        }
+        List<StoredPlayerProfile> subjects = new ArrayList<>();
+        for (String uuid : uuids) {
+            PlayerDataStore.PlayerEntry player = playerDataStore != null ? playerDataStore.getPlayerEntry(uuid) : null;
+            StoredPlayerProfile subject = new StoredPlayerProfile(uuid, player != null ? player.getName() : null, 0L, 0L);
+            if (query.matches(subject)) {
+                subjects.add(subject);
+            }
+        }
+        subjects.sort(Comparator.comparing((StoredPlayerProfile subject) -> PlayerRepository.ProfileQuery.nameKey(subject.name()))
+                .thenComparing(StoredPlayerProfile::uuid));
+        return subjects;
+    }
+
     @Override
     public Optional<StoredUserPermissionData> getUser(String uuid) {
         String key = normalize(uuid);
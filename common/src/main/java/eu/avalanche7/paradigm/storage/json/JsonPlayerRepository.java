@@ -1,6 +1,7 @@
 package eu.avalanche7.paradigm.storage.json;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +34,62 @@ public class JsonPlayerRepository implements PlayerRepository {
         return profiles;
     }
 
+    @Override
+    public List<StoredPlayerProfile> queryProfiles(ProfileQuery query) {
+        if (store == null || query.limit() <= 0) {
+            return List.of();
+        }
+        if (query.sort() == ProfileSort.LAST_SEEN || query.exactUuid() != null) {
+            List<StoredPlayerProfile> matches = collect(query);
+            if (query.sort() == ProfileSort.LAST_SEEN) {
+                matches.sort(Comparator.comparingLong(StoredPlayerProfile::lastSeenMs).reversed().thenComparing(StoredPlayerProfile::uuid));
+            }
+            return matches.stream().skip(query.offset()).limit(query.limit()).toList();
+        }
+        List<StoredPlayerProfile> page = new ArrayList<>(Math.min(query.limit(), 100));
+        int[] skip = {query.offset()};
+        store.visitProfilesByName(query.search(), profile -> {
+            if (query.matches(profile)) {
+                if (skip[0] > 0) {
+                    skip[0]--;
+                } else {
+                    page.add(profile);
+                }
+            }
+            return page.size() < query.limit();
+        });
+        return page;
+    }
+
+    @Override
+    public int countProfiles(ProfileQuery query) {
+        if (store == null) {
+            return 0;
+        }
+        if (query.exactUuid() != null) {
+            return collect(query).size();
+        }
+        return store.countProfilesByName(query.search(), query.excludedUuids());
+    }
+
+    private List<StoredPlayerProfile> collect(ProfileQuery query) {
+        List<StoredPlayerProfile> matches = new ArrayList<>();
+        store.visitProfilesByName(query.search(), profile -> {
+            if (query.matches(profile)) {
+                matches.add(profile);
+            }
+            return true;
+        });
+        String exactUuid = query.exactUuid();
+        if (exactUuid != null && matches.stream().noneMatch(profile -> exactUuid.equals(profile.uuid()))) {
+            getProfile(exactUuid)
+                    .filter(profile -> profile.firstSeenMs() > 0L || profile.lastSeenMs() > 0L || profile.name() != null && !profile.name().isBlank())
+                    .filter(query::matches)
+                    .ifPresent(matches::add);
+        }
+        return matches;
+    }
+
     @Override
     public Optional<StoredPlayerProfile> getProfile(String uuid) {
         PlayerDataStore.PlayerEntry entry = store != null ? store.getPlayerEntry(uuid) : null;
@@ -11,6 +11,7 @@ import eu.avalanche7.paradigm.modules.audit.JsonAuditRepository;
 import eu.avalanche7.paradigm.modules.tickets.JsonTicketRepository;
 import eu.avalanche7.paradigm.modules.tickets.TicketRepository;
 import eu.avalanche7.paradigm.platform.Interfaces.IConfig;
+import eu.avalanche7.paradigm.storage.StorageConfig;
 import eu.avalanche7.paradigm.storage.StorageProvider;
 import eu.avalanche7.paradigm.storage.StorageProviderType;
 import eu.avalanche7.paradigm.storage.StorageService;
@@ -32,7 +33,7 @@ public class JsonStorageProvider implements StorageProvider {
     private final AdminStateRepository adminState;
     private final ServerRepository servers;
     private final ManagedConfigRepository managedConfig;
-    private final AuditRepository audit;
+    private final JsonAuditRepository audit;
     private final TicketRepository tickets;
 
     public JsonStorageProvider(
@@ -43,7 +44,8 @@ public class JsonStorageProvider implements StorageProvider {
             PlayerDataStore playerDataStore,
             WarpStore warpStore,
             ModerationDataStore moderationDataStore,
-            AdminUtilityDataStore adminUtilityDataStore
+            AdminUtilityDataStore adminUtilityDataStore,
+            StorageConfig.JsonAuditConfig auditConfig
     ) {
         this.players = new JsonPlayerRepository(playerDataStore);
         this.warps = new JsonWarpRepository(warpStore);
@@ -52,7 +54,7 @@ public class JsonStorageProvider implements StorageProvider {
         this.adminState = new JsonAdminStateRepository(adminUtilityDataStore, context);
         this.servers = new JsonServerRepository(context);
         this.managedConfig = new JsonManagedConfigRepository();
-        this.audit = new JsonAuditRepository(config, logger);
+        this.audit = new JsonAuditRepository(config, logger, auditConfig);
         this.tickets = new JsonTicketRepository(config, context, logger);
     }
 
@@ -72,4 +74,5 @@ public class JsonStorageProvider implements StorageProvider {
         return new StorageService.StorageTestResult(true, "json", true, "JSON provider is available.", 0, "not_needed", "not_needed");
     }
     @Override public int migrationVersion() { return 0; }
+    @Override public void close() { audit.close(); }
 }
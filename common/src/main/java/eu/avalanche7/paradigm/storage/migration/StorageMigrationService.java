@@ -1,10 +1,14 @@
 package eu.avalanche7.paradigm.storage.migration;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 
@@ -12,6 +16,7 @@ import eu.avalanche7.paradigm.modules.moderation.PunishmentRecord;
 import eu.avalanche7.paradigm.storage.StorageProvider;
 import eu.avalanche7.paradigm.storage.identity.ServerIdentity;
 import eu.avalanche7.paradigm.storage.model.StoredAdminState;
+import eu.avalanche7.paradigm.storage.model.StoredHome;
 import eu.avalanche7.paradigm.storage.model.StoredJailState;
 import eu.avalanche7.paradigm.storage.model.StoredPermissionGroup;
 import eu.avalanche7.paradigm.storage.model.StoredPermissionTrack;
@@ -20,8 +25,11 @@ import eu.avalanche7.paradigm.storage.model.StoredPunishment;
 import eu.avalanche7.paradigm.storage.model.StoredUserPermissionData;
 import eu.avalanche7.paradigm.storage.model.StoredWarning;
 import eu.avalanche7.paradigm.storage.model.StoredWarp;
+import eu.avalanche7.paradigm.storage.repository.PlayerRepository;
 
 public class StorageMigrationService {
+    private static final int WRITE_BATCH_SIZE = 500;
+
     private final Logger logger;
 
     public StorageMigrationService(Logger logger) {
@@ -67,44 +75,99 @@ public class StorageMigrationService {
     }
 
     private void copyPlayers(StorageProvider source, StorageProvider target, Counter counter) {
+        // Existence checks read each target table once up front instead of one SELECT per row.
+        Set<String> existingProfiles = new HashSet<>();
+        for (StoredPlayerProfile existing : target.players().listProfiles()) {
+            if (existing != null && existing.uuid() != null) existingProfiles.add(key(existing.uuid()));
+        }
+        Set<String> existingHomes = new HashSet<>();
+        for (StoredHome existing : target.players().listAllHomes()) {
+            if (existing != null && existing.name() != null) existingHomes.add(homeKey(existing.uuid(), existing.name()));
+        }
+        Set<String> existingBackLocations = new HashSet<>();
+        for (PlayerRepository.BackLocation existing : target.players().listAllBackLocations()) {
+            if (existing != null) existingBackLocations.add(key(existing.uuid()));
+        }
+        Set<String> existingIgnores = new HashSet<>();
+        for (PlayerRepository.IgnoredPlayer existing : target.players().listAllIgnoredPlayers()) {
+            if (existing != null) existingIgnores.add(key(existing.uuid()) + "/" + key(existing.ignoredUuid()));
+        }
+
+        PendingWrites<StoredPlayerProfile> profiles = new PendingWrites<>(counter,
+                batch -> target.players().upsertProfiles(batch),
+                profile -> target.players().upsertProfile(profile),
+                profile -> "player " + profile.uuid(),
+                () -> counter.players--);
+        PendingWrites<StoredHome> homes = new PendingWrites<>(counter,
+                batch -> target.players().saveHomes(batch),
+                home -> target.players().saveHome(home),
+                home -> "home " + home.uuid() + "/" + home.name(),
+                () -> counter.homes--);
+        PendingWrites<PlayerRepository.BackLocation> backLocations = new PendingWrites<>(counter,
+                batch -> target.players().setBackLocations(batch),
+                entry -> target.players().setBackLocation(entry.uuid(), entry.location()),
+                entry -> "back location " + entry.uuid(),
+                () -> {});
+        PendingWrites<PlayerRepository.IgnoredPlayer> ignores = new PendingWrites<>(counter,
+                batch -> target.players().addIgnoredPlayers(batch),
+                entry -> target.players().addIgnoredPlayer(entry.uuid(), entry.ignoredUuid()),
+                entry -> "ignored player " + entry.uuid() + "/" + entry.ignoredUuid(),
+                () -> {});
+
+        Set<String> copiedPlayers = new HashSet<>();
         for (StoredPlayerProfile profile : source.players().listProfiles()) {
             if (profile == null || profile.uuid() == null || profile.uuid().isBlank()) {
                 counter.skipped++;
                 continue;
             }
+            copiedPlayers.add(key(profile.uuid()));
             if (transfer(counter, "player " + profile.uuid(),
-                    () -> target.players().getProfile(profile.uuid()).isPresent(),
-                    () -> target.players().upsertProfile(profile))) {
+                    () -> existingProfiles.contains(key(profile.uuid())),
+                    () -> profiles.add(profile))) {
                 counter.players++;
             }
+        }
 
-            for (var home : source.players().listHomes(profile.uuid())) {
-                if (home == null || home.name() == null || home.name().isBlank()) {
-                    counter.skipped++;
-                    continue;
-                }
-                if (transfer(counter, "home " + profile.uuid() + "/" + home.name(),
-                        () -> target.players().getHome(home.uuid(), home.name()).isPresent(),
-                        () -> target.players().saveHome(home))) {
-                    counter.homes++;
-                }
+        for (StoredHome home : source.players().listAllHomes()) {
+            if (home == null || !copiedPlayers.contains(key(home.uuid()))) {
+                continue;
             }
+            if (home.name() == null || home.name().isBlank()) {
+                counter.skipped++;
+                continue;
+            }
+            if (transfer(counter, "home " + home.uuid() + "/" + home.name(),
+                    () -> existingHomes.contains(homeKey(home.uuid(), home.name())),
+                    () -> homes.add(home))) {
+                counter.homes++;
+            }
+        }
 
-            source.players().getBackLocation(profile.uuid()).ifPresent(location ->
-                    transfer(counter, "back location " + profile.uuid(),
-                            () -> target.players().getBackLocation(profile.uuid()).isPresent(),
-                            () -> target.players().setBackLocation(profile.uuid(), location)));
+        for (PlayerRepository.BackLocation entry : source.players().listAllBackLocations()) {
+            if (entry == null || entry.location() == null || !copiedPlayers.contains(key(entry.uuid()))) {
+                continue;
+            }
+            transfer(counter, "back location " + entry.uuid(),
+                    () -> existingBackLocations.contains(key(entry.uuid())),
+                    () -> backLocations.add(entry));
+        }
 
-            for (String ignored : source.players().listIgnoredPlayers(profile.uuid())) {
-                if (ignored == null || ignored.isBlank()) {
-                    counter.skipped++;
-                    continue;
-                }
-                transfer(counter, "ignored player " + profile.uuid() + "/" + ignored,
-                        () -> target.players().listIgnoredPlayers(profile.uuid()).contains(ignored),
-                        () -> target.players().addIgnoredPlayer(profile.uuid(), ignored));
+        for (PlayerRepository.IgnoredPlayer entry : source.players().listAllIgnoredPlayers()) {
+            if (entry == null || !copiedPlayers.contains(key(entry.uuid()))) {
+                continue;
+            }
+            if (entry.ignoredUuid() == null || entry.ignoredUuid().isBlank()) {
+                counter.skipped++;
+                continue;
             }
+            transfer(counter, "ignored player " + entry.uuid() + "/" + entry.ignoredUuid(),
+                    () -> existingIgnores.contains(key(entry.uuid()) + "/" + key(entry.ignoredUuid())),
+                    () -> ignores.add(entry));
         }
+        profiles.flush();
+        homes.flush();
+        backLocations.flush();
+        ignores.flush();
     }
 
     private void copyWarps(StorageProvider source, StorageProvider target, Counter counter) {
@@ -213,17 +276,24 @@ public class StorageMigrationService {
                     () -> target.permissions().getTrack(track.name()).isPresent(),
                     () -> target.permissions().saveTrack(track));
         }
+        Set<String> existingUsers = target.permissions().listUserUuids();
+        PendingWrites<StoredUserPermissionData> users = new PendingWrites<>(counter,
+                batch -> target.permissions().saveUsers(batch),
+                user -> target.permissions().saveUser(user),
+                user -> "permission user " + user.uuid(),
+                () -> counter.permissionUsers--);
         for (StoredUserPermissionData user : source.permissions().listUsers()) {
             if (user == null || user.uuid() == null || user.uuid().isBlank()) {
                 counter.skipped++;
                 continue;
             }
             if (transfer(counter, "permission user " + user.uuid(),
-                    () -> target.permissions().getUser(user.uuid()).isPresent(),
-                    () -> target.permissions().saveUser(user))) {
+                    () -> existingUsers.contains(key(user.uuid())),
+                    () -> users.add(user))) {
                 counter.permissionUsers++;
             }
         }
+        users.flush();
     }
 
     private void copyAdminState(StorageProvider source, StorageProvider target, Counter counter) {
@@ -380,6 +450,14 @@ public class StorageMigrationService {
         }
     }
 
+    private static String key(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static String homeKey(String uuid, String homeName) {
+        return key(uuid) + "/" + homeName;
+    }
+
     private static boolean same(String left, String right) {
         String a = left != null ? left.trim().toLowerCase(Locale.ROOT) : "";
         String b = right != null ? right.trim().toLowerCase(Locale.ROOT) : "";
@@ -394,6 +472,59 @@ public class StorageMigrationService {
         return warning.uuid() != null ? warning.uuid() : warning.name();
     }
 
+    /**
+     * Buffers accepted writes and sends them through the target's bulk method. When a batch fails it is replayed one
+     * item at a time so the summary still names the rows that could not be written.
+     */
+    private final class PendingWrites<T> {
+        private final Counter counter;
+        private final Consumer<List<T>> bulkWriter;
+        private final Consumer<T> singleWriter;
+        private final Function<T, String> label;
+        private final Runnable onItemFailed;
+        private final List<T> pending = new ArrayList<>();
+
+        private PendingWrites(Counter counter, Consumer<List<T>> bulkWriter, Consumer<T> singleWriter,
+                              Function<T, String> label, Runnable onItemFailed) {
+            this.counter = counter;
+            this.bulkWriter = bulkWriter;
+            this.singleWriter = singleWriter;
+            this.label = label;
+            this.onItemFailed = onItemFailed;
+        }
+
+        private void add(T item) {
+            pending.add(item);
+            if (pending.size() >= WRITE_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<T> batch = List.copyOf(pending);
+            pending.clear();
+            try {
+                bulkWriter.accept(batch);
+                return;
+            } catch (RuntimeException batchFailure) {
+                if (logger != null) {
+                    logger.warn("Paradigm storage migration: batch of {} writes failed, retrying individually: {}", batch.size(), batchFailure.getMessage());
+                }
+            }
+            for (T item : batch) {
+                try {
+                    singleWriter.accept(item);
+                } catch (RuntimeException t) {
+                    onItemFailed.run();
+                    fail(counter, label.apply(item), t);
+                }
+            }
+        }
+    }
+
     private static class Counter {
         private final String sourceProvider;
         private final String targetProvider;
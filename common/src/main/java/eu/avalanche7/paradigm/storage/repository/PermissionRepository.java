@@ -1,11 +1,17 @@
 package eu.avalanche7.paradigm.storage.repository;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 import eu.avalanche7.paradigm.storage.model.StoredPermissionGroup;
 import eu.avalanche7.paradigm.storage.model.StoredPermissionNode;
 import eu.avalanche7.paradigm.storage.model.StoredPermissionTrack;
+import eu.avalanche7.paradigm.storage.model.StoredPlayerProfile;
 import eu.avalanche7.paradigm.storage.model.StoredUserPermissionData;
 
 public interface PermissionRepository {
@@ -14,11 +20,19 @@ public interface PermissionRepository {
     void saveGroup(StoredPermissionGroup group);
     boolean deleteGroup(String groupName);
 
+    default void saveGroups(Collection<StoredPermissionGroup> groups) {
+        for (StoredPermissionGroup group : groups) saveGroup(group);
+    }
+
     default List<StoredPermissionTrack> listTracks() { return List.of(); }
     default Optional<StoredPermissionTrack> getTrack(String trackName) { return Optional.empty(); }
     default void saveTrack(StoredPermissionTrack track) { throw new UnsupportedOperationException("Tracks are not supported"); }
     default boolean deleteTrack(String trackName) { return false; }
 
+    default void saveTracks(Collection<StoredPermissionTrack> tracks) {
+        for (StoredPermissionTrack track : tracks) saveTrack(track);
+    }
+
     void addGroupParent(String groupName, String parentName);
     boolean removeGroupParent(String groupName, String parentName);
     void addGroupPermission(String groupName, StoredPermissionNode permission);
@@ -26,8 +40,41 @@ public interface PermissionRepository {
 
     List<StoredUserPermissionData> listUsers();
     Optional<StoredUserPermissionData> getUser(String uuid);
+
+    /** Lowercased UUIDs of every stored permission subject, without loading their assignments. */
+    default Set<String> listUserUuids() {
+        Set<String> uuids = new HashSet<>();
+        for (StoredUserPermissionData user : listUsers()) {
+            if (user != null && user.uuid() != null) uuids.add(user.uuid().trim().toLowerCase(Locale.ROOT));
+        }
+        return uuids;
+    }
+
+    /**
+     * One page of permission subjects whose name starts with {@code search} (or whose UUID equals it), ordered by
+     * name. Assignments are loaded only for the returned rows.
+     */
+    default List<StoredUserPermissionData> queryUsers(String search, int offset, int limit) {
+        PlayerRepository.ProfileQuery query = PlayerRepository.ProfileQuery.byName(search, offset, limit);
+        return listUsers().stream()
+                .filter(user -> query.matches(new StoredPlayerProfile(user.uuid(), user.name(), 0L, 0L)))
+                .sorted(Comparator.comparing((StoredUserPermissionData user) -> PlayerRepository.ProfileQuery.nameKey(user.name()))
+                        .thenComparing(StoredUserPermissionData::uuid))
+                .skip(query.offset()).limit(query.limit()).toList();
+    }
+
+    default int countUsers(String search) {
+        PlayerRepository.ProfileQuery query = PlayerRepository.ProfileQuery.byName(search, 0, 0);
+        return (int) listUsers().stream()
+                .filter(user -> query.matches(new StoredPlayerProfile(user.uuid(), user.name(), 0L, 0L)))
+                .count();
+    }
     void saveUser(StoredUserPermissionData user);
     boolean deleteUser(String uuid);
+
+    default void saveUsers(Collection<StoredUserPermissionData> users) {
+        for (StoredUserPermissionData user : users) saveUser(user);
+    }
     void addUserGroup(String uuid, StoredUserPermissionData.GroupAssignment assignment);
     boolean removeUserGroup(String uuid, String groupName);
     void addUserPermission(String uuid, StoredPermissionNode permission);
@@ -1,6 +1,11 @@
 package eu.avalanche7.paradigm.storage.repository;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -13,6 +18,40 @@ public interface PlayerRepository {
     Optional<StoredPlayerProfile> getProfile(String uuid);
     void upsertProfile(StoredPlayerProfile profile);
 
+    /** Profiles whose name matches case-insensitively, most recently seen first. */
+    default List<StoredPlayerProfile> findProfilesByName(String name) {
+        if (name == null || name.isBlank()) return List.of();
+        String key = name.trim();
+        return listProfiles().stream()
+                .filter(profile -> profile != null && key.equalsIgnoreCase(profile.name()))
+                .sorted(Comparator.comparingLong(StoredPlayerProfile::lastSeenMs).reversed())
+                .toList();
+    }
+
+    /** One page of profiles matching {@code query}; only the requested rows are read. */
+    default List<StoredPlayerProfile> queryProfiles(ProfileQuery query) {
+        Comparator<StoredPlayerProfile> order = query.sort() == ProfileSort.LAST_SEEN
+                ? Comparator.comparingLong(StoredPlayerProfile::lastSeenMs).reversed().thenComparing(StoredPlayerProfile::uuid)
+                : Comparator.comparing((StoredPlayerProfile profile) -> ProfileQuery.nameKey(profile.name())).thenComparing(StoredPlayerProfile::uuid);
+        return listProfiles().stream().filter(query::matches).sorted(order).skip(query.offset()).limit(query.limit()).toList();
+    }
+
+    default int countProfiles(ProfileQuery query) {
+        return (int) listProfiles().stream().filter(query::matches).count();
+    }
+
+    default Map<String, StoredPlayerProfile> getProfiles(Collection<String> uuids) {
+        Map<String, StoredPlayerProfile> result = new LinkedHashMap<>();
+        for (String uuid : uuids) {
+            getProfile(uuid).ifPresent(profile -> result.put(uuid, profile));
+        }
+        return result;
+    }
+
+    default void upsertProfiles(Collection<StoredPlayerProfile> profiles) {
+        for (StoredPlayerProfile profile : profiles) upsertProfile(profile);
+    }
+
     List<StoredHome> listHomes(String uuid);
     Optional<StoredHome> getHome(String uuid, String homeName);
     void saveHome(StoredHome home);
@@ -24,4 +63,101 @@ public interface PlayerRepository {
     Set<String> listIgnoredPlayers(String uuid);
     boolean addIgnoredPlayer(String uuid, String ignoredUuid);
     boolean removeIgnoredPlayer(String uuid, String ignoredUuid);
+
+    /** Every home of every player; bulk copies read this once instead of {@link #listHomes} per player. */
+    default List<StoredHome> listAllHomes() {
+        List<StoredHome> homes = new java.util.ArrayList<>();
+        for (StoredPlayerProfile profile : listProfiles()) {
+            if (profile != null && profile.uuid() != null) homes.addAll(listHomes(profile.uuid()));
+        }
+        return homes;
+    }
+
+    default List<BackLocation> listAllBackLocations() {
+        List<BackLocation> locations = new java.util.ArrayList<>();
+        for (StoredPlayerProfile profile : listProfiles()) {
+            if (profile != null && profile.uuid() != null) {
+                getBackLocation(profile.uuid()).ifPresent(location -> locations.add(new BackLocation(profile.uuid(), location)));
+            }
+        }
+        return locations;
+    }
+
+    default List<IgnoredPlayer> listAllIgnoredPlayers() {
+        List<IgnoredPlayer> entries = new java.util.ArrayList<>();
+        for (StoredPlayerProfile profile : listProfiles()) {
+            if (profile == null || profile.uuid() == null) continue;
+            for (String ignored : listIgnoredPlayers(profile.uuid())) entries.add(new IgnoredPlayer(profile.uuid(), ignored));
+        }
+        return entries;
+    }
+
+    default void saveHomes(Collection<StoredHome> homes) {
+        for (StoredHome home : homes) saveHome(home);
+    }
+
+    default void setBackLocations(Collection<BackLocation> locations) {
+        for (BackLocation entry : locations) setBackLocation(entry.uuid(), entry.location());
+    }
+
+    default void addIgnoredPlayers(Collection<IgnoredPlayer> entries) {
+        for (IgnoredPlayer entry : entries) addIgnoredPlayer(entry.uuid(), entry.ignoredUuid());
+    }
+
+    record BackLocation(String uuid, StoredLocation location) {
+    }
+
+    record IgnoredPlayer(String uuid, String ignoredUuid) {
+    }
+
+    enum ProfileSort { NAME, LAST_SEEN }
+
+    /**
+     * Profiles whose lowercased name starts with {@code search}, or whose UUID equals it when {@code search} is a
+     * full UUID. A blank search matches every profile.
+     */
+    record ProfileQuery(String search, ProfileSort sort, Set<String> excludedUuids, int offset, int limit) {
+        public ProfileQuery {
+            search = search != null ? search.trim().toLowerCase(Locale.ROOT) : "";
+            sort = sort != null ? sort : ProfileSort.NAME;
+            excludedUuids = excludedUuids != null
+                    ? excludedUuids.stream().filter(java.util.Objects::nonNull).map(uuid -> uuid.trim().toLowerCase(Locale.ROOT)).collect(java.util.stream.Collectors.toUnmodifiableSet())
+                    : Set.of();
+            offset = Math.max(0, offset);
+            limit = Math.max(0, limit);
+        }
+
+        public static ProfileQuery byName(String search, int offset, int limit) {
+            return new ProfileQuery(search, ProfileSort.NAME, Set.of(), offset, limit);
+        }
+
+        public ProfileQuery excluding(Set<String> uuids) {
+            return new ProfileQuery(search, sort, uuids, offset, limit);
+        }
+
+        public ProfileQuery page(int nextOffset, int nextLimit) {
+            return new ProfileQuery(search, sort, excludedUuids, nextOffset, nextLimit);
+        }
+
+        /** The search as a lowercased UUID string, or {@code null} when it is not a full UUID. */
+        public String exactUuid() {
+            if (search.length() != 36) return null;
+            try {
+                return java.util.UUID.fromString(search).toString();
+            } catch (IllegalArgumentException ignored) {
+                return null;
+            }
+        }
+
+        public boolean matches(StoredPlayerProfile profile) {
+            if (profile == null || profile.uuid() == null) return false;
+            String uuid = profile.uuid().trim().toLowerCase(Locale.ROOT);
+            if (excludedUuids.contains(uuid)) return false;
+            return search.isEmpty() || nameKey(profile.name()).startsWith(search) || uuid.equals(exactUuid());
+        }
+
+        public static String nameKey(String name) {
+            return name != null ? name.trim().toLowerCase(Locale.ROOT) : "";
+        }
+    }
 }
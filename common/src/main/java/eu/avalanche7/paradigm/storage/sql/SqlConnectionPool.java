@@ -0,0 +1,405 @@
+package eu.avalanche7.paradigm.storage.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import eu.avalanche7.paradigm.storage.StorageException;
+
+public class SqlConnectionPool implements AutoCloseable {
+    private static final long VALIDATION_BYPASS_MS = 500L;
+    private static final long HOUSEKEEPING_INTERVAL_SECONDS = 30L;
+
+    private final Supplier<Connection> factory;
+    private final String mode;
+    private final int maxSize;
+    private final int minIdle;
+    private final long idleTimeoutMs;
+    private final long borrowTimeoutMs;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+    private final ArrayDeque<PooledConnection> idle = new ArrayDeque<>();
+    private final ScheduledExecutorService housekeeper;
+
+    private int total;
+    private int pendingCreates;
+    private boolean closed;
+
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong waitedBorrows = new AtomicLong();
+    private final AtomicLong waitNanosTotal = new AtomicLong();
+    private final AtomicLong waitNanosMax = new AtomicLong();
+    private final AtomicLong borrowTimeouts = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+
+    public SqlConnectionPool(Supplier<Connection> factory, String mode, int maxSize, int minIdle, long idleTimeoutMs,
+                             long borrowTimeoutMs, int validationTimeoutSeconds, int statementCacheSize) {
+        this.factory = factory;
+        this.mode = mode;
+        this.maxSize = Math.max(1, maxSize);
+        this.minIdle = Math.max(0, Math.min(minIdle, this.maxSize));
+        this.idleTimeoutMs = Math.max(0L, idleTimeoutMs);
+        this.borrowTimeoutMs = Math.max(1L, borrowTimeoutMs);
+        this.validationTimeoutSeconds = Math.max(1, validationTimeoutSeconds);
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        if (this.idleTimeoutMs > 0L) {
+            this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "Paradigm-SqlPool");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.housekeeper.scheduleWithFixedDelay(this::housekeep, HOUSEKEEPING_INTERVAL_SECONDS, HOUSEKEEPING_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        } else {
+            this.housekeeper = null;
+        }
+    }
+
+    public Lease borrow() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMs);
+        boolean waited = false;
+        while (true) {
+            PooledConnection candidate = null;
+            boolean create = false;
+            synchronized (this) {
+                while (true) {
+                    if (closed) {
+                        throw new StorageException("SQL connection pool is closed.");
+                    }
+                    candidate = idle.pollFirst();
+                    if (candidate != null) {
+                        break;
+                    }
+                    if (total + pendingCreates < maxSize) {
+                        pendingCreates++;
+                        create = true;
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0L) {
+                        borrowTimeouts.incrementAndGet();
+                        throw new StorageException("Timed out after " + borrowTimeoutMs + " ms waiting for a " + mode + " connection (pool size " + maxSize + ").");
+                    }
+                    waited = true;
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        throw new StorageException("Interrupted while waiting for a " + mode + " connection.", interrupted);
+                    }
+                }
+            }
+
+            if (create) {
+                candidate = createConnection();
+            } else if (!isUsable(candidate)) {
+                validationFailures.incrementAndGet();
+                destroy(candidate);
+                continue;
+            }
+
+            recordBorrow(System.nanoTime() - startedAt, waited);
+            return new Lease(candidate);
+        }
+    }
+
+    public synchronized Metrics metrics() {
+        int idleCount = idle.size();
+        long borrowCount = borrows.get();
+        return new Metrics(
+                mode,
+                total - idleCount,
+                idleCount,
+                total,
+                maxSize,
+                minIdle,
+                borrowCount,
+                waitedBorrows.get(),
+                borrowTimeouts.get(),
+                borrowCount > 0 ? TimeUnit.NANOSECONDS.toMicros(waitNanosTotal.get()) / 1000.0D / borrowCount : 0.0D,
+                TimeUnit.NANOSECONDS.toMicros(waitNanosMax.get()) / 1000.0D,
+                created.get(),
+                evicted.get(),
+                validationFailures.get(),
+                statementCacheHits.get(),
+                statementCacheMisses.get()
+        );
+    }
+
+    private PooledConnection createConnection() {
+        Connection connection;
+        try {
+            connection = factory.get();
+        } catch (RuntimeException | Error failure) {
+            synchronized (this) {
+                pendingCreates--;
+                notifyAll();
+            }
+            throw failure;
+        }
+        PooledConnection pooled = new PooledConnection(connection);
+        synchronized (this) {
+            pendingCreates--;
+            total++;
+        }
+        created.incrementAndGet();
+        return pooled;
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        if (System.currentTimeMillis() - pooled.lastUsedAtMs < VALIDATION_BYPASS_MS) {
+            return true;
+        }
+        try {
+            return pooled.connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException invalid) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        boolean reusable = !pooled.broken;
+        if (reusable) {
+            try {
+                if (pooled.connection.isClosed()) {
+                    reusable = false;
+                } else if (!pooled.connection.getAutoCommit()) {
+                    pooled.connection.rollback();
+                    pooled.connection.setAutoCommit(true);
+                }
+            } catch (SQLException failure) {
+                reusable = false;
+            }
+        }
+        pooled.lastUsedAtMs = System.currentTimeMillis();
+        if (!reusable) {
+            destroy(pooled);
+            return;
+        }
+        synchronized (this) {
+            if (!closed) {
+                idle.addFirst(pooled);
+                notifyAll();
+                return;
+            }
+        }
+        destroy(pooled);
+    }
+
+    private void destroy(PooledConnection pooled) {
+        synchronized (this) {
+            total--;
+            notifyAll();
+        }
+        pooled.closeQuietly();
+    }
+
+    private void housekeep() {
+        long now = System.currentTimeMillis();
+        List<PooledConnection> expired = new ArrayList<>();
+        int missing;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            Iterator<PooledConnection> oldestFirst = idle.descendingIterator();
+            while (oldestFirst.hasNext() && idle.size() - expired.size() > minIdle) {
+                PooledConnection pooled = oldestFirst.next();
+                if (now - pooled.lastUsedAtMs >= idleTimeoutMs) {
+                    oldestFirst.remove();
+                    expired.add(pooled);
+                }
+            }
+            total -= expired.size();
+            missing = Math.max(0, minIdle - idle.size());
+            missing = Math.min(missing, maxSize - total - pendingCreates);
+            pendingCreates += Math.max(0, missing);
+        }
+        for (PooledConnection pooled : expired) {
+            evicted.incrementAndGet();
+            pooled.closeQuietly();
+        }
+        for (int i = 0; i < missing; i++) {
+            try {
+                release(createConnection());
+            } catch (RuntimeException failure) {
+                synchronized (this) {
+                    pendingCreates -= missing - i - 1;
+                }
+                return;
+            }
+        }
+    }
+
+    private void recordBorrow(long waitNanos, boolean waited) {
+        borrows.incrementAndGet();
+        if (waited) {
+            waitedBorrows.incrementAndGet();
+        }
+        waitNanosTotal.addAndGet(waitNanos);
+        waitNanosMax.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    @Override
+    public void close() {
+        List<PooledConnection> drained;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            drained = new ArrayList<>(idle);
+            total -= idle.size();
+            idle.clear();
+            notifyAll();
+        }
+        if (housekeeper != null) {
+            housekeeper.shutdownNow();
+        }
+        for (PooledConnection pooled : drained) {
+            pooled.closeQuietly();
+        }
+    }
+
+    private final class PooledConnection {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements;
+        private final Set<PreparedStatement> inUse = Collections.newSetFromMap(new IdentityHashMap<>());
+        private volatile long lastUsedAtMs = System.currentTimeMillis();
+        private boolean broken;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statements = new LinkedHashMap<>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= statementCacheSize) {
+                        return false;
+                    }
+                    if (!inUse.remove(eldest.getValue())) {
+                        closeStatement(eldest.getValue());
+                    }
+                    return true;
+                }
+            };
+        }
+
+        private void closeQuietly() {
+            for (PreparedStatement statement : statements.values()) {
+                closeStatement(statement);
+            }
+            statements.clear();
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    private static void closeStatement(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    public final class Lease implements AutoCloseable {
+        private final PooledConnection pooled;
+        private boolean released;
+
+        private Lease(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        public Connection connection() {
+            return pooled.connection;
+        }
+
+        /** Statements come from the per-connection cache; hand them back through {@link #finish} instead of closing them. */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            if (statementCacheSize <= 0) {
+                return pooled.connection.prepareStatement(sql);
+            }
+            PreparedStatement cached = pooled.statements.get(sql);
+            if (cached != null && !cached.isClosed()) {
+                if (pooled.inUse.add(cached)) {
+                    statementCacheHits.incrementAndGet();
+                    cached.clearParameters();
+                    return cached;
+                }
+                // Same SQL re-entered while its cached statement is still open (nested query); use a throwaway one.
+                return pooled.connection.prepareStatement(sql);
+            }
+            statementCacheMisses.incrementAndGet();
+            PreparedStatement statement = pooled.connection.prepareStatement(sql);
+            pooled.statements.put(sql, statement);
+            pooled.inUse.add(statement);
+            return statement;
+        }
+
+        public void finish(PreparedStatement statement) {
+            if (statement != null && !pooled.inUse.remove(statement)) {
+                closeStatement(statement);
+            }
+        }
+
+        public void fail(String sql, PreparedStatement statement, SQLException failure) {
+            if (statement != null) {
+                pooled.statements.remove(sql, statement);
+                pooled.inUse.remove(statement);
+                closeStatement(statement);
+            }
+            String state = failure != null ? failure.getSQLState() : null;
+            if (state != null && state.startsWith("08")) {
+                pooled.broken = true;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(pooled);
+        }
+    }
+
+    public record Metrics(
+            String mode,
+            int active,
+            int idle,
+            int total,
+            int maxSize,
+            int minIdle,
+            long borrows,
+            long waitedBorrows,
+            long borrowTimeouts,
+            double averageWaitMs,
+            double maxWaitMs,
+            long created,
+            long evicted,
+            long validationFailures,
+            long statementCacheHits,
+            long statementCacheMisses
+    ) {
+    }
+}
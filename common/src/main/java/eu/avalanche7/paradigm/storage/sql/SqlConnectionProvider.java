@@ -7,6 +7,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
@@ -26,6 +27,8 @@ public class SqlConnectionProvider implements AutoCloseable {
     private final String sqliteLockKey;
     private final SharedSqliteLock sharedSqliteLock;
     private final AtomicBoolean closed = new AtomicBoolean();
+    private final SqlConnectionPool pool;
+    private volatile boolean driverReady;
 
     public SqlConnectionProvider(StorageConfig config, SqlDialect dialect, RuntimeJdbcDriverProvider runtimeDrivers) {
         this.config = config;
@@ -45,17 +48,41 @@ public class SqlConnectionProvider implements AutoCloseable {
             this.sharedSqliteLock = null;
             this.operationLock = null;
         }
+        this.pool = createPool();
+    }
+
+    private SqlConnectionPool createPool() {
+        StorageConfig.SqlConfig sql = config != null && config.sql != null ? config.sql : new StorageConfig.SqlConfig();
+        if (isSqlite()) {
+            // Access is already serialized by the shared file lock, so one long-lived connection is enough.
+            return new SqlConnectionPool(this::getConnection, dialect.name(), 1, 1, 0L,
+                    TimeUnit.SECONDS.toMillis(sql.poolConnectionTimeoutSeconds), sql.poolValidationTimeoutSeconds, sql.statementCacheSize);
+        }
+        return new SqlConnectionPool(this::getConnection, dialect.name(), sql.poolSize, sql.poolMinIdle,
+                TimeUnit.SECONDS.toMillis(sql.poolIdleTimeoutSeconds), TimeUnit.SECONDS.toMillis(sql.poolConnectionTimeoutSeconds),
+                sql.poolValidationTimeoutSeconds, sql.statementCacheSize);
+    }
+
+    public SqlConnectionPool.Lease borrow() {
+        return pool.borrow();
+    }
+
+    public SqlConnectionPool.Metrics poolMetrics() {
+        return pool.metrics();
     }
 
     public Connection getConnection() {
         try {
-            if (runtimeDrivers != null && config.runtimeLibraries != null && config.runtimeLibraries.enabled) {
-                runtimeDrivers.ensureDriver(dialect);
-            } else {
-                String driver = dialect.driverClassName();
-                if (driver != null && !driver.isBlank()) {
-                    Class.forName(driver);
+            if (!driverReady) {
+                if (runtimeDrivers != null && config.runtimeLibraries != null && config.runtimeLibraries.enabled) {
+                    runtimeDrivers.ensureDriver(dialect);
+                } else {
+                    String driver = dialect.driverClassName();
+                    if (driver != null && !driver.isBlank()) {
+                        Class.forName(driver);
+                    }
                 }
+                driverReady = true;
             }
             Properties properties = new Properties();
             if (config.sql != null && config.sql.username != null && !config.sql.username.isBlank()) {
@@ -76,8 +103,8 @@ public class SqlConnectionProvider implements AutoCloseable {
     }
 
     public boolean testConnection() {
-        try (Connection ignored = getConnection()) {
-            return true;
+        try (SqlConnectionPool.Lease lease = borrow()) {
+            return lease.connection().isValid(5);
         } catch (SQLException | StorageException ignored) {
             return false;
         }
@@ -125,7 +152,11 @@ public class SqlConnectionProvider implements AutoCloseable {
 
     @Override
     public void close() {
-        if (!closed.compareAndSet(false, true) || sharedSqliteLock == null || sqliteLockKey == null) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        pool.close();
+        if (sharedSqliteLock == null || sqliteLockKey == null) {
             return;
         }
         SQLITE_LOCKS.computeIfPresent(sqliteLockKey, (key, current) -> {
@@ -4,19 +4,34 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import eu.avalanche7.paradigm.storage.StorageException;
 
 public class SqlExecutor {
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
     private final SqlConnectionProvider connections;
     private final ReentrantLock operationLock;
-    private final ThreadLocal<Connection> transactionConnection = new ThreadLocal<>();
+    private final ThreadLocal<SqlConnectionPool.Lease> transactionConnection = new ThreadLocal<>();
+    private final ThreadLocal<SqlConnectionPool.Lease> activeLease = new ThreadLocal<>();
+    private final int batchSize;
 
     public SqlExecutor(SqlConnectionProvider connections) {
+        this(connections, DEFAULT_BATCH_SIZE);
+    }
+
+    public SqlExecutor(SqlConnectionProvider connections, int batchSize) {
         this.connections = connections;
         this.operationLock = connections.operationLock();
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    public int batchSize() {
+        return batchSize;
     }
 
     public int update(String sql, Binder binder) {
@@ -27,6 +42,22 @@ public class SqlExecutor {
         return withOperationLock(() -> queryOnConnection(sql, binder, mapper));
     }
 
+    public <T> int batch(String sql, Collection<? extends T> rows, BatchBinder<T> binder) {
+        return batch(sql, rows, batchSize, binder);
+    }
+
+    /**
+     * Binds every row onto one prepared statement and sends it in {@code chunkSize} JDBC batches. Always runs inside a
+     * transaction (joining the caller's when there is one), so a failed chunk rolls back every row written before it.
+     */
+    public <T> int batch(String sql, Collection<? extends T> rows, int chunkSize, BatchBinder<T> binder) {
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+        int chunk = chunkSize > 0 ? chunkSize : batchSize;
+        return transaction(() -> executeBatch(transactionConnection.get(), sql, rows, chunk, binder));
+    }
+
     public void transaction(Runnable work) {
         transaction(() -> {
             work.run();
@@ -35,14 +66,15 @@ public class SqlExecutor {
     }
 
     public <T> T transaction(Supplier<T> work) {
-        Connection active = transactionConnection.get();
+        SqlConnectionPool.Lease active = transactionConnection.get();
         if (active != null) {
             return work.get();
         }
         return withOperationLock(() -> {
-            try (Connection connection = connections.getConnection()) {
+            try (SqlConnectionPool.Lease lease = connections.borrow()) {
+                Connection connection = lease.connection();
                 connection.setAutoCommit(false);
-                transactionConnection.set(connection);
+                transactionConnection.set(lease);
                 try {
                     T result = work.get();
                     connection.commit();
@@ -63,46 +95,119 @@ public class SqlExecutor {
     }
 
     private int updateOnConnection(String sql, Binder binder) {
-        Connection active = transactionConnection.get();
+        SqlConnectionPool.Lease active = transactionConnection.get();
+        if (active == null) {
+            active = activeLease.get();
+        }
         if (active != null) {
             return executeUpdate(active, sql, binder);
         }
-        try (Connection connection = connections.getConnection()) {
-            return executeUpdate(connection, sql, binder);
-        } catch (SQLException failure) {
-            throw new StorageException("SQL update failed: " + failure.getMessage(), failure);
+        try (SqlConnectionPool.Lease lease = connections.borrow()) {
+            activeLease.set(lease);
+            return executeUpdate(lease, sql, binder);
+        } finally {
+            activeLease.remove();
         }
     }
 
-    private int executeUpdate(Connection connection, String sql, Binder binder) {
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+    private int executeUpdate(SqlConnectionPool.Lease lease, String sql, Binder binder) {
+        PreparedStatement statement = null;
+        try {
+            statement = lease.prepare(sql);
             if (binder != null) binder.bind(statement);
-            return statement.executeUpdate();
+            int updated = statement.executeUpdate();
+            lease.finish(statement);
+            return updated;
         } catch (SQLException failure) {
+            lease.fail(sql, statement, failure);
             throw new StorageException("SQL update failed: " + failure.getMessage(), failure);
+        } catch (RuntimeException | Error failure) {
+            lease.finish(statement);
+            throw failure;
+        }
+    }
+
+    private <T> int executeBatch(SqlConnectionPool.Lease lease, String sql, Collection<? extends T> rows, int chunkSize, BatchBinder<T> binder) {
+        PreparedStatement statement = null;
+        try {
+            statement = lease.prepare(sql);
+            int updated = 0;
+            int pending = 0;
+            for (T row : rows) {
+                binder.bind(statement, row);
+                statement.addBatch();
+                if (++pending >= chunkSize) {
+                    updated += updateCount(statement.executeBatch());
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                updated += updateCount(statement.executeBatch());
+            }
+            lease.finish(statement);
+            return updated;
+        } catch (SQLException failure) {
+            lease.fail(sql, statement, failure);
+            throw new StorageException("SQL batch failed: " + failure.getMessage(), failure);
+        } catch (RuntimeException | Error failure) {
+            clearBatch(statement);
+            lease.finish(statement);
+            throw failure;
+        }
+    }
+
+    private static int updateCount(int[] results) {
+        int updated = 0;
+        for (int result : results) {
+            // Drivers that rewrite batches report SUCCESS_NO_INFO per row instead of a count.
+            updated += result == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, result);
+        }
+        return updated;
+    }
+
+    private static void clearBatch(PreparedStatement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            statement.clearBatch();
+        } catch (SQLException ignored) {
         }
     }
 
     private <T> T queryOnConnection(String sql, Binder binder, ResultMapper<T> mapper) {
-        Connection active = transactionConnection.get();
+        SqlConnectionPool.Lease active = transactionConnection.get();
+        if (active == null) {
+            active = activeLease.get();
+        }
         if (active != null) {
             return executeQuery(active, sql, binder, mapper);
         }
-        try (Connection connection = connections.getConnection()) {
-            return executeQuery(connection, sql, binder, mapper);
-        } catch (SQLException failure) {
-            throw new StorageException("SQL query failed: " + failure.getMessage(), failure);
+        try (SqlConnectionPool.Lease lease = connections.borrow()) {
+            activeLease.set(lease);
+            return executeQuery(lease, sql, binder, mapper);
+        } finally {
+            activeLease.remove();
         }
     }
 
-    private <T> T executeQuery(Connection connection, String sql, Binder binder, ResultMapper<T> mapper) {
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+    private <T> T executeQuery(SqlConnectionPool.Lease lease, String sql, Binder binder, ResultMapper<T> mapper) {
+        PreparedStatement statement = null;
+        try {
+            statement = lease.prepare(sql);
             if (binder != null) binder.bind(statement);
+            T result;
             try (ResultSet resultSet = statement.executeQuery()) {
-                return mapper.map(resultSet);
+                result = mapper.map(resultSet);
             }
+            lease.finish(statement);
+            return result;
         } catch (SQLException failure) {
+            lease.fail(sql, statement, failure);
             throw new StorageException("SQL query failed: " + failure.getMessage(), failure);
+        } catch (RuntimeException | Error failure) {
+            lease.finish(statement);
+            throw failure;
         }
     }
 
@@ -131,6 +236,11 @@ public class SqlExecutor {
         void bind(PreparedStatement statement) throws SQLException;
     }
 
+    @FunctionalInterface
+    public interface BatchBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
     @FunctionalInterface
     public interface ResultMapper<T> {
         T map(ResultSet rs) throws SQLException;
@@ -268,6 +268,10 @@ public class SqlMigrationRunner implements MigrationRunner {
                 case 9 -> "permission_assignment_keys";
                 case 10 -> "player_playtime";
                 case 11 -> "tickets";
+                case 12 -> "permission_tracks";
+                case 13 -> "player_name_index";
+                case 14 -> "player_last_seen_index";
+                case 15 -> "permission_user_name_index";
                 default -> "migration";
             } + ".sql";
             String sql = resourceText(resource);
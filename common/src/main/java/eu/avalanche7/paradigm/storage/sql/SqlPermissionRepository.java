@@ -2,9 +2,17 @@ package eu.avalanche7.paradigm.storage.sql;
 
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import eu.avalanche7.paradigm.modules.permissions.PermissionAssignmentId;
 import eu.avalanche7.paradigm.modules.permissions.context.PermissionContextSet;
@@ -14,8 +22,11 @@ import eu.avalanche7.paradigm.storage.model.StoredPermissionNode;
 import eu.avalanche7.paradigm.storage.model.StoredPermissionTrack;
 import eu.avalanche7.paradigm.storage.model.StoredUserPermissionData;
 import eu.avalanche7.paradigm.storage.repository.PermissionRepository;
+import eu.avalanche7.paradigm.storage.repository.PlayerRepository;
 
 public class SqlPermissionRepository extends SqlRepositorySupport implements PermissionRepository {
+    private static final int USER_LOOKUP_CHUNK = 100;
+
     public SqlPermissionRepository(SqlExecutor sql, StorageContext context) {
         super(sql, context);
     }
@@ -51,19 +62,43 @@ public class SqlPermissionRepository extends SqlRepositorySupport implements Per
     @Override
     public void saveGroup(StoredPermissionGroup group) {
         if (group == null) return;
+        saveGroups(List.of(group));
+    }
+
+    @Override
+    public void saveGroups(Collection<StoredPermissionGroup> groups) {
+        Map<String, StoredPermissionGroup> latest = new LinkedHashMap<>();
+        for (StoredPermissionGroup group : groups) {
+            if (group != null) latest.put(group.name(), group);
+        }
+        if (latest.isEmpty()) return;
+        Set<List<String>> parents = new LinkedHashSet<>();
+        Map<String, PermissionRow> permissions = new LinkedHashMap<>();
+        for (StoredPermissionGroup group : latest.values()) {
+            for (String parent : group.parents()) parents.add(List.of(group.name(), parent));
+            for (StoredPermissionNode node : group.permissions()) {
+                PermissionRow row = new PermissionRow(group.name(), node, permissionId("group_permission", group.name(), node));
+                permissions.remove(row.assignmentId());
+                permissions.put(row.assignmentId(), row);
+            }
+        }
         sql.transaction(() -> {
-            sql.update("DELETE FROM permission_group_parents WHERE group_name = ?", ps -> ps.setString(1, group.name()));
-            sql.update("DELETE FROM permission_group_permissions WHERE group_name = ?", ps -> ps.setString(1, group.name()));
-            sql.update("DELETE FROM permission_groups WHERE name = ?", ps -> ps.setString(1, group.name()));
-            sql.update("INSERT INTO permission_groups(name, description, prefix, suffix, weight) VALUES(?, ?, ?, ?, ?)", ps -> {
+            sql.batch("DELETE FROM permission_group_parents WHERE group_name = ?", latest.keySet(), (ps, name) -> ps.setString(1, name));
+            sql.batch("DELETE FROM permission_group_permissions WHERE group_name = ?", latest.keySet(), (ps, name) -> ps.setString(1, name));
+            sql.batch("DELETE FROM permission_groups WHERE name = ?", latest.keySet(), (ps, name) -> ps.setString(1, name));
+            sql.batch("INSERT INTO permission_groups(name, description, prefix, suffix, weight) VALUES(?, ?, ?, ?, ?)", latest.values(), (ps, group) -> {
                 ps.setString(1, group.name());
                 ps.setString(2, group.description());
                 ps.setString(3, group.prefix());
                 ps.setString(4, group.suffix());
                 ps.setInt(5, group.weight());
             });
-            for (String parent : group.parents()) addGroupParent(group.name(), parent);
-            for (StoredPermissionNode node : group.permissions()) addGroupPermission(group.name(), node);
+            sql.batch("INSERT INTO permission_group_parents(group_name, parent_name) VALUES(?, ?)", parents, (ps, pair) -> {
+                ps.setString(1, pair.get(0));
+                ps.setString(2, pair.get(1));
+            });
+            sql.batch("DELETE FROM permission_group_permissions WHERE assignment_id = ?", permissions.keySet(), (ps, assignmentId) -> ps.setString(1, assignmentId));
+            sql.batch("INSERT INTO permission_group_permissions(group_name, server_id, permission, denied, expires_at_ms, contexts, context_hash, assignment_id) VALUES(?, ?, ?, ?, ?, ?, ?, ?)", permissions.values(), this::bindPermissionRow);
         });
     }
 
@@ -107,19 +142,31 @@ public class SqlPermissionRepository extends SqlRepositorySupport implements Per
     @Override
     public void saveTrack(StoredPermissionTrack track) {
         if (track == null || track.name() == null) return;
-        sql.transaction(() -> {
-            sql.update("DELETE FROM permission_track_members WHERE track_name = ?", ps -> ps.setString(1, track.name()));
-            sql.update("DELETE FROM permission_tracks WHERE name = ?", ps -> ps.setString(1, track.name()));
-            sql.update("INSERT INTO permission_tracks(name) VALUES(?)", ps -> ps.setString(1, track.name()));
+        saveTracks(List.of(track));
+    }
+
+    @Override
+    public void saveTracks(Collection<StoredPermissionTrack> tracks) {
+        Map<String, StoredPermissionTrack> latest = new LinkedHashMap<>();
+        for (StoredPermissionTrack track : tracks) {
+            if (track != null && track.name() != null) latest.put(track.name(), track);
+        }
+        if (latest.isEmpty()) return;
+        List<TrackMemberRow> members = new ArrayList<>();
+        for (StoredPermissionTrack track : latest.values()) {
             for (int index = 0; index < track.groups().size(); index++) {
-                int position = index + 1;
-                String group = track.groups().get(index);
-                sql.update("INSERT INTO permission_track_members(track_name, group_name, position) VALUES(?, ?, ?)", ps -> {
-                    ps.setString(1, track.name());
-                    ps.setString(2, group);
-                    ps.setInt(3, position);
-                });
+                members.add(new TrackMemberRow(track.name(), track.groups().get(index), index + 1));
             }
+        }
+        sql.transaction(() -> {
+            sql.batch("DELETE FROM permission_track_members WHERE track_name = ?", latest.keySet(), (ps, name) -> ps.setString(1, name));
+            sql.batch("DELETE FROM permission_tracks WHERE name = ?", latest.keySet(), (ps, name) -> ps.setString(1, name));
+            sql.batch("INSERT INTO permission_tracks(name) VALUES(?)", latest.keySet(), (ps, name) -> ps.setString(1, name));
+            sql.batch("INSERT INTO permission_track_members(track_name, group_name, position) VALUES(?, ?, ?)", members, (ps, member) -> {
+                ps.setString(1, member.trackName());
+                ps.setString(2, member.groupName());
+                ps.setInt(3, member.position());
+            });
         });
     }
 
@@ -183,67 +230,176 @@ public class SqlPermissionRepository extends SqlRepositorySupport implements Per
 
     @Override
     public List<StoredUserPermissionData> listUsers() {
-        return sql.query("SELECT uuid FROM permission_users ORDER BY uuid", null, rs -> {
-            List<StoredUserPermissionData> result = new ArrayList<>();
+        return loadUsers(sql.query("SELECT uuid FROM permission_users ORDER BY uuid", null, rs -> {
+            List<String> result = new ArrayList<>();
             while (rs.next()) {
-                getUser(rs.getString("uuid")).ifPresent(result::add);
+                result.add(rs.getString("uuid"));
             }
             return result;
-        });
+        }));
     }
 
     @Override
-    public Optional<StoredUserPermissionData> getUser(String uuid) {
-        String normalizedUuid = normalize(uuid);
-        String[] storedName = new String[1];
-        boolean exists = sql.query("SELECT name FROM permission_users WHERE uuid = ?", ps -> ps.setString(1, normalizedUuid), rs -> {
-            if (!rs.next()) return false;
-            storedName[0] = rs.getString("name");
-            return true;
-        });
-        if (!exists) {
-            return Optional.empty();
-        }
-
-        long now = System.currentTimeMillis();
-        List<StoredUserPermissionData.GroupAssignment> groups = sql.query("SELECT group_name, expires_at_ms, assigned_by, assigned_at_ms, contexts, assignment_id FROM permission_user_groups WHERE uuid = ? AND (expires_at_ms IS NULL OR expires_at_ms > ?)", ps -> {
-            ps.setString(1, normalizedUuid);
-            ps.setLong(2, now);
-        }, rs -> {
-            List<StoredUserPermissionData.GroupAssignment> result = new ArrayList<>();
+    public Set<String> listUserUuids() {
+        return sql.query("SELECT uuid FROM permission_users", null, rs -> {
+            Set<String> result = new HashSet<>();
             while (rs.next()) {
-                Long expires = nullableLong(rs, "expires_at_ms");
-                result.add(new StoredUserPermissionData.GroupAssignment(rs.getString("group_name"), expires, rs.getString("assigned_by"), rs.getLong("assigned_at_ms"), PermissionContextSet.fromJson(rs.getString("contexts"), null), rs.getString("assignment_id")));
+                result.add(normalize(rs.getString("uuid")));
             }
             return result;
         });
-        List<StoredPermissionNode> permissions = sql.query("SELECT server_id, permission, denied, expires_at_ms, contexts, assignment_id FROM permission_user_permissions WHERE uuid = ? AND (expires_at_ms IS NULL OR expires_at_ms > ?)", ps -> {
-            ps.setString(1, normalizedUuid);
-            ps.setLong(2, now);
-        }, rs -> {
-            List<StoredPermissionNode> result = new ArrayList<>();
-            while (rs.next()) {
-                result.add(new StoredPermissionNode(rs.getString("permission"), rs.getBoolean("denied"), nullableLong(rs, "expires_at_ms"), rs.getString("server_id"), PermissionContextSet.fromJson(rs.getString("contexts"), rs.getString("server_id")), rs.getString("assignment_id")));
+    }
+
+    @Override
+    public List<StoredUserPermissionData> queryUsers(String search, int offset, int limit) {
+        if (limit <= 0) return List.of();
+        List<Object> params = new ArrayList<>();
+        String where = userFilter(search, params);
+        params.add(limit);
+        params.add(Math.max(0, offset));
+        List<String> uuids = sql.query("SELECT uuid FROM permission_users" + where + " ORDER BY name_key, uuid LIMIT ? OFFSET ?",
+                ps -> bindAll(ps, params), rs -> {
+                    List<String> result = new ArrayList<>();
+                    while (rs.next()) {
+                        result.add(rs.getString("uuid"));
+                    }
+                    return result;
+                });
+        return loadUsers(uuids);
+    }
+
+    @Override
+    public int countUsers(String search) {
+        List<Object> params = new ArrayList<>();
+        String where = userFilter(search, params);
+        return sql.query("SELECT COUNT(*) FROM permission_users" + where, ps -> bindAll(ps, params), rs -> rs.next() ? rs.getInt(1) : 0);
+    }
+
+    private static String userFilter(String search, List<Object> params) {
+        PlayerRepository.ProfileQuery query = PlayerRepository.ProfileQuery.byName(search, 0, 0);
+        if (query.search().isEmpty()) return "";
+        String byName = nameKeyPrefix(query.search(), params);
+        String exactUuid = query.exactUuid();
+        if (exactUuid == null) return " WHERE " + byName;
+        params.add(exactUuid);
+        return " WHERE (" + byName + " OR uuid = ?)";
+    }
+
+    @Override
+    public Optional<StoredUserPermissionData> getUser(String uuid) {
+        List<StoredUserPermissionData> users = loadUsers(List.of(normalize(uuid)));
+        return users.isEmpty() ? Optional.empty() : Optional.of(users.get(0));
+    }
+
+    /**
+     * Loads the given users with their live group and permission assignments, in the order given. Reads one chunk of
+     * {@link #USER_LOOKUP_CHUNK} uuids per query instead of three queries per user.
+     */
+    private List<StoredUserPermissionData> loadUsers(List<String> uuids) {
+        List<String> keys = new ArrayList<>(new LinkedHashSet<>(uuids.stream().map(SqlPermissionRepository::normalize).toList()));
+        Map<String, String> names = new LinkedHashMap<>();
+        Map<String, List<StoredUserPermissionData.GroupAssignment>> groups = new HashMap<>();
+        Map<String, List<StoredPermissionNode>> permissions = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (int start = 0; start < keys.size(); start += USER_LOOKUP_CHUNK) {
+            List<String> chunk = keys.subList(start, Math.min(keys.size(), start + USER_LOOKUP_CHUNK));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            sql.query("SELECT uuid, name FROM permission_users WHERE uuid IN (" + placeholders + ")", ps -> bindUuids(ps, chunk), rs -> {
+                while (rs.next()) {
+                    String name = rs.getString("name");
+                    names.put(rs.getString("uuid"), name != null ? name : "");
+                }
+                return null;
+            });
+            sql.query("SELECT uuid, group_name, expires_at_ms, assigned_by, assigned_at_ms, contexts, assignment_id FROM permission_user_groups WHERE uuid IN (" + placeholders + ") AND (expires_at_ms IS NULL OR expires_at_ms > ?)", ps -> {
+                bindUuids(ps, chunk);
+                ps.setLong(chunk.size() + 1, now);
+            }, rs -> {
+                while (rs.next()) {
+                    Long expires = nullableLong(rs, "expires_at_ms");
+                    groups.computeIfAbsent(rs.getString("uuid"), ignored -> new ArrayList<>())
+                            .add(new StoredUserPermissionData.GroupAssignment(rs.getString("group_name"), expires, rs.getString("assigned_by"), rs.getLong("assigned_at_ms"), PermissionContextSet.fromJson(rs.getString("contexts"), null), rs.getString("assignment_id")));
+                }
+                return null;
+            });
+            sql.query("SELECT uuid, server_id, permission, denied, expires_at_ms, contexts, assignment_id FROM permission_user_permissions WHERE uuid IN (" + placeholders + ") AND (expires_at_ms IS NULL OR expires_at_ms > ?)", ps -> {
+                bindUuids(ps, chunk);
+                ps.setLong(chunk.size() + 1, now);
+            }, rs -> {
+                while (rs.next()) {
+                    permissions.computeIfAbsent(rs.getString("uuid"), ignored -> new ArrayList<>())
+                            .add(new StoredPermissionNode(rs.getString("permission"), rs.getBoolean("denied"), nullableLong(rs, "expires_at_ms"), rs.getString("server_id"), PermissionContextSet.fromJson(rs.getString("contexts"), rs.getString("server_id")), rs.getString("assignment_id")));
+                }
+                return null;
+            });
+        }
+        List<StoredUserPermissionData> result = new ArrayList<>(names.size());
+        for (String uuid : keys) {
+            String name = names.get(uuid);
+            if (name != null) {
+                result.add(new StoredUserPermissionData(uuid, name, groups.getOrDefault(uuid, List.of()), permissions.getOrDefault(uuid, List.of())));
             }
-            return result;
-        });
-        return Optional.of(new StoredUserPermissionData(normalizedUuid, storedName[0] != null ? storedName[0] : "", groups, permissions));
+        }
+        return result;
+    }
+
+    private static void bindUuids(java.sql.PreparedStatement ps, List<String> uuids) throws java.sql.SQLException {
+        for (int index = 0; index < uuids.size(); index++) {
+            ps.setString(index + 1, uuids.get(index));
+        }
     }
 
     @Override
     public void saveUser(StoredUserPermissionData user) {
         if (user == null) return;
-        String normalizedUuid = normalize(user.uuid());
+        saveUsers(List.of(user));
+    }
+
+    @Override
+    public void saveUsers(Collection<StoredUserPermissionData> users) {
+        Map<String, StoredUserPermissionData> latest = new LinkedHashMap<>();
+        for (StoredUserPermissionData user : users) {
+            if (user != null) latest.put(normalize(user.uuid()), user);
+        }
+        if (latest.isEmpty()) return;
+        Map<String, UserGroupRow> groups = new LinkedHashMap<>();
+        Map<String, PermissionRow> permissions = new LinkedHashMap<>();
+        for (Map.Entry<String, StoredUserPermissionData> entry : latest.entrySet()) {
+            String normalizedUuid = entry.getKey();
+            for (StoredUserPermissionData.GroupAssignment group : entry.getValue().groups()) {
+                String assignmentId = groupId(normalizedUuid, group);
+                groups.remove(assignmentId);
+                groups.put(assignmentId, new UserGroupRow(normalizedUuid, group, assignmentId));
+            }
+            for (StoredPermissionNode node : entry.getValue().permissions()) {
+                PermissionRow row = new PermissionRow(normalizedUuid, node, permissionId("user_permission", normalizedUuid, node));
+                permissions.remove(row.assignmentId());
+                permissions.put(row.assignmentId(), row);
+            }
+        }
         sql.transaction(() -> {
-            sql.update("DELETE FROM permission_users WHERE uuid = ?", ps -> ps.setString(1, normalizedUuid));
-            sql.update("INSERT INTO permission_users(uuid, name) VALUES(?, ?)", ps -> {
-                ps.setString(1, normalizedUuid);
-                ps.setString(2, user.name());
+            sql.batch("DELETE FROM permission_users WHERE uuid = ?", latest.keySet(), (ps, uuid) -> ps.setString(1, uuid));
+            sql.batch("INSERT INTO permission_users(uuid, name, name_key) VALUES(?, ?, ?)", latest.entrySet(), (ps, entry) -> {
+                ps.setString(1, entry.getKey());
+                ps.setString(2, entry.getValue().name());
+                ps.setString(3, nameKey(entry.getValue().name()));
+            });
+            sql.batch("DELETE FROM permission_user_groups WHERE uuid = ?", latest.keySet(), (ps, uuid) -> ps.setString(1, uuid));
+            sql.batch("DELETE FROM permission_user_permissions WHERE uuid = ?", latest.keySet(), (ps, uuid) -> ps.setString(1, uuid));
+            sql.batch("DELETE FROM permission_user_groups WHERE assignment_id = ?", groups.keySet(), (ps, assignmentId) -> ps.setString(1, assignmentId));
+            sql.batch("INSERT INTO permission_user_groups(uuid, group_name, expires_at_ms, assigned_by, assigned_at_ms, contexts, context_hash, assignment_id) VALUES(?, ?, ?, ?, ?, ?, ?, ?)", groups.values(), (ps, row) -> {
+                PermissionContextSet contexts = row.assignment().contextSet();
+                ps.setString(1, row.uuid());
+                ps.setString(2, row.assignment().groupName());
+                bindNullableLong(ps, 3, row.assignment().expiresAtMs());
+                ps.setString(4, row.assignment().assignedBy());
+                ps.setLong(5, row.assignment().assignedAtMs());
+                bindNullableString(ps, 6, contexts.toJson());
+                ps.setString(7, contexts.canonical());
+                ps.setString(8, row.assignmentId());
             });
-            sql.update("DELETE FROM permission_user_groups WHERE uuid = ?", ps -> ps.setString(1, normalizedUuid));
-            sql.update("DELETE FROM permission_user_permissions WHERE uuid = ?", ps -> ps.setString(1, normalizedUuid));
-            for (StoredUserPermissionData.GroupAssignment group : user.groups()) addUserGroup(normalizedUuid, group);
-            for (StoredPermissionNode permission : user.permissions()) addUserPermission(normalizedUuid, permission);
+            sql.batch("DELETE FROM permission_user_permissions WHERE assignment_id = ?", permissions.keySet(), (ps, assignmentId) -> ps.setString(1, assignmentId));
+            sql.batch("INSERT INTO permission_user_permissions(uuid, server_id, permission, denied, expires_at_ms, contexts, context_hash, assignment_id) VALUES(?, ?, ?, ?, ?, ?, ?, ?)", permissions.values(), this::bindPermissionRow);
         });
     }
 
@@ -340,6 +496,19 @@ public class SqlPermissionRepository extends SqlRepositorySupport implements Per
         });
     }
 
+    private void bindPermissionRow(java.sql.PreparedStatement ps, PermissionRow row) throws java.sql.SQLException {
+        StoredPermissionNode permission = row.node();
+        PermissionContextSet contexts = permission.contextSet();
+        ps.setString(1, row.subject());
+        bindNullableString(ps, 2, permission.serverId());
+        ps.setString(3, permission.permission());
+        ps.setBoolean(4, permission.denied());
+        bindNullableLong(ps, 5, permission.expiresAtMs());
+        bindNullableString(ps, 6, contexts.toJson());
+        ps.setString(7, contexts.canonical());
+        ps.setString(8, row.assignmentId());
+    }
+
     private void bindNullableString(java.sql.PreparedStatement ps, int index, String value) throws java.sql.SQLException {
         if (value == null) ps.setNull(index, Types.VARCHAR); else ps.setString(index, value);
     }
@@ -375,4 +544,13 @@ public class SqlPermissionRepository extends SqlRepositorySupport implements Per
     private static String normalize(String value) {
         return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
     }
+
+    private record PermissionRow(String subject, StoredPermissionNode node, String assignmentId) {
+    }
+
+    private record UserGroupRow(String uuid, StoredUserPermissionData.GroupAssignment assignment, String assignmentId) {
+    }
+
+    private record TrackMemberRow(String trackName, String groupName, int position) {
+    }
 }
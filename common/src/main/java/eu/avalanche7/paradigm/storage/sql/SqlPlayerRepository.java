@@ -3,9 +3,13 @@ package eu.avalanche7.paradigm.storage.sql;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -16,6 +20,8 @@ import eu.avalanche7.paradigm.storage.model.StoredPlayerProfile;
 import eu.avalanche7.paradigm.storage.repository.PlayerRepository;
 
 public class SqlPlayerRepository extends SqlRepositorySupport implements PlayerRepository {
+    private static final int PROFILE_LOOKUP_CHUNK = 100;
+
     public SqlPlayerRepository(SqlExecutor sql, StorageContext context) {
         super(sql, context);
     }
@@ -40,18 +46,90 @@ public class SqlPlayerRepository extends SqlRepositorySupport implements PlayerR
         });
     }
 
+    @Override
+    public List<StoredPlayerProfile> findProfilesByName(String name) {
+        String nameKey = nameKey(name);
+        if (nameKey == null) return List.of();
+        return sql.query("SELECT uuid, name, first_seen_ms, last_seen_ms, playtime_ms FROM players WHERE name_key = ? ORDER BY last_seen_ms DESC",
+                ps -> ps.setString(1, nameKey), rs -> {
+                    List<StoredPlayerProfile> profiles = new ArrayList<>();
+                    while (rs.next()) {
+                        profiles.add(readProfile(rs));
+                    }
+                    return profiles;
+                });
+    }
+
+    @Override
+    public List<StoredPlayerProfile> queryProfiles(ProfileQuery query) {
+        if (query.limit() <= 0) return List.of();
+        List<Object> params = new ArrayList<>();
+        String where = profileFilter(query, params);
+        String order = query.sort() == ProfileSort.LAST_SEEN ? " ORDER BY last_seen_ms DESC, uuid" : " ORDER BY name_key, uuid";
+        params.add(query.limit());
+        params.add(query.offset());
+        return sql.query("SELECT uuid, name, first_seen_ms, last_seen_ms, playtime_ms FROM players" + where + order + " LIMIT ? OFFSET ?",
+                ps -> bindAll(ps, params), rs -> {
+                    List<StoredPlayerProfile> profiles = new ArrayList<>();
+                    while (rs.next()) {
+                        profiles.add(readProfile(rs));
+                    }
+                    return profiles;
+                });
+    }
+
+    @Override
+    public int countProfiles(ProfileQuery query) {
+        List<Object> params = new ArrayList<>();
+        String where = profileFilter(query, params);
+        return sql.query("SELECT COUNT(*) FROM players" + where, ps -> bindAll(ps, params), rs -> rs.next() ? rs.getInt(1) : 0);
+    }
+
+    @Override
+    public Map<String, StoredPlayerProfile> getProfiles(Collection<String> uuids) {
+        List<String> keys = new ArrayList<>(new LinkedHashSet<>(uuids.stream().map(SqlPlayerRepository::normalize).toList()));
+        Map<String, StoredPlayerProfile> result = new LinkedHashMap<>();
+        for (int start = 0; start < keys.size(); start += PROFILE_LOOKUP_CHUNK) {
+            List<String> chunk = keys.subList(start, Math.min(keys.size(), start + PROFILE_LOOKUP_CHUNK));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            sql.query("SELECT uuid, name, first_seen_ms, last_seen_ms, playtime_ms FROM players WHERE uuid IN (" + placeholders + ")", ps -> {
+                for (int index = 0; index < chunk.size(); index++) {
+                    ps.setString(index + 1, chunk.get(index));
+                }
+            }, rs -> {
+                while (rs.next()) {
+                    StoredPlayerProfile profile = readProfile(rs);
+                    result.put(profile.uuid(), profile);
+                }
+                return null;
+            });
+        }
+        return result;
+    }
+
     @Override
     public void upsertProfile(StoredPlayerProfile profile) {
         if (profile == null) return;
-        String normalizedUuid = normalize(profile.uuid());
+        upsertProfiles(List.of(profile));
+    }
+
+    @Override
+    public void upsertProfiles(Collection<StoredPlayerProfile> profiles) {
+        Map<String, StoredPlayerProfile> latest = new LinkedHashMap<>();
+        for (StoredPlayerProfile profile : profiles) {
+            if (profile != null) latest.put(normalize(profile.uuid()), profile);
+        }
+        if (latest.isEmpty()) return;
         sql.transaction(() -> {
-            sql.update("DELETE FROM players WHERE uuid = ?", ps -> ps.setString(1, normalizedUuid));
-            sql.update("INSERT INTO players(uuid, name, first_seen_ms, last_seen_ms, playtime_ms) VALUES(?, ?, ?, ?, ?)", ps -> {
-                ps.setString(1, normalizedUuid);
+            sql.batch("DELETE FROM players WHERE uuid = ?", latest.keySet(), (ps, uuid) -> ps.setString(1, uuid));
+            sql.batch("INSERT INTO players(uuid, name, name_key, first_seen_ms, last_seen_ms, playtime_ms) VALUES(?, ?, ?, ?, ?, ?)", latest.entrySet(), (ps, entry) -> {
+                StoredPlayerProfile profile = entry.getValue();
+                ps.setString(1, entry.getKey());
                 ps.setString(2, profile.name());
-                ps.setLong(3, profile.firstSeenMs());
-                ps.setLong(4, profile.lastSeenMs());
-                ps.setLong(5, profile.playtimeMs());
+                ps.setString(3, nameKey(profile.name()));
+                ps.setLong(4, profile.firstSeenMs());
+                ps.setLong(5, profile.lastSeenMs());
+                ps.setLong(6, profile.playtimeMs());
             });
         });
     }
@@ -185,11 +263,132 @@ public class SqlPlayerRepository extends SqlRepositorySupport implements PlayerR
         }) > 0;
     }
 
+    @Override
+    public List<StoredHome> listAllHomes() {
+        return sql.query("SELECT * FROM player_homes WHERE server_id = ? ORDER BY uuid, home_name", ps -> ps.setString(1, serverId()), rs -> {
+            List<StoredHome> homes = new ArrayList<>();
+            while (rs.next()) {
+                homes.add(new StoredHome(rs.getString("uuid"), rs.getString("home_name"), readLocation(rs), rs.getLong("created_at_ms"), rs.getLong("updated_at_ms")));
+            }
+            return homes;
+        });
+    }
+
+    @Override
+    public List<BackLocation> listAllBackLocations() {
+        return sql.query("SELECT * FROM player_back_locations WHERE server_id = ? ORDER BY uuid", ps -> ps.setString(1, serverId()), rs -> {
+            List<BackLocation> locations = new ArrayList<>();
+            while (rs.next()) {
+                locations.add(new BackLocation(rs.getString("uuid"), readLocation(rs)));
+            }
+            return locations;
+        });
+    }
+
+    @Override
+    public List<IgnoredPlayer> listAllIgnoredPlayers() {
+        return sql.query("SELECT uuid, ignored_uuid FROM player_ignored_players WHERE server_id = ? ORDER BY uuid", ps -> ps.setString(1, serverId()), rs -> {
+            List<IgnoredPlayer> entries = new ArrayList<>();
+            while (rs.next()) {
+                entries.add(new IgnoredPlayer(rs.getString("uuid"), rs.getString("ignored_uuid")));
+            }
+            return entries;
+        });
+    }
+
+    @Override
+    public void saveHomes(Collection<StoredHome> homes) {
+        Map<String, StoredHome> latest = new LinkedHashMap<>();
+        for (StoredHome home : homes) {
+            if (home != null && home.location() != null) latest.put(normalize(home.uuid()) + '\u0000' + home.name(), home);
+        }
+        if (latest.isEmpty()) return;
+        Collection<StoredHome> rows = latest.values();
+        long now = System.currentTimeMillis();
+        sql.transaction(() -> {
+            sql.batch("DELETE FROM player_homes WHERE server_id = ? AND uuid = ? AND home_name = ?", rows, (ps, home) -> {
+                ps.setString(1, serverId());
+                ps.setString(2, normalize(home.uuid()));
+                ps.setString(3, home.name());
+            });
+            sql.batch("INSERT INTO player_homes(server_id, uuid, home_name, world_id, x, y, z, yaw, pitch, created_at_ms, updated_at_ms) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows, (ps, home) -> {
+                ps.setString(1, serverId());
+                ps.setString(2, normalize(home.uuid()));
+                ps.setString(3, home.name());
+                bindLocation(ps, 4, home.location());
+                ps.setLong(10, home.createdAtMs() > 0L ? home.createdAtMs() : now);
+                ps.setLong(11, now);
+            });
+        });
+    }
+
+    @Override
+    public void setBackLocations(Collection<BackLocation> locations) {
+        Map<String, StoredLocation> latest = new LinkedHashMap<>();
+        for (BackLocation entry : locations) {
+            if (entry != null && entry.location() != null) latest.put(normalize(entry.uuid()), entry.location());
+        }
+        if (latest.isEmpty()) return;
+        long now = System.currentTimeMillis();
+        sql.transaction(() -> {
+            sql.batch("DELETE FROM player_back_locations WHERE server_id = ? AND uuid = ?", latest.keySet(), (ps, uuid) -> {
+                ps.setString(1, serverId());
+                ps.setString(2, uuid);
+            });
+            sql.batch("INSERT INTO player_back_locations(server_id, uuid, world_id, x, y, z, yaw, pitch, updated_at_ms) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?)", latest.entrySet(), (ps, entry) -> {
+                ps.setString(1, serverId());
+                ps.setString(2, entry.getKey());
+                bindLocation(ps, 3, entry.getValue());
+                ps.setLong(9, now);
+            });
+        });
+    }
+
+    @Override
+    public void addIgnoredPlayers(Collection<IgnoredPlayer> entries) {
+        Set<IgnoredPlayer> rows = new LinkedHashSet<>();
+        for (IgnoredPlayer entry : entries) {
+            if (entry != null) rows.add(new IgnoredPlayer(normalize(entry.uuid()), normalize(entry.ignoredUuid())));
+        }
+        if (rows.isEmpty()) return;
+        sql.transaction(() -> {
+            sql.batch("DELETE FROM player_ignored_players WHERE server_id = ? AND uuid = ? AND ignored_uuid = ?", rows, (ps, entry) -> {
+                ps.setString(1, serverId());
+                ps.setString(2, entry.uuid());
+                ps.setString(3, entry.ignoredUuid());
+            });
+            sql.batch("INSERT INTO player_ignored_players(server_id, uuid, ignored_uuid) VALUES(?, ?, ?)", rows, (ps, entry) -> {
+                ps.setString(1, serverId());
+                ps.setString(2, entry.uuid());
+                ps.setString(3, entry.ignoredUuid());
+            });
+        });
+    }
+
     private static StoredPlayerProfile readProfile(ResultSet rs) throws SQLException {
         return new StoredPlayerProfile(rs.getString("uuid"), rs.getString("name"),
                 rs.getLong("first_seen_ms"), rs.getLong("last_seen_ms"), rs.getLong("playtime_ms"));
     }
 
+    private static String profileFilter(ProfileQuery query, List<Object> params) {
+        List<String> clauses = new ArrayList<>();
+        if (!query.search().isEmpty()) {
+            String exactUuid = query.exactUuid();
+            String byName = nameKeyPrefix(query.search(), params);
+            if (exactUuid != null) {
+                params.add(exactUuid);
+                clauses.add("(" + byName + " OR uuid = ?)");
+            } else {
+                clauses.add(byName);
+            }
+        }
+        if (!query.excludedUuids().isEmpty()) {
+            params.addAll(query.excludedUuids());
+            clauses.add("uuid NOT IN (" + String.join(", ", Collections.nCopies(query.excludedUuids().size(), "?")) + ")");
+        }
+        return clauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", clauses);
+    }
+
     private static String normalize(String uuid) {
         return uuid != null ? uuid.trim().toLowerCase(Locale.ROOT) : "";
     }
@@ -3,6 +3,8 @@ package eu.avalanche7.paradigm.storage.sql;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
 
 import eu.avalanche7.paradigm.storage.identity.StorageContext;
 import eu.avalanche7.paradigm.storage.model.StoredLocation;
@@ -39,4 +41,31 @@ abstract class SqlRepositorySupport {
                 rs.getFloat("pitch")
         );
     }
+
+    protected static void bindAll(PreparedStatement ps, List<Object> params) throws SQLException {
+        for (int index = 0; index < params.size(); index++) {
+            Object value = params.get(index);
+            if (value instanceof Integer number) {
+                ps.setInt(index + 1, number);
+            } else {
+                ps.setString(index + 1, (String) value);
+            }
+        }
+    }
+
+    /** Lowercased name stored in the indexed {@code name_key} columns, or {@code null} for a blank name. */
+    protected static String nameKey(String name) {
+        if (name == null || name.isBlank()) return null;
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Prefix match on an already lower-cased {@code name_key} column as a range, which both dialects answer from the
+     * column's index; SQLite only uses an index for {@code LIKE} on a NOCASE column.
+     */
+    protected static String nameKeyPrefix(String prefix, List<Object> params) {
+        params.add(prefix);
+        params.add(prefix + Character.MAX_VALUE);
+        return "(name_key >= ? AND name_key < ?)";
+    }
 }
@@ -58,7 +58,7 @@ public class SqlStorageProvider implements StorageProvider {
         this.logger = logger;
         this.connections = new SqlConnectionProvider(config, dialect, runtimeDrivers);
         this.migrations = new SqlMigrationRunner(connections, logger);
-        this.executor = new SqlExecutor(connections);
+        this.executor = new SqlExecutor(connections, config != null && config.sql != null ? config.sql.batchSize : SqlExecutor.DEFAULT_BATCH_SIZE);
     }
 
     @Override
@@ -105,6 +105,10 @@ public class SqlStorageProvider implements StorageProvider {
         return serverRegistered;
     }
 
+    public SqlConnectionPool.Metrics connectionPoolMetrics() {
+        return connections.poolMetrics();
+    }
+
     @Override
     public void close() {
         connections.close();
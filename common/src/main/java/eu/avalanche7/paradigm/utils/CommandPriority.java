@@ -1,7 +1,5 @@
 package eu.avalanche7.paradigm.utils;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
@@ -273,19 +271,15 @@ public final class CommandPriority {
     }
 
     private static Object getRoot(Object dispatcher) throws ReflectiveOperationException {
-        Method getRoot = dispatcher.getClass().getMethod("getRoot");
-        return getRoot.invoke(dispatcher);
+        return ReflectiveAccess.invoke(dispatcher, "getRoot");
     }
 
     private static Object getChild(Object rootNode, String rootLiteral) throws ReflectiveOperationException {
-        Method getChild = rootNode.getClass().getMethod("getChild", String.class);
-        return getChild.invoke(rootNode, rootLiteral);
+        return ReflectiveAccess.invoke(rootNode, "getChild", String.class, rootLiteral);
     }
 
     private static void addChild(Object rootNode, Object child) throws ReflectiveOperationException {
-        Method addChild = findAddChild(rootNode.getClass(), child.getClass());
-        addChild.setAccessible(true);
-        addChild.invoke(rootNode, child);
+        ReflectiveAccess.invokeCompatible(rootNode, "addChild", child);
     }
 
     private static boolean removeExactRoot(Object rootNode, String rootLiteral, Object expectedNode)
@@ -301,31 +295,7 @@ public final class CommandPriority {
     }
 
     private static Object fieldValue(Object target, String fieldName) throws ReflectiveOperationException {
-        Field field = findField(target.getClass(), fieldName);
-        field.setAccessible(true);
-        return field.get(target);
-    }
-
-    private static Field findField(Class<?> type, String name) throws NoSuchFieldException {
-        Class<?> cursor = type;
-        while (cursor != null) {
-            try {
-                return cursor.getDeclaredField(name);
-            } catch (NoSuchFieldException ignored) {
-                cursor = cursor.getSuperclass();
-            }
-        }
-        throw new NoSuchFieldException(name);
-    }
-
-    private static Method findAddChild(Class<?> type, Class<?> childType) throws NoSuchMethodException {
-        for (Method method : type.getMethods()) {
-            if (method.getName().equals("addChild") && method.getParameterCount() == 1
-                    && method.getParameterTypes()[0].isAssignableFrom(childType)) {
-                return method;
-            }
-        }
-        throw new NoSuchMethodException("addChild");
+        return ReflectiveAccess.declaredFieldValue(target, fieldName);
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -0,0 +1,114 @@
+package eu.avalanche7.paradigm.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import eu.avalanche7.paradigm.platform.Interfaces.IComponent;
+
+/**
+ * Bounded segmented-LRU cache of parsed components. New entries start in a probation segment and move to the
+ * protected segment when they are looked up again later, so one-off chat lines only churn probation and cannot push
+ * out the lang strings and broadcasts that come back over and over. A lookup within {@link #BURST_WINDOW} lookups
+ * of the previous one does not promote: a broadcast asks once per recipient, and that fan-out says nothing about
+ * whether the line will be seen again. The protected segment takes at most 80% of the capacity; entries it demotes
+ * rejoin probation as its most recently used.
+ */
+final class ComponentCache {
+    private static final int BURST_WINDOW = 256;
+
+    private final Map<String, Probation> probation = new LinkedHashMap<>(64, 0.75F, true);
+    private final Map<String, IComponent> protectedSegment = new LinkedHashMap<>(64, 0.75F, true);
+    private int maxEntries;
+    private int maxProtected;
+    private long lookups;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    ComponentCache(int maxEntries) {
+        resize(maxEntries);
+    }
+
+    synchronized IComponent get(String key) {
+        long now = ++lookups;
+        IComponent value = protectedSegment.get(key);
+        if (value != null) {
+            hits++;
+            return value;
+        }
+        Probation entry = probation.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        if (now - entry.lastSeen <= BURST_WINDOW) {
+            entry.lastSeen = now;
+            return entry.value;
+        }
+        probation.remove(key);
+        protectedSegment.put(key, entry.value);
+        if (protectedSegment.size() > maxProtected) {
+            demoteEldest();
+        }
+        return entry.value;
+    }
+
+    synchronized void put(String key, IComponent value) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        if (protectedSegment.containsKey(key)) {
+            protectedSegment.put(key, value);
+            return;
+        }
+        probation.put(key, new Probation(value, lookups));
+        trim();
+    }
+
+    synchronized void resize(int maxEntries) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.maxProtected = this.maxEntries * 4 / 5;
+        while (protectedSegment.size() > maxProtected) {
+            demoteEldest();
+        }
+        trim();
+    }
+
+    synchronized void clear() {
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    synchronized MessageParser.CacheStats stats() {
+        return new MessageParser.CacheStats(hits, misses, evictions, probation.size() + protectedSegment.size(),
+                protectedSegment.size(), maxEntries);
+    }
+
+    private void demoteEldest() {
+        Iterator<Map.Entry<String, IComponent>> eldest = protectedSegment.entrySet().iterator();
+        Map.Entry<String, IComponent> demoted = eldest.next();
+        eldest.remove();
+        probation.put(demoted.getKey(), new Probation(demoted.getValue(), lookups));
+    }
+
+    private void trim() {
+        while (probation.size() + protectedSegment.size() > maxEntries) {
+            Iterator<String> eldest = probation.isEmpty() ? protectedSegment.keySet().iterator() : probation.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static final class Probation {
+        private final IComponent value;
+        private long lastSeen;
+
+        private Probation(IComponent value, long lastSeen) {
+            this.value = value;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
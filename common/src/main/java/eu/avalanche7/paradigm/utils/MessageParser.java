@@ -1,8 +1,6 @@
 package eu.avalanche7.paradigm.utils;
 
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,10 +11,12 @@ import eu.avalanche7.paradigm.utils.formatting.ComponentSlots;
 import eu.avalanche7.paradigm.utils.formatting.FormattingParser;
 
 public class MessageParser {
+    public static final int DEFAULT_MAX_CACHED_MESSAGES = 2048;
+    private static final int MAX_CACHED_LENGTH = 4096;
     private static final Pattern HEX_COLOR_PATTERN = Pattern.compile("§#([A-Fa-f0-9]{6})");
     private static final Pattern LEGACY_CODE_PATTERN = Pattern.compile("§([0-9a-fA-Fk-oK-OrR])");
 
-    private final Map<String, IComponent> messageCache = new ConcurrentHashMap<>();
+    private final ComponentCache messageCache = new ComponentCache(DEFAULT_MAX_CACHED_MESSAGES);
     private final Placeholders placeholders;
     private final IPlatformAdapter platformAdapter;
     private final FormattingParser formattingParser;
@@ -37,16 +37,19 @@ public class MessageParser {
         }
         ComponentSlots activeSlots = slots != null ? slots : ComponentSlots.none();
 
-        final boolean cacheable = !rawMessage.contains("{") && activeSlots.isEmpty();
-        final String cacheKey = cacheable ? rawMessage + "_player_" + (player != null ? player.getUUID() : "null") : null;
-        if (cacheable && messageCache.containsKey(cacheKey)) {
-            return messageCache.get(cacheKey).copy();
+        // Without a "{" no placeholder can resolve differently per player, so one parse serves every recipient.
+        final boolean cacheable = activeSlots.isEmpty() && rawMessage.length() <= MAX_CACHED_LENGTH && rawMessage.indexOf('{') < 0;
+        if (cacheable) {
+            IComponent cached = messageCache.get(rawMessage);
+            if (cached != null) {
+                return cached.copy();
+            }
         }
 
         IComponent parsed = parseTagBasedMessage(rawMessage, player, null, activeSlots);
 
         if (cacheable) {
-            messageCache.put(cacheKey, parsed);
+            messageCache.put(rawMessage, parsed);
         }
         return parsed.copy();
     }
@@ -188,4 +191,16 @@ public class MessageParser {
     public void clearCache() {
         messageCache.clear();
     }
+
+    /** Caps the parsed-message cache; 0 turns it off. Shrinking evicts the least recently used entries at once. */
+    public void setMaxCachedMessages(int maxEntries) {
+        messageCache.resize(maxEntries);
+    }
+
+    public CacheStats cacheStats() {
+        return messageCache.stats();
+    }
+
+    public record CacheStats(long hits, long misses, long evictions, int size, int protectedSize, int maxEntries) {
+    }
 }
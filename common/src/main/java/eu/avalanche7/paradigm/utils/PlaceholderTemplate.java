@@ -0,0 +1,164 @@
+package eu.avalanche7.paradigm.utils;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A format string split once into literal text and built-in placeholder tokens. Unknown {@code {...}} tokens are
+ * kept as literal text so external placeholder providers still see them after rendering.
+ */
+final class PlaceholderTemplate {
+    private static final int MAX_CACHED_TEMPLATES = 512;
+    private static final int MAX_CACHED_LENGTH = 4096;
+    /** Access-ordered, so a run of one-off chat lines evicts each other instead of the hot lang and tablist templates. */
+    private static final Map<String, PlaceholderTemplate> CACHE = new LinkedHashMap<>(64, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PlaceholderTemplate> eldest) {
+            return size() > MAX_CACHED_TEMPLATES;
+        }
+    };
+
+    private final String source;
+    private final String[] literals;
+    private final Token[] tokens;
+    private final Set<Family> families;
+
+    private PlaceholderTemplate(String source, String[] literals, Token[] tokens, Set<Family> families) {
+        this.source = source;
+        this.literals = literals;
+        this.tokens = tokens;
+        this.families = families;
+    }
+
+    static PlaceholderTemplate of(String source) {
+        if (source.length() > MAX_CACHED_LENGTH) {
+            return compile(source);
+        }
+        PlaceholderTemplate cached;
+        synchronized (CACHE) {
+            cached = CACHE.get(source);
+        }
+        if (cached != null) {
+            return cached;
+        }
+        PlaceholderTemplate compiled = compile(source);
+        synchronized (CACHE) {
+            CACHE.putIfAbsent(source, compiled);
+        }
+        return compiled;
+    }
+
+    static PlaceholderTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Token> tokens = new ArrayList<>();
+        Set<Family> families = EnumSet.noneOf(Family.class);
+        int literalStart = 0;
+        int open = source.indexOf('{');
+        while (open >= 0) {
+            int close = open + 1;
+            while (close < source.length() && source.charAt(close) != '}' && source.charAt(close) != '{') {
+                close++;
+            }
+            if (close >= source.length()) {
+                break;
+            }
+            if (source.charAt(close) == '{') {
+                open = close;
+                continue;
+            }
+            Token token = Token.byKey(source.substring(open + 1, close));
+            if (token != null) {
+                literals.add(source.substring(literalStart, open));
+                tokens.add(token);
+                families.add(token.family);
+                literalStart = close + 1;
+            }
+            open = source.indexOf('{', close + 1);
+        }
+        literals.add(source.substring(literalStart));
+        return new PlaceholderTemplate(source, literals.toArray(new String[0]), tokens.toArray(new Token[0]), families);
+    }
+
+    boolean isLiteral() {
+        return tokens.length == 0;
+    }
+
+    boolean references(Family family) {
+        return families.contains(family);
+    }
+
+    String source() {
+        return source;
+    }
+
+    int tokenCount() {
+        return tokens.length;
+    }
+
+    String literal(int index) {
+        return literals[index];
+    }
+
+    Token token(int index) {
+        return tokens[index];
+    }
+
+    enum Family {
+        IDENTITY,
+        STATS,
+        WORLD,
+        PING,
+        ACTIVITY,
+        GROUP
+    }
+
+    enum Token {
+        PLAYER("player", Family.IDENTITY),
+        PLAYER_NAME("player_name", Family.IDENTITY),
+        PLAYER_UUID("player_uuid", Family.IDENTITY),
+        PLAYER_LEVEL("player_level", Family.STATS),
+        PLAYER_HEALTH("player_health", Family.STATS),
+        MAX_PLAYER_HEALTH("max_player_health", Family.STATS),
+        PLAYER_WORLD("player_world", Family.WORLD),
+        PLAYER_DIMENSION("player_dimension", Family.WORLD),
+        PLAYER_PING("player_ping", Family.PING),
+        AFK("afk", Family.ACTIVITY),
+        IS_AFK("is_afk", Family.ACTIVITY),
+        PLAYTIME("playtime", Family.ACTIVITY),
+        PLAYTIME_SHORT("playtime_short", Family.ACTIVITY),
+        PLAYTIME_HOURS("playtime_hours", Family.ACTIVITY),
+        PLAYER_PREFIX("player_prefix", Family.GROUP),
+        PLAYER_SUFFIX("player_suffix", Family.GROUP),
+        PLAYER_GROUP("player_group", Family.GROUP),
+        PLAYER_PRIMARY_GROUP("player_primary_group", Family.GROUP),
+        PLAYER_GROUPS("player_groups", Family.GROUP),
+        PREFIX("prefix", Family.GROUP),
+        SUFFIX("suffix", Family.GROUP),
+        GROUP("group", Family.GROUP);
+
+        private static final Map<String, Token> BY_KEY = new HashMap<>();
+
+        static {
+            for (Token token : values()) {
+                BY_KEY.put(token.key, token);
+            }
+        }
+
+        private final String key;
+        private final Family family;
+
+        Token(String key, Family family) {
+            this.key = key;
+            this.family = family;
+        }
+
+        static Token byKey(String key) {
+            return BY_KEY.get(key);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
 public class Placeholders {
 
     private Boolean luckPermsClassPresent = null;
+    private Class<?> luckPermsProvider;
     private static volatile Function<IPlayer, PermissionMeta> permissionMetaResolver;
     private static volatile ToIntFunction<IPlayer> pingResolver;
     private static volatile Function<IPlayer, PlayerActivity> activityResolver;
@@ -32,8 +33,9 @@ public class Placeholders {
     private Object resolveLuckPerms() {
         if (luckPermsClassPresent == null) {
             try {
-                Class.forName("net.luckperms.api.LuckPermsProvider", false, Placeholders.class.getClassLoader());
-                luckPermsClassPresent = true;
+                Class<?> providerClass = Class.forName("net.luckperms.api.LuckPermsProvider", false, Placeholders.class.getClassLoader());
+                luckPermsProvider = providerClass;
+                luckPermsClassPresent = ReflectiveAccess.method(providerClass, "get") != null;
             } catch (ClassNotFoundException | LinkageError absent) {
                 luckPermsClassPresent = false;
             }
@@ -41,67 +43,104 @@ public class Placeholders {
         if (!luckPermsClassPresent) {
             return null;
         }
-        try {
-            Class<?> providerClass = Class.forName("net.luckperms.api.LuckPermsProvider");
-            return providerClass.getMethod("get").invoke(null);
-        } catch (Exception notReadyYet) {
-            return null;
-        }
+        // Throws until LuckPerms has finished loading; callStatic answers null meanwhile.
+        return ReflectiveAccess.callStatic(luckPermsProvider, "get");
     }
 
     public String replacePlaceholders(String text, IPlayer player) {
         if (text == null) return "";
 
-        String replacedText = text;
-
-        if (player != null) {
-            String name = player.getName();
-            String uuidStr = player.getUUID();
-
-            replacedText = replacedText.replace("{player}", safe(name));
-            replacedText = replacedText.replace("{player_name}", safe(name));
-            replacedText = replacedText.replace("{player_uuid}", safe(uuidStr));
+        PlaceholderTemplate template = PlaceholderTemplate.of(text);
+        String uuidStr = player != null ? player.getUUID() : null;
+        if (template.isLiteral()) {
+            return resolveExternal(text, uuidStr);
+        }
+        return resolveExternal(render(template, player), uuidStr);
+    }
 
-            if (replacedText.contains("{player_level}")) {
-                Integer lvl = player.getLevel();
-                replacedText = replacedText.replace("{player_level}", lvl != null ? String.valueOf(lvl) : "");
-            }
-            if (replacedText.contains("{player_health}")) {
-                Double hp = player.getHealth();
-                replacedText = replacedText.replace("{player_health}", hp != null ? format1(hp) : "");
-            }
-            if (replacedText.contains("{max_player_health}")) {
-                Double mhp = player.getMaxHealth();
-                replacedText = replacedText.replace("{max_player_health}", mhp != null ? format1(mhp) : "");
-            }
-            if (replacedText.contains("{player_world}") || replacedText.contains("{player_dimension}")) {
-                replacedText = replaceWorldPlaceholders(replacedText, player.getWorldId());
-            }
-            if (replacedText.contains("{player_ping}")) {
-                replacedText = replacedText.replace("{player_ping}", resolvePing(player));
+    private String render(PlaceholderTemplate template, IPlayer player) {
+        String name = null;
+        String uuid = null;
+        if (player != null && template.references(PlaceholderTemplate.Family.IDENTITY)) {
+            name = safe(player.getName());
+            uuid = safe(player.getUUID());
+        }
+        String world = null;
+        String dimension = null;
+        if (player != null && template.references(PlaceholderTemplate.Family.WORLD)) {
+            world = safe(player.getWorldId());
+            int separator = world.indexOf(':');
+            dimension = separator >= 0 && separator + 1 < world.length() ? world.substring(separator + 1) : world;
+        }
+        PlayerActivity activity = player != null && template.references(PlaceholderTemplate.Family.ACTIVITY) ? resolveActivity(player) : null;
+        PermissionMeta meta = player != null && template.references(PlaceholderTemplate.Family.GROUP) ? resolveGroupMeta(player) : null;
+
+        StringBuilder out = new StringBuilder(template.source().length() + 32);
+        for (int i = 0; i < template.tokenCount(); i++) {
+            out.append(template.literal(i));
+            if (player == null) {
+                out.append(template.token(i) == PlaceholderTemplate.Token.IS_AFK ? "false" : "");
+                continue;
             }
-            replacedText = replaceActivityPlaceholders(replacedText, player);
+            out.append(switch (template.token(i)) {
+                case PLAYER, PLAYER_NAME -> name;
+                case PLAYER_UUID -> uuid;
+                case PLAYER_LEVEL -> {
+                    Integer lvl = player.getLevel();
+                    yield lvl != null ? String.valueOf(lvl) : "";
+                }
+                case PLAYER_HEALTH -> {
+                    Double hp = player.getHealth();
+                    yield hp != null ? format1(hp) : "";
+                }
+                case MAX_PLAYER_HEALTH -> {
+                    Double mhp = player.getMaxHealth();
+                    yield mhp != null ? format1(mhp) : "";
+                }
+                case PLAYER_WORLD -> world;
+                case PLAYER_DIMENSION -> dimension;
+                case PLAYER_PING -> resolvePing(player);
+                case AFK -> activity != null && activity.afk() ? safe(activity.afkTag()) : "";
+                case IS_AFK -> Boolean.toString(activity != null && activity.afk());
+                case PLAYTIME -> activity != null && activity.playtimeMs() >= 0L ? DurationFormatter.humanize(activity.playtimeMs()) : "";
+                case PLAYTIME_SHORT -> activity != null && activity.playtimeMs() >= 0L ? DurationFormatter.compact(activity.playtimeMs()) : "";
+                case PLAYTIME_HOURS -> activity != null && activity.playtimeMs() >= 0L ? Long.toString(DurationFormatter.wholeHours(activity.playtimeMs())) : "";
+                case PLAYER_GROUP, PLAYER_PRIMARY_GROUP, GROUP -> meta != null ? safe(meta.primaryGroup()) : "";
+                case PLAYER_PREFIX, PREFIX -> meta != null ? safe(meta.prefix()) : "";
+                case PLAYER_SUFFIX, SUFFIX -> meta != null ? safe(meta.suffix()) : "";
+                case PLAYER_GROUPS -> meta != null && meta.groups() != null ? String.join(",", meta.groups()) : "";
+            });
+        }
+        out.append(template.literal(template.tokenCount()));
+        return out.toString();
+    }
 
-            Object luckPerms = resolveLuckPerms();
-            if (luckPerms != null) {
-                replacedText = replaceLuckPermsPlaceholders(replacedText, player.getOriginalPlayer(), luckPerms);
-            } else {
-                replacedText = replaceInternalPermissionPlaceholders(replacedText, player);
-            }
-            return resolveExternal(replacedText, uuidStr);
+    private static PlayerActivity resolveActivity(IPlayer player) {
+        Function<IPlayer, PlayerActivity> resolver = activityResolver;
+        if (resolver == null) {
+            return null;
         }
+        try {
+            return resolver.apply(player);
+        } catch (RuntimeException | LinkageError ignored) {
+            return null;
+        }
+    }
 
-        replacedText = replacedText.replace("{player}", "");
-        replacedText = replacedText.replace("{player_name}", "");
-        replacedText = replacedText.replace("{player_uuid}", "");
-        replacedText = replacedText.replace("{player_level}", "");
-        replacedText = replacedText.replace("{player_health}", "");
-        replacedText = replacedText.replace("{max_player_health}", "");
-        replacedText = stripRuntimePlaceholders(replacedText);
-        replacedText = stripActivityPlaceholders(replacedText);
-        replacedText = stripLuckPermsPlaceholders(replacedText);
-        replacedText = stripInternalGroupPlaceholders(replacedText);
-        return resolveExternal(replacedText, null);
+    private PermissionMeta resolveGroupMeta(IPlayer player) {
+        Object luckPerms = resolveLuckPerms();
+        if (luckPerms != null) {
+            return resolveLuckPermsMeta(player.getOriginalPlayer(), luckPerms);
+        }
+        Function<IPlayer, PermissionMeta> resolver = permissionMetaResolver;
+        if (resolver == null) {
+            return null;
+        }
+        try {
+            return resolver.apply(player);
+        } catch (Throwable ignored) {
+            return null;
+        }
     }
 
     public String replacePlaceholders(String text, Object player) {
@@ -203,16 +242,6 @@ public class Placeholders {
         return ApiProviderRegistry.resolveExternalPlaceholders(text, uuid);
     }
 
-    private static String replaceWorldPlaceholders(String text, String worldId) {
-        if (!text.contains("{player_world}") && !text.contains("{player_dimension}")) {
-            return text;
-        }
-        String world = safe(worldId);
-        int separator = world.indexOf(':');
-        String dimension = separator >= 0 && separator + 1 < world.length() ? world.substring(separator + 1) : world;
-        return text.replace("{player_world}", world).replace("{player_dimension}", dimension);
-    }
-
     private static String resolvePing(IPlayer player) {
         ToIntFunction<IPlayer> resolver = pingResolver;
         if (resolver == null) {
@@ -232,42 +261,6 @@ public class Placeholders {
                 .replace("{player_ping}", "");
     }
 
-    private static String replaceActivityPlaceholders(String text, IPlayer player) {
-        if (!containsActivityToken(text)) {
-            return text;
-        }
-
-        Function<IPlayer, PlayerActivity> resolver = activityResolver;
-        PlayerActivity activity = null;
-        if (resolver != null && player != null) {
-            try {
-                activity = resolver.apply(player);
-            } catch (RuntimeException | LinkageError ignored) {
-                activity = null;
-            }
-        }
-        if (activity == null) {
-            return stripActivityPlaceholders(text);
-        }
-
-        long playtime = activity.playtimeMs();
-        boolean playtimeKnown = playtime >= 0L;
-        return text
-                .replace("{afk}", activity.afk() ? safe(activity.afkTag()) : "")
-                .replace("{is_afk}", Boolean.toString(activity.afk()))
-                .replace("{playtime}", playtimeKnown ? DurationFormatter.humanize(playtime) : "")
-                .replace("{playtime_short}", playtimeKnown ? DurationFormatter.compact(playtime) : "")
-                .replace("{playtime_hours}", playtimeKnown ? Long.toString(DurationFormatter.wholeHours(playtime)) : "");
-    }
-
-    private static boolean containsActivityToken(String text) {
-        return text.contains("{afk}")
-                || text.contains("{is_afk}")
-                || text.contains("{playtime}")
-                || text.contains("{playtime_short}")
-                || text.contains("{playtime_hours}");
-    }
-
     private static String stripActivityPlaceholders(String text) {
         return text
                 .replace("{afk}", "")
@@ -342,69 +335,54 @@ public class Placeholders {
     }
 
     private String replaceLuckPermsPlaceholders(String text, Object player, Object luckPerms) {
+        PermissionMeta meta = resolveLuckPermsMeta(player, luckPerms);
+        if (meta == null) {
+            return stripLuckPermsPlaceholders(text);
+        }
+        String group = safe(meta.primaryGroup());
+        String prefix = safe(meta.prefix());
+        String suffix = safe(meta.suffix());
+
+        String replacedText = text;
+        replacedText = replacedText.replace("{player_group}", group);
+        replacedText = replacedText.replace("{player_primary_group}", group);
+        replacedText = replacedText.replace("{group}", group);
+        replacedText = replacedText.replace("{player_prefix}", prefix);
+        replacedText = replacedText.replace("{prefix}", prefix);
+        replacedText = replacedText.replace("{player_suffix}", suffix);
+        replacedText = replacedText.replace("{suffix}", suffix);
+        replacedText = replacedText.replace("{player_groups}", "");
+        return replacedText;
+    }
+
+    /** Primary group, prefix and suffix from LuckPerms, or {@code null} when the user or its meta is unavailable. */
+    private PermissionMeta resolveLuckPermsMeta(Object player, Object luckPerms) {
         try {
             Object uuidObj = invoke(player, "getUuid");
             if (uuidObj == null) uuidObj = invoke(player, "getUUID");
             if (!(uuidObj instanceof java.util.UUID uuid)) {
-                return stripLuckPermsPlaceholders(text);
+                return null;
             }
 
-            Class<?> luckPermsClass = luckPerms.getClass();
-            java.lang.reflect.Method getUserManagerMethod = luckPermsClass.getMethod("getUserManager");
-            Object userManager = getUserManagerMethod.invoke(luckPerms);
-
-            java.lang.reflect.Method getUserMethod = userManager.getClass().getMethod("getUser", java.util.UUID.class);
-            Object user = getUserMethod.invoke(userManager, uuid);
-
-            if (user == null) return stripLuckPermsPlaceholders(text);
-
-            String replacedText = text;
-
-            java.lang.reflect.Method getPrimaryGroupMethod = user.getClass().getMethod("getPrimaryGroup");
-            String primaryGroup = (String) getPrimaryGroupMethod.invoke(user);
-            if (primaryGroup != null) {
-                replacedText = replacedText.replace("{player_group}", primaryGroup);
-                replacedText = replacedText.replace("{player_primary_group}", primaryGroup);
-                replacedText = replacedText.replace("{group}", primaryGroup);
-            } else {
-                replacedText = replacedText.replace("{player_group}", "");
-                replacedText = replacedText.replace("{player_primary_group}", "");
-                replacedText = replacedText.replace("{group}", "");
-            }
+            Object userManager = ReflectiveAccess.invoke(luckPerms, "getUserManager");
+            Object user = ReflectiveAccess.invoke(userManager, "getUser", java.util.UUID.class, uuid);
 
-            java.lang.reflect.Method getCachedDataMethod = user.getClass().getMethod("getCachedData");
-            Object cachedData = getCachedDataMethod.invoke(user);
+            if (user == null) return null;
 
-            java.lang.reflect.Method getMetaDataMethod = cachedData.getClass().getMethod("getMetaData");
-            Object metaData = getMetaDataMethod.invoke(cachedData);
+            String primaryGroup = (String) ReflectiveAccess.invoke(user, "getPrimaryGroup");
+            Object cachedData = ReflectiveAccess.invoke(user, "getCachedData");
+            Object metaData = ReflectiveAccess.invoke(cachedData, "getMetaData");
+            String prefix = (String) ReflectiveAccess.invoke(metaData, "getPrefix");
+            String suffix = (String) ReflectiveAccess.invoke(metaData, "getSuffix");
 
-            java.lang.reflect.Method getPrefixMethod = metaData.getClass().getMethod("getPrefix");
-            String prefix = (String) getPrefixMethod.invoke(metaData);
-            replacedText = replacedText.replace("{player_prefix}", prefix != null ? prefix : "");
-            replacedText = replacedText.replace("{prefix}", prefix != null ? prefix : "");
-
-            java.lang.reflect.Method getSuffixMethod = metaData.getClass().getMethod("getSuffix");
-            String suffix = (String) getSuffixMethod.invoke(metaData);
-            replacedText = replacedText.replace("{player_suffix}", suffix != null ? suffix : "");
-            replacedText = replacedText.replace("{suffix}", suffix != null ? suffix : "");
-
-            replacedText = replacedText.replace("{player_groups}", "");
-
-            return replacedText;
+            return new PermissionMeta(primaryGroup, prefix, suffix, List.of());
         } catch (Exception e) {
-            return stripLuckPermsPlaceholders(text);
+            return null;
         }
     }
 
     private static Object invoke(Object target, String method) {
-        if (target == null) return null;
-        try {
-            java.lang.reflect.Method m = target.getClass().getMethod(method);
-            m.setAccessible(true);
-            return m.invoke(target);
-        } catch (Exception ignored) {
-            return null;
-        }
+        return ReflectiveAccess.call(target, method);
     }
 
     private static String invokeToString(Object obj) {
@@ -420,14 +398,8 @@ public class Placeholders {
     }
 
     private static String invokeIntField(Object target, String fieldName) {
-        try {
-            java.lang.reflect.Field f = target.getClass().getField(fieldName);
-            f.setAccessible(true);
-            Object v = f.get(target);
-            return v != null ? String.valueOf(v) : null;
-        } catch (Exception ignored) {
-            return null;
-        }
+        Object v = ReflectiveAccess.publicField(target, fieldName);
+        return v != null ? String.valueOf(v) : null;
     }
 
     private static String invokeFloatLike(Object v) {
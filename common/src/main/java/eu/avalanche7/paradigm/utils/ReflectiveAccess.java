@@ -0,0 +1,328 @@
+package eu.avalanche7.paradigm.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached reflective access for code that reaches platform or optional-dependency members without compiling against
+ * them. Each (class, member) pair is resolved once into a {@link MethodHandle} shaped {@code (Object...)Object};
+ * misses are remembered as well, so a repeated lookup is one map read whether or not the member exists.
+ * <p>
+ * The {@code call} methods answer {@code null} when the member is missing or the call fails; the {@code invoke}
+ * methods throw a {@link ReflectiveOperationException} instead, for callers that need to tell the two apart.
+ */
+public final class ReflectiveAccess {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ClassValue<Map<String, Optional<MethodHandle>>> MEMBERS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final ClassValue<Map<String, Optional<FieldAccess>>> FIELDS = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<FieldAccess>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private ReflectiveAccess() {
+    }
+
+    /**
+     * Public method {@code name(parameterTypes)} of {@code type} as a handle taking the receiver plus one
+     * {@code Object} per parameter and returning {@code Object}; static methods ignore the receiver. Returns
+     * {@code null} when no accessible method matches.
+     */
+    public static MethodHandle method(Class<?> type, String name, Class<?>... parameterTypes) {
+        if (type == null || name == null) {
+            return null;
+        }
+        String key = parameterTypes.length == 0 ? name : name + Arrays.toString(parameterTypes);
+        return MEMBERS.get(type)
+                .computeIfAbsent(key, ignored -> Optional.ofNullable(resolveMethod(type, name, parameterTypes)))
+                .orElse(null);
+    }
+
+    public static Object call(Object target, String method) {
+        MethodHandle handle = target != null ? method(target.getClass(), method) : null;
+        if (handle == null) {
+            return null;
+        }
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    public static <T> T call(Object target, String method, Class<T> resultType) {
+        Object result = call(target, method);
+        return resultType.isInstance(result) ? resultType.cast(result) : null;
+    }
+
+    public static Object call(Object target, String method, Class<?> parameterType, Object argument) {
+        MethodHandle handle = target != null ? method(target.getClass(), method, parameterType) : null;
+        if (handle == null) {
+            return null;
+        }
+        try {
+            return (Object) handle.invokeExact(target, argument);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    public static Object callStatic(Class<?> type, String method) {
+        MethodHandle handle = method(type, method);
+        if (handle == null) {
+            return null;
+        }
+        try {
+            return (Object) handle.invokeExact((Object) null);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    public static Object invoke(Object target, String method) throws ReflectiveOperationException {
+        MethodHandle handle = method(target.getClass(), method);
+        if (handle == null) {
+            throw new NoSuchMethodException(target.getClass().getName() + "." + method + "()");
+        }
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Throwable failure) {
+            throw new InvocationTargetException(failure);
+        }
+    }
+
+    public static Object invoke(Object target, String method, Class<?> parameterType, Object argument) throws ReflectiveOperationException {
+        MethodHandle handle = method(target.getClass(), method, parameterType);
+        if (handle == null) {
+            throw new NoSuchMethodException(target.getClass().getName() + "." + method + "(" + parameterType.getName() + ")");
+        }
+        try {
+            return (Object) handle.invokeExact(target, argument);
+        } catch (Throwable failure) {
+            throw new InvocationTargetException(failure);
+        }
+    }
+
+    /**
+     * Calls the one-argument public method {@code name} whose parameter type accepts {@code argument}, for members
+     * whose declared parameter type is not known up front (Brigadier's {@code addChild(CommandNode<S>)}).
+     */
+    public static Object invokeCompatible(Object target, String method, Object argument) throws ReflectiveOperationException {
+        Class<?> type = target.getClass();
+        Class<?> argumentType = argument.getClass();
+        MethodHandle handle = MEMBERS.get(type)
+                .computeIfAbsent(method + "~" + argumentType.getName(),
+                        ignored -> Optional.ofNullable(resolveCompatible(type, method, argumentType)))
+                .orElse(null);
+        if (handle == null) {
+            throw new NoSuchMethodException(type.getName() + "." + method);
+        }
+        try {
+            return (Object) handle.invokeExact(target, argument);
+        } catch (Throwable failure) {
+            throw new InvocationTargetException(failure);
+        }
+    }
+
+    /** Value of the public instance field {@code name}, or {@code null} when it does not exist or cannot be read. */
+    public static Object publicField(Object target, String name) {
+        if (target == null || name == null) {
+            return null;
+        }
+        MethodHandle getter = MEMBERS.get(target.getClass())
+                .computeIfAbsent("#" + name, ignored -> Optional.ofNullable(resolvePublicField(target.getClass(), name)))
+                .orElse(null);
+        if (getter == null) {
+            return null;
+        }
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Instance field {@code name} declared on {@code type} or one of its superclasses, made accessible, or
+     * {@code null} when it does not exist or the module system refuses access.
+     */
+    public static FieldAccess declaredField(Class<?> type, String name) {
+        if (type == null || name == null) {
+            return null;
+        }
+        return FIELDS.get(type)
+                .computeIfAbsent(name, ignored -> Optional.ofNullable(resolveDeclaredField(type, name)))
+                .orElse(null);
+    }
+
+    public static Object declaredFieldValue(Object target, String name) throws ReflectiveOperationException {
+        FieldAccess field = declaredField(target.getClass(), name);
+        if (field == null) {
+            throw new NoSuchFieldException(name);
+        }
+        return field.get(target);
+    }
+
+    private static MethodHandle resolveMethod(Class<?> type, String name, Class<?>[] parameterTypes) {
+        Method method;
+        try {
+            method = type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException | SecurityException | LinkageError absent) {
+            return null;
+        }
+        return adapt(method);
+    }
+
+    private static MethodHandle resolveCompatible(Class<?> type, String name, Class<?> argumentType) {
+        try {
+            for (Method method : type.getMethods()) {
+                if (method.getName().equals(name) && method.getParameterCount() == 1
+                        && method.getParameterTypes()[0].isAssignableFrom(argumentType)) {
+                    return adapt(method);
+                }
+            }
+        } catch (SecurityException | LinkageError ignored) {
+        }
+        return null;
+    }
+
+    private static MethodHandle adapt(Method method) {
+        MethodHandle handle = unreflect(method);
+        if (handle == null) {
+            return null;
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(MethodType.genericMethodType(1 + method.getParameterCount()));
+    }
+
+    /**
+     * A public method reached through a non-public class (an implementation class behind an API interface) cannot
+     * be unreflected directly; fall back to the same method on a public supertype.
+     */
+    private static MethodHandle unreflect(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException ignored) {
+        }
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException ignored) {
+        }
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        Set<Class<?>> seen = new HashSet<>();
+        pending.add(method.getDeclaringClass());
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            if (!seen.add(type)) {
+                continue;
+            }
+            if (Modifier.isPublic(type.getModifiers()) && type != method.getDeclaringClass()) {
+                try {
+                    return LOOKUP.unreflect(type.getMethod(method.getName(), method.getParameterTypes()));
+                } catch (NoSuchMethodException | IllegalAccessException ignored) {
+                }
+            }
+            if (type.getSuperclass() != null) {
+                pending.add(type.getSuperclass());
+            }
+            pending.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return null;
+    }
+
+    private static MethodHandle resolvePublicField(Class<?> type, String name) {
+        try {
+            Field field = type.getField(name);
+            if (Modifier.isStatic(field.getModifiers())) {
+                return null;
+            }
+            try {
+                field.setAccessible(true);
+            } catch (RuntimeException ignored) {
+            }
+            return LOOKUP.unreflectGetter(field).asType(MethodType.genericMethodType(1));
+        } catch (NoSuchFieldException | IllegalAccessException | SecurityException | LinkageError absent) {
+            return null;
+        }
+    }
+
+    private static FieldAccess resolveDeclaredField(Class<?> type, String name) {
+        for (Class<?> cursor = type; cursor != null; cursor = cursor.getSuperclass()) {
+            Field field;
+            try {
+                field = cursor.getDeclaredField(name);
+            } catch (NoSuchFieldException ignored) {
+                continue;
+            } catch (SecurityException | LinkageError refused) {
+                return null;
+            }
+            if (Modifier.isStatic(field.getModifiers())) {
+                return null;
+            }
+            try {
+                field.setAccessible(true);
+                MethodHandle getter = LOOKUP.unreflectGetter(field).asType(MethodType.genericMethodType(1));
+                return new FieldAccess(getter, setter(field));
+            } catch (IllegalAccessException | RuntimeException refused) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /** Final instance fields are writable once made accessible, like {@link Field#set}; records and hidden classes are not. */
+    private static MethodHandle setter(Field field) {
+        try {
+            return LOOKUP.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException refused) {
+            return null;
+        }
+    }
+
+    /** Getter and, when the field can be written, setter handles for one instance field. */
+    public record FieldAccess(MethodHandle getter, MethodHandle setter) {
+        public Object get(Object target) throws ReflectiveOperationException {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (ClassCastException | NullPointerException wrongTarget) {
+                throw new IllegalAccessException(wrongTarget.toString());
+            } catch (Throwable failure) {
+                throw new InvocationTargetException(failure);
+            }
+        }
+
+        public void set(Object target, Object value) throws ReflectiveOperationException {
+            if (setter == null) {
+                throw new IllegalAccessException("field is not writable");
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (ClassCastException | NullPointerException wrongTarget) {
+                throw new IllegalAccessException(wrongTarget.toString());
+            } catch (Throwable failure) {
+                throw new InvocationTargetException(failure);
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package eu.avalanche7.paradigm.utils.formatting;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -13,11 +17,21 @@ import eu.avalanche7.paradigm.utils.formatting.tags.Tag;
 import eu.avalanche7.paradigm.utils.formatting.tags.TagRegistry;
 
 public class FormattingParser {
+    private static final int MAX_CACHED_PLANS = 256;
+    private static final int MAX_CACHED_LENGTH = 8192;
+
     private final TagRegistry tagRegistry;
     private final IPlatformAdapter platformAdapter;
     private final Placeholders placeholders;
-    private final Pattern hexPattern = Pattern.compile("&#([A-Fa-f0-9]{6})");
     private final Pattern urlPattern = Pattern.compile("https?://\\S+");
+    private final Map<String, List<Step>> plans = new LinkedHashMap<>(64, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<Step>> eldest) {
+            return size() > MAX_CACHED_PLANS;
+        }
+    };
+    private final AtomicLong planHits = new AtomicLong();
+    private final AtomicLong planMisses = new AtomicLong();
 
     private static class TagState {
         Tag tag;
@@ -39,6 +53,14 @@ public class FormattingParser {
         return tagRegistry;
     }
 
+    public PlanCacheStats planCacheStats() {
+        int size;
+        synchronized (plans) {
+            size = plans.size();
+        }
+        return new PlanCacheStats(planHits.get(), planMisses.get(), size, MAX_CACHED_PLANS);
+    }
+
     public IComponent parse(String rawMessage, IPlayer player) {
         return parse(rawMessage, player, null, ComponentSlots.none());
     }
@@ -56,17 +78,7 @@ public class FormattingParser {
                 ? placeholders.replacePlaceholders(rawMessage, player)
                 : rawMessage;
 
-        Matcher hexMatcher = hexPattern.matcher(processedMessage);
-        StringBuilder sb = new StringBuilder();
-        while (hexMatcher.find()) {
-            String hexColor = hexMatcher.group(1);
-            hexMatcher.appendReplacement(sb, "&#" + hexColor);
-        }
-        hexMatcher.appendTail(sb);
-        processedMessage = sb.toString();
-
-        Tokenizer tokenizer = new Tokenizer(processedMessage);
-        List<Token> tokens = tokenizer.tokenize();
+        List<Step> plan = plan(processedMessage);
 
         IComponent rootComponent = platformAdapter.createComponentFromLiteral("");
         if (baseStyle != null) {
@@ -77,13 +89,59 @@ public class FormattingParser {
         context.setSlots(slots);
         Stack<TagState> tagStack = new Stack<>();
 
+        for (Step step : plan) {
+            switch (step.kind()) {
+                case TEXT -> appendText(context.getCurrentComponent(), step.text(), context);
+                case OPEN -> {
+                    step.tag().process(context, step.arguments());
+                    tagStack.push(new TagState(step.tag(), step.arguments()));
+                }
+                case CLOSE -> {
+                    if (!tagStack.isEmpty()) {
+                        TagState state = tagStack.pop();
+                        state.tag.close(context);
+                    }
+                }
+                case SELF_CLOSE -> step.tag().process(context, step.arguments());
+            }
+        }
+
+        return rootComponent;
+    }
+
+    /**
+     * Token stream with tag lookups already resolved. Keyed by the text after placeholder substitution, because
+     * placeholder values (prefixes, legacy colour codes) can themselves contain tags.
+     */
+    private List<Step> plan(String processedMessage) {
+        boolean cacheable = processedMessage.length() <= MAX_CACHED_LENGTH;
+        if (cacheable) {
+            List<Step> cached;
+            synchronized (plans) {
+                cached = plans.get(processedMessage);
+            }
+            if (cached != null) {
+                planHits.incrementAndGet();
+                return cached;
+            }
+        }
+        planMisses.incrementAndGet();
+
+        List<Step> compiled = compile(processedMessage);
+        if (cacheable) {
+            synchronized (plans) {
+                plans.put(processedMessage, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    private List<Step> compile(String processedMessage) {
+        List<Token> tokens = new Tokenizer(processedMessage).tokenize();
+        List<Step> steps = new ArrayList<>(tokens.size());
         for (Token token : tokens) {
             switch (token.getType()) {
-                case TEXT -> {
-                    IComponent targetComponent = context.getCurrentComponent();
-                    appendText(targetComponent, token.getValue(), context);
-                }
-                case ESCAPE -> appendText(context.getCurrentComponent(), token.getValue(), context);
+                case TEXT, ESCAPE -> steps.add(new Step(Step.Kind.TEXT, token.getValue(), null, null));
                 case TAG_OPEN -> {
                     String tagContent = token.getValue();
                     int colonIndex = findFirstColonOutsideQuotes(tagContent);
@@ -92,18 +150,12 @@ public class FormattingParser {
 
                     Tag tag = tagRegistry.getTag(tagName);
                     if (tag != null && tag.canOpen()) {
-                        tag.process(context, arguments);
-                        tagStack.push(new TagState(tag, arguments));
+                        steps.add(new Step(Step.Kind.OPEN, null, tag, arguments));
                     } else {
-                        appendText(context.getCurrentComponent(), "<" + tagContent + ">", context);
-                    }
-                }
-                case TAG_CLOSE -> {
-                    if (!tagStack.isEmpty()) {
-                        TagState state = tagStack.pop();
-                        state.tag.close(context);
+                        steps.add(new Step(Step.Kind.TEXT, "<" + tagContent + ">", null, null));
                     }
                 }
+                case TAG_CLOSE -> steps.add(new Step(Step.Kind.CLOSE, null, null, null));
                 case TAG_SELF_CLOSE -> {
                     String selfCloseTagName = token.getValue();
                     int selfCloseColonIdx = findFirstColonOutsideQuotes(selfCloseTagName);
@@ -112,15 +164,14 @@ public class FormattingParser {
 
                     Tag selfCloseTag = tagRegistry.getTag(selfCloseTagBase);
                     if (selfCloseTag != null && selfCloseTag.isSelfClosing()) {
-                        selfCloseTag.process(context, selfCloseArgs);
+                        steps.add(new Step(Step.Kind.SELF_CLOSE, null, selfCloseTag, selfCloseArgs));
                     }
                 }
                 case EOF -> {
                 }
             }
         }
-
-        return rootComponent;
+        return List.copyOf(steps);
     }
 
     private void appendText(IComponent parent, String text, FormattingContext context) {
@@ -216,6 +267,9 @@ public class FormattingParser {
 
     public void registerCustomTag(Tag tag) {
         tagRegistry.registerTag(tag);
+        synchronized (plans) {
+            plans.clear();
+        }
     }
 
     private int findFirstColonOutsideQuotes(String text) {
@@ -241,4 +295,16 @@ public class FormattingParser {
 
         return -1;
     }
+
+    private record Step(Kind kind, String text, Tag tag, String arguments) {
+        private enum Kind {
+            TEXT,
+            OPEN,
+            CLOSE,
+            SELF_CLOSE
+        }
+    }
+
+    public record PlanCacheStats(long hits, long misses, int size, int maxEntries) {
+    }
 }
@@ -8,6 +8,7 @@ public class GradientTag implements Tag {
     private final IPlatformAdapter platformAdapter;
     private boolean hardGradient = false;
     private int[] colors;
+    private String arguments;
     private IComponent gradientContent;
 
     public GradientTag(IPlatformAdapter platformAdapter) {
@@ -33,6 +34,7 @@ public class GradientTag implements Tag {
     public void process(FormattingContext context, String arguments) {
         this.hardGradient = getName().equalsIgnoreCase("hard_gradient");
         this.colors = parseColors(arguments);
+        this.arguments = arguments;
         gradientContent = platformAdapter.createComponentFromLiteral("");
         context.pushComponent(gradientContent);
         context.pushStyle(context.getCurrentStyle());
@@ -51,7 +53,8 @@ public class GradientTag implements Tag {
             return;
         }
 
-        StyledText.appendRecolored(context, platformAdapter, gradientContent, gradientBaseStyle, this::colorAt);
+        StyledText.appendRecolored(context, platformAdapter, gradientContent, gradientBaseStyle,
+                (hardGradient ? "hard_gradient:" : "gradient:") + arguments, this::colorAt);
     }
 
     private int colorAt(int index, int charCount) {
@@ -48,7 +48,7 @@ public class RainbowTag implements Tag {
         }
 
         StyledText.appendRecolored(context, platformAdapter, rainbowContent, rainbowBaseStyle,
-                (index, charCount) -> hsvToRgb((index * frequency + offset) % 1.0f, saturation, 1.0f));
+                "rainbow:" + frequency + ":" + saturation + ":" + offset, (index, charCount) -> hsvToRgb((index * frequency + offset) % 1.0f, saturation, 1.0f));
     }
 
     @Override
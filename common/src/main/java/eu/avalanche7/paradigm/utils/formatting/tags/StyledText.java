@@ -1,7 +1,9 @@
 package eu.avalanche7.paradigm.utils.formatting.tags;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.IntBinaryOperator;
 
 import eu.avalanche7.paradigm.platform.Interfaces.IComponent;
@@ -9,6 +11,13 @@ import eu.avalanche7.paradigm.platform.Interfaces.IPlatformAdapter;
 import eu.avalanche7.paradigm.utils.formatting.FormattingContext;
 
 final class StyledText {
+    private static final int MAX_COLOR_RUNS = 256;
+    private static final Map<String, int[]> COLOR_RUNS = new LinkedHashMap<>(64, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+            return size() > MAX_COLOR_RUNS;
+        }
+    };
 
     record Span(char character, Object style) {
     }
@@ -16,13 +25,18 @@ final class StyledText {
     private StyledText() {
     }
 
+    /**
+     * Recolours every character of {@code content}. {@code runKey} identifies the colour function's parameters; the
+     * per-character colours for a given key and length are computed once and reused.
+     */
     static void appendRecolored(FormattingContext context, IPlatformAdapter platformAdapter, IComponent content,
-                                Object baseStyle, IntBinaryOperator colorAt) {
+                                Object baseStyle, String runKey, IntBinaryOperator colorAt) {
         List<Span> spans = flatten(content);
         if (spans.isEmpty()) {
             context.popComponent();
             return;
         }
+        int[] colors = colorRun(runKey, spans.size(), colorAt);
 
         IComponent result = platformAdapter.createComponentFromLiteral("");
         for (int index = 0; index < spans.size(); index++) {
@@ -32,13 +46,31 @@ final class StyledText {
             if (style != null) {
                 part.setStyle(style);
             }
-            result.append(part.withColor(colorAt.applyAsInt(index, spans.size())));
+            result.append(part.withColor(colors[index]));
         }
 
         context.popComponent();
         context.getCurrentComponent().append(result);
     }
 
+    private static int[] colorRun(String runKey, int length, IntBinaryOperator colorAt) {
+        String key = runKey + '#' + length;
+        synchronized (COLOR_RUNS) {
+            int[] cached = COLOR_RUNS.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        int[] colors = new int[length];
+        for (int index = 0; index < length; index++) {
+            colors[index] = colorAt.applyAsInt(index, length);
+        }
+        synchronized (COLOR_RUNS) {
+            COLOR_RUNS.put(key, colors);
+        }
+        return colors;
+    }
+
     static List<Span> flatten(IComponent root) {
         List<Span> spans = new ArrayList<>();
         collect(root, spans);
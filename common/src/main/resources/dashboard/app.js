@@ -1538,6 +1538,32 @@ function appendLegacyPreviewText(parent, text) {
   active.append(document.createTextNode(text.slice(offset)));
 }
 
+function networkEventsSection(bus) {
+  if (!bus) return '';
+  const interval = bus.running ? `${(bus.pollIntervalMs / 1000).toFixed(1)}s` : 'Stopped';
+  const push = bus.transport === 'socket+sql' ? ` · ${bus.connectedPeers} peer${bus.connectedPeers === 1 ? '' : 's'} out, ${bus.inboundLinks} in` : '';
+  return `<section class="editor-section"><h2>Network Events</h2><p>Poll ${esc(interval)} · ${esc(bus.queries)} queries · ${esc(bus.rowsFetched)} rows${esc(push)}</p>${dataTable(['Channel','Rows Fetched','Delivered','Pushed','Avg Lag','Max Lag'], (bus.channels || []).map(channel => [channel.channel, channel.rowsFetched, channel.delivered, channel.pushed, `${Math.round(channel.averageLagMs)} ms`, `${channel.maxLagMs} ms`]))}</section>`;
+}
+
+function rtpPoolSection(pool) {
+  if (!pool || !pool.targetPerWorld) return '';
+  return `<section class="editor-section"><h2>RTP Pool</h2><p>${esc(pool.depth)} spot${pool.depth === 1 ? '' : 's'} across ${esc(pool.worlds)} world${pool.worlds === 1 ? '' : 's'} (target ${esc(pool.targetPerWorld)} each) · refilling ${esc(pool.foundPerMinute.toFixed(1))}/min, ${esc(pool.probing)} chunk${pool.probing === 1 ? '' : 's'} loading</p>${dataTable(['Probes','Found','Served','Expired','Misses'], [[pool.probes, pool.found, pool.served, pool.expired, pool.misses]])}</section>`;
+}
+
+function messageCacheSection(cache) {
+  if (!cache || !cache.maxEntries) return '';
+  const lookups = cache.hits + cache.misses;
+  const hitRate = lookups ? `${Math.round(cache.hits * 100 / lookups)}%` : '-';
+  return `<section class="editor-section"><h2>Message Cache</h2><p>${esc(cache.size)} / ${esc(cache.maxEntries)} entries (${esc(cache.protectedSize)} reused) · hit rate ${esc(hitRate)}</p>${dataTable(['Hits','Misses','Evictions'], [[cache.hits, cache.misses, cache.evictions]])}</section>`;
+}
+
+function formatPlanCacheSection(cache) {
+  if (!cache || !cache.maxEntries) return '';
+  const lookups = cache.hits + cache.misses;
+  const hitRate = lookups ? `${Math.round(cache.hits * 100 / lookups)}%` : '-';
+  return `<section class="editor-section"><h2>Format Plan Cache</h2><p>${esc(cache.size)} / ${esc(cache.maxEntries)} templates · hit rate ${esc(hitRate)}</p>${dataTable(['Hits','Misses'], [[cache.hits, cache.misses]])}</section>`;
+}
+
 async function loadOverview() {
   try {
     const data = await api('/api/overview');
@@ -1547,7 +1573,7 @@ async function loadOverview() {
       ['Modules', `${data.modules?.enabled ?? 0}/${data.modules?.total ?? 0}`], ['Dashboard', data.dashboardRunning ? 'Running' : 'Stopped']
     ]);
     $('warnings').innerHTML = (data.warnings || []).map(warning => `<div class="notice-inline">${esc(warning)}</div>`).join('');
-    $('overview-activity').innerHTML = `<section class="editor-section"><h2>Quick Actions</h2><div class="button-row"><button data-go="permissions">Permissions</button><button data-go="motd">Edit MOTD</button><button data-go="customCommands">Custom Commands</button><button data-go="storage">Storage</button></div><h2>Identity</h2><p>${esc(data.networkId || '-')} / ${esc(data.serverId || '-')}</p><p>${esc(data.dashboardUrl || '')}</p></section><section class="editor-section"><h2>Recent Activity</h2>${dataTable(['Actor','Action','Result'], (data.recentActivity || []).map(entry => [entry.actorName || '-', entry.actionType, entry.result]))}</section>`;
+    $('overview-activity').innerHTML = `<section class="editor-section"><h2>Quick Actions</h2><div class="button-row"><button data-go="permissions">Permissions</button><button data-go="motd">Edit MOTD</button><button data-go="customCommands">Custom Commands</button><button data-go="storage">Storage</button></div><h2>Identity</h2><p>${esc(data.networkId || '-')} / ${esc(data.serverId || '-')}</p><p>${esc(data.dashboardUrl || '')}</p></section><section class="editor-section"><h2>Recent Activity</h2>${dataTable(['Actor','Action','Result'], (data.recentActivity || []).map(entry => [entry.actorName || '-', entry.actionType, entry.result]))}</section>${networkEventsSection(data.networkEvents)}${rtpPoolSection(data.rtpPool)}${messageCacheSection(data.messageCache)}${formatPlanCacheSection(data.formatPlanCache)}`;
     $('overview-activity').querySelectorAll('[data-go]').forEach(button => button.addEventListener('click', () => requestNavigate(button.dataset.go)));
   } catch (error) { renderError('overview-grid', error.message); }
 }
@@ -1731,11 +1757,21 @@ async function loadStorage() {
     const data = await api('/api/storage/status');
     $('storage-grid').innerHTML = metrics([
       ['Configured', data.configuredDataProvider], ['Active', data.activeDataProvider], ['Target', data.target || data.dataLocation],
-      ['Migrations', data.migrationVersion], ['Repositories', data.repositoriesAvailable ? 'Available' : 'Unavailable'], ['Fallback', data.fallbackActive ? data.fallbackReason || 'Active' : 'Inactive']
+      ['Migrations', data.migrationVersion], ['Repositories', data.repositoriesAvailable ? 'Available' : 'Unavailable'], ['Fallback', data.fallbackActive ? data.fallbackReason || 'Active' : 'Inactive'],
+      ...(data.connectionPool ? [['Pool Active', `${data.connectionPool.active} / ${data.connectionPool.maxSize}`], ['Pool Idle', data.connectionPool.idle], ['Pool Wait', `${Number(data.connectionPool.averageWaitMs || 0).toFixed(2)} ms avg / ${Number(data.connectionPool.maxWaitMs || 0).toFixed(1)} ms max`]] : []),
+      ...(data.cache && data.cache.enabled ? [['Cache Hit Rate', ['homes', 'back', 'warps'].map(area => `${area} ${(Number(data.cache[area].hitRate || 0) * 100).toFixed(0)}%`).join(' / ')], ['Cached Players', data.cache.cachedPlayers]] : []),
+      ...(data.playerDataWrites ? [['Player Data Pending', data.playerDataWrites.dirty], ['Player Data Writes', `${data.playerDataWrites.entriesWritten} written / ${data.playerDataWrites.coalesced} coalesced`], ['Player Data Flush', `${Number(data.playerDataWrites.averageFlushMs || 0).toFixed(2)} ms avg / ${Number(data.playerDataWrites.maxFlushMs || 0).toFixed(1)} ms max`]] : [])
     ]);
+    $('storage-lanes').innerHTML = storageLanesSection(data.executor);
   } catch (error) { renderError('storage-grid', error.message); }
 }
 
+function storageLanesSection(executor) {
+  if (!executor) return '';
+  const ms = value => `${Number(value || 0).toFixed(1)} ms`;
+  return `<section class="editor-section"><h2>Storage Lanes</h2>${dataTable(['Lane','Workers','Active','Queued','Completed','Rejected','Avg Wait','P95 Wait'], (executor.lanes || []).map(lane => [lane.lane, lane.workers, lane.active, `${lane.queued} / ${lane.queueCapacity}`, lane.completed, lane.rejected, ms(lane.averageWaitMs), ms(lane.p95WaitMs)]))}<h2>Operations</h2>${dataTable(['Operation','Lane','Count','Failures','Avg','P50','P95','P99','Max'], (executor.operations || []).map(op => [op.operation, op.lane, op.count, op.failures, ms(op.averageMs), ms(op.p50Ms), ms(op.p95Ms), ms(op.p99Ms), ms(op.maxMs)]))}</section>`;
+}
+
 async function testStorage() {
   try { const result = await api('/api/storage/test', { method: 'POST', body: '{}' }); notice(result.message || 'Storage connection test completed.'); await loadStorage(); }
   catch (error) { notice(error.message, true); }
@@ -1793,6 +1829,7 @@ async function loadDiscord() {
       </div>
       ${warnings.map(warning => `<div class="notice-inline">${esc(warning)}</div>`).join('')}
       ${status.lastError ? `<div class="field-error">${esc(status.lastError)}</div>` : ''}
+      ${(status.channels || []).length ? dataTable(['Channel','Destinations','Queued','Sent','Failed','Coalesced','Avg Latency','Max Latency'], status.channels.map(channel => [channel.channelId, (channel.destinations || []).join(', ').toLowerCase(), channel.queued, channel.sent, channel.failed, channel.coalesced, `${Math.round(channel.averageLatencyMs)} ms`, `${Math.round(channel.maxLatencyMs)} ms`])) : ''}
       ${storageField('Replace Bot Token', 'discord-token', `<input id="discord-token" type="password" autocomplete="new-password" placeholder="${status.botTokenSet ? 'Token configured; leave blank to keep' : 'Enter bot token'}">`, 'The stored token is never returned to the browser.')}
       ${storageField('Test Destination', 'discord-test-destination', `<select id="discord-test-destination"><option value="chat">Chat</option><option value="moderation">Moderation</option><option value="notifications">Notifications</option></select>`, 'Which configured channel the test message is sent to.')}
       <div class="button-row"><button id="discord-save-token">Save Token</button><button id="discord-clear-token">Clear Token</button><button id="discord-test">Send Test Message</button><button id="discord-reconnect">Reconnect</button></div>`;
@@ -2170,7 +2207,7 @@ function renderGroupEditor(group) {
 async function deletePermissionGroup(group) {
   let userCount = 0;
   try {
-    const data = await api('/api/permissions/users?page=1&pageSize=100');
+    const data = await api('/api/permissions/users?configured=true&page=1&pageSize=100');
     userCount = (data.users || []).filter(user => (user.assignments || []).some(assignment => assignment.kind === 'user group' && assignment.node === group.name)).length;
   } catch (_) {}
   const childCount = state.permissionData.groups.filter(candidate => (candidate.parents || []).includes(group.name)).length;
@@ -2499,7 +2536,7 @@ function hologramCapabilityWarnings() {
 function hologramRuntimeMonitor() {
   const status = Object.values(state.hologramData?.runtimeStatus || {});
   const temporary = state.hologramData?.temporary || [];
-  const rows = status.length ? status.map(value => `<li><strong>${esc(value.id)}</strong> · ${value.chunkLoaded ? 'chunk loaded' : 'chunk unloaded'} · ${Number(value.renderedEntities || 0)} entities${value.dirty ? ' · redraw queued' : ''}</li>`).join('') : '<li>No runtime holograms.</li>';
+  const rows = status.length ? status.map(value => `<li><strong>${esc(value.id)}</strong> · ${value.chunkLoaded ? 'chunk loaded' : 'chunk unloaded'} · ${Number(value.renderedEntities || 0)} entities · ${Number(value.nearbyViewers || 0)} nearby${value.dirty ? ' · redraw queued' : ''}</li>`).join('') : '<li>No runtime holograms.</li>';
   const temps = temporary.length ? temporary.map(value => `<li><strong>${esc(value.id)}</strong> · ${esc(value.owner || 'unknown')} · ${value.expiresAt ? relativeTime(value.expiresAt) : 'no expiry'} <button data-temp-remove="${attr(value.id)}" class="danger">Remove</button></li>`).join('') : '<li>No temporary holograms.</li>';
   return `<div class="hologram-monitor"><h3>Runtime monitor</h3><div><strong>Persistent</strong><ul>${rows}</ul></div><div><strong>Temporary</strong><ul>${temps}</ul></div></div>`;
 }
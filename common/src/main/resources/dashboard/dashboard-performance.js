@@ -21,6 +21,8 @@
 
   let latestOverview = null;
   let overviewRefreshInFlight = false;
+  let liveStream = null;
+  let liveRefreshTimer = 0;
 
   function locale() {
     const code = window.ParadigmI18n?.locale || document.documentElement.lang || 'en';
@@ -125,13 +127,66 @@
     }
   }
 
+  function liveStreamOpen() {
+    return typeof EventSource === 'function' && liveStream?.readyState === EventSource.OPEN;
+  }
+
+  function scheduleOverviewRefresh() {
+    window.clearTimeout(liveRefreshTimer);
+    liveRefreshTimer = window.setTimeout(refreshOverviewLive, 750);
+  }
+
+  function publishLive(type, data) {
+    document.dispatchEvent(new CustomEvent('paradigm:live-event', { detail: { type, data } }));
+  }
+
+  function parseLive(event) {
+    try {
+      return JSON.parse(event.data);
+    } catch (_) {
+      return null;
+    }
+  }
+
+  function openLiveStream() {
+    if (liveStream || typeof EventSource !== 'function' || !document.body.classList.contains('is-authenticated')) return;
+    const stream = new EventSource('/api/events');
+    liveStream = stream;
+    stream.addEventListener('tick', event => {
+      const tick = parseLive(event);
+      if (!tick) return;
+      if (latestOverview) {
+        latestOverview = { ...latestOverview, runtime: { ...(latestOverview.runtime || {}), tick } };
+        renderPerformance(latestOverview);
+      }
+      publishLive('tick', tick);
+    });
+    ['player', 'audit', 'discord'].forEach(type => stream.addEventListener(type, event => {
+      publishLive(type, parseLive(event));
+      scheduleOverviewRefresh();
+    }));
+    stream.addEventListener('ticket', event => publishLive('ticket', parseLive(event)));
+    stream.addEventListener('error', () => {
+      // A refused stream (logged out, too many tabs) is closed for good; polling takes over.
+      if (stream.readyState === EventSource.CLOSED && liveStream === stream) liveStream = null;
+    });
+  }
+
+  function closeLiveStream() {
+    liveStream?.close();
+    liveStream = null;
+    window.clearTimeout(liveRefreshTimer);
+  }
+
   window.ParadigmDashboardRuntime?.observeApi(({ path, method, data }) => {
     if (path !== '/api/overview' || method !== 'GET') return;
     latestOverview = data;
     window.setTimeout(() => renderPerformance(data), 0);
   });
 
-  document.addEventListener('paradigm:session-changed', () => {
+  document.addEventListener('paradigm:session-changed', event => {
+    closeLiveStream();
+    if (event.detail?.authenticated) openLiveStream();
     latestOverview = null;
     document.querySelectorAll('#overview-grid [data-performance-metric]').forEach(node => node.remove());
   });
@@ -143,5 +198,10 @@
     renderPerformance();
     refreshOverviewLive();
   }, 0));
-  window.setInterval(refreshOverviewLive, 5_000);
+  // Polling is only the fallback while no live stream is connected.
+  window.setInterval(() => {
+    if (!liveStream) openLiveStream();
+    if (!liveStreamOpen()) refreshOverviewLive();
+  }, 5_000);
+  openLiveStream();
 })();
@@ -0,0 +1,5 @@
+ALTER TABLE players ADD COLUMN name_key VARCHAR(64);
+
+UPDATE players SET name_key = LOWER(TRIM(name)) WHERE name IS NOT NULL AND TRIM(name) <> '';
+
+CREATE INDEX idx_players_name_key ON players(name_key);
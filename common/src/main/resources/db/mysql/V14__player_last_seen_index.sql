@@ -0,0 +1 @@
+CREATE INDEX idx_players_last_seen ON players(last_seen_ms);
@@ -0,0 +1,5 @@
+ALTER TABLE players ADD COLUMN name_key TEXT;
+
+UPDATE players SET name_key = LOWER(TRIM(name)) WHERE name IS NOT NULL AND TRIM(name) <> '';
+
+CREATE INDEX IF NOT EXISTS idx_players_name_key ON players(name_key);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_players_last_seen ON players(last_seen_ms);
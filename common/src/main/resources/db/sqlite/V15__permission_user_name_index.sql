@@ -0,0 +1,5 @@
+ALTER TABLE permission_users ADD COLUMN name_key TEXT;
+
+UPDATE permission_users SET name_key = LOWER(TRIM(name)) WHERE name IS NOT NULL AND TRIM(name) <> '';
+
+CREATE INDEX IF NOT EXISTS idx_permission_users_name_key ON permission_users(name_key);
@@ -0,0 +1,143 @@
+package eu.avalanche7.paradigm.core.network;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SocketNetworkEventBusTest {
+
+    private static final String CHANNEL = "tickets";
+    private static final String NETWORK = "test-network";
+
+    private final List<SocketNetworkEventBus> buses = new ArrayList<>();
+
+    @AfterEach
+    void stopBuses() {
+        for (SocketNetworkEventBus bus : buses) {
+            bus.stop();
+        }
+    }
+
+    @Test
+    void pushesEventsToTheListeningPeer() throws Exception {
+        MemorySource table = new MemorySource();
+        String bind = "127.0.0.1:" + freePort();
+        BlockingQueue<NetworkEvent> received = new LinkedBlockingQueue<>();
+        bus(table, "a", bind, List.of(), "secret", received);
+        SocketNetworkEventBus dialer = bus(table, "b", null, List.of(bind), "secret", null);
+
+        NetworkEvent event = event("b");
+        dialer.publish(event);
+
+        NetworkEvent delivered = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(delivered, "pushed event never arrived");
+        assertEquals(event.eventId(), delivered.eventId());
+    }
+
+    @Test
+    void rejectsPeerWithWrongSecret() throws Exception {
+        MemorySource table = new MemorySource();
+        String bind = "127.0.0.1:" + freePort();
+        BlockingQueue<NetworkEvent> received = new LinkedBlockingQueue<>();
+        SocketNetworkEventBus listener = bus(table, "a", bind, List.of(), "secret", received);
+        SocketNetworkEventBus intruder = bus(table, "c", null, List.of(bind), "not-the-secret", null);
+
+        intruder.publish(event("c"));
+
+        assertNull(received.poll(1500, TimeUnit.MILLISECONDS), "event from a peer with the wrong secret was delivered");
+        assertEquals(0, listener.inboundLinks());
+    }
+
+    @Test
+    void catchesUpFromSqlWhenPeerReconnects() throws Exception {
+        MemorySource table = new MemorySource();
+        String bind = "127.0.0.1:" + freePort();
+        BlockingQueue<NetworkEvent> received = new LinkedBlockingQueue<>();
+        bus(table, "a", bind, List.of(), "secret", received);
+        SocketNetworkEventBus dialer = bus(table, "b", null, List.of(bind), "secret", null);
+
+        dialer.publish(event("b"));
+        assertNotNull(received.poll(5, TimeUnit.SECONDS), "pushed event never arrived");
+
+        dialer.stop();
+        // Written to SQL while the push link was down, so only the catch-up poll on reconnect can deliver it.
+        NetworkEvent missed = event("b");
+        table.events.add(missed);
+        dialer.start();
+
+        NetworkEvent delivered = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(delivered, "event written while the link was down was not caught up");
+        assertEquals(missed.eventId(), delivered.eventId());
+        assertNull(received.poll(500, TimeUnit.MILLISECONDS), "catch-up delivered an event twice");
+    }
+
+    private SocketNetworkEventBus bus(MemorySource table, String serverId, String bind, List<String> peers, String secret,
+                                      BlockingQueue<NetworkEvent> received) {
+        SqlPollingNetworkEventBus polling = new SqlPollingNetworkEventBus(null, () -> 60) {
+            @Override
+            protected String resolveLocalServerId() {
+                return serverId;
+            }
+        };
+        SocketNetworkEventBus.Settings settings = new SocketNetworkEventBus.Settings(NETWORK, serverId, bind, peers, secret);
+        SocketNetworkEventBus bus = new SocketNetworkEventBus(null, polling, () -> settings);
+        bus.registerSource(table);
+        if (received != null) {
+            bus.subscribe(CHANNEL, received::add);
+        }
+        bus.start();
+        buses.add(bus);
+        return bus;
+    }
+
+    private static NetworkEvent event(String origin) {
+        return new NetworkEvent(CHANNEL, UUID.randomUUID().toString(), NETWORK, origin, "created",
+                System.currentTimeMillis(), Map.of("ticket", "1"));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static final class MemorySource implements NetworkEventSource {
+        private final List<NetworkEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String channel() {
+            return CHANNEL;
+        }
+
+        @Override
+        public boolean available() {
+            return true;
+        }
+
+        @Override
+        public List<NetworkEvent> fetchSince(long sinceMs, String afterEventId, String excludeServerId, int limit) {
+            return events.stream()
+                    .filter(event -> event.createdAtMs() > sinceMs || (event.createdAtMs() == sinceMs
+                            && (afterEventId == null || event.eventId().compareTo(afterEventId) > 0)))
+                    .filter(event -> excludeServerId == null || !excludeServerId.equalsIgnoreCase(event.originServerId()))
+                    .sorted(Comparator.comparingLong(NetworkEvent::createdAtMs).thenComparing(NetworkEvent::eventId))
+                    .limit(limit)
+                    .toList();
+        }
+    }
+}
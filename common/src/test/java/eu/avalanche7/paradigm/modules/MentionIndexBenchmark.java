@@ -0,0 +1,137 @@
+package eu.avalanche7.paradigm.modules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import eu.avalanche7.paradigm.platform.Interfaces.IPlayer;
+import eu.avalanche7.paradigm.testing.Microbench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Per-message cost of finding @mentions with the name trie, against the regex Mentions compiled for every message
+ * before (one alternation over every online name plus the @everyone pattern). A quarter of the messages mention
+ * someone, the rest are plain chat.
+ */
+@Tag(Microbench.TAG)
+class MentionIndexBenchmark {
+
+    private static final int[] ONLINE_COUNTS = {50, 200, 500};
+    private static final int MESSAGES = 20_000;
+    private static final int REGEX_MESSAGES = 2_000;
+    private static final String SYMBOL = "@";
+    private static final Function<IPlayer, String> NAME = IPlayer::getName;
+
+    @Test
+    void trieBeatsPerMessageRegexAtEveryServerSize() {
+        for (int onlineCount : ONLINE_COUNTS) {
+            List<IPlayer> online = players(onlineCount);
+            String[] messages = messages(online);
+            MentionIndex index = new MentionIndex();
+
+            for (String message : messages) {
+                assertEquals(regexMentions(message, online), trieMentions(index, message, online), message);
+            }
+
+            double trie = Microbench.nanosPerOp(MESSAGES, i -> scanWithTrie(index, messages[i % messages.length], online));
+            double regex = Microbench.nanosPerOp(REGEX_MESSAGES, i -> scanWithRegex(messages[i % messages.length], online));
+            Microbench.report("mention scan", onlineCount + " online, trie", trie);
+            Microbench.report("mention scan", onlineCount + " online, regex", regex);
+            assertTrue(trie < regex, onlineCount + " online: trie " + trie + " ns/op, regex " + regex + " ns/op");
+        }
+    }
+
+    private static int scanWithTrie(MentionIndex index, String message, List<IPlayer> online) {
+        int everyone = MentionIndex.indexOfIgnoreCase(message, SYMBOL + "everyone", 0) >= 0 ? 1 : 0;
+        return everyone + index.find(message, SYMBOL, online, NAME).size();
+    }
+
+    /** What Mentions did per message before the trie: compile both patterns, then walk the matches. */
+    private static int scanWithRegex(String message, List<IPlayer> online) {
+        Pattern everyone = Pattern.compile(Pattern.quote(SYMBOL + "everyone"), Pattern.CASE_INSENSITIVE);
+        int found = everyone.matcher(message).find() ? 1 : 0;
+        Matcher mentions = allPlayersPattern(online).matcher(message);
+        while (mentions.find()) {
+            found++;
+        }
+        return found;
+    }
+
+    private static List<String> trieMentions(MentionIndex index, String message, List<IPlayer> online) {
+        return index.find(message, SYMBOL, online, NAME).stream()
+                .map(match -> match.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> regexMentions(String message, List<IPlayer> online) {
+        List<String> names = new ArrayList<>();
+        Matcher mentions = allPlayersPattern(online).matcher(message);
+        while (mentions.find()) {
+            names.add(mentions.group(1).toLowerCase(Locale.ROOT));
+        }
+        return names;
+    }
+
+    private static Pattern allPlayersPattern(List<IPlayer> online) {
+        String names = online.stream().map(player -> Pattern.quote(player.getName())).collect(Collectors.joining("|"));
+        return Pattern.compile(Pattern.quote(SYMBOL) + "(" + names + ")", Pattern.CASE_INSENSITIVE);
+    }
+
+    private static List<IPlayer> players(int count) {
+        List<IPlayer> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Same-length names, so no name is a prefix of another and both matchers must agree on every message.
+            players.add(new BenchPlayer(String.format(Locale.ROOT, "Miner_%03d", i)));
+        }
+        return players;
+    }
+
+    private static String[] messages(List<IPlayer> online) {
+        Random random = new Random(42L);
+        String[] messages = new String[256];
+        for (int i = 0; i < messages.length; i++) {
+            String target = online.get(random.nextInt(online.size())).getName();
+            messages[i] = switch (i % 8) {
+                case 0 -> "hey @" + target.toLowerCase(Locale.ROOT) + " can you come to spawn?";
+                case 1 -> "@" + target + " and @" + online.get(random.nextInt(online.size())).getName() + " trade?";
+                case 2 -> "anyone selling diamonds? mail me at shop@spawn";
+                default -> "just finished the iron farm, it makes about " + random.nextInt(2000) + " ingots an hour";
+            };
+        }
+        messages[messages.length - 1] = "@everyone the event starts in five minutes";
+        return messages;
+    }
+
+    private static final class BenchPlayer implements IPlayer {
+        private final String name;
+
+        private BenchPlayer(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getUUID() {
+            return null;
+        }
+
+        @Override
+        public Object getOriginalPlayer() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package eu.avalanche7.paradigm.modules.discord.console;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import eu.avalanche7.paradigm.testing.Microbench;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cost of {@link ConsoleRelayAppender#append} while several threads log at once and the relay drains every 50 ms,
+ * against the locked path it replaced: ignore patterns, classification and rendering on the logging thread, then
+ * the shared buffer lock.
+ */
+@Tag(Microbench.TAG)
+class ConsoleRelayAppenderBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 4, 8};
+    private static final int APPENDS_PER_THREAD = 50_000;
+    private static final long DRAIN_PERIOD_MS = 50L;
+    private static final List<String> IGNORED = List.of("Can't keep up!", "^Saving the game", "moved too quickly");
+
+    @Test
+    void ringAppendStaysCheapUnderContention() throws Exception {
+        LogEvent[] events = events();
+        for (int threads : THREAD_COUNTS) {
+            ConsoleRelayAppender appender = new ConsoleRelayAppender("bench", Level.INFO, IGNORED);
+            LockedRelay locked = new LockedRelay(IGNORED);
+            appender.start();
+            ScheduledExecutorService drainer = Executors.newSingleThreadScheduledExecutor();
+            try {
+                drainer.scheduleAtFixedRate(() -> {
+                    appender.drainChunks();
+                    locked.drain();
+                }, DRAIN_PERIOD_MS, DRAIN_PERIOD_MS, TimeUnit.MILLISECONDS);
+
+                double ring = Microbench.nanosPerOpContended(threads, APPENDS_PER_THREAD, index -> {
+                    appender.append(events[index & (events.length - 1)]);
+                    return 1;
+                });
+                double lockedPath = Microbench.nanosPerOpContended(threads, APPENDS_PER_THREAD,
+                        index -> locked.append(events[index & (events.length - 1)]));
+                Microbench.report("console relay append", threads + " thread(s), ring", ring);
+                Microbench.report("console relay append", threads + " thread(s), locked render", lockedPath);
+                assertTrue(ring < lockedPath, threads + " thread(s): ring " + ring + " ns/op, locked " + lockedPath + " ns/op");
+            } finally {
+                drainer.shutdownNow();
+                drainer.awaitTermination(1, TimeUnit.SECONDS);
+                appender.stop();
+            }
+        }
+    }
+
+    private static LogEvent[] events() {
+        LogEvent[] events = new LogEvent[1024];
+        for (int i = 0; i < events.length; i++) {
+            String message = switch (i % 4) {
+                case 0 -> "Player" + i + " joined the game";
+                case 1 -> "§aPlayer" + i + "§r issued server command: /home base";
+                case 2 -> "Can't keep up! Is the server overloaded? Running " + (2000 + i) + "ms or 40 ticks behind";
+                default -> "Loaded " + i + " recipes for mod example_" + i;
+            };
+            events[i] = Log4jLogEvent.newBuilder()
+                    .setLoggerName(i % 4 == 3 ? "net.minecraft.server.MinecraftServer" : "com.example.SomeMod")
+                    .setLevel(i % 16 == 5 ? Level.WARN : Level.INFO)
+                    .setMessage(new SimpleMessage(message))
+                    .setTimeMillis(System.currentTimeMillis())
+                    .build();
+        }
+        return events;
+    }
+
+    /** The pre-ring append: every event is filtered, classified and rendered by the thread that logged it. */
+    private static final class LockedRelay {
+        private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+        private final List<Pattern> ignored;
+        private final Object lock = new Object();
+        private final Deque<String> buffer = new ArrayDeque<>();
+
+        private LockedRelay(List<String> ignored) {
+            this.ignored = ignored.stream().map(Pattern::compile).toList();
+        }
+
+        private int append(LogEvent event) {
+            String message = event.getMessage().getFormattedMessage();
+            for (Pattern pattern : ignored) {
+                if (pattern.matcher(message).find()) {
+                    return 0;
+                }
+            }
+            ConsoleSeverity severity = ConsoleSeverity.classify(event.getLevel(), message, event.getThrown());
+            String time = TIME_FORMAT.format(Instant.ofEpochMilli(event.getTimeMillis()).atZone(ZoneId.systemDefault()));
+            String rendered = time + " [" + event.getLevel().name() + "] " + severity + " "
+                    + MinecraftAnsi.translate(message, "");
+            synchronized (lock) {
+                buffer.addLast(rendered);
+                while (buffer.size() > 200) {
+                    buffer.removeFirst();
+                }
+            }
+            return rendered.length();
+        }
+
+        private void drain() {
+            synchronized (lock) {
+                buffer.clear();
+            }
+        }
+    }
+}
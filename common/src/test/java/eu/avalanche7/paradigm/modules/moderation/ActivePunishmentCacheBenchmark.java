@@ -0,0 +1,92 @@
+package eu.avalanche7.paradigm.modules.moderation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import eu.avalanche7.paradigm.storage.identity.ServerScope;
+import eu.avalanche7.paradigm.testing.Microbench;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Login-path lookup cost as the active ban list grows, against the full scan the cache used before it was indexed.
+ * Half of the lookups hit a banned subject and half miss, like a login mix where most players are not banned.
+ */
+@Tag(Microbench.TAG)
+class ActivePunishmentCacheBenchmark {
+
+    private static final int[] BAN_COUNTS = {1_000, 10_000, 100_000};
+    private static final int LOOKUPS = 200_000;
+    private static final int SCAN_LOOKUP_BUDGET = 5_000_000;
+    private static final String NETWORK = "bench";
+    private static final String SERVER = "lobby";
+
+    @Test
+    void loginLookupStaysFlatAsBansGrow() {
+        double smallest = 0.0D;
+        double largest = 0.0D;
+        for (int bans : BAN_COUNTS) {
+            List<PunishmentRecord> records = records(bans);
+            String[] probes = probes(records);
+            ActivePunishmentCache cache = new ActivePunishmentCache();
+            cache.replace(records);
+
+            double indexed = Microbench.nanosPerOp(LOOKUPS, index -> {
+                String uuid = probes[index % probes.length];
+                return cache.loginBlock(uuid, null, NETWORK, SERVER).isPresent() ? 1 : 0;
+            });
+            double scanned = Microbench.nanosPerOp(Math.max(50, SCAN_LOOKUP_BUDGET / bans), index -> {
+                String uuid = probes[index % probes.length];
+                return scan(records, uuid, NETWORK, SERVER).isEmpty() ? 0 : 1;
+            });
+            Microbench.report("punishment login lookup", bans + " bans, indexed", indexed);
+            Microbench.report("punishment login lookup", bans + " bans, full scan", scanned);
+            if (bans == BAN_COUNTS[0]) {
+                smallest = indexed;
+            }
+            largest = indexed;
+        }
+        // A hundredfold larger ban list costs a full scan about a hundredfold; the index has to stay within cache-miss noise.
+        assertTrue(largest < smallest * 5.0D + 500.0D,
+                "indexed lookup grew from " + smallest + " to " + largest + " ns/op");
+    }
+
+    private static List<PunishmentRecord> records(int count) {
+        long now = System.currentTimeMillis();
+        List<PunishmentRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PunishmentType type = i % 10 == 0 ? PunishmentType.IP_BAN : i % 3 == 0 ? PunishmentType.MUTE : PunishmentType.BAN;
+            Long expiresAt = i % 4 == 0 ? now + 3_600_000L + i : null;
+            records.add(new PunishmentRecord(PunishmentIds.create(), type, i % 5 == 0 ? ServerScope.SERVER : ServerScope.GLOBAL,
+                    NETWORK, SERVER, UUID.randomUUID().toString(), "player" + i, "ip" + i, null, "benchmark", null, "console",
+                    now, now, expiresAt, null, null, null, null, now, Map.of()));
+        }
+        return records;
+    }
+
+    private static String[] probes(List<PunishmentRecord> records) {
+        String[] probes = new String[1024];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = i % 2 == 0
+                    ? records.get((i * 7919) % records.size()).subjectUuid().toUpperCase(Locale.ROOT)
+                    : UUID.randomUUID().toString();
+        }
+        return probes;
+    }
+
+    /** The pre-index activeFor: every active record is filtered and the matches sorted on each lookup. */
+    private static List<PunishmentRecord> scan(List<PunishmentRecord> records, String uuid, String networkId, String serverId) {
+        long now = System.currentTimeMillis();
+        return records.stream().filter(record -> {
+            if (!record.activeAt(now) || !record.appliesTo(networkId, serverId)) return false;
+            return uuid != null && record.subjectUuid() != null && record.subjectUuid().equalsIgnoreCase(uuid);
+        }).sorted(Comparator.comparingLong(PunishmentRecord::createdAtMs).reversed()).toList();
+    }
+}
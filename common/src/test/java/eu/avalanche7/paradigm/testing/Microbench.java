@@ -0,0 +1,103 @@
+package eu.avalanche7.paradigm.testing;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Minimal timing loop for the tests tagged {@value #TAG}. Those are skipped by {@code test} and run with
+ * {@code ./gradlew :common:benchmark}; each reports the best of several rounds after warming the JIT up.
+ */
+public final class Microbench {
+    public static final String TAG = "benchmark";
+
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static volatile long sink;
+
+    private Microbench() {
+    }
+
+    /** Runs {@code operation} with indexes {@code 0..operations-1}; its result is consumed so the JIT keeps the work. */
+    public static double nanosPerOp(int operations, IntUnaryOperator operation) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(operations, operation);
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            best = Math.min(best, run(operations, operation));
+        }
+        return (double) best / operations;
+    }
+
+    /**
+     * Runs {@code operation} on {@code threads} threads at once, {@code operationsPerThread} times each, and returns
+     * the wall-clock time per operation across all of them, so contention shows up as a higher figure.
+     */
+    public static double nanosPerOpContended(int threads, int operationsPerThread, IntUnaryOperator operation) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runContended(threads, operationsPerThread, operation);
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            best = Math.min(best, runContended(threads, operationsPerThread, operation));
+        }
+        return (double) best / ((long) threads * operationsPerThread);
+    }
+
+    public static void report(String benchmark, String variant, double nanosPerOp) {
+        System.out.printf(Locale.ROOT, "%-32s %-28s %12.1f ns/op%n", benchmark, variant, nanosPerOp);
+    }
+
+    private static long run(int operations, IntUnaryOperator operation) {
+        long consumed = 0L;
+        long startedAt = System.nanoTime();
+        for (int index = 0; index < operations; index++) {
+            consumed += operation.applyAsInt(index);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        sink += consumed;
+        return elapsed;
+    }
+
+    private static long runContended(int threads, int operationsPerThread, IntUnaryOperator operation) {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicLong consumed = new AtomicLong();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * operationsPerThread;
+            Thread worker = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                    long local = 0L;
+                    for (int index = 0; index < operationsPerThread; index++) {
+                        local += operation.applyAsInt(offset + index);
+                    }
+                    consumed.addAndGet(local);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "Microbench-" + t);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        try {
+            ready.await();
+            long startedAt = System.nanoTime();
+            go.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - startedAt;
+            sink += consumed.get();
+            return elapsed;
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while timing", interrupted);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package eu.avalanche7.paradigm.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import eu.avalanche7.paradigm.testing.Microbench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Placeholder rendering for a raw platform player, which {@link Placeholders#replacePlaceholders(String, Object)}
+ * reads by reflection. Only the member access changed when it moved to {@link ReflectiveAccess}, so the render is
+ * timed as it is now and the member probes of one render are timed both through the cache and through the
+ * uncached getMethod/setAccessible/invoke helper it replaced; their difference is the per-render saving.
+ */
+@Tag(Microbench.TAG)
+class PlaceholdersBenchmark {
+
+    private static final int RENDERS = 50_000;
+    private static final String TEMPLATE = "{player} ({player_uuid}) lvl {player_level} hp {player_health}/{max_player_health}";
+
+    @Test
+    void cachedMemberAccessBeatsUncachedReflection() {
+        Placeholders placeholders = new Placeholders();
+        RawPlayer player = new RawPlayer("Steve", UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5"), 30, 18.5F);
+        assertEquals("Steve (069a79f4-44e9-4726-a5be-fca90e38aaf5) lvl 30 hp 18.5/20.0",
+                placeholders.replacePlaceholders(TEMPLATE, (Object) player));
+        assertEquals(probe(player, CACHED), probe(player, UNCACHED));
+
+        double render = Microbench.nanosPerOp(RENDERS, i -> placeholders.replacePlaceholders(TEMPLATE, (Object) player).length());
+        double cached = Microbench.nanosPerOp(RENDERS, i -> probe(player, CACHED).length());
+        double uncached = Microbench.nanosPerOp(RENDERS, i -> probe(player, UNCACHED).length());
+        Microbench.report("placeholder render (raw player)", "full render, cached", render);
+        Microbench.report("placeholder render (raw player)", "member probes, cached", cached);
+        Microbench.report("placeholder render (raw player)", "member probes, uncached", uncached);
+        assertTrue(cached < uncached, "cached probes " + cached + " ns/op, uncached " + uncached + " ns/op");
+    }
+
+    /** The members one render of a raw player touches, in the order replacePlaceholders probes them. */
+    private static String probe(Object player, MemberAccess access) {
+        Object profile = access.call(player, "getGameProfile");
+        Object name = profile != null ? access.call(profile, "getName") : null;
+        Object uuid = access.call(player, "getUuidAsString");
+        if (uuid == null) uuid = access.call(player, "getUUID");
+        Object level = access.field(player, "experienceLevel");
+        Object health = access.call(player, "getHealth");
+        Object maxHealth = access.call(player, "getMaxHealth");
+        Object finalUuid = access.call(player, "getUUID");
+        return name + "|" + uuid + "|" + level + "|" + health + "|" + maxHealth + "|" + finalUuid;
+    }
+
+    private interface MemberAccess {
+        Object call(Object target, String method);
+
+        Object field(Object target, String name);
+    }
+
+    private static final MemberAccess CACHED = new MemberAccess() {
+        @Override
+        public Object call(Object target, String method) {
+            return ReflectiveAccess.call(target, method);
+        }
+
+        @Override
+        public Object field(Object target, String name) {
+            return ReflectiveAccess.publicField(target, name);
+        }
+    };
+
+    /** The helpers Placeholders used before: a fresh lookup, setAccessible and invoke on every access. */
+    private static final MemberAccess UNCACHED = new MemberAccess() {
+        @Override
+        public Object call(Object target, String method) {
+            try {
+                Method m = target.getClass().getMethod(method);
+                m.setAccessible(true);
+                return m.invoke(target);
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+
+        @Override
+        public Object field(Object target, String name) {
+            try {
+                Field f = target.getClass().getField(name);
+                f.setAccessible(true);
+                return f.get(target);
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+    };
+
+    /** Shaped like a Mojang-mapped server player: a game profile, a UUID getter and a public level field. */
+    public static final class RawPlayer {
+        public int experienceLevel;
+        private final Profile profile;
+        private final UUID uuid;
+        private final float health;
+
+        RawPlayer(String name, UUID uuid, int experienceLevel, float health) {
+            this.profile = new Profile(name);
+            this.uuid = uuid;
+            this.experienceLevel = experienceLevel;
+            this.health = health;
+        }
+
+        public Profile getGameProfile() {
+            return profile;
+        }
+
+        public UUID getUUID() {
+            return uuid;
+        }
+
+        public float getHealth() {
+            return health;
+        }
+
+        public float getMaxHealth() {
+            return 20.0F;
+        }
+    }
+
+    public static final class Profile {
+        private final String name;
+
+        Profile(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}